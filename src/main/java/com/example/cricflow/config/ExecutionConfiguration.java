@@ -0,0 +1,16 @@
+package com.example.cricflow.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Turns on {@code @Async} and {@code @Scheduled}. Both run on the executor and scheduler spring boot sets up,
+ * which follow {@code spring.threads.virtual.enabled} along with the request threads of tomcat, so nothing
+ * here has to know which threads are in use, see {@code application-virtual-threads.yml}.
+ */
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class ExecutionConfiguration {
+}
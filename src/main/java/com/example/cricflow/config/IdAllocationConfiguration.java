@@ -0,0 +1,21 @@
+package com.example.cricflow.config;
+
+import com.example.cricflow.model.id.BlockSequenceGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hands the size of the id blocks of {@link BlockSequenceGenerator} to hibernate. Every node of a deployment has to
+ * use the same size, it is the increment the sequences are created with.
+ */
+@Configuration(proxyBeanMethods = false)
+public class IdAllocationConfiguration {
+
+    @Bean
+    public HibernatePropertiesCustomizer idAllocationCustomizer(
+            @Value("${" + BlockSequenceGenerator.BLOCK_SIZE + ":" + BlockSequenceGenerator.DEFAULT_BLOCK_SIZE + "}") int blockSize) {
+        return properties -> properties.put(BlockSequenceGenerator.BLOCK_SIZE, blockSize);
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.cricflow.config;
+
+import com.example.cricflow.model.Ground;
+import com.example.cricflow.model.Player;
+import com.example.cricflow.model.Team;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Teams, players and grounds are read on nearly every request and written rarely, so hibernate keeps them in its
+ * second level cache, along with the results of the lookups by name and by team. The regions live in a caffeine
+ * cache manager of this application, each bounded in size and time to live, and their hits, misses and evictions
+ * are published as {@code cache.*} metrics.
+ * <p>
+ * Writes invalidate as they happen: a saved or deleted entity is updated in its region, along with the rosters of
+ * the teams a player left or joined, a bulk update of players drops the player and roster regions, and a write
+ * to a table drops the query results read from it.
+ * <p>
+ * Every region hibernate asks for has to be created here, an unknown one fails the startup instead of
+ * silently growing without a bound.
+ */
+@Configuration(proxyBeanMethods = false)
+public class ReferenceDataCacheConfiguration {
+
+    // regions are named by hibernate, after the cached entity or collection role, Team.players is the roster
+    public static final String TEAM_REGION = Team.class.getName();
+    public static final String ROSTER_REGION = Team.class.getName() + ".players";
+    public static final String PLAYER_REGION = Player.class.getName();
+    public static final String GROUND_REGION = Ground.class.getName();
+    public static final String QUERY_REGION = RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME;
+    public static final String TIMESTAMPS_REGION = RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME;
+
+    private static final List<String> BOUNDED_REGIONS = List.of(TEAM_REGION, ROSTER_REGION, PLAYER_REGION, GROUND_REGION, QUERY_REGION);
+
+    private static final AtomicInteger CACHE_MANAGERS = new AtomicInteger();
+
+    @Bean(destroyMethod = "close")
+    public CacheManager referenceDataCacheManager(@Value("${cricflow.cache.maximum-size:10000}") long maximumSize,
+                                                  @Value("${cricflow.cache.time-to-live:10m}") Duration timeToLive) {
+        // a cache manager per application context, contexts side by side in one JVM (tests) never share regions
+        URI uri = URI.create("cricflow:reference-data-" + CACHE_MANAGERS.incrementAndGet());
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(uri, getClass().getClassLoader());
+        for (String region : BOUNDED_REGIONS)
+            cacheManager.createCache(region, regionConfiguration(OptionalLong.of(maximumSize), OptionalLong.of(timeToLive.toNanos())));
+        // when a table was last written decides if a cached query result is still valid, losing that would serve
+        // stale results, so it is neither bounded nor expired, it only holds one entry per table
+        cacheManager.createCache(TIMESTAMPS_REGION, regionConfiguration(OptionalLong.empty(), OptionalLong.empty()));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer referenceDataCacheCustomizer(CacheManager referenceDataCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, referenceDataCacheManager);
+    }
+
+    @Bean
+    public MeterBinder referenceDataCacheMetrics(CacheManager referenceDataCacheManager) {
+        return registry -> {
+            for (String region : referenceDataCacheManager.getCacheNames())
+                JCacheMetrics.monitor(registry, referenceDataCacheManager.getCache(region), Tags.of("cache.manager", "referenceData"));
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> regionConfiguration(OptionalLong maximumSize, OptionalLong expireAfterWrite) {
+        return new CaffeineConfiguration<>()
+                .setMaximumSize(maximumSize)
+                .setExpireAfterWrite(expireAfterWrite)
+                // hibernate only ever caches its own immutable, disassembled state, there is nothing to copy
+                .setStoreByValue(false)
+                .setStatisticsEnabled(true);
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.cricflow.controller;
+
+import com.example.cricflow.exception.EntityDoesNotExistsException;
+import com.example.cricflow.exception.InningCompleteException;
+import com.example.cricflow.exception.OverCompleteException;
+import com.example.cricflow.exception.OverExceedsFixedNumber;
+import com.example.cricflow.exception.OverInProgressException;
+import com.example.cricflow.exception.validator.BallFieldsException;
+import com.example.cricflow.model.Ball;
+import com.example.cricflow.model.live.CompactDelivery;
+import com.example.cricflow.service.BallService;
+import com.example.cricflow.service.MatchWriteSequencer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/ball")
+public class BallController {
+
+    @Autowired private BallService ballService;
+    @Autowired private MatchWriteSequencer matchWriteSequencer;
+
+    @PostMapping("/add-to-over")
+    ResponseEntity<?> addBallsToOver(@RequestParam Long overId, @RequestBody List<Ball> balls){
+        try {
+            // two scorers of the same match are taken one after the other, in the order they were received
+            return matchWriteSequencer.writeToOver(overId, () -> ballService.addBallsToOver(overId, balls));
+        }
+        catch (EntityDoesNotExistsException e){
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.NOT_FOUND);
+        }
+        catch (BallFieldsException e){
+            return new ResponseEntity<>(e.violations, HttpStatus.BAD_REQUEST);
+        }
+        catch (OverCompleteException | OverExceedsFixedNumber | OverInProgressException | InningCompleteException e){
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.CONFLICT);
+        }
+    }
+
+    @PostMapping("/add-over")
+    ResponseEntity<?> addOverToInning(@RequestParam Long inningId, @RequestBody List<Ball> balls){
+        try {
+            return matchWriteSequencer.writeToInning(inningId, () -> ballService.addOverToInning(inningId, balls));
+        }
+        catch (EntityDoesNotExistsException e){
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.NOT_FOUND);
+        }
+        catch (BallFieldsException e){
+            return new ResponseEntity<>(e.violations, HttpStatus.BAD_REQUEST);
+        }
+        catch (OverCompleteException | OverExceedsFixedNumber | OverInProgressException | InningCompleteException e){
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.CONFLICT);
+        }
+    }
+
+    @PostMapping("/score")
+    ResponseEntity<?> scoreDeliveries(@RequestParam Long inningId, @RequestBody List<CompactDelivery> deliveries){
+        try {
+            return matchWriteSequencer.writeToInning(inningId, () -> ballService.scoreDeliveries(inningId, deliveries));
+        }
+        catch (EntityDoesNotExistsException e){
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.NOT_FOUND);
+        }
+        catch (BallFieldsException e){
+            return new ResponseEntity<>(e.violations, HttpStatus.BAD_REQUEST);
+        }
+        catch (OverCompleteException | OverExceedsFixedNumber | OverInProgressException | InningCompleteException e){
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.CONFLICT);
+        }
+    }
+
+    @PostMapping(value = "/score-shorthand", consumes = MediaType.TEXT_PLAIN_VALUE)
+    ResponseEntity<?> scoreShorthand(@RequestParam Long inningId, @RequestBody String text){
+        try {
+            return matchWriteSequencer.writeToInning(inningId, () -> ballService.scoreShorthand(inningId, text));
+        }
+        catch (EntityDoesNotExistsException e){
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.NOT_FOUND);
+        }
+        catch (BallFieldsException e){
+            return new ResponseEntity<>(e.violations, HttpStatus.BAD_REQUEST);
+        }
+        catch (OverCompleteException | OverExceedsFixedNumber | OverInProgressException | InningCompleteException e){
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.CONFLICT);
+        }
+    }
+
+}
\ No newline at end of file
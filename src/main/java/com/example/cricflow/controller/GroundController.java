@@ -1,14 +1,17 @@
 package com.example.cricflow.controller;
 
 import com.example.cricflow.exception.EntityDoesNotExistsException;
+import com.example.cricflow.exception.InvalidCursorException;
 import com.example.cricflow.exception.NameAlreadyExistsException;
 import com.example.cricflow.exception.validator.GroundFieldsException;
 import com.example.cricflow.model.Ground;
 import com.example.cricflow.service.GroundService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -60,10 +63,26 @@ public class GroundController {
     }
 
     @GetMapping("/get-all")
-    public ResponseEntity<?> getAllGrounds(){
+    public ResponseEntity<?> getAllGrounds(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ){
+        try {
+            // asking for a cursor or a page size switches to keyset pages
+            if (cursor != null || size != null)
+                return groundService.readGroundPage(cursor, size);
+        }
+        catch (InvalidCursorException e){
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
         return groundService.readAllGrounds();
     }
 
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportAllGrounds(){
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(groundService::exportAllGrounds);
+    }
+
     @PutMapping("/update")
     public ResponseEntity<?> updateGround(@RequestBody Ground ground){
         try {
@@ -0,0 +1,48 @@
+package com.example.cricflow.controller;
+
+import com.example.cricflow.exception.EntityDoesNotExistsException;
+import com.example.cricflow.exception.UnknownViewException;
+import com.example.cricflow.service.MatchService;
+import com.example.cricflow.service.MatchStreamService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/v1/match")
+public class MatchController {
+
+    @Autowired private MatchService matchService;
+    @Autowired private MatchStreamService matchStreamService;
+
+    @GetMapping("/get/{id}")
+    ResponseEntity<?> getMatch(@PathVariable Long id, @RequestParam(required = false) String view){
+        try {
+            return matchService.readMatch(id, view);
+        }
+        catch (EntityDoesNotExistsException e){
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.NOT_FOUND);
+        }
+        catch (UnknownViewException e){
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @GetMapping(value = "/{id}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    ResponseEntity<SseEmitter> streamMatch(@PathVariable Long id){
+        try {
+            return new ResponseEntity<>(matchStreamService.subscribe(id), HttpStatus.OK);
+        }
+        catch (EntityDoesNotExistsException e){
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+    }
+
+}
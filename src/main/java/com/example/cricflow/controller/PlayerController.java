@@ -1,14 +1,23 @@
 package com.example.cricflow.controller;
 
 import com.example.cricflow.exception.EntityDoesNotExistsException;
+import com.example.cricflow.exception.InvalidCursorException;
 import com.example.cricflow.exception.validator.PlayerFieldsException;
 import com.example.cricflow.model.Player;
+import com.example.cricflow.model.imports.ImportFormat;
+import com.example.cricflow.model.imports.PlayerImportReport;
+import com.example.cricflow.service.PlayerImportService;
 import com.example.cricflow.service.PlayerService;
+import com.example.cricflow.service.PlayerStatsService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -16,10 +25,14 @@ import java.util.List;
 public class PlayerController {
 
     private final PlayerService playerService;
+    private final PlayerStatsService playerStatsService;
+    private final PlayerImportService playerImportService;
 
     @Autowired
-    public PlayerController(PlayerService playerService) {
+    public PlayerController(PlayerService playerService, PlayerStatsService playerStatsService, PlayerImportService playerImportService) {
         this.playerService = playerService;
+        this.playerStatsService = playerStatsService;
+        this.playerImportService = playerImportService;
     }
 
     @PostMapping("/create")
@@ -35,7 +48,6 @@ public class PlayerController {
     @PostMapping("/create-all")
     ResponseEntity<?> createMultiplePlayer(@RequestBody List<Player> players) {
         try {
-            System.out.println(players);
             return playerService.createMultiplePlayers(players);
         }
         catch (PlayerFieldsException e){
@@ -43,6 +55,12 @@ public class PlayerController {
         }
     }
 
+    // the body is read as it arrives, rows are imported while the rest of the file is still being sent
+    @PostMapping(value = "/import", consumes = {ImportFormat.TEXT_CSV_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    ResponseEntity<PlayerImportReport> importPlayers(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, InputStream body) {
+        return playerImportService.importPlayers(body, ImportFormat.of(MediaType.parseMediaType(contentType)));
+    }
+
     @GetMapping("/get/{id}")
     ResponseEntity<?> getPlayerWithId(@PathVariable Long id) {
         try {
@@ -53,20 +71,43 @@ public class PlayerController {
         }
     }
 
+    @GetMapping("/{id}/stats")
+    ResponseEntity<?> getPlayerStats(@PathVariable Long id) {
+        try {
+            return playerStatsService.readPlayerStats(id);
+        }
+        catch (EntityDoesNotExistsException e){
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.NOT_FOUND);
+        }
+    }
+
     @GetMapping("/get-all")
     ResponseEntity<?> getAllPlayers(
-            @RequestParam(required = false) Long teamId
+            @RequestParam(required = false) Long teamId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
     ) {
         try {
+            // asking for a cursor or a page size switches to keyset pages
+            if (cursor != null || size != null)
+                return playerService.readPlayerPage(teamId, cursor, size);
             if (teamId != null)
                 return playerService.findAllByTeam(teamId);
         }
         catch (EntityDoesNotExistsException e){
             return new ResponseEntity<>(e.getMessage(), HttpStatus.NOT_FOUND);
         }
+        catch (InvalidCursorException e){
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
         return playerService.readAllPlayers();
     }
 
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    ResponseEntity<StreamingResponseBody> exportAllPlayers() {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(playerService::exportAllPlayers);
+    }
+
     @PutMapping("/update")
     ResponseEntity<?> updatePlayer(@RequestBody Player player) {
         try {
@@ -0,0 +1,29 @@
+package com.example.cricflow.controller;
+
+import com.example.cricflow.exception.EntityDoesNotExistsException;
+import com.example.cricflow.service.ScorecardService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/scorecard")
+public class ScorecardController {
+
+    @Autowired private ScorecardService scorecardService;
+
+    @GetMapping("/get/{inningId}")
+    ResponseEntity<?> getScorecard(@PathVariable Long inningId){
+        try {
+            return scorecardService.readScorecard(inningId);
+        }
+        catch (EntityDoesNotExistsException e){
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.NOT_FOUND);
+        }
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.example.cricflow.controller;
+
+import com.example.cricflow.exception.EntityDoesNotExistsException;
+import com.example.cricflow.exception.InvalidCursorException;
+import com.example.cricflow.service.SummaryService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v2")
+public class SummaryController {
+
+    private final SummaryService summaryService;
+
+    @Autowired
+    public SummaryController(SummaryService summaryService) {
+        this.summaryService = summaryService;
+    }
+
+    @GetMapping("/match/get/{id}")
+    ResponseEntity<?> getMatchSummary(@PathVariable Long id) {
+        try {
+            return summaryService.readMatchSummary(id);
+        }
+        catch (EntityDoesNotExistsException e){
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.NOT_FOUND);
+        }
+    }
+
+    @GetMapping("/match/{id}/innings")
+    ResponseEntity<?> getInningSummaries(@PathVariable Long id) {
+        try {
+            return summaryService.readInningSummaries(id);
+        }
+        catch (EntityDoesNotExistsException e){
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.NOT_FOUND);
+        }
+    }
+
+    @GetMapping("/team/{id}/roster")
+    ResponseEntity<?> getTeamRoster(@PathVariable Long id) {
+        try {
+            return summaryService.readTeamRoster(id);
+        }
+        catch (EntityDoesNotExistsException e){
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.NOT_FOUND);
+        }
+    }
+
+    @GetMapping("/player/get-all")
+    ResponseEntity<?> getPlayerPage(
+            @RequestParam(required = false) Long teamId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        try {
+            return summaryService.readPlayerPage(teamId, cursor, size);
+        }
+        catch (EntityDoesNotExistsException e){
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.NOT_FOUND);
+        }
+        catch (InvalidCursorException e){
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.cricflow.exception;
+
+public class InningCompleteException extends RuntimeException {
+    public InningCompleteException(Long inningsId) {
+        super("Can not bowl any more deliveries in the innings with id: " + inningsId + ", it is complete");
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.cricflow.exception;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String cursor) {
+        super("cursor: '" + cursor + "' is not valid, use the nextCursor of the previous page");
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.cricflow.exception;
+
+public class OverCompleteException extends RuntimeException {
+    public OverCompleteException(int ballsPerOver, Long overId) {
+        super("Can not bowl more than " + ballsPerOver + " legal deliveries in the over" +
+                ((overId == null) ? "" : " with id: " + overId) + ", a new over has to be started");
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.cricflow.exception;
+
+public class OverInProgressException extends RuntimeException {
+    public OverInProgressException(int legalBalls, int ballsPerOver, Long inningsId) {
+        super("Can not start a new over in the innings with id: " + inningsId + ", the over being bowled has had " +
+                legalBalls + " of its " + ballsPerOver + " legal deliveries");
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.cricflow.exception;
+
+public class UnknownViewException extends RuntimeException {
+    public UnknownViewException(String view, String knownViews) {
+        super("view: '" + view + "' is not known, use one of: " + knownViews);
+    }
+}
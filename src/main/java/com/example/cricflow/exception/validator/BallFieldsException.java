@@ -0,0 +1,10 @@
+package com.example.cricflow.exception.validator;
+
+import java.util.List;
+
+public class BallFieldsException extends FieldValidatorException {
+    public BallFieldsException(List<String> violations) {
+        super("Unable To create ball due to following violations: " + violations);
+        this.violations = violations;
+    }
+}
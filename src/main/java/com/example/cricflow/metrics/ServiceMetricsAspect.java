@@ -0,0 +1,79 @@
+package com.example.cricflow.metrics;
+
+import com.example.cricflow.exception.validator.FieldValidatorException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every call into a service and counts the ones that fail.
+ * <p>
+ * Each call is recorded in the {@value #SERVICE_TIMER} timer, tagged with the service, the method and the exception
+ * it ended with, if any. A rejected entity is also counted in {@value #VALIDATION_FAILURES} by the kind of entity,
+ * and any other exception of the domain in {@value #DOMAIN_EXCEPTIONS} by its type. Repository calls are timed by
+ * spring data itself, as {@code spring.data.repository.invocations}.
+ */
+@Aspect
+@Component
+public class ServiceMetricsAspect {
+
+    public static final String SERVICE_TIMER = "cricflow.service";
+    public static final String VALIDATION_FAILURES = "cricflow.validation.failures";
+    public static final String DOMAIN_EXCEPTIONS = "cricflow.domain.exceptions";
+
+    private static final String DOMAIN_EXCEPTION_PACKAGE = "com.example.cricflow.exception";
+
+    private final MeterRegistry meterRegistry;
+
+    public ServiceMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("within(com.example.cricflow.service..*) && @within(org.springframework.stereotype.Service)")
+    public Object timeServiceCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        String service = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String method = joinPoint.getSignature().getName();
+        String exception = "none";
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return joinPoint.proceed();
+        }
+        catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            countFailure(service, e);
+            throw e;
+        }
+        finally {
+            sample.stop(Timer.builder(SERVICE_TIMER)
+                    .description("Time spent in service methods")
+                    .tag("service", service)
+                    .tag("method", method)
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+
+    private void countFailure(String service, Throwable e) {
+        if (e instanceof FieldValidatorException) {
+            // GroundFieldsException is counted as a rejected ground, and so on
+            String entity = e.getClass().getSimpleName().replace("FieldsException", "").toLowerCase();
+            Counter.builder(VALIDATION_FAILURES)
+                    .description("Entities rejected by validation")
+                    .tag("entity", entity)
+                    .register(meterRegistry)
+                    .increment();
+        }
+        else if (e.getClass().getPackageName().equals(DOMAIN_EXCEPTION_PACKAGE)) {
+            Counter.builder(DOMAIN_EXCEPTIONS)
+                    .description("Domain exceptions thrown by the services")
+                    .tag("service", service)
+                    .tag("exception", e.getClass().getSimpleName())
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+}
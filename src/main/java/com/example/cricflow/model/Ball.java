@@ -1,5 +1,6 @@
 package com.example.cricflow.model;
 
+import com.example.cricflow.model.id.BlockSequenceId;
 import com.example.cricflow.model.literal.ExcludedFromToString;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -17,12 +18,7 @@ import static com.example.cricflow.model.literal.StringGenerator.generateObjectS
 public class Ball {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE)
-    @SequenceGenerator(
-            name = "BALL_SEQUENCE",
-            sequenceName = "BALL_SEQ",
-            allocationSize = 1
-    )
+    @BlockSequenceId(sequence = "BALL_SEQ")
     private Long ballId;
 
     @OneToOne(fetch = FetchType.EAGER, cascade = CascadeType.ALL)
@@ -1,6 +1,13 @@
 package com.example.cricflow.model;
 
+import com.example.cricflow.model.event.Extra;
+import com.example.cricflow.model.event.Score;
+import com.example.cricflow.model.event.Wicket;
+import com.example.cricflow.model.id.BlockSequenceId;
 import com.example.cricflow.model.literal.ExcludedFromToString;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -15,19 +22,21 @@ import static com.example.cricflow.model.literal.StringGenerator.generateObjectS
 @SuperBuilder
 @Entity
 @Inheritance(strategy = InheritanceType.JOINED)
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "eventType")
+@JsonSubTypes({
+        @JsonSubTypes.Type(value = Score.class, name = "SCORE"),
+        @JsonSubTypes.Type(value = Extra.class, name = "EXTRA"),
+        @JsonSubTypes.Type(value = Wicket.class, name = "WICKET")
+})
 public class BallEvent {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE)
-    @SequenceGenerator(
-            name = "EVENT_SEQUENCE",
-            sequenceName = "EVENT_SEQ",
-            allocationSize = 1
-    )
+    @BlockSequenceId(sequence = "EVENT_SEQ")
     private long eventId;
 
     @OneToOne
     @JoinColumn(name = "ball_id")
+    @JsonIgnore
     @ExcludedFromToString
     private Ball ball;
 
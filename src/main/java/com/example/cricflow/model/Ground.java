@@ -4,6 +4,8 @@ import com.example.cricflow.model.literal.ExcludedFromToString;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -16,6 +18,7 @@ import static com.example.cricflow.model.literal.StringGenerator.generateObjectS
 @Data
 @Builder
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Ground {
 
     @Id
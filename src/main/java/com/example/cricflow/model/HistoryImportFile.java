@@ -0,0 +1,46 @@
+package com.example.cricflow.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * A Cricsheet file that has been imported, written in the same transaction as its match, so a file is either
+ * imported along with its marker or not at all. Files are known by their content, an imported file that was
+ * renamed or copied is not imported again.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+@Entity
+public class HistoryImportFile {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    @SequenceGenerator(
+            name = "HISTORY_IMPORT_FILE_SEQUENCE",
+            sequenceName = "HISTORY_IMPORT_FILE_SEQ",
+            allocationSize = 1
+    )
+    private Long fileId;
+
+    @Column(unique = true, nullable = false, length = 64)
+    private String sha256;
+
+    @Column
+    private String fileName;
+
+    @Column
+    private Long matchId;
+
+    @Column
+    private long rowsWritten;
+
+    @Column
+    private Instant importedAt;
+}
@@ -15,8 +15,12 @@ import static com.example.cricflow.model.literal.StringGenerator.generateObjectS
 @Data
 @Builder
 @Entity
+@NamedEntityGraph(name = Inning.WITH_OVERS, attributeNodes = @NamedAttributeNode("overs"))
 public class Inning {
 
+    // fetch plan of the overs of the inning, without their balls
+    public static final String WITH_OVERS = "Inning.withOvers";
+
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE)
     @SequenceGenerator(
@@ -41,6 +45,7 @@ public class Inning {
             targetEntity = Over.class,
             fetch = FetchType.EAGER
     )
+    @OrderColumn(name = "over_index")
     List<Over> overs;
 
 
@@ -14,8 +14,24 @@ import static com.example.cricflow.model.literal.StringGenerator.generateObjectS
 @Builder
 @Data
 @Entity
+@NamedEntityGraph(name = Match.SUMMARY, attributeNodes = {
+        @NamedAttributeNode("ground"),
+        @NamedAttributeNode("teamA"),
+        @NamedAttributeNode("teamB")
+})
+@NamedEntityGraph(name = Match.WITH_INNINGS, attributeNodes = {
+        @NamedAttributeNode("ground"),
+        @NamedAttributeNode("teamA"),
+        @NamedAttributeNode("teamB"),
+        @NamedAttributeNode("firstInnings"),
+        @NamedAttributeNode("secondInnings")
+})
 public class Match {
 
+    // fetch plans, anything left out of a plan is not loaded, even when it is mapped eager
+    public static final String SUMMARY = "Match.summary";
+    public static final String WITH_INNINGS = "Match.withInnings";
+
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE)
     @SequenceGenerator(
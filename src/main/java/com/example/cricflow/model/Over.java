@@ -1,5 +1,6 @@
 package com.example.cricflow.model;
 
+import com.example.cricflow.model.id.BlockSequenceId;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -15,15 +16,18 @@ import static com.example.cricflow.model.literal.StringGenerator.generateObjectS
 @Data
 @Builder
 @Entity
+@NamedEntityGraph(
+        name = Over.WITH_BALLS,
+        attributeNodes = @NamedAttributeNode(value = "balls", subgraph = "ball"),
+        subgraphs = @NamedSubgraph(name = "ball", attributeNodes = @NamedAttributeNode("ballEvent"))
+)
 public class Over {
 
+    // fetch plan of the balls of the over and what happened on each, the players are only referenced by id
+    public static final String WITH_BALLS = "Over.withBalls";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE)
-    @SequenceGenerator(
-            name = "OVER_SEQUENCE",
-            sequenceName = "OVER_SEQ",
-            allocationSize = 1
-    )
+    @BlockSequenceId(sequence = "OVER_SEQ")
     private Long overId;
 
     @OneToMany(fetch = FetchType.EAGER)
@@ -32,6 +36,7 @@ public class Over {
             joinColumns = @JoinColumn(referencedColumnName = "overId", name = "over_id"),
             inverseJoinColumns = @JoinColumn(referencedColumnName = "ballId", name = "ball_id")
     )
+    @OrderColumn(name = "ball_index")
     List<Ball> balls;
 
     @Override
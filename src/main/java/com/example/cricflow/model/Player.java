@@ -6,6 +6,8 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.*;
 
 import java.lang.reflect.Field;
@@ -20,8 +22,13 @@ import static com.example.cricflow.model.literal.StringGenerator.generateObjectS
 @Getter
 @Setter
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NamedEntityGraph(name = Player.WITHOUT_TEAM)
 public class Player {
 
+    // fetch plan of only the columns of the player, the eager team and its roster are not loaded
+    public static final String WITHOUT_TEAM = "Player.withoutTeam";
+
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE)
     @SequenceGenerator(
@@ -3,6 +3,8 @@ package com.example.cricflow.model;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -20,6 +22,7 @@ import static com.example.cricflow.model.literal.StringGenerator.generateObjectS
 @Data
 @Builder
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Team {
 
     @Id
@@ -36,6 +39,8 @@ public class Team {
     @Size(min = 5, max = 30, message = "teamName must be 5-30 characters long")
     private String teamName;
 
+    // cached as the ids of the players, dropped by hibernate whenever a player joins or leaves the team (auto_evict_collection_cache)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @OneToMany(fetch = FetchType.EAGER, mappedBy = "team")
     List<Player> players = new ArrayList<>();
 
@@ -1,5 +1,6 @@
 package com.example.cricflow.model;
 
+import com.example.cricflow.model.id.BlockSequenceId;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -15,12 +16,7 @@ import java.time.LocalDate;
 @Entity
 public class TeamPlayerRelation {
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE)
-    @SequenceGenerator(
-            name = "TPR_SEQUENCE",
-            sequenceName = "TPR_SEQ",
-            allocationSize = 1
-    )
+    @BlockSequenceId(sequence = "TPR_SEQ")
     private Long relationId;
 
     @ManyToOne
@@ -20,8 +20,8 @@ public class Tournament {
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE)
     @SequenceGenerator(
-            name = "TOSS_SEQUENCE",
-            sequenceName = "TOSS_SEQ",
+            name = "TOURNAMENT_SEQUENCE",
+            sequenceName = "TOURNAMENT_SEQ",
             allocationSize = 1
     )
     private Long tournamentId;
@@ -0,0 +1,59 @@
+package com.example.cricflow.model.history;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * The parts of a Cricsheet ball by ball file that a match is made of, the same structure read from JSON or YAML.
+ * Everything else in the file (officials, registry, powerplays, targets) is ignored.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record CricsheetMatch(Info info, List<Innings> innings) {
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Info(List<LocalDate> dates, String venue, List<String> teams, Toss toss, Outcome outcome, Integer overs) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Toss(String winner, String decision) {
+    }
+
+    // no winner on a tie or when there was no result
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Outcome(String winner) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Innings(String team, List<Over> overs, @JsonProperty("super_over") boolean superOver) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Over(int over, List<Delivery> deliveries) {
+    }
+
+    // files of the first version of the format name the batter the batsman
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Delivery(@JsonAlias("batsman") String batter, @JsonProperty("non_striker") String nonStriker, String bowler,
+                           Runs runs, Extras extras, List<Dismissal> wickets) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Runs(@JsonAlias("batsman") int batter, int extras, int total) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Extras(int wides, int noballs, int byes, int legbyes) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Dismissal(String kind, @JsonProperty("player_out") String playerOut, List<Fielder> fielders) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Fielder(String name) {
+    }
+}
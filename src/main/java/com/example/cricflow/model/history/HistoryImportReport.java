@@ -0,0 +1,15 @@
+package com.example.cricflow.model.history;
+
+import java.util.List;
+
+/**
+ * Outcome of importing a directory of Cricsheet files. Files imported by an earlier run are skipped, a file that
+ * failed is listed with the reason and left out whole, none of its rows are written. {@code rowsWritten} counts
+ * the rows of every table, {@code loader} tells if they were copied in or inserted in batches.
+ */
+public record HistoryImportReport(int filesFound, int filesImported, int filesSkipped, List<FileError> failures,
+                                  long rowsWritten, long elapsedMillis, double rowsPerSecond, String loader) {
+
+    public record FileError(String file, String message) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.cricflow.model.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Id taken from a block of ids reserved from the given database sequence, see {@link BlockSequenceGenerator}.
+ */
+@IdGeneratorType(BlockSequenceGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface BlockSequenceId {
+
+    String sequence();
+}
@@ -0,0 +1,16 @@
+package com.example.cricflow.model.imports;
+
+import org.springframework.http.MediaType;
+
+public enum ImportFormat {
+    // a header line naming the columns, then one row per line
+    CSV,
+    // an array of objects
+    JSON;
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    public static ImportFormat of(MediaType contentType) {
+        return MediaType.valueOf(TEXT_CSV_VALUE).includes(contentType) ? CSV : JSON;
+    }
+}
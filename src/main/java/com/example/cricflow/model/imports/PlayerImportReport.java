@@ -0,0 +1,18 @@
+package com.example.cricflow.model.imports;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * Outcome of a player import. Rows are numbered from 1 in the order they were read, only the first
+ * {@code errors} are listed, {@code errorsTruncated} tells that there were more. {@code failure} is set when the
+ * file could not be read any further, the rows read before it are imported all the same.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PlayerImportReport(long rowsRead, long rowsImported, long rowsRejected, List<RowError> errors,
+                                 boolean errorsTruncated, String failure) {
+
+    public record RowError(long row, List<String> violations) {
+    }
+}
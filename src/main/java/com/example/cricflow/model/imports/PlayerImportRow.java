@@ -0,0 +1,11 @@
+package com.example.cricflow.model.imports;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * One row of a player import as it was read, every field still text, so a bad value is reported against its row
+ * instead of stopping the parser.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record PlayerImportRow(String firstName, String lastName, String playerType, String battingStyle, String bowlingStyle) {
+}
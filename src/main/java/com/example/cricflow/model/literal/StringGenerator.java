@@ -1,61 +1,191 @@
 package com.example.cricflow.model.literal;
 
-import com.example.cricflow.model.*;
+import org.hibernate.Hibernate;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
 
-public class StringGenerator {
+/**
+ * Builds the {@code toString()} of the model classes.
+ * <p>
+ * Fields are read through method handles that are looked up once per class and cached, so a call does no
+ * reflection at all. Nested objects are written into the same builder, which is kept per thread and reused.
+ * The walk stops at {@link #MAX_DEPTH} levels, at objects already on the path, at the first
+ * {@link #MAX_COLLECTION_ELEMENTS} elements of a collection, and at anything hibernate has not loaded yet,
+ * so logging a match never pulls in the whole match from the database.
+ */
+public final class StringGenerator {
+
+    public static final int MAX_DEPTH = 3;
+    public static final int MAX_COLLECTION_ELEMENTS = 10;
+    // a builder grown past this by one very large object is dropped rather than kept by the thread
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<ClassFormat> FORMATS = new ClassValue<>() {
+        @Override
+        protected ClassFormat computeValue(Class<?> type) {
+            return ClassFormat.of(type);
+        }
+    };
+
+    // whether instances of a class format themselves through here, asked for every value that is written
+    private static final ClassValue<Generated> GENERATED = new ClassValue<>() {
+        @Override
+        protected Generated computeValue(Class<?> type) {
+            return new Generated();
+        }
+    };
+
+    private static final ThreadLocal<Context> CONTEXT = ThreadLocal.withInitial(Context::new);
+
+    private StringGenerator() {
+    }
 
     public static String generateObjectString(Object object) {
-        StringBuilder stringBuilder = new StringBuilder();
-        stringBuilder.append("\n").append(object.getClass().getName().toUpperCase()).append(" {").append("\n");
-
-        Field[] fields = object.getClass().getDeclaredFields();
-        for (Field field : fields) {
-            field.setAccessible(true);
-            if (!field.isAnnotationPresent(ExcludedFromToString.class)) {
-                try {
-                    stringBuilder.append("\t")
-                            .append(field.getName().toUpperCase())
-                            .append(": ")
-                            .append((field.get(object) == null)? "null": field.get(object))
-                            .append(",\n");
-                } catch (IllegalAccessException e) {
-                    throw new RuntimeException(e);
+        Context context = CONTEXT.get();
+        StringBuilder builder = context.builder;
+        // toString() of a nested value can come back here, it then shares the builder, the path and the depth
+        int start = builder.length();
+        try {
+            context.appendObject(object);
+            return builder.substring(start);
+        }
+        finally {
+            builder.setLength(start);
+            if (start == 0)
+                context.release();
+        }
+    }
+
+    private static final class Context {
+        private StringBuilder builder = new StringBuilder(256);
+        private final Set<Object> path = Collections.newSetFromMap(new IdentityHashMap<>());
+        private int depth;
+
+        void appendObject(Object object) {
+            ClassFormat format = FORMATS.get(object.getClass());
+            // the class formats itself through here, so its values can be written inline from now on
+            GENERATED.get(object.getClass()).value = true;
+            if (depth >= MAX_DEPTH) {
+                builder.append('\n').append(format.name).append(" {...}");
+                return;
+            }
+            if (!path.add(object)) {
+                builder.append('\n').append(format.name).append(" {<cycle>}");
+                return;
+            }
+            depth++;
+            try {
+                builder.append('\n').append(format.name).append(" {\n");
+                for (FieldAccessor accessor : format.accessors) {
+                    builder.append('\t').append(accessor.name).append(": ");
+                    appendValue(accessor.get(object));
+                    builder.append(",\n");
                 }
+                builder.append('}');
+            }
+            finally {
+                depth--;
+                path.remove(object);
+            }
+        }
+
+        private void appendValue(Object value) {
+            if (value == null) {
+                builder.append("null");
+                return;
+            }
+            // a lazy reference or collection is left as it is, writing it out must not query the database
+            if (!Hibernate.isInitialized(value)) {
+                builder.append("<not loaded>");
+                return;
+            }
+            value = Hibernate.unproxy(value);
+            if (value instanceof Collection<?> collection) {
+                appendCollection(collection);
+                return;
             }
+            if (GENERATED.get(value.getClass()).value)
+                appendObject(value);
+            else
+                builder.append(value);
+        }
+
+        private void appendCollection(Collection<?> collection) {
+            builder.append('[');
+            int written = 0;
+            for (Object element : collection) {
+                if (written == MAX_COLLECTION_ELEMENTS) {
+                    builder.append(", ... ").append(collection.size() - written).append(" more");
+                    break;
+                }
+                if (written++ > 0)
+                    builder.append(", ");
+                appendValue(element);
+            }
+            builder.append(']');
+        }
+
+        void release() {
+            path.clear();
+            depth = 0;
+            if (builder.capacity() > MAX_RETAINED_CAPACITY)
+                builder = new StringBuilder(256);
         }
-        stringBuilder.append("}");
-        return stringBuilder.toString();
     }
 
-    private final static Class<?> [] customClasses =
-            {
-                    Ball.class,
-                    Ground.class,
-                    Inning.class,
-                    Match.class,
-                    Over.class,
-                    Player.class,
-                    Team.class,
-                    Toss.class,
-                    Tournament.class
-            };
-
-//    private static boolean isCustomClass(Class<?> clazz) {
-//        for (Class<?> customClass : customClasses) {
-//            if (customClass == clazz) {
-//                return true;
-//            }
-//        }
-//        return false;
-//    }
-//    private static boolean isCustomListClass(Class<?> clazz) {
-//        for (Class<?> customClass : customClasses) {
-//            if (clazz == List.class || clazz == Set.class) {
-//                return true;
-//            }
-//        }
-//        return false;
-//    }
+    private static final class ClassFormat {
+        private final String name;
+        private final FieldAccessor[] accessors;
+
+        private ClassFormat(String name, FieldAccessor[] accessors) {
+            this.name = name;
+            this.accessors = accessors;
+        }
+
+        static ClassFormat of(Class<?> type) {
+            List<FieldAccessor> accessors = new ArrayList<>();
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+                for (Field field : type.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()
+                            || field.isAnnotationPresent(ExcludedFromToString.class))
+                        continue;
+                    MethodHandle getter = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+                    accessors.add(new FieldAccessor(field.getName().toUpperCase(), getter));
+                }
+            }
+            catch (IllegalAccessException e) {
+                throw new IllegalStateException("fields of " + type.getName() + " can not be read", e);
+            }
+            return new ClassFormat(type.getName().toUpperCase(), accessors.toArray(new FieldAccessor[0]));
+        }
+    }
+
+    private static final class Generated {
+        // written without synchronisation on purpose, a thread that does not see it yet only falls back to toString()
+        private boolean value;
+    }
+
+    private record FieldAccessor(String name, MethodHandle getter) {
+        Object get(Object object) {
+            try {
+                return (Object) getter.invokeExact(object);
+            }
+            catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
 }
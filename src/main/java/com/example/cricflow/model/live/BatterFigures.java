@@ -0,0 +1,26 @@
+package com.example.cricflow.model.live;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatterFigures {
+
+    private long playerId;
+    private int runs;
+    private int ballsFaced;
+    private int fours;
+    private int sixes;
+    private boolean out;
+
+    public BatterFigures(long playerId) {
+        this.playerId = playerId;
+    }
+
+    public BatterFigures copy() {
+        return new BatterFigures(playerId, runs, ballsFaced, fours, sixes, out);
+    }
+}
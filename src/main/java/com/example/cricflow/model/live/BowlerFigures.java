@@ -0,0 +1,26 @@
+package com.example.cricflow.model.live;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BowlerFigures {
+
+    private long playerId;
+    private int legalBalls;
+    private int runsConceded;
+    private int wickets;
+    private int wides;
+    private int noBalls;
+
+    public BowlerFigures(long playerId) {
+        this.playerId = playerId;
+    }
+
+    public BowlerFigures copy() {
+        return new BowlerFigures(playerId, legalBalls, runsConceded, wickets, wides, noBalls);
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.cricflow.model.live;
+
+import com.example.cricflow.model.literal.ExtraType;
+import com.example.cricflow.model.literal.ScoreType;
+import com.example.cricflow.model.literal.WicketType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * A delivery as a scorer sends it in the compact scoring mode, only what happened on the ball. The striker,
+ * non striker and bowler are taken from where the inning has got to, so they are only named when the inning
+ * does not know them yet: the openers on the first ball, the batter coming in after a wicket and the bowler on
+ * the first ball of every over. A player that is named anyway takes over that end.
+ * <p>
+ * A wicket is given with its wicketType and the fielder, an extra with its extraType and the runs off it as
+ * scoreType, anything else with scoreType alone.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CompactDelivery(ScoreType scoreType, ExtraType extraType, WicketType wicketType, Long fielderId,
+                              Long strikerId, Long nonStrikerId, Long bowlerId) {
+}
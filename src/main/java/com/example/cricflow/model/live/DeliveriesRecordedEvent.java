@@ -0,0 +1,19 @@
+package com.example.cricflow.model.live;
+
+import com.example.cricflow.model.Ball;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Published by the ball service for every ingested batch, listeners only see it once the batch is committed.
+ * inningId is null when the over is not part of any inning yet.
+ */
+@Getter
+@AllArgsConstructor
+public class DeliveriesRecordedEvent {
+    private final Long inningId;
+    private final Long overId;
+    private final List<Ball> balls;
+}
@@ -0,0 +1,67 @@
+package com.example.cricflow.model.live;
+
+import com.example.cricflow.model.Ball;
+import com.example.cricflow.model.Player;
+import com.example.cricflow.model.event.Extra;
+import com.example.cricflow.model.event.Score;
+import com.example.cricflow.model.event.Wicket;
+import com.example.cricflow.model.literal.ExtraType;
+import com.example.cricflow.model.literal.ScoreType;
+import com.example.cricflow.model.literal.WicketType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Compact, flat description of one delivery and the inning totals after it, pushed to live score subscribers.
+ * Only ids of the players are sent, never the player graph.
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DeliveryDelta {
+    private final long matchId;
+    private final long inningId;
+    private final Long ballId;
+    private final Long strikerId;
+    private final Long nonStrikerId;
+    private final Long bowlerId;
+    private final String eventType;
+    private final ScoreType scoreType;
+    private final ExtraType extraType;
+    private final WicketType wicketType;
+    private final Long fielderId;
+    private final int totalRuns;
+    private final int wickets;
+    private final String overs;
+
+    public static DeliveryDelta of(long matchId, Ball ball, InningTotals totals) {
+        String eventType = null;
+        ScoreType scoreType = null;
+        ExtraType extraType = null;
+        WicketType wicketType = null;
+        Long fielderId = null;
+        if (ball.getBallEvent() instanceof Score score) {
+            eventType = "SCORE";
+            scoreType = score.getScoreType();
+        }
+        else if (ball.getBallEvent() instanceof Extra extra) {
+            eventType = "EXTRA";
+            scoreType = extra.getScoreType();
+            extraType = extra.getExtraType();
+        }
+        else if (ball.getBallEvent() instanceof Wicket wicket) {
+            eventType = "WICKET";
+            wicketType = wicket.getWicketType();
+            fielderId = playerId(wicket.getFielder());
+        }
+        return new DeliveryDelta(matchId, totals.getInningId(), ball.getBallId(),
+                playerId(ball.getStriker()), playerId(ball.getNonStriker()), playerId(ball.getBowler()),
+                eventType, scoreType, extraType, wicketType, fielderId,
+                totals.getTotalRuns(), totals.getWickets(), totals.getOvers());
+    }
+
+    private static Long playerId(Player player) {
+        return (player == null) ? null : player.getPlayerId();
+    }
+}
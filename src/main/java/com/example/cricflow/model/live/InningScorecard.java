@@ -0,0 +1,204 @@
+package com.example.cricflow.model.live;
+
+import com.example.cricflow.model.Ball;
+import com.example.cricflow.model.BallEvent;
+import com.example.cricflow.model.event.Extra;
+import com.example.cricflow.model.event.Score;
+import com.example.cricflow.model.event.Wicket;
+import com.example.cricflow.model.literal.ExtraType;
+import com.example.cricflow.model.literal.WicketType;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Running totals of one inning. Every ball is folded in as it is recorded, so reading the
+ * scorecard never has to walk the overs and balls of the inning again.
+ * <p>
+ * Guarded by a {@link ReentrantLock} rather than {@code synchronized}, a snapshot writes the scorecard out
+ * while holding it, and blocking inside a monitor would pin the carrier of a virtual thread.
+ */
+@Getter
+public class InningScorecard {
+
+    private final long inningId;
+    private int totalRuns;
+    private int wickets;
+    private int legalBalls;
+    // highest id of the balls folded in, the writes to an inning are made one after the other and ids are reserved
+    // in increasing blocks, so a ball with an id at or below it has already been counted
+    private long lastBallId;
+    private final Map<ExtraType, Integer> extras = new EnumMap<>(ExtraType.class);
+    // insertion ordered, so batters and bowlers are listed in the order they appeared
+    private final Map<Long, BatterFigures> batters = new LinkedHashMap<>();
+    private final Map<Long, BowlerFigures> bowlers = new LinkedHashMap<>();
+    @Getter(AccessLevel.NONE)
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public InningScorecard(long inningId) {
+        this.inningId = inningId;
+        for (ExtraType extraType : ExtraType.values())
+            extras.put(extraType, 0);
+    }
+
+    public InningTotals record(Ball ball) {
+        lock.lock();
+        try {
+            return recordLocked(ball);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Whether the ball has been folded in already, balls without an id can not be told apart and never are.
+     */
+    public boolean includes(Ball ball) {
+        lock.lock();
+        try {
+            return ball.getBallId() != null && ball.getBallId() <= lastBallId;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    private InningTotals recordLocked(Ball ball) {
+        BallEvent event = ball.getBallEvent();
+        if (ball.getBallId() != null)
+            lastBallId = Math.max(lastBallId, ball.getBallId());
+        BatterFigures batter = batters.computeIfAbsent(ball.getStriker().getPlayerId(), BatterFigures::new);
+        batters.computeIfAbsent(ball.getNonStriker().getPlayerId(), BatterFigures::new);
+        BowlerFigures bowler = bowlers.computeIfAbsent(ball.getBowler().getPlayerId(), BowlerFigures::new);
+
+        if (event instanceof Score score) {
+            int runs = score.getScoreType().getScore();
+            totalRuns += runs;
+            legalBalls++;
+            addRunsToBatter(batter, runs);
+            bowler.setLegalBalls(bowler.getLegalBalls() + 1);
+            bowler.setRunsConceded(bowler.getRunsConceded() + runs);
+        }
+        else if (event instanceof Extra extra) {
+            int runs = (extra.getScoreType() == null) ? 0 : extra.getScoreType().getScore();
+            // one penalty run for the extra itself, charged to the bowler along with whatever was run
+            totalRuns += 1 + runs;
+            bowler.setRunsConceded(bowler.getRunsConceded() + 1 + runs);
+            if (extra.getExtraType() == ExtraType.WIDE) {
+                extras.merge(ExtraType.WIDE, 1 + runs, Integer::sum);
+                bowler.setWides(bowler.getWides() + 1);
+            }
+            else {
+                // runs off a no ball are scored off the bat, and the batter has faced the ball
+                extras.merge(ExtraType.NO_BALL, 1, Integer::sum);
+                addRunsToBatter(batter, runs);
+                bowler.setNoBalls(bowler.getNoBalls() + 1);
+            }
+        }
+        else if (event instanceof Wicket wicket) {
+            wickets++;
+            legalBalls++;
+            batter.setBallsFaced(batter.getBallsFaced() + 1);
+            batter.setOut(true);
+            bowler.setLegalBalls(bowler.getLegalBalls() + 1);
+            // run outs are not credited to the bowler
+            if (wicket.getWicketType() != WicketType.RUN_OUT)
+                bowler.setWickets(bowler.getWickets() + 1);
+        }
+        return new InningTotals(inningId, totalRuns, wickets, legalBalls);
+    }
+
+    public String getOvers() {
+        return (legalBalls / 6) + "." + (legalBalls % 6);
+    }
+
+    public InningScorecard copy() {
+        lock.lock();
+        try {
+            InningScorecard copy = new InningScorecard(inningId);
+            copy.totalRuns = totalRuns;
+            copy.wickets = wickets;
+            copy.legalBalls = legalBalls;
+            copy.lastBallId = lastBallId;
+            copy.extras.putAll(extras);
+            for (BatterFigures batter : batters.values())
+                copy.batters.put(batter.getPlayerId(), batter.copy());
+            for (BowlerFigures bowler : bowlers.values())
+                copy.bowlers.put(bowler.getPlayerId(), bowler.copy());
+            return copy;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    public void writeTo(DataOutput out) throws IOException {
+        lock.lock();
+        try {
+            out.writeLong(inningId);
+            out.writeInt(totalRuns);
+            out.writeInt(wickets);
+            out.writeInt(legalBalls);
+            out.writeLong(lastBallId);
+            for (ExtraType extraType : ExtraType.values())
+                out.writeInt(extras.get(extraType));
+            out.writeInt(batters.size());
+            for (BatterFigures batter : batters.values()) {
+                out.writeLong(batter.getPlayerId());
+                out.writeInt(batter.getRuns());
+                out.writeInt(batter.getBallsFaced());
+                out.writeInt(batter.getFours());
+                out.writeInt(batter.getSixes());
+                out.writeBoolean(batter.isOut());
+            }
+            out.writeInt(bowlers.size());
+            for (BowlerFigures bowler : bowlers.values()) {
+                out.writeLong(bowler.getPlayerId());
+                out.writeInt(bowler.getLegalBalls());
+                out.writeInt(bowler.getRunsConceded());
+                out.writeInt(bowler.getWickets());
+                out.writeInt(bowler.getWides());
+                out.writeInt(bowler.getNoBalls());
+            }
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    public static InningScorecard readFrom(DataInput in) throws IOException {
+        InningScorecard scorecard = new InningScorecard(in.readLong());
+        scorecard.totalRuns = in.readInt();
+        scorecard.wickets = in.readInt();
+        scorecard.legalBalls = in.readInt();
+        scorecard.lastBallId = in.readLong();
+        for (ExtraType extraType : ExtraType.values())
+            scorecard.extras.put(extraType, in.readInt());
+        for (int i = in.readInt(); i > 0; i--) {
+            BatterFigures batter = new BatterFigures(in.readLong(), in.readInt(), in.readInt(), in.readInt(), in.readInt(), in.readBoolean());
+            scorecard.batters.put(batter.getPlayerId(), batter);
+        }
+        for (int i = in.readInt(); i > 0; i--) {
+            BowlerFigures bowler = new BowlerFigures(in.readLong(), in.readInt(), in.readInt(), in.readInt(), in.readInt(), in.readInt());
+            scorecard.bowlers.put(bowler.getPlayerId(), bowler);
+        }
+        return scorecard;
+    }
+
+    private void addRunsToBatter(BatterFigures batter, int runs) {
+        batter.setRuns(batter.getRuns() + runs);
+        batter.setBallsFaced(batter.getBallsFaced() + 1);
+        if (runs == 4)
+            batter.setFours(batter.getFours() + 1);
+        else if (runs == 6)
+            batter.setSixes(batter.getSixes() + 1);
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.cricflow.model.live;
+
+import com.example.cricflow.model.Ball;
+import com.example.cricflow.model.BallEvent;
+import com.example.cricflow.model.Over;
+import com.example.cricflow.model.Player;
+import com.example.cricflow.model.event.Extra;
+import com.example.cricflow.model.event.Score;
+import com.example.cricflow.model.event.Wicket;
+import com.example.cricflow.model.literal.WicketType;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Where an inning has got to, and which deliveries it can still take.
+ * <p>
+ * An over takes {@value #BALLS_PER_OVER} legal deliveries, wides and no balls are bowled again and are not counted.
+ * A new over is only started once the one being bowled has had all of them, no more overs are started than the
+ * inning is played over, and the inning is complete once its last over is bowled or {@value #WICKETS_PER_INNING}
+ * wickets have fallen. The batters change ends on an odd number of runs
+ * run and again at the end of every over, a batter who is out leaves the end empty until the next delivery names
+ * who came in. Either batter can be run out, so a run out leaves both ends empty and the next delivery names the
+ * two batters. A delivery that leaves an end empty is turned down.
+ * <p>
+ * Nothing is allocated for a delivery, the players are kept by id and a delivery that is not allowed is turned
+ * down with an {@link Outcome} rather than an exception, so an inning can be checked ball by ball on the way in.
+ * Not thread safe, the writes to a match are already made one after the other.
+ */
+@Getter
+public class InningState {
+
+    public static final int BALLS_PER_OVER = 6;
+    public static final int WICKETS_PER_INNING = 10;
+
+    // no player named yet, the id is never given to a saved player
+    public static final long NONE = 0;
+
+    private int maxOvers;
+    private int overs;
+    private int legalBallsInOver;
+    private int wickets;
+    private long strikerId;
+    private long nonStrikerId;
+    private long bowlerId;
+    // deliveries a replay passed over
+    private int rejectedOnReplay;
+
+    /**
+     * An inning with no deliveries yet, played over the given number of overs, 0 for no limit.
+     */
+    public InningState(int maxOvers) {
+        reset(maxOvers);
+    }
+
+    /**
+     * Replays the overs already bowled, a delivery the rules would turn down now is passed over and counted in
+     * {@link #getRejectedOnReplay()}, so balls saved before the rules were checked do not stop the inning from
+     * going on. For the same reason an over saved after one that was not complete is still started.
+     */
+    public static InningState replay(int maxOvers, List<Over> overs) {
+        InningState state = new InningState(maxOvers);
+        if (overs == null)
+            return state;
+        for (Over over : overs) {
+            if (state.startOver() == Outcome.OVER_IN_PROGRESS)
+                state.nextOver();
+            if (over.getBalls() != null)
+                for (Ball ball : over.getBalls())
+                    if (state.deliver(ball).isRejected())
+                        state.rejectedOnReplay++;
+        }
+        return state;
+    }
+
+    public void reset(int maxOvers) {
+        this.maxOvers = maxOvers;
+        overs = 0;
+        legalBallsInOver = 0;
+        wickets = 0;
+        strikerId = NONE;
+        nonStrikerId = NONE;
+        bowlerId = NONE;
+        rejectedOnReplay = 0;
+    }
+
+    public Outcome startOver() {
+        if (wickets >= WICKETS_PER_INNING)
+            return Outcome.INNING_COMPLETE;
+        if (maxOvers > 0 && overs >= maxOvers)
+            return Outcome.OVERS_EXHAUSTED;
+        if (overs > 0 && legalBallsInOver < BALLS_PER_OVER)
+            return Outcome.OVER_IN_PROGRESS;
+        nextOver();
+        return Outcome.OVER_STARTED;
+    }
+
+    private void nextOver() {
+        overs++;
+        legalBallsInOver = 0;
+        // the bowler of the last over can not bowl this one, the next delivery names who does
+        bowlerId = NONE;
+    }
+
+    public Outcome deliver(Ball ball) {
+        BallEvent event = ball.getBallEvent();
+        boolean legal = true;
+        boolean wicket = false;
+        boolean runOut = false;
+        int runs = 0;
+        if (event instanceof Score score)
+            runs = score.getScoreType().getScore();
+        else if (event instanceof Extra extra) {
+            legal = false;
+            runs = (extra.getScoreType() == null) ? 0 : extra.getScoreType().getScore();
+        }
+        else if (event instanceof Wicket dismissal) {
+            wicket = true;
+            runOut = dismissal.getWicketType() == WicketType.RUN_OUT;
+        }
+        return deliver(legal, runs, wicket, runOut, idOf(ball.getStriker()), idOf(ball.getNonStriker()), idOf(ball.getBowler()));
+    }
+
+    /**
+     * Takes one delivery, the runs are the ones run or hit, not the penalty of a wide or no ball. A player left as
+     * {@link #NONE} stays the one the inning already has at that end. A run out is a wicket too.
+     */
+    public Outcome deliver(boolean legal, int runs, boolean wicket, boolean runOut, long strikerId, long nonStrikerId, long bowlerId) {
+        if (isComplete())
+            return Outcome.INNING_COMPLETE;
+        if (overs == 0 || legalBallsInOver == BALLS_PER_OVER)
+            return Outcome.OVER_CLOSED;
+        if ((strikerId == NONE && this.strikerId == NONE) || (nonStrikerId == NONE && this.nonStrikerId == NONE))
+            return Outcome.BATTER_NOT_NAMED;
+
+        if (strikerId != NONE)
+            this.strikerId = strikerId;
+        if (nonStrikerId != NONE)
+            this.nonStrikerId = nonStrikerId;
+        if (bowlerId != NONE)
+            this.bowlerId = bowlerId;
+
+        if (runOut) {
+            // which of the two was out is not known here
+            wickets++;
+            this.strikerId = NONE;
+            this.nonStrikerId = NONE;
+        }
+        else if (wicket) {
+            wickets++;
+            this.strikerId = NONE;
+        }
+        if ((runs & 1) == 1)
+            changeEnds();
+        if (legal)
+            legalBallsInOver++;
+
+        if (wickets >= WICKETS_PER_INNING)
+            return Outcome.INNING_COMPLETED;
+        if (legalBallsInOver < BALLS_PER_OVER)
+            return Outcome.BALL_RECORDED;
+        changeEnds();
+        return (maxOvers > 0 && overs >= maxOvers) ? Outcome.INNING_COMPLETED : Outcome.OVER_COMPLETED;
+    }
+
+    public boolean isOverComplete() {
+        return legalBallsInOver == BALLS_PER_OVER;
+    }
+
+    public boolean isComplete() {
+        return wickets >= WICKETS_PER_INNING || (maxOvers > 0 && overs >= maxOvers && legalBallsInOver == BALLS_PER_OVER);
+    }
+
+    private void changeEnds() {
+        long striker = strikerId;
+        strikerId = nonStrikerId;
+        nonStrikerId = striker;
+    }
+
+    private static long idOf(Player player) {
+        return (player == null || player.getPlayerId() == null) ? NONE : player.getPlayerId();
+    }
+
+    public enum Outcome {
+        OVER_STARTED(false),
+        BALL_RECORDED(false),
+        OVER_COMPLETED(false),
+        INNING_COMPLETED(false),
+        // the over has had all its legal deliveries, or none was started, a new one has to be
+        OVER_CLOSED(true),
+        OVERS_EXHAUSTED(true),
+        INNING_COMPLETE(true),
+        // the over being bowled has not had all its legal deliveries yet, the next one can not be started
+        OVER_IN_PROGRESS(true),
+        // the striker or the non striker is left empty, after a wicket the next delivery has to name who came in
+        BATTER_NOT_NAMED(true);
+
+        private final boolean rejected;
+
+        Outcome(boolean rejected) {
+            this.rejected = rejected;
+        }
+
+        public boolean isRejected() {
+            return rejected;
+        }
+    }
+}
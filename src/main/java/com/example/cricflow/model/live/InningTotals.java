@@ -0,0 +1,17 @@
+package com.example.cricflow.model.live;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class InningTotals {
+    private final long inningId;
+    private final int totalRuns;
+    private final int wickets;
+    private final int legalBalls;
+
+    public String getOvers() {
+        return (legalBalls / 6) + "." + (legalBalls % 6);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.cricflow.model.live;
+
+import com.example.cricflow.model.Ball;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published by the scorecard service once per ball, right after the ball is folded into the inning totals.
+ */
+@Getter
+@AllArgsConstructor
+public class ScorecardUpdatedEvent {
+    private final Ball ball;
+    private final InningTotals totals;
+}
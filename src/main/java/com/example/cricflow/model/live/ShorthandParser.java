@@ -0,0 +1,186 @@
+package com.example.cricflow.model.live;
+
+import com.example.cricflow.model.literal.ExtraType;
+import com.example.cricflow.model.literal.ScoreType;
+import com.example.cricflow.model.literal.WicketType;
+import lombok.Getter;
+
+/**
+ * Reads the shorthand scorers keep at the ground, a token for every delivery and the tokens apart by spaces or
+ * commas, so a whole over or a whole inning is written on one line:
+ * <pre>
+ *   .  0  1  2  3  4  6      runs off the bat, a dot is no run
+ *   wd  1wd  nb  2nb         a wide or a no ball, the runs taken off it in front
+ *   W-b  W-c:123  W-ro:123   bowled, caught or run out, with the player id of the fielder
+ *   st:7  ns:8  bw:9         the striker, non striker and bowler from the next delivery on
+ * </pre>
+ * As with a {@link CompactDelivery} the players are only given where the inning does not know them yet.
+ * <p>
+ * Nothing is allocated while reading, {@link #next()} says what kind of token it read and leaves what the token
+ * held in the parser until the next one. A token that is not shorthand is returned as {@link Token#INVALID}, with
+ * where it is in the text and the line it is on, rather than thrown, so every bad token of a text can be reported
+ * at once.
+ * Not thread safe, a parser reads one text at a time.
+ */
+@Getter
+public class ShorthandParser {
+
+    // runs off a delivery by the number scored, five is not a score of its own
+    private static final ScoreType[] SCORE_BY_RUNS = {ScoreType.NO_RUN, ScoreType.SINGLE, ScoreType.DOUBLE,
+            ScoreType.TRIPLE, ScoreType.FOUR, null, ScoreType.SIX};
+
+    // long enough for any player id, short enough not to overflow a long
+    private static final int MAX_ID_DIGITS = 18;
+
+    private CharSequence text;
+    private int position;
+    private int tokenStart;
+    private int tokenEnd;
+    // the line of the last token, counted from 1
+    private int line;
+    private ScoreType scoreType;
+    private ExtraType extraType;
+    private WicketType wicketType;
+    // the fielder of a wicket or the player a player token names, InningState.NONE if there is none
+    private long playerId;
+
+    public ShorthandParser reset(CharSequence text) {
+        this.text = text;
+        position = 0;
+        tokenStart = 0;
+        tokenEnd = 0;
+        line = 1;
+        clearToken();
+        return this;
+    }
+
+    public Token next() {
+        int length = text.length();
+        while (position < length && isSpace(text.charAt(position))) {
+            if (text.charAt(position) == '\n')
+                line++;
+            position++;
+        }
+        tokenStart = position;
+        while (position < length && !isSpace(text.charAt(position)))
+            position++;
+        tokenEnd = position;
+        clearToken();
+        if (tokenStart == length)
+            return Token.END;
+        return read(tokenStart, tokenEnd);
+    }
+
+    private Token read(int start, int end) {
+        char first = text.charAt(start);
+        if (end - start > 1 && text.charAt(start + 1) == '-' && (first == 'W' || first == 'w'))
+            return readWicket(start + 2, end);
+        if (end - start > 3 && text.charAt(start + 2) == ':')
+            return readPlayer(lower(first), lower(text.charAt(start + 1)), start + 3, end);
+        if (first == '.')
+            return readScore(ScoreType.NO_RUN, start + 1, end);
+        int runs = first - '0';
+        if (runs >= 0 && runs < SCORE_BY_RUNS.length)
+            return (SCORE_BY_RUNS[runs] == null) ? Token.INVALID : readScore(SCORE_BY_RUNS[runs], start + 1, end);
+        // a wide or no ball nothing was run off
+        scoreType = ScoreType.NO_RUN;
+        return readExtra(start, end);
+    }
+
+    private Token readScore(ScoreType scoreType, int start, int end) {
+        this.scoreType = scoreType;
+        if (start == end)
+            return Token.SCORE;
+        // a dot is never put in front of an extra
+        return (text.charAt(start - 1) == '.') ? Token.INVALID : readExtra(start, end);
+    }
+
+    private Token readExtra(int start, int end) {
+        if (end - start != 2)
+            return Token.INVALID;
+        char first = lower(text.charAt(start));
+        char second = lower(text.charAt(start + 1));
+        if (first == 'w' && second == 'd')
+            extraType = ExtraType.WIDE;
+        else if (first == 'n' && second == 'b')
+            extraType = ExtraType.NO_BALL;
+        else
+            return Token.INVALID;
+        return Token.EXTRA;
+    }
+
+    private Token readWicket(int start, int end) {
+        int codeEnd = start;
+        while (codeEnd < end && text.charAt(codeEnd) != ':')
+            codeEnd++;
+        if (codeEnd - start == 1 && lower(text.charAt(start)) == 'b')
+            wicketType = WicketType.BOWLED;
+        else if (codeEnd - start == 1 && lower(text.charAt(start)) == 'c')
+            wicketType = WicketType.CAUGHT;
+        else if (codeEnd - start == 2 && lower(text.charAt(start)) == 'r' && lower(text.charAt(start + 1)) == 'o')
+            wicketType = WicketType.RUN_OUT;
+        else
+            return Token.INVALID;
+        if (codeEnd == end)
+            return Token.WICKET;
+        // nobody fields a ball that bowled the batter
+        if (wicketType == WicketType.BOWLED)
+            return Token.INVALID;
+        playerId = readId(codeEnd + 1, end);
+        return (playerId == InningState.NONE) ? Token.INVALID : Token.WICKET;
+    }
+
+    private Token readPlayer(char first, char second, int start, int end) {
+        Token token;
+        if (first == 's' && second == 't')
+            token = Token.STRIKER;
+        else if (first == 'n' && second == 's')
+            token = Token.NON_STRIKER;
+        else if (first == 'b' && second == 'w')
+            token = Token.BOWLER;
+        else
+            return Token.INVALID;
+        playerId = readId(start, end);
+        return (playerId == InningState.NONE) ? Token.INVALID : token;
+    }
+
+    // the id in the digits, NONE when there are none, anything else is among them or there are too many
+    private long readId(int start, int end) {
+        if (start == end || end - start > MAX_ID_DIGITS)
+            return InningState.NONE;
+        long id = 0;
+        for (int i = start; i < end; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9)
+                return InningState.NONE;
+            id = id * 10 + digit;
+        }
+        return id;
+    }
+
+    private void clearToken() {
+        scoreType = null;
+        extraType = null;
+        wicketType = null;
+        playerId = InningState.NONE;
+    }
+
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == ',';
+    }
+
+    private static char lower(char c) {
+        return (c >= 'A' && c <= 'Z') ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    public enum Token {
+        SCORE,
+        EXTRA,
+        WICKET,
+        STRIKER,
+        NON_STRIKER,
+        BOWLER,
+        INVALID,
+        END
+    }
+}
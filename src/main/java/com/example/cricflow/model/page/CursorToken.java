@@ -0,0 +1,38 @@
+package com.example.cricflow.model.page;
+
+import com.example.cricflow.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque token handed out as the cursor of a page. It only carries the id of the last row sent,
+ * the next page is then read with {@code id > lastId}, so no page ever has to skip over the ones before it.
+ */
+public final class CursorToken {
+
+    private static final String PREFIX = "id:";
+
+    private CursorToken() {
+    }
+
+    public static String encode(long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + lastId).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    // no cursor means the first page, which starts before every id
+    public static long decode(String cursor) throws InvalidCursorException {
+        if (cursor == null || cursor.isEmpty())
+            return 0L;
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            if (!decoded.startsWith(PREFIX))
+                throw new InvalidCursorException(cursor);
+            return Long.parseLong(decoded.substring(PREFIX.length()));
+        }
+        catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
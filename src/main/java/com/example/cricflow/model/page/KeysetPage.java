@@ -0,0 +1,38 @@
+package com.example.cricflow.model.page;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * One page of a list ordered by id. {@code nextCursor} is null on the last page.
+ */
+@Getter
+@AllArgsConstructor
+public class KeysetPage<T> {
+
+    public static final int DEFAULT_SIZE = 50;
+    public static final int MAX_SIZE = 500;
+
+    private final List<T> items;
+    private final String nextCursor;
+
+    public static int boundedSize(Integer size) {
+        if (size == null || size < 1)
+            return DEFAULT_SIZE;
+        return Math.min(size, MAX_SIZE);
+    }
+
+    /**
+     * Builds the page out of rows read with a limit of one more than the page size,
+     * the extra row only tells that there is a next page and is not returned.
+     */
+    public static <T> KeysetPage<T> of(List<T> rows, int size, ToLongFunction<T> idOf) {
+        if (rows.size() <= size)
+            return new KeysetPage<>(rows, null);
+        List<T> items = rows.subList(0, size);
+        return new KeysetPage<>(items, CursorToken.encode(idOf.applyAsLong(items.get(size - 1))));
+    }
+}
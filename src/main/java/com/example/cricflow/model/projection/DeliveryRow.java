@@ -0,0 +1,41 @@
+package com.example.cricflow.model.projection;
+
+import com.example.cricflow.model.Ball;
+import com.example.cricflow.model.BallEvent;
+import com.example.cricflow.model.Player;
+import com.example.cricflow.model.event.Extra;
+import com.example.cricflow.model.event.Score;
+import com.example.cricflow.model.event.Wicket;
+import com.example.cricflow.model.literal.ExtraType;
+import com.example.cricflow.model.literal.ScoreType;
+import com.example.cricflow.model.literal.WicketType;
+
+/**
+ * One saved delivery as flat columns, with the id of its inning, so the scorecards can be rebuilt without loading
+ * balls, events and players as entities. Only the columns of the kind of event the ball had are set.
+ */
+public record DeliveryRow(Long inningId, Long ballId, Long strikerId, Long nonStrikerId, Long bowlerId,
+                          ScoreType scoreType, ExtraType extraType, ScoreType extraScoreType,
+                          WicketType wicketType, Long fielderId) {
+
+    public Ball toBall() {
+        BallEvent event;
+        if (extraType != null)
+            event = Extra.builder().extraType(extraType).scoreType(extraScoreType).build();
+        else if (wicketType != null)
+            event = Wicket.builder().wicketType(wicketType).fielder(player(fielderId)).build();
+        else
+            event = Score.builder().scoreType(scoreType).build();
+        return Ball.builder()
+                .ballId(ballId)
+                .ballEvent(event)
+                .striker(player(strikerId))
+                .nonStriker(player(nonStrikerId))
+                .bowler(player(bowlerId))
+                .build();
+    }
+
+    private static Player player(Long playerId) {
+        return (playerId == null) ? null : Player.builder().playerId(playerId).build();
+    }
+}
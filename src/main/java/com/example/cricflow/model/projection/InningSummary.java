@@ -0,0 +1,12 @@
+package com.example.cricflow.model.projection;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Header of an inning with how far it has got, the overs and balls are counted by the database.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record InningSummary(Long inningId, int inningNumber, int numberOfOvers,
+                            Long battingSideId, String battingSideName, Long bowlingSideId, String bowlingSideName,
+                            long oversBowled, long ballsBowled) {
+}
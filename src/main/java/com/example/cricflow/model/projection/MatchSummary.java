@@ -0,0 +1,16 @@
+package com.example.cricflow.model.projection;
+
+import com.example.cricflow.model.literal.TeamSide;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDate;
+
+/**
+ * Date, ground, teams and winner of a match, selected column by column, none of the associations of the match
+ * is loaded to build it.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record MatchSummary(Long matchId, LocalDate matchDate, Long groundId, String groundName, int noOfOvers, TeamSide winner,
+                           Long teamAId, String teamAName, Long teamBId, String teamBName,
+                           Long firstInningsId, Long secondInningsId) {
+}
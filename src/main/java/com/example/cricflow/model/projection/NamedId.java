@@ -0,0 +1,7 @@
+package com.example.cricflow.model.projection;
+
+/**
+ * Id of a team, ground or player along with the name it is looked up by.
+ */
+public record NamedId(Long id, String name) {
+}
@@ -0,0 +1,10 @@
+package com.example.cricflow.model.projection;
+
+import com.example.cricflow.model.Player;
+
+/**
+ * Columns of a player, without its team.
+ */
+public record PlayerSummary(Long playerId, String firstName, String lastName, Player.PlayerType playerType,
+                            Player.BattingStyle battingStyle, Player.BowlingStyle bowlingStyle) {
+}
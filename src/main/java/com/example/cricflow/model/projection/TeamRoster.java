@@ -0,0 +1,6 @@
+package com.example.cricflow.model.projection;
+
+import java.util.List;
+
+public record TeamRoster(Long teamId, String teamName, List<PlayerSummary> players) {
+}
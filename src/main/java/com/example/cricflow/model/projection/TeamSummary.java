@@ -0,0 +1,10 @@
+package com.example.cricflow.model.projection;
+
+/**
+ * Closed projection of a team, spring data selects only these two columns.
+ */
+public interface TeamSummary {
+    Long getTeamId();
+
+    String getTeamName();
+}
@@ -0,0 +1,21 @@
+package com.example.cricflow.model.stats;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BattingStats {
+
+    private long runs;
+    private long ballsFaced;
+    private long fours;
+    private long sixes;
+    private long dismissals;
+
+    public BattingStats copy() {
+        return new BattingStats(runs, ballsFaced, fours, sixes, dismissals);
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.cricflow.model.stats;
+
+import com.example.cricflow.model.literal.WicketType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+public class BowlingStats {
+
+    private long legalBalls;
+    private long runsConceded;
+    private long wickets;
+    private long wides;
+    private long noBalls;
+    private Map<WicketType, Long> wicketsByType;
+
+    public BowlingStats() {
+        wicketsByType = new EnumMap<>(WicketType.class);
+        for (WicketType wicketType : WicketType.values())
+            wicketsByType.put(wicketType, 0L);
+    }
+
+    public BowlingStats copy() {
+        return new BowlingStats(legalBalls, runsConceded, wickets, wides, noBalls, new EnumMap<>(wicketsByType));
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.cricflow.model.stats;
+
+import com.example.cricflow.model.literal.ExtraType;
+import com.example.cricflow.model.literal.ScoreType;
+import com.example.cricflow.model.literal.WicketType;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Career batting and bowling aggregates of one player. Deliveries are folded in as they are recorded,
+ * each one counted {@code count} times, so the same methods serve a single live ball and the grouped
+ * counts read back on startup. Updates take a {@link ReentrantLock} instead of the monitor, so a virtual
+ * thread that has to wait for one is unmounted instead of pinning its carrier.
+ */
+@Getter
+public class PlayerCareerStats {
+
+    private final long playerId;
+    private final BattingStats batting;
+    private final BowlingStats bowling;
+    @Getter(AccessLevel.NONE)
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public PlayerCareerStats(long playerId) {
+        this(playerId, new BattingStats(), new BowlingStats());
+    }
+
+    private PlayerCareerStats(long playerId, BattingStats batting, BowlingStats bowling) {
+        this.playerId = playerId;
+        this.batting = batting;
+        this.bowling = bowling;
+    }
+
+    public void addBattingScore(ScoreType scoreType, long count) {
+        lock.lock();
+        try {
+            addRunsOffTheBat(runs(scoreType), count);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    public void addBowlingScore(ScoreType scoreType, long count) {
+        lock.lock();
+        try {
+            bowling.setLegalBalls(bowling.getLegalBalls() + count);
+            bowling.setRunsConceded(bowling.getRunsConceded() + runs(scoreType) * count);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    public void addBattingExtra(ExtraType extraType, ScoreType scoreType, long count) {
+        lock.lock();
+        try {
+            // runs off a no ball are scored off the bat, a wide is never faced
+            if (extraType == ExtraType.NO_BALL)
+                addRunsOffTheBat(runs(scoreType), count);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    public void addBowlingExtra(ExtraType extraType, ScoreType scoreType, long count) {
+        lock.lock();
+        try {
+            bowling.setRunsConceded(bowling.getRunsConceded() + (1 + runs(scoreType)) * count);
+            if (extraType == ExtraType.WIDE)
+                bowling.setWides(bowling.getWides() + count);
+            else
+                bowling.setNoBalls(bowling.getNoBalls() + count);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    public void addBattingWicket(long count) {
+        lock.lock();
+        try {
+            batting.setBallsFaced(batting.getBallsFaced() + count);
+            batting.setDismissals(batting.getDismissals() + count);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    public void addBowlingWicket(WicketType wicketType, long count) {
+        lock.lock();
+        try {
+            bowling.setLegalBalls(bowling.getLegalBalls() + count);
+            // run outs are not credited to the bowler
+            if (wicketType != null && wicketType != WicketType.RUN_OUT) {
+                bowling.setWickets(bowling.getWickets() + count);
+                bowling.getWicketsByType().merge(wicketType, count, Long::sum);
+            }
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    public PlayerCareerStats copy() {
+        lock.lock();
+        try {
+            return new PlayerCareerStats(playerId, batting.copy(), bowling.copy());
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    private void addRunsOffTheBat(int runs, long count) {
+        batting.setRuns(batting.getRuns() + runs * count);
+        batting.setBallsFaced(batting.getBallsFaced() + count);
+        if (runs == 4)
+            batting.setFours(batting.getFours() + count);
+        else if (runs == 6)
+            batting.setSixes(batting.getSixes() + count);
+    }
+
+    private static int runs(ScoreType scoreType) {
+        return (scoreType == null) ? 0 : scoreType.getScore();
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.cricflow.model.view;
+
+import com.example.cricflow.model.Ball;
+import com.example.cricflow.model.Player;
+import com.example.cricflow.model.event.Extra;
+import com.example.cricflow.model.event.Score;
+import com.example.cricflow.model.event.Wicket;
+import com.example.cricflow.model.literal.ExtraType;
+import com.example.cricflow.model.literal.ScoreType;
+import com.example.cricflow.model.literal.WicketType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * One delivery of the ball by ball view, players are only referenced by id.
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BallView {
+    private final Long ballId;
+    private final Long strikerId;
+    private final Long nonStrikerId;
+    private final Long bowlerId;
+    private final String eventType;
+    private final ScoreType scoreType;
+    private final ExtraType extraType;
+    private final WicketType wicketType;
+    private final Long fielderId;
+
+    public static BallView of(Ball ball) {
+        String eventType = null;
+        ScoreType scoreType = null;
+        ExtraType extraType = null;
+        WicketType wicketType = null;
+        Long fielderId = null;
+        if (ball.getBallEvent() instanceof Score score) {
+            eventType = "SCORE";
+            scoreType = score.getScoreType();
+        }
+        else if (ball.getBallEvent() instanceof Extra extra) {
+            eventType = "EXTRA";
+            scoreType = extra.getScoreType();
+            extraType = extra.getExtraType();
+        }
+        else if (ball.getBallEvent() instanceof Wicket wicket) {
+            eventType = "WICKET";
+            wicketType = wicket.getWicketType();
+            fielderId = playerId(wicket.getFielder());
+        }
+        return new BallView(ball.getBallId(), playerId(ball.getStriker()), playerId(ball.getNonStriker()), playerId(ball.getBowler()),
+                eventType, scoreType, extraType, wicketType, fielderId);
+    }
+
+    private static Long playerId(Player player) {
+        return (player == null) ? null : player.getPlayerId();
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.cricflow.model.view;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class InningView {
+    private final Long inningId;
+    private final int numberOfOvers;
+    private final Long battingSideId;
+    private final Long bowlingSideId;
+    private final List<OverView> overs;
+}
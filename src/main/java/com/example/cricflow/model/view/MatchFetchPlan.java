@@ -0,0 +1,37 @@
+package com.example.cricflow.model.view;
+
+import com.example.cricflow.exception.UnknownViewException;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * How much of the match aggregate is read, picked with the {@code view} parameter of the match api.
+ */
+@Getter
+public enum MatchFetchPlan {
+    // ground and both teams, without their players
+    SUMMARY("summary"),
+    // summary and the header of both innings
+    INNINGS("innings"),
+    // innings with every over and ball
+    BALL_BY_BALL("ball-by-ball"),
+    // summary and the players of both teams
+    ROSTER("roster");
+
+    private final String view;
+
+    MatchFetchPlan(String view) {
+        this.view = view;
+    }
+
+    public static MatchFetchPlan fromView(String view) throws UnknownViewException {
+        if (view == null || view.isEmpty())
+            return SUMMARY;
+        for (MatchFetchPlan plan : values())
+            if (plan.view.equalsIgnoreCase(view))
+                return plan;
+        throw new UnknownViewException(view, Arrays.stream(values()).map(MatchFetchPlan::getView).collect(Collectors.joining(", ")));
+    }
+}
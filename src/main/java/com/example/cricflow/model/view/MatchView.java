@@ -0,0 +1,29 @@
+package com.example.cricflow.model.view;
+
+import com.example.cricflow.model.literal.TeamSide;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Match as read with one {@link MatchFetchPlan}. Sections that are not part of the plan are left out.
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MatchView {
+    private final Long matchId;
+    private final LocalDate matchDate;
+    private final Long groundId;
+    private final String groundName;
+    private final int noOfOvers;
+    private final TeamSide winner;
+    private final TeamView teamA;
+    private final TeamView teamB;
+    private final Long firstInningsId;
+    private final Long secondInningsId;
+    private final List<InningView> innings;
+}
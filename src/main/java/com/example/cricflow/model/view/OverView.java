@@ -0,0 +1,13 @@
+package com.example.cricflow.model.view;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class OverView {
+    private final Long overId;
+    private final List<BallView> balls;
+}
@@ -0,0 +1,18 @@
+package com.example.cricflow.model.view;
+
+import com.example.cricflow.model.Player;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PlayerView {
+    private final Long playerId;
+    private final String firstName;
+    private final String lastName;
+    private final Player.PlayerType playerType;
+
+    public static PlayerView of(Player player) {
+        return new PlayerView(player.getPlayerId(), player.getFirstName(), player.getLastName(), player.getPlayerType());
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.cricflow.model.view;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TeamView {
+    private final Long teamId;
+    private final String teamName;
+    private final List<PlayerView> players;
+}
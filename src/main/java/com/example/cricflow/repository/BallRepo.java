@@ -1,9 +1,52 @@
 package com.example.cricflow.repository;
 
 import com.example.cricflow.model.Ball;
+import com.example.cricflow.model.projection.DeliveryRow;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
 @Repository
 public interface BallRepo extends JpaRepository<Ball, Long> {
+
+    // every ball with the id of its inning, in the order the balls were bowled, read through a JDBC cursor as
+    // plain columns, so neither the balls nor their events and players end up in the persistence context
+    @Query("select new com.example.cricflow.model.projection.DeliveryRow(i.inningId, b.ballId, b.striker.playerId, " +
+            "b.nonStriker.playerId, b.bowler.playerId, s.scoreType, x.extraType, x.scoreType, w.wicketType, f.playerId) " +
+            "from Inning i join i.overs o join o.balls b join b.ballEvent e " +
+            "left join Score s on s.eventId = e.eventId left join Extra x on x.eventId = e.eventId " +
+            "left join Wicket w on w.eventId = e.eventId left join w.fielder f " +
+            "order by i.inningId, index(o), index(b)")
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    Stream<DeliveryRow> streamAllWithInningId();
+
+    // the highest ball id of every inning that has balls, to tell whether scorecards from the journal are current
+    @Query("select i.inningId, max(b.ballId) from Inning i join i.overs o join o.balls b group by i.inningId")
+    List<Object[]> findLastBallIdByInning();
+
+    @Query("select b.ballId from Ball b where b.ballId in :ballIds")
+    Set<Long> findExistingIds(@Param("ballIds") Collection<Long> ballIds);
+
+    // deliveries counted per striker, bowler and outcome, one query per event type, so no ball is loaded
+    @Query("select b.striker.playerId, b.bowler.playerId, s.scoreType, count(b) from Ball b join treat(b.ballEvent as Score) s " +
+            "group by b.striker.playerId, b.bowler.playerId, s.scoreType")
+    List<Object[]> countScoresByPlayers();
+
+    @Query("select b.striker.playerId, b.bowler.playerId, x.extraType, x.scoreType, count(b) from Ball b join treat(b.ballEvent as Extra) x " +
+            "group by b.striker.playerId, b.bowler.playerId, x.extraType, x.scoreType")
+    List<Object[]> countExtrasByPlayers();
+
+    @Query("select b.striker.playerId, b.bowler.playerId, w.wicketType, count(b) from Ball b join treat(b.ballEvent as Wicket) w " +
+            "group by b.striker.playerId, b.bowler.playerId, w.wicketType")
+    List<Object[]> countWicketsByPlayers();
 }
@@ -1,12 +1,41 @@
 package com.example.cricflow.repository;
 
 import com.example.cricflow.model.Ground;
+import com.example.cricflow.model.projection.NamedId;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
-public interface GroundRepo extends JpaRepository<Ground, Long> {
+public interface GroundRepo extends JpaRepository<Ground, Long>, UniqueNameLookup {
+    // answered from the query cache until the ground table is written again
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     Optional<Ground> findByGroundName(String groundName);
+
+    @Override
+    @Query("select g.groundName from Ground g where g.groundName in :groundNames")
+    List<String> findExistingNames(@Param("groundNames") Collection<String> groundNames);
+
+    // every ground by its name, for resolving the venues of historical matches in memory
+    @Query("select new com.example.cricflow.model.projection.NamedId(g.groundId, g.groundName) from Ground g")
+    List<NamedId> findAllNames();
+
+    List<Ground> findByGroundIdGreaterThanOrderByGroundIdAsc(Long afterGroundId, Limit limit);
+
+    // read through a JDBC cursor, only a bounded number of rows is fetched from the database at a time
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    Stream<Ground> streamAllByOrderByGroundIdAsc();
 }
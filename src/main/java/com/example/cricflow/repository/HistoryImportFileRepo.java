@@ -0,0 +1,15 @@
+package com.example.cricflow.repository;
+
+import com.example.cricflow.model.HistoryImportFile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Set;
+
+@Repository
+public interface HistoryImportFileRepo extends JpaRepository<HistoryImportFile, Long> {
+
+    @Query("select f.sha256 from HistoryImportFile f")
+    Set<String> findAllSha256();
+}
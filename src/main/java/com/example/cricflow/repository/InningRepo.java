@@ -1,9 +1,36 @@
 package com.example.cricflow.repository;
 
 import com.example.cricflow.model.Inning;
+import com.example.cricflow.model.projection.InningSummary;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface InningRepo extends JpaRepository<Inning, Long> {
+
+    // overs of all the given innings in one query, fills in the overs of innings that are already loaded
+    @EntityGraph(Inning.WITH_OVERS)
+    List<Inning> findWithOversByInningIdIn(Collection<Long> inningIds);
+
+    @Query("select i.inningId from Inning i join i.overs o where o.overId = :overId")
+    Optional<Long> findInningIdByOverId(@Param("overId") Long overId);
+
+    // both innings of a match with their overs and balls counted in the database, first innings first
+    @Query("select new com.example.cricflow.model.projection.InningSummary(i.inningId, " +
+            "case when i.inningId = f.inningId then 1 else 2 end, i.numberOfOvers, " +
+            "bat.teamId, bat.teamName, bowl.teamId, bowl.teamName, count(distinct o.overId), count(b.ballId)) " +
+            "from Match m left join m.firstInnings f left join m.secondInnings s " +
+            "join Inning i on i.inningId = f.inningId or i.inningId = s.inningId " +
+            "left join i.battingSide bat left join i.bowlingSide bowl left join i.overs o left join o.balls b " +
+            "where m.matchId = :matchId " +
+            "group by i.inningId, f.inningId, i.numberOfOvers, bat.teamId, bat.teamName, bowl.teamId, bowl.teamName " +
+            "order by 2")
+    List<InningSummary> findInningSummariesByMatchId(@Param("matchId") Long matchId);
 }
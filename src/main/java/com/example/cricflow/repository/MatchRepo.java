@@ -1,9 +1,36 @@
 package com.example.cricflow.repository;
 
 import com.example.cricflow.model.Match;
+import com.example.cricflow.model.projection.MatchSummary;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
 public interface MatchRepo extends JpaRepository<Match, Long> {
+
+    @Query("select m.matchId from Match m left join m.firstInnings f left join m.secondInnings s " +
+            "where f.inningId = :inningId or s.inningId = :inningId")
+    Optional<Long> findMatchIdByInningId(@Param("inningId") Long inningId);
+
+    @Query("select m.noOfOvers from Match m left join m.firstInnings f left join m.secondInnings s " +
+            "where f.inningId = :inningId or s.inningId = :inningId")
+    Optional<Integer> findNoOfOversByInningId(@Param("inningId") Long inningId);
+
+    @EntityGraph(Match.SUMMARY)
+    Optional<Match> findSummaryByMatchId(Long matchId);
+
+    @EntityGraph(Match.WITH_INNINGS)
+    Optional<Match> findWithInningsByMatchId(Long matchId);
+
+    // only the columns of the summary, no entity is loaded or kept in the persistence context
+    @Query("select new com.example.cricflow.model.projection.MatchSummary(m.matchId, m.matchDate, g.groundId, g.groundName, " +
+            "m.noOfOvers, m.winner, a.teamId, a.teamName, b.teamId, b.teamName, f.inningId, s.inningId) " +
+            "from Match m left join m.ground g left join m.teamA a left join m.teamB b " +
+            "left join m.firstInnings f left join m.secondInnings s where m.matchId = :matchId")
+    Optional<MatchSummary> findMatchSummary(@Param("matchId") Long matchId);
 }
@@ -1,9 +1,17 @@
 package com.example.cricflow.repository;
 
 import com.example.cricflow.model.Over;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface OverRepo extends JpaRepository<Over, Long> {
+
+    // balls of all the given overs in one query, fills in the balls of overs that are already loaded
+    @EntityGraph(Over.WITH_BALLS)
+    List<Over> findWithBallsByOverIdIn(Collection<Long> overIds);
 }
@@ -2,12 +2,75 @@ package com.example.cricflow.repository;
 
 import com.example.cricflow.model.Player;
 import com.example.cricflow.model.Team;
+import com.example.cricflow.model.projection.NamedId;
+import com.example.cricflow.model.projection.PlayerSummary;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface PlayerRepo extends JpaRepository<Player, Long> {
+    // answered from the query cache until the player table is written again
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     List<Player> findAllByTeam(Team team);
+
+    // keyset pages, the team of each player is left out, it is never part of the response
+    @EntityGraph(Player.WITHOUT_TEAM)
+    List<Player> findByPlayerIdGreaterThanOrderByPlayerIdAsc(Long afterPlayerId, Limit limit);
+
+    @EntityGraph(Player.WITHOUT_TEAM)
+    List<Player> findByTeamTeamIdAndPlayerIdGreaterThanOrderByPlayerIdAsc(Long teamId, Long afterPlayerId, Limit limit);
+
+    @EntityGraph(Player.WITHOUT_TEAM)
+    List<Player> findByTeamTeamIdInOrderByPlayerIdAsc(Collection<Long> teamIds);
+
+    // the same pages as summaries, the columns are selected straight into the records
+    @Query("select new com.example.cricflow.model.projection.PlayerSummary(p.playerId, p.firstName, p.lastName, " +
+            "p.playerType, p.battingStyle, p.bowlingStyle) from Player p where p.playerId > :afterPlayerId order by p.playerId")
+    List<PlayerSummary> findSummaries(@Param("afterPlayerId") Long afterPlayerId, Limit limit);
+
+    @Query("select new com.example.cricflow.model.projection.PlayerSummary(p.playerId, p.firstName, p.lastName, " +
+            "p.playerType, p.battingStyle, p.bowlingStyle) from Player p " +
+            "where p.team.teamId = :teamId and p.playerId > :afterPlayerId order by p.playerId")
+    List<PlayerSummary> findSummariesByTeamId(@Param("teamId") Long teamId, @Param("afterPlayerId") Long afterPlayerId, Limit limit);
+
+    @Query("select new com.example.cricflow.model.projection.PlayerSummary(p.playerId, p.firstName, p.lastName, " +
+            "p.playerType, p.battingStyle, p.bowlingStyle) from Player p where p.team.teamId = :teamId order by p.playerId")
+    List<PlayerSummary> findRosterByTeamId(@Param("teamId") Long teamId);
+
+    // every player by first and last name, for resolving the players of historical matches in memory
+    @Query("select new com.example.cricflow.model.projection.NamedId(p.playerId, concat(p.firstName, ' ', p.lastName)) from Player p")
+    List<NamedId> findAllNames();
+
+    // read through a JDBC cursor, only a bounded number of rows is fetched from the database at a time
+    @EntityGraph(Player.WITHOUT_TEAM)
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    Stream<Player> streamAllByOrderByPlayerIdAsc();
+
+    // only the ids are selected, so none of the eager team/roster graph is loaded
+    @Query("select p.playerId from Player p where p.playerId in :playerIds")
+    Set<Long> findExistingIds(@Param("playerIds") Collection<Long> playerIds);
+
+    // id of every requested player that exists, with the id of its current team, or null when it has none
+    @Query("select p.playerId, t.teamId from Player p left join p.team t where p.playerId in :playerIds")
+    List<Object[]> findTeamIdsByPlayerIds(@Param("playerIds") Collection<Long> playerIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Player p set p.team = :team where p.playerId in :playerIds")
+    int updateTeamOfPlayers(@Param("team") Team team, @Param("playerIds") Collection<Long> playerIds);
 }
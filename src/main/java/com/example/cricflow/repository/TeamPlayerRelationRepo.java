@@ -4,8 +4,13 @@ import com.example.cricflow.model.Player;
 import com.example.cricflow.model.Team;
 import com.example.cricflow.model.TeamPlayerRelation;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -13,4 +18,15 @@ public interface TeamPlayerRelationRepo extends JpaRepository<TeamPlayerRelation
     List<TeamPlayerRelation> findAllByTeam(Team team);
     List<TeamPlayerRelation> findAllByPlayer(Player player);
     TeamPlayerRelation findTopByTeamAndPlayerOrderByStartDateDesc(Team team, Player player);
+
+    // closes the open relation of each of the players with whichever team it is in, other than the given one
+    @Modifying(flushAutomatically = true)
+    @Query("update TeamPlayerRelation r set r.endDate = :endDate " +
+            "where r.player.playerId in :playerIds and r.endDate is null and r.team.teamId <> :teamId")
+    int closeOpenRelationsOutsideTeam(@Param("teamId") Long teamId, @Param("playerIds") Collection<Long> playerIds, @Param("endDate") LocalDate endDate);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update TeamPlayerRelation r set r.endDate = :endDate " +
+            "where r.player.playerId in :playerIds and r.endDate is null and r.team.teamId = :teamId")
+    int closeOpenRelationsWithTeam(@Param("teamId") Long teamId, @Param("playerIds") Collection<Long> playerIds, @Param("endDate") LocalDate endDate);
 }
@@ -1,12 +1,35 @@
 package com.example.cricflow.repository;
 
 import com.example.cricflow.model.Team;
+import com.example.cricflow.model.projection.NamedId;
+import com.example.cricflow.model.projection.TeamSummary;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+
 @Repository
-public interface TeamRepo extends JpaRepository<Team, Long> {
+public interface TeamRepo extends JpaRepository<Team, Long>, UniqueNameLookup {
+    // answered from the query cache until the team table is written again
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     Optional<Team> findByTeamName(String name);
+
+    @Override
+    @Query("select t.teamName from Team t where t.teamName in :teamNames")
+    List<String> findExistingNames(@Param("teamNames") Collection<String> teamNames);
+
+    // every team by its name, for resolving the teams of historical matches in memory
+    @Query("select new com.example.cricflow.model.projection.NamedId(t.teamId, t.teamName) from Team t")
+    List<NamedId> findAllNames();
+
+    // selects the id and the name only, the eager roster is never read
+    Optional<TeamSummary> findSummaryByTeamId(Long teamId);
 }
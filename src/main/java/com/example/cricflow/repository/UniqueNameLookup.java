@@ -0,0 +1,27 @@
+package com.example.cricflow.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Extended by the repositories of entities whose names are unique, to check a whole batch of new names at once.
+ */
+public interface UniqueNameLookup {
+
+    // names are checked against the database this many at a time, keeping the IN list well under driver limits
+    int NAME_LOOKUP_CHUNK = 1000;
+
+    List<String> findExistingNames(Collection<String> names);
+
+    default Optional<String> findAnyExistingName(Collection<String> names) {
+        List<String> remaining = new ArrayList<>(names);
+        for (int from = 0; from < remaining.size(); from += NAME_LOOKUP_CHUNK) {
+            List<String> existingNames = findExistingNames(remaining.subList(from, Math.min(from + NAME_LOOKUP_CHUNK, remaining.size())));
+            if (!existingNames.isEmpty())
+                return Optional.of(existingNames.get(0));
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,387 @@
+package com.example.cricflow.service;
+
+import com.example.cricflow.exception.EntityDoesNotExistsException;
+import com.example.cricflow.exception.InningCompleteException;
+import com.example.cricflow.exception.OverCompleteException;
+import com.example.cricflow.exception.OverExceedsFixedNumber;
+import com.example.cricflow.exception.OverInProgressException;
+import com.example.cricflow.exception.validator.BallFieldsException;
+import com.example.cricflow.model.Ball;
+import com.example.cricflow.model.BallEvent;
+import com.example.cricflow.model.Inning;
+import com.example.cricflow.model.Over;
+import com.example.cricflow.model.Player;
+import com.example.cricflow.model.event.Extra;
+import com.example.cricflow.model.event.Score;
+import com.example.cricflow.model.event.Wicket;
+import com.example.cricflow.model.literal.ScoreType;
+import com.example.cricflow.model.live.CompactDelivery;
+import com.example.cricflow.model.live.DeliveriesRecordedEvent;
+import com.example.cricflow.model.live.InningState;
+import com.example.cricflow.model.live.ShorthandParser;
+import com.example.cricflow.repository.InningRepo;
+import com.example.cricflow.repository.MatchRepo;
+import com.example.cricflow.repository.OverRepo;
+import com.example.cricflow.repository.PlayerRepo;
+import jakarta.persistence.EntityManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+@Service
+public class BallService {
+
+    private final OverRepo overRepo;
+    private final InningRepo inningRepo;
+    private final MatchRepo matchRepo;
+    private final PlayerRepo playerRepo;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public BallService(OverRepo overRepo, InningRepo inningRepo, MatchRepo matchRepo, PlayerRepo playerRepo, EntityManager entityManager, ApplicationEventPublisher eventPublisher) {
+        this.overRepo = overRepo;
+        this.inningRepo = inningRepo;
+        this.matchRepo = matchRepo;
+        this.playerRepo = playerRepo;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional
+    public ResponseEntity<List<Ball>> addBallsToOver(Long overId, List<Ball> balls) throws EntityDoesNotExistsException, BallFieldsException {
+        Over over = findOverById(overId);
+        Long inningId = inningRepo.findInningIdByOverId(overId).orElse(null);
+        validateBalls(balls);
+        checkDeliveries(stateBeforeBallsOf(over, inningId), balls, overId, inningId);
+        List<Ball> savedBalls = persistBalls(balls);
+
+        // balls are appended in the order they were bowled, the order column keeps that order in the join table
+        List<Ball> allBalls = (over.getBalls() == null) ? new ArrayList<>() : new ArrayList<>(over.getBalls());
+        allBalls.addAll(savedBalls);
+        over.setBalls(allBalls);
+
+        eventPublisher.publishEvent(new DeliveriesRecordedEvent(inningId, overId, savedBalls));
+        return new ResponseEntity<>(savedBalls, HttpStatus.CREATED);
+    }
+
+    @Transactional
+    public ResponseEntity<List<Ball>> addOverToInning(Long inningId, List<Ball> balls) throws EntityDoesNotExistsException, BallFieldsException {
+        Inning inning = findInningById(inningId);
+        validateBalls(balls);
+        InningState state = InningState.replay(maxOversOf(inning), inning.getOvers());
+        startOver(state, inningId);
+        checkDeliveries(state, balls, null, inningId);
+        List<Ball> savedBalls = persistBalls(balls);
+
+        Over over = Over.builder().balls(new ArrayList<>(savedBalls)).build();
+        entityManager.persist(over);
+
+        List<Over> allOvers = (inning.getOvers() == null) ? new ArrayList<>() : new ArrayList<>(inning.getOvers());
+        allOvers.add(over);
+        inning.setOvers(allOvers);
+
+        eventPublisher.publishEvent(new DeliveriesRecordedEvent(inningId, over.getOverId(), savedBalls));
+        return new ResponseEntity<>(savedBalls, HttpStatus.CREATED);
+    }
+
+    /**
+     * Compact scoring, the scorer only sends what happened on each ball and the striker, non striker and bowler
+     * are filled in from the inning. The deliveries go to the over being bowled and a new over is started every
+     * time one is complete, so a batch can run across overs.
+     */
+    @Transactional
+    public ResponseEntity<List<Ball>> scoreDeliveries(Long inningId, List<CompactDelivery> deliveries) throws EntityDoesNotExistsException, BallFieldsException {
+        Inning inning = findInningById(inningId);
+        validateDeliveries(deliveries);
+        List<Over> allOvers = (inning.getOvers() == null) ? new ArrayList<>() : new ArrayList<>(inning.getOvers());
+        InningState state = InningState.replay(maxOversOf(inning), allOvers);
+
+        List<OverBalls> overBalls = new ArrayList<>();
+        if (!allOvers.isEmpty() && !state.isOverComplete())
+            overBalls.add(new OverBalls(allOvers.get(allOvers.size() - 1), new ArrayList<>()));
+        // only players the scorer named are looked up, the others come from balls that are already saved
+        Set<Long> namedPlayerIds = new LinkedHashSet<>();
+        List<Ball> balls = new ArrayList<>(deliveries.size());
+        for (int i = 0; i < deliveries.size(); i++) {
+            if (overBalls.isEmpty() || state.isOverComplete()) {
+                startOver(state, inningId);
+                overBalls.add(new OverBalls(null, new ArrayList<>()));
+            }
+            OverBalls current = overBalls.get(overBalls.size() - 1);
+            Ball ball = deriveBall(state, deliveries.get(i), i + 1, namedPlayerIds);
+            checkDelivery(state, ball, (current.over() == null) ? null : current.over().getOverId(), inningId);
+            current.balls().add(ball);
+            balls.add(ball);
+        }
+        checkPlayersExist(namedPlayerIds);
+        List<Ball> savedBalls = saveBalls(balls);
+
+        for (OverBalls delivered : overBalls) {
+            Over over = delivered.over();
+            if (over == null) {
+                over = Over.builder().balls(new ArrayList<>(delivered.balls())).build();
+                entityManager.persist(over);
+                allOvers.add(over);
+            }
+            else {
+                List<Ball> overAllBalls = (over.getBalls() == null) ? new ArrayList<>() : new ArrayList<>(over.getBalls());
+                overAllBalls.addAll(delivered.balls());
+                over.setBalls(overAllBalls);
+            }
+            if (!delivered.balls().isEmpty())
+                eventPublisher.publishEvent(new DeliveriesRecordedEvent(inningId, over.getOverId(), delivered.balls()));
+        }
+        inning.setOvers(allOvers);
+        return new ResponseEntity<>(savedBalls, HttpStatus.CREATED);
+    }
+
+    /**
+     * Scores deliveries written in the scorers' shorthand, see {@link ShorthandParser}, an over or an inning to a
+     * line. The text is read through before anything is scored, so every token that is not shorthand is reported.
+     */
+    @Transactional
+    public ResponseEntity<List<Ball>> scoreShorthand(Long inningId, String text) throws EntityDoesNotExistsException, BallFieldsException {
+        return scoreDeliveries(inningId, readShorthand(text));
+    }
+
+    private List<CompactDelivery> readShorthand(String text) throws BallFieldsException {
+        ShorthandParser parser = new ShorthandParser().reset(text);
+        List<CompactDelivery> deliveries = new ArrayList<>();
+        List<String> violationsString = new ArrayList<>();
+        Long strikerId = null, nonStrikerId = null, bowlerId = null;
+        for (ShorthandParser.Token token = parser.next(); token != ShorthandParser.Token.END; token = parser.next()) {
+            switch (token) {
+                case STRIKER -> strikerId = parser.getPlayerId();
+                case NON_STRIKER -> nonStrikerId = parser.getPlayerId();
+                case BOWLER -> bowlerId = parser.getPlayerId();
+                case INVALID -> violationsString.add("line " + parser.getLine() + ": "
+                        + text.substring(parser.getTokenStart(), parser.getTokenEnd()) + " is not a delivery in shorthand");
+                default -> {
+                    Long fielderId = (parser.getPlayerId() == InningState.NONE) ? null : parser.getPlayerId();
+                    deliveries.add(new CompactDelivery(parser.getScoreType(), parser.getExtraType(), parser.getWicketType(),
+                            fielderId, strikerId, nonStrikerId, bowlerId));
+                    strikerId = null;
+                    nonStrikerId = null;
+                    bowlerId = null;
+                }
+            }
+        }
+        if (strikerId != null || nonStrikerId != null || bowlerId != null)
+            violationsString.add("players are named after the last delivery, they have to come before the delivery they are for");
+        if (deliveries.isEmpty() && violationsString.isEmpty())
+            violationsString.add("text has no deliveries");
+        if (!violationsString.isEmpty())
+            throw new BallFieldsException(violationsString);
+        return deliveries;
+    }
+
+    private void validateBalls(List<Ball> balls) throws BallFieldsException {
+        // whole batch is checked before anything is written, so a bad delivery does not leave half an over behind
+        for (Ball ball : balls)
+            validateBall(ball);
+    }
+
+    private void validateDeliveries(List<CompactDelivery> deliveries) throws BallFieldsException {
+        List<String> violationsString = new ArrayList<>();
+        for (int i = 0; i < deliveries.size(); i++) {
+            CompactDelivery delivery = deliveries.get(i);
+            String prefix = "delivery " + (i + 1) + ": ";
+            if (delivery == null)
+                violationsString.add(prefix + "can not be null");
+            else if (delivery.wicketType() != null && delivery.extraType() != null)
+                violationsString.add(prefix + "only one of extraType and wicketType can be given");
+            else if (delivery.wicketType() == null && delivery.extraType() == null && delivery.scoreType() == null)
+                violationsString.add(prefix + "scoreType, extraType or wicketType has to be given");
+            else if (delivery.wicketType() == null && delivery.fielderId() != null)
+                violationsString.add(prefix + "fielderId is only given with a wicketType");
+        }
+        if (!violationsString.isEmpty())
+            throw new BallFieldsException(violationsString);
+    }
+
+    private Ball deriveBall(InningState state, CompactDelivery delivery, int number, Set<Long> namedPlayerIds) throws BallFieldsException {
+        long strikerId = playerAt(delivery.strikerId(), state.getStrikerId(), namedPlayerIds);
+        long nonStrikerId = playerAt(delivery.nonStrikerId(), state.getNonStrikerId(), namedPlayerIds);
+        long bowlerId = playerAt(delivery.bowlerId(), state.getBowlerId(), namedPlayerIds);
+        List<String> violationsString = new ArrayList<>();
+        if (strikerId == InningState.NONE)
+            violationsString.add("delivery " + number + ": strikerId has to be given, the inning has no batter on strike");
+        if (nonStrikerId == InningState.NONE)
+            violationsString.add("delivery " + number + ": nonStrikerId has to be given, the inning has no batter at the non striker's end");
+        if (bowlerId == InningState.NONE)
+            violationsString.add("delivery " + number + ": bowlerId has to be given on the first ball of an over");
+        if (!violationsString.isEmpty())
+            throw new BallFieldsException(violationsString);
+
+        BallEvent ballEvent;
+        if (delivery.wicketType() != null) {
+            if (delivery.fielderId() != null)
+                namedPlayerIds.add(delivery.fielderId());
+            ballEvent = Wicket.builder().wicketType(delivery.wicketType()).fielder(stubOf(delivery.fielderId())).build();
+        }
+        else if (delivery.extraType() != null)
+            ballEvent = Extra.builder().extraType(delivery.extraType())
+                    .scoreType((delivery.scoreType() == null) ? ScoreType.NO_RUN : delivery.scoreType()).build();
+        else
+            ballEvent = Score.builder().scoreType(delivery.scoreType()).build();
+        return Ball.builder()
+                .ballEvent(ballEvent)
+                .striker(stubOf(strikerId))
+                .nonStriker(stubOf(nonStrikerId))
+                .bowler(stubOf(bowlerId))
+                .build();
+    }
+
+    private static long playerAt(Long namedId, long inningPlayerId, Set<Long> namedPlayerIds) {
+        if (namedId == null)
+            return inningPlayerId;
+        namedPlayerIds.add(namedId);
+        return namedId;
+    }
+
+    private static Player stubOf(Long playerId) {
+        return (playerId == null) ? null : Player.builder().playerId(playerId).build();
+    }
+
+    private void startOver(InningState state, Long inningId) {
+        InningState.Outcome outcome = state.startOver();
+        if (outcome == InningState.Outcome.OVERS_EXHAUSTED)
+            throw new OverExceedsFixedNumber(state.getMaxOvers(), inningId);
+        if (outcome == InningState.Outcome.INNING_COMPLETE)
+            throw new InningCompleteException(inningId);
+        if (outcome == InningState.Outcome.OVER_IN_PROGRESS)
+            throw new OverInProgressException(state.getLegalBallsInOver(), InningState.BALLS_PER_OVER, inningId);
+    }
+
+    private InningState stateBeforeBallsOf(Over over, Long inningId) {
+        // an over that is not part of an inning only has its own deliveries to go by
+        if (inningId == null)
+            return InningState.replay(0, List.of(over));
+        Inning inning = findInningById(inningId);
+        List<Over> overs = inning.getOvers();
+        // balls only go to the over being bowled, starting the next over closed this one
+        if (!overs.get(overs.size() - 1).getOverId().equals(over.getOverId()))
+            throw new OverCompleteException(InningState.BALLS_PER_OVER, over.getOverId());
+        return InningState.replay(maxOversOf(inning), overs);
+    }
+
+    private void checkDeliveries(InningState state, List<Ball> balls, Long overId, Long inningId) {
+        for (Ball ball : balls)
+            checkDelivery(state, ball, overId, inningId);
+    }
+
+    private void checkDelivery(InningState state, Ball ball, Long overId, Long inningId) {
+        InningState.Outcome outcome = state.deliver(ball);
+        if (outcome == InningState.Outcome.OVER_CLOSED)
+            throw new OverCompleteException(InningState.BALLS_PER_OVER, overId);
+        if (outcome == InningState.Outcome.INNING_COMPLETE)
+            throw new InningCompleteException(inningId);
+        if (outcome == InningState.Outcome.BATTER_NOT_NAMED)
+            throw new BallFieldsException(List.of("striker and nonStriker have to be given, the inning has an end with no batter"));
+    }
+
+    private int maxOversOf(Inning inning) {
+        if (inning.getNumberOfOvers() > 0)
+            return inning.getNumberOfOvers();
+        return matchRepo.findNoOfOversByInningId(inning.getInningId()).orElse(0);
+    }
+
+    private List<Ball> persistBalls(List<Ball> balls) throws EntityDoesNotExistsException {
+        checkPlayersExist(balls);
+        return saveBalls(balls);
+    }
+
+    private List<Ball> saveBalls(List<Ball> balls) {
+        // inserts are only queued here, hibernate sends them to the database in jdbc batches on flush
+        for (Ball ball : balls) {
+            ball.setBallId(null);
+            ball.getBallEvent().setBall(ball);
+            entityManager.persist(ball);
+        }
+        return balls;
+    }
+
+    private void checkPlayersExist(List<Ball> balls) throws EntityDoesNotExistsException {
+        Set<Long> playerIds = new LinkedHashSet<>();
+        for (Ball ball : balls) {
+            playerIds.add(ball.getStriker().getPlayerId());
+            playerIds.add(ball.getNonStriker().getPlayerId());
+            playerIds.add(ball.getBowler().getPlayerId());
+            if (ball.getBallEvent() instanceof Wicket wicket && wicket.getFielder() != null)
+                playerIds.add(wicket.getFielder().getPlayerId());
+        }
+        checkPlayersExist(playerIds);
+    }
+
+    private void checkPlayersExist(Set<Long> playerIds) throws EntityDoesNotExistsException {
+        if (playerIds.isEmpty())
+            return;
+        // single query for the whole batch, instead of one lookup per ball
+        Set<Long> existingIds = playerRepo.findExistingIds(playerIds);
+        for (Long playerId : playerIds) {
+            if (!existingIds.contains(playerId))
+                throw new EntityDoesNotExistsException(Player.class.getSimpleName(), playerId);
+        }
+    }
+
+    private void validateBall(Ball ball) throws BallFieldsException {
+        if (ball == null)
+            throw new BallFieldsException(List.of("ball can not be null"));
+        List<String> violationsString = new ArrayList<>();
+        // ids are only ever handed out on save
+        if (ball.getBallId() != null)
+            violationsString.add("ballId can not be given, it is set when the ball is saved");
+        if (ball.getBallEvent() == null)
+            violationsString.add("ballEvent can not be null");
+        else if (ball.getBallEvent().getClass() == BallEvent.class)
+            violationsString.add("ballEvent must be a SCORE, EXTRA or WICKET");
+        else if (ball.getBallEvent() instanceof Score score && score.getScoreType() == null)
+            violationsString.add("ballEvent.scoreType can not be null");
+        else if (ball.getBallEvent() instanceof Extra extra && extra.getExtraType() == null)
+            violationsString.add("ballEvent.extraType can not be null");
+        else if (ball.getBallEvent() instanceof Wicket wicket && wicket.getWicketType() == null)
+            violationsString.add("ballEvent.wicketType can not be null");
+        if (ball.getStriker() == null)
+            violationsString.add("striker can not be null");
+        else if (ball.getStriker().getPlayerId() == null)
+            violationsString.add("striker.playerId can not be null");
+        if (ball.getNonStriker() == null)
+            violationsString.add("nonStriker can not be null");
+        else if (ball.getNonStriker().getPlayerId() == null)
+            violationsString.add("nonStriker.playerId can not be null");
+        if (ball.getBowler() == null)
+            violationsString.add("bowler can not be null");
+        else if (ball.getBowler().getPlayerId() == null)
+            violationsString.add("bowler.playerId can not be null");
+        if (ball.getBallEvent() instanceof Wicket wicket && wicket.getFielder() != null && wicket.getFielder().getPlayerId() == null)
+            violationsString.add("ballEvent.fielder.playerId can not be null");
+        if (!violationsString.isEmpty())
+            throw new BallFieldsException(violationsString);
+    }
+
+    private Over findOverById(Long overId) throws EntityDoesNotExistsException {
+        Optional<Over> optionalOver = overRepo.findById(overId);
+        if (optionalOver.isEmpty())
+            throw new EntityDoesNotExistsException(Over.class.getSimpleName(), overId);
+        return optionalOver.get();
+    }
+
+    private Inning findInningById(Long inningId) throws EntityDoesNotExistsException {
+        Optional<Inning> optionalInning = inningRepo.findById(inningId);
+        if (optionalInning.isEmpty())
+            throw new EntityDoesNotExistsException(Inning.class.getSimpleName(), inningId);
+        return optionalInning.get();
+    }
+
+    // the balls a compact batch adds to one over, the over is null until a new one is saved for them
+    private record OverBalls(Over over, List<Ball> balls) {
+    }
+}
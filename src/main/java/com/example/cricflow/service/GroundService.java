@@ -1,33 +1,44 @@
 package com.example.cricflow.service;
 
 import com.example.cricflow.exception.EntityDoesNotExistsException;
+import com.example.cricflow.exception.InvalidCursorException;
 import com.example.cricflow.exception.NameAlreadyExistsException;
 import com.example.cricflow.exception.validator.GroundFieldsException;
 import com.example.cricflow.model.Ground;
+import com.example.cricflow.model.page.CursorToken;
+import com.example.cricflow.model.page.KeysetPage;
 import com.example.cricflow.repository.GroundRepo;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
 import jakarta.validation.ValidatorFactory;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 @Service
 public class GroundService {
 
     private final GroundRepo groundRepo;
+    private final NdjsonExporter ndjsonExporter;
     private final Validator validator;
     
     private final String referencedClass = "GROUND";
     
-    public GroundService(GroundRepo groundRepo) {
+    public GroundService(GroundRepo groundRepo, NdjsonExporter ndjsonExporter) {
         this.groundRepo = groundRepo;
+        this.ndjsonExporter = ndjsonExporter;
         ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
         validator = factory.getValidator();
     }
@@ -38,15 +49,16 @@ public class GroundService {
         return new ResponseEntity<Ground>(savedGround, HttpStatus.CREATED);
     }
 
+    @Transactional
     public ResponseEntity<List<Ground>> createMultipleGrounds(List<String> groundNames) throws NameAlreadyExistsException, GroundFieldsException {
-        checkNameEquals(groundNames);
-        List<Ground> savedGrounds = new ArrayList<>();
-        for (String name : groundNames) {
-            checkIfGroundNameAlreadyExists(name);
-            validateGround(new Ground(null, name.toUpperCase()), false);
-        }
-        for (String name : groundNames)
-            savedGrounds.add(groundRepo.save(new Ground(null, name.toUpperCase())));
+        // names are kept upper case, so the set catches duplicates regardless of case
+        Set<String> uniqueNames = uniqueUpperCaseNames(groundNames);
+        List<Ground> grounds = new ArrayList<>(uniqueNames.size());
+        for (String name : uniqueNames)
+            grounds.add(validateGround(new Ground(null, name), false));
+        checkIfAnyGroundNameAlreadyExists(uniqueNames);
+        // saved together, so the inserts go out in JDBC batches
+        List<Ground> savedGrounds = groundRepo.saveAll(grounds);
         return new ResponseEntity<>(savedGrounds, HttpStatus.CREATED);
     }
 
@@ -59,6 +71,21 @@ public class GroundService {
         return new ResponseEntity<>(groundRepo.findAll(), HttpStatus.OK);
     }
 
+    public ResponseEntity<KeysetPage<Ground>> readGroundPage(String cursor, Integer size) throws InvalidCursorException {
+        long afterGroundId = CursorToken.decode(cursor);
+        int pageSize = KeysetPage.boundedSize(size);
+        // one row more than the page is read, only to know if there is a next page
+        List<Ground> rows = groundRepo.findByGroundIdGreaterThanOrderByGroundIdAsc(afterGroundId, Limit.of(pageSize + 1));
+        return new ResponseEntity<>(KeysetPage.of(rows, pageSize, Ground::getGroundId), HttpStatus.OK);
+    }
+
+    @Transactional(readOnly = true)
+    public long exportAllGrounds(OutputStream out) throws IOException {
+        try (Stream<Ground> grounds = groundRepo.streamAllByOrderByGroundIdAsc()) {
+            return ndjsonExporter.write(grounds, out);
+        }
+    }
+
     public ResponseEntity<Ground> updateGround(Ground ground) throws EntityDoesNotExistsException, GroundFieldsException {
         checkIfGroundNameAlreadyExists(ground.getGroundName());
         findGroundById(ground.getGroundId());
@@ -105,15 +132,18 @@ public class GroundService {
         return ground;
     }
 
-    private void checkNameEquals(List<String> groundNames){
-        for (int i = 0; i < groundNames.size(); i++) {
-            for (int j = 0; j < groundNames.size(); j++) {
-                if (i == j)
-                    continue;
-                if (groundNames.get(i).equalsIgnoreCase(groundNames.get(j))) {
-                    throw new NameAlreadyExistsException(referencedClass, groundNames.get(j));
-                }
-            }
+    private Set<String> uniqueUpperCaseNames(List<String> groundNames) throws NameAlreadyExistsException {
+        Set<String> uniqueNames = new LinkedHashSet<>();
+        for (String name : groundNames) {
+            if (!uniqueNames.add(name.toUpperCase()))
+                throw new NameAlreadyExistsException(referencedClass, name);
         }
+        return uniqueNames;
+    }
+
+    private void checkIfAnyGroundNameAlreadyExists(Set<String> groundNames) throws NameAlreadyExistsException {
+        Optional<String> existingName = groundRepo.findAnyExistingName(groundNames);
+        if (existingName.isPresent())
+            throw new NameAlreadyExistsException(referencedClass, existingName.get());
     }
 }
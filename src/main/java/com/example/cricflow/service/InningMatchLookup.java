@@ -0,0 +1,51 @@
+package com.example.cricflow.service;
+
+import com.example.cricflow.repository.MatchRepo;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Finds the match an inning is played in, for every delivery that is scored, so the lookups are cached.
+ * <p>
+ * An inning never moves to another match, so a match once found is kept until the cache is full. An inning that is
+ * in no match may still be put in one, so a miss is only remembered for a short while.
+ */
+@Component
+public class InningMatchLookup {
+
+    private final MatchRepo matchRepo;
+    private final Cache<Long, Long> matchIdByInningId;
+    private final Cache<Long, Boolean> inningsWithoutMatch;
+
+    public InningMatchLookup(MatchRepo matchRepo,
+                             @Value("${cricflow.match-lookup.maximum-size:10000}") long maximumSize,
+                             @Value("${cricflow.match-lookup.miss-ttl-ms:5000}") long missTimeToLive) {
+        this.matchRepo = matchRepo;
+        this.matchIdByInningId = Caffeine.newBuilder().maximumSize(maximumSize).build();
+        this.inningsWithoutMatch = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(missTimeToLive))
+                .build();
+    }
+
+    public Optional<Long> findMatchIdByInningId(Long inningId) {
+        if (inningId == null)
+            return Optional.empty();
+        Long cached = matchIdByInningId.getIfPresent(inningId);
+        if (cached != null)
+            return Optional.of(cached);
+        if (inningsWithoutMatch.getIfPresent(inningId) != null)
+            return Optional.empty();
+        Optional<Long> matchId = matchRepo.findMatchIdByInningId(inningId);
+        if (matchId.isPresent())
+            matchIdByInningId.put(inningId, matchId.get());
+        else
+            inningsWithoutMatch.put(inningId, Boolean.TRUE);
+        return matchId;
+    }
+}
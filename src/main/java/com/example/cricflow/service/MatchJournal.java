@@ -0,0 +1,397 @@
+package com.example.cricflow.service;
+
+import com.example.cricflow.model.Ball;
+import com.example.cricflow.model.BallEvent;
+import com.example.cricflow.model.Player;
+import com.example.cricflow.model.event.Extra;
+import com.example.cricflow.model.event.Score;
+import com.example.cricflow.model.event.Wicket;
+import com.example.cricflow.model.literal.ExtraType;
+import com.example.cricflow.model.literal.ScoreType;
+import com.example.cricflow.model.literal.WicketType;
+import com.example.cricflow.model.live.InningScorecard;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Append-only journal of every live delivery, so the scorecards can be brought back after a restart from
+ * the latest snapshot and the tail of the journal, instead of loading every ball from the database.
+ * <p>
+ * Deliveries are written as fixed size records into a memory-mapped segment, and the segment is forced to
+ * disk once per ingested batch rather than once per ball. When a segment fills up, a snapshot of all the
+ * scorecards is written and a fresh segment of the next generation is started.
+ * <p>
+ * The journal is written after the balls are committed, so it can fall behind the database, the scorecards it
+ * recovers carry the last ball id of every inning for the caller to check against the database.
+ */
+@Service
+public class MatchJournal {
+
+    // inning, ball, striker, non striker, bowler, fielder, 4 bytes of event, crc of everything before it
+    static final int RECORD_SIZE = 6 * Long.BYTES + 4 + Integer.BYTES;
+    private static final int CHECKED_BYTES = RECORD_SIZE - Integer.BYTES;
+    private static final byte SCORE = 1, EXTRA = 2, WICKET = 3;
+
+    // changed with the layout of a scorecard, a snapshot written before is not read and the scorecards are rebuilt
+    private static final int SNAPSHOT_MAGIC = 0x43464a32;
+    private static final String SNAPSHOT_FILE = "snapshot.bin";
+    private static final Pattern SEGMENT_FILE = Pattern.compile("journal-(\\d+)\\.log");
+
+    private static final ScoreType[] SCORE_TYPES = ScoreType.values();
+    private static final ExtraType[] EXTRA_TYPES = ExtraType.values();
+    private static final WicketType[] WICKET_TYPES = WicketType.values();
+
+    private final boolean enabled;
+    private final Path directory;
+    private final int recordsPerSegment;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // shared while a batch is applied, which happens outside the journal lock, and exclusive while a snapshot is
+    // written, so a snapshot still waits for every journaled ball to be applied
+    private final ReentrantReadWriteLock applyLock = new ReentrantReadWriteLock();
+    private final CRC32 crc = new CRC32();
+    private Map<Long, InningScorecard> scorecards;
+    private long generation;
+    private FileChannel channel;
+    private MappedByteBuffer segment;
+    private int capacity;
+    private int records;
+
+    public MatchJournal(@Value("${cricflow.journal.enabled:false}") boolean enabled,
+                        @Value("${cricflow.journal.directory:journal}") String directory,
+                        @Value("${cricflow.journal.records-per-segment:65536}") int recordsPerSegment) {
+        this.enabled = enabled;
+        this.directory = Path.of(directory);
+        this.recordsPerSegment = recordsPerSegment;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Loads the latest snapshot and replays the journal after it into the given scorecards, which are then
+     * the ones written by every later snapshot.
+     *
+     * @return false when there was nothing on disk to recover from
+     */
+    public boolean recover(Map<Long, InningScorecard> scorecards) {
+        lock.lock();
+        try {
+            closeSegment();
+            this.scorecards = scorecards;
+            Files.createDirectories(directory);
+
+            if (!readSnapshot()) {
+                // no usable snapshot, whatever the journal holds is incomplete without it,
+                // the caller rebuilds from the database and starts over with a checkpoint
+                scorecards.clear();
+                generation = latestSegmentGeneration();
+                return false;
+            }
+            openSegment(segmentPath(generation), 0);
+            records = replay();
+            return true;
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes the balls of one ingested batch and forces them to disk together, then applies them.
+     * Batches of other innings are journaled while one is applied, only a snapshot waits for it.
+     */
+    public void append(long inningId, List<Ball> balls, Runnable apply) {
+        if (!enabled) {
+            apply.run();
+            return;
+        }
+        lock.lock();
+        try {
+            if (segment == null)
+                throw new IllegalStateException("Journal has not been recovered or checkpointed yet");
+            if (records + balls.size() > capacity)
+                roll(balls.size());
+
+            int start = records * RECORD_SIZE;
+            for (Ball ball : balls)
+                write(records++ * RECORD_SIZE, inningId, ball);
+            segment.force(start, records * RECORD_SIZE - start);
+            // taken before the journal lock is let go, so no snapshot comes between writing the balls and applying them
+            applyLock.readLock().lock();
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        finally {
+            lock.unlock();
+        }
+        try {
+            apply.run();
+        }
+        finally {
+            applyLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Snapshots the scorecards and starts an empty segment, e.g. after they were rebuilt from the database.
+     */
+    public void checkpoint() {
+        lock.lock();
+        try {
+            roll(0);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        lock.lock();
+        try {
+            // a snapshot on a clean shutdown leaves nothing to replay on the next start
+            if (segment != null && records > 0)
+                roll(0);
+            closeSegment();
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    private void roll(int needed) throws IOException {
+        applyLock.writeLock().lock();
+        try {
+            writeSnapshot(generation + 1);
+        }
+        finally {
+            applyLock.writeLock().unlock();
+        }
+        // the snapshot covers everything journaled so far, older segments are not needed any more
+        closeSegment();
+        generation++;
+        deleteSegmentsBefore(generation);
+        openSegment(segmentPath(generation), needed);
+        records = 0;
+    }
+
+    private void openSegment(Path path, int needed) throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        // a segment written with a larger batch than the configured size keeps its own size
+        long existing = channel.size() / RECORD_SIZE;
+        capacity = (int) Math.max(Math.max(recordsPerSegment, needed), existing);
+        segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) capacity * RECORD_SIZE);
+    }
+
+    private void closeSegment() throws IOException {
+        if (channel != null)
+            channel.close();
+        channel = null;
+        segment = null;
+    }
+
+    private int replay() {
+        int replayed = 0;
+        while (replayed < capacity) {
+            int position = replayed * RECORD_SIZE;
+            // the mapped file is zero filled, an empty event or a bad crc is where the last write stopped
+            if (segment.get(position + 6 * Long.BYTES) == 0 || segment.getInt(position + CHECKED_BYTES) != checksum(position))
+                break;
+            long inningId = segment.getLong(position);
+            scorecards.computeIfAbsent(inningId, InningScorecard::new).record(read(position));
+            replayed++;
+        }
+        return replayed;
+    }
+
+    private void write(int position, long inningId, Ball ball) {
+        BallEvent event = ball.getBallEvent();
+        byte kind = 0, scoreType = 0, extraType = 0, wicketType = 0;
+        Player fielder = null;
+        if (event instanceof Score score) {
+            kind = SCORE;
+            scoreType = ordinal(score.getScoreType());
+        }
+        else if (event instanceof Extra extra) {
+            kind = EXTRA;
+            scoreType = ordinal(extra.getScoreType());
+            extraType = ordinal(extra.getExtraType());
+        }
+        else if (event instanceof Wicket wicket) {
+            kind = WICKET;
+            wicketType = ordinal(wicket.getWicketType());
+            fielder = wicket.getFielder();
+        }
+        segment.putLong(position, inningId);
+        segment.putLong(position + 8, (ball.getBallId() == null) ? 0 : ball.getBallId());
+        segment.putLong(position + 16, playerId(ball.getStriker()));
+        segment.putLong(position + 24, playerId(ball.getNonStriker()));
+        segment.putLong(position + 32, playerId(ball.getBowler()));
+        segment.putLong(position + 40, playerId(fielder));
+        segment.put(position + 48, kind);
+        segment.put(position + 49, scoreType);
+        segment.put(position + 50, extraType);
+        segment.put(position + 51, wicketType);
+        segment.putInt(position + CHECKED_BYTES, checksum(position));
+    }
+
+    private Ball read(int position) {
+        BallEvent event = switch (segment.get(position + 48)) {
+            case SCORE -> Score.builder()
+                    .scoreType(valueOf(SCORE_TYPES, segment.get(position + 49)))
+                    .build();
+            case EXTRA -> Extra.builder()
+                    .scoreType(valueOf(SCORE_TYPES, segment.get(position + 49)))
+                    .extraType(valueOf(EXTRA_TYPES, segment.get(position + 50)))
+                    .build();
+            default -> Wicket.builder()
+                    .wicketType(valueOf(WICKET_TYPES, segment.get(position + 51)))
+                    .fielder(player(segment.getLong(position + 40)))
+                    .build();
+        };
+        long ballId = segment.getLong(position + 8);
+        return Ball.builder()
+                .ballId((ballId == 0) ? null : ballId)
+                .ballEvent(event)
+                .striker(player(segment.getLong(position + 16)))
+                .nonStriker(player(segment.getLong(position + 24)))
+                .bowler(player(segment.getLong(position + 32)))
+                .build();
+    }
+
+    private int checksum(int position) {
+        crc.reset();
+        crc.update(segment.slice(position, CHECKED_BYTES));
+        return (int) crc.getValue();
+    }
+
+    private boolean readSnapshot() throws IOException {
+        Path path = directory.resolve(SNAPSHOT_FILE);
+        if (!Files.exists(path))
+            return false;
+        CRC32 snapshotCrc = new CRC32();
+        try (DataInputStream in = new DataInputStream(new CheckedInputStream(
+                new BufferedInputStream(Files.newInputStream(path)), snapshotCrc))) {
+            if (in.readInt() != SNAPSHOT_MAGIC)
+                return false;
+            long snapshotGeneration = in.readLong();
+            List<InningScorecard> loaded = new ArrayList<>();
+            for (int i = in.readInt(); i > 0; i--)
+                loaded.add(InningScorecard.readFrom(in));
+            int expected = (int) snapshotCrc.getValue();
+            if (in.readInt() != expected)
+                return false;
+
+            scorecards.clear();
+            for (InningScorecard scorecard : loaded)
+                scorecards.put(scorecard.getInningId(), scorecard);
+            generation = snapshotGeneration;
+            return true;
+        }
+        catch (IOException e) {
+            // a snapshot cut short is treated like a missing one, the caller rebuilds from the database
+            return false;
+        }
+    }
+
+    private void writeSnapshot(long snapshotGeneration) throws IOException {
+        Path temporary = directory.resolve(SNAPSHOT_FILE + ".tmp");
+        List<InningScorecard> current = new ArrayList<>(scorecards.values());
+        CRC32 snapshotCrc = new CRC32();
+        try (FileChannel file = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            DataOutputStream out = new DataOutputStream(new CheckedOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(file)), snapshotCrc));
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeLong(snapshotGeneration);
+            out.writeInt(current.size());
+            for (InningScorecard scorecard : current)
+                scorecard.writeTo(out);
+            out.writeInt((int) snapshotCrc.getValue());
+            out.flush();
+            file.force(true);
+        }
+        Files.move(temporary, directory.resolve(SNAPSHOT_FILE),
+                StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private long latestSegmentGeneration() throws IOException {
+        long latest = 0;
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Matcher matcher = SEGMENT_FILE.matcher(file.getFileName().toString());
+                if (matcher.matches())
+                    latest = Math.max(latest, Long.parseLong(matcher.group(1)));
+            }
+        }
+        return latest;
+    }
+
+    private void deleteSegmentsBefore(long keptGeneration) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Matcher matcher = SEGMENT_FILE.matcher(file.getFileName().toString());
+                if (matcher.matches() && Long.parseLong(matcher.group(1)) < keptGeneration)
+                    Files.delete(file);
+            }
+        }
+    }
+
+    private Path segmentPath(long segmentGeneration) {
+        return directory.resolve("journal-" + segmentGeneration + ".log");
+    }
+
+    private static byte ordinal(Enum<?> value) {
+        return (byte) ((value == null) ? 0 : value.ordinal() + 1);
+    }
+
+    private static <E extends Enum<E>> E valueOf(E[] values, byte ordinal) {
+        return (ordinal == 0) ? null : values[ordinal - 1];
+    }
+
+    private static long playerId(Player player) {
+        return (player == null || player.getPlayerId() == null) ? 0 : player.getPlayerId();
+    }
+
+    private static Player player(long playerId) {
+        return (playerId == 0) ? null : Player.builder().playerId(playerId).build();
+    }
+}
@@ -1,13 +1,37 @@
 package com.example.cricflow.service;
 
+import com.example.cricflow.exception.EntityDoesNotExistsException;
+import com.example.cricflow.exception.UnknownViewException;
+import com.example.cricflow.model.Ball;
+import com.example.cricflow.model.Inning;
 import com.example.cricflow.model.Match;
+import com.example.cricflow.model.Over;
+import com.example.cricflow.model.Player;
+import com.example.cricflow.model.Team;
+import com.example.cricflow.model.view.BallView;
+import com.example.cricflow.model.view.InningView;
+import com.example.cricflow.model.view.MatchFetchPlan;
+import com.example.cricflow.model.view.MatchView;
+import com.example.cricflow.model.view.OverView;
+import com.example.cricflow.model.view.PlayerView;
+import com.example.cricflow.model.view.TeamView;
 import com.example.cricflow.repository.GroundRepo;
+import com.example.cricflow.repository.InningRepo;
 import com.example.cricflow.repository.MatchRepo;
+import com.example.cricflow.repository.OverRepo;
 import com.example.cricflow.repository.PlayerRepo;
 import com.example.cricflow.repository.TeamRepo;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Service
 public class MatchService {
@@ -16,6 +40,115 @@ public class MatchService {
     @Autowired private TeamRepo teamRepo;
     @Autowired private PlayerRepo playerRepo;
     @Autowired private MatchRepo matchRepo;
+    @Autowired private InningRepo inningRepo;
+    @Autowired private OverRepo overRepo;
+
+    private final String referencedClass = "MATCH";
+
+    /**
+     * Reads the match with the given fetch plan. Every plan costs a fixed number of queries,
+     * no matter how many players, overs or balls the match has:
+     * summary and innings take one, roster takes two, ball by ball takes three.
+     */
+    @Transactional(readOnly = true)
+    public ResponseEntity<MatchView> readMatch(Long matchId, String view) throws EntityDoesNotExistsException, UnknownViewException {
+        MatchFetchPlan plan = MatchFetchPlan.fromView(view);
+        Optional<Match> optionalMatch = (plan == MatchFetchPlan.INNINGS || plan == MatchFetchPlan.BALL_BY_BALL)
+                ? matchRepo.findWithInningsByMatchId(matchId)
+                : matchRepo.findSummaryByMatchId(matchId);
+        if (optionalMatch.isEmpty())
+            throw new EntityDoesNotExistsException(referencedClass, matchId);
+        Match match = optionalMatch.get();
+
+        MatchView matchView = switch (plan) {
+            case SUMMARY -> toView(match, teamView(match.getTeamA(), null), teamView(match.getTeamB(), null), null);
+            case INNINGS -> toView(match, teamView(match.getTeamA(), null), teamView(match.getTeamB(), null), inningViews(match, false));
+            case BALL_BY_BALL -> toView(match, teamView(match.getTeamA(), null), teamView(match.getTeamB(), null), inningViews(match, true));
+            case ROSTER -> rosterView(match);
+        };
+        return new ResponseEntity<>(matchView, HttpStatus.OK);
+    }
+
+    private MatchView rosterView(Match match) {
+        List<Long> teamIds = new ArrayList<>(2);
+        if (match.getTeamA() != null)
+            teamIds.add(match.getTeamA().getTeamId());
+        if (match.getTeamB() != null)
+            teamIds.add(match.getTeamB().getTeamId());
+
+        // players of both teams in one query, then split by team
+        Map<Long, List<PlayerView>> playersByTeamId = new HashMap<>();
+        for (Long teamId : teamIds)
+            playersByTeamId.put(teamId, new ArrayList<>());
+        if (!teamIds.isEmpty())
+            for (Player player : playerRepo.findByTeamTeamIdInOrderByPlayerIdAsc(teamIds))
+                playersByTeamId.get(player.getTeam().getTeamId()).add(PlayerView.of(player));
+
+        return toView(match,
+                teamView(match.getTeamA(), playersByTeamId),
+                teamView(match.getTeamB(), playersByTeamId),
+                null);
+    }
+
+    private List<InningView> inningViews(Match match, boolean withBalls) {
+        List<Inning> innings = new ArrayList<>(2);
+        if (match.getFirstInnings() != null)
+            innings.add(match.getFirstInnings());
+        if (match.getSecondInnings() != null)
+            innings.add(match.getSecondInnings());
+        if (!withBalls || innings.isEmpty())
+            return innings.stream().map(inning -> inningView(inning, null)).toList();
+
+        // overs of both innings in one query, then the balls of all of those overs in one more
+        inningRepo.findWithOversByInningIdIn(innings.stream().map(Inning::getInningId).toList());
+        List<Long> overIds = new ArrayList<>();
+        for (Inning inning : innings)
+            for (Over over : inning.getOvers())
+                if (over != null)
+                    overIds.add(over.getOverId());
+        if (!overIds.isEmpty())
+            overRepo.findWithBallsByOverIdIn(overIds);
+
+        List<InningView> inningViews = new ArrayList<>(innings.size());
+        for (Inning inning : innings) {
+            List<OverView> overViews = new ArrayList<>(inning.getOvers().size());
+            for (Over over : inning.getOvers()) {
+                if (over == null)
+                    continue;
+                List<BallView> ballViews = new ArrayList<>(over.getBalls().size());
+                for (Ball ball : over.getBalls())
+                    if (ball != null)
+                        ballViews.add(BallView.of(ball));
+                overViews.add(new OverView(over.getOverId(), ballViews));
+            }
+            inningViews.add(inningView(inning, overViews));
+        }
+        return inningViews;
+    }
+
+    private InningView inningView(Inning inning, List<OverView> overs) {
+        return new InningView(inning.getInningId(), inning.getNumberOfOvers(),
+                teamId(inning.getBattingSide()), teamId(inning.getBowlingSide()), overs);
+    }
+
+    private TeamView teamView(Team team, Map<Long, List<PlayerView>> playersByTeamId) {
+        if (team == null)
+            return null;
+        List<PlayerView> players = (playersByTeamId == null) ? null : playersByTeamId.get(team.getTeamId());
+        return new TeamView(team.getTeamId(), team.getTeamName(), players);
+    }
 
+    private MatchView toView(Match match, TeamView teamA, TeamView teamB, List<InningView> innings) {
+        return new MatchView(match.getMatchId(), match.getMatchDate(),
+                (match.getGround() == null) ? null : match.getGround().getGroundId(),
+                (match.getGround() == null) ? null : match.getGround().getGroundName(),
+                match.getNoOfOvers(), match.getWinner(), teamA, teamB,
+                (match.getFirstInnings() == null) ? null : match.getFirstInnings().getInningId(),
+                (match.getSecondInnings() == null) ? null : match.getSecondInnings().getInningId(),
+                innings);
+    }
 
+    private Long teamId(Team team) {
+        return (team == null) ? null : team.getTeamId();
+    }
 }
@@ -0,0 +1,251 @@
+package com.example.cricflow.service;
+
+import com.example.cricflow.exception.EntityDoesNotExistsException;
+import com.example.cricflow.model.live.DeliveryDelta;
+import com.example.cricflow.model.live.ScorecardUpdatedEvent;
+import com.example.cricflow.repository.MatchRepo;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Pushes one {@link DeliveryDelta} per ball to every live score subscriber of the match.
+ * <p>
+ * Nothing here holds a thread per subscriber: the emitters are async, and each subscriber only gets a
+ * virtual thread while it has frames waiting to be written. Every subscriber has its own bounded mailbox,
+ * when a slow client lets it fill up, the oldest frames are dropped, since the newest frame always carries
+ * the current inning totals. A client can spot the gap from the event ids.
+ * <p>
+ * A match is only kept here while it has subscribers, and every subscriber is sent a comment frame now and then,
+ * so a stream that is idle between overs is not cut by a proxy.
+ */
+@Service
+public class MatchStreamService {
+
+    // the same frame for every subscriber, it is never changed once built
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("heartbeat").build();
+
+    private final MatchRepo matchRepo;
+    private final InningMatchLookup inningMatchLookup;
+    private final ObjectMapper objectMapper;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<Long, Broadcaster> broadcasters = new ConcurrentHashMap<>();
+
+    private final int subscriberBuffer;
+    private final long subscriberTimeout;
+
+    private final String referencedClass = "MATCH";
+
+    public MatchStreamService(MatchRepo matchRepo, InningMatchLookup inningMatchLookup, ObjectMapper objectMapper,
+                              @Value("${cricflow.stream.subscriber-buffer:32}") int subscriberBuffer,
+                              @Value("${cricflow.stream.subscriber-timeout-ms:1800000}") long subscriberTimeout) {
+        this.matchRepo = matchRepo;
+        this.inningMatchLookup = inningMatchLookup;
+        this.objectMapper = objectMapper;
+        this.subscriberBuffer = subscriberBuffer;
+        this.subscriberTimeout = subscriberTimeout;
+    }
+
+    public SseEmitter subscribe(Long matchId) throws EntityDoesNotExistsException {
+        if (!matchRepo.existsById(matchId))
+            throw new EntityDoesNotExistsException(referencedClass, matchId);
+
+        SseEmitter emitter = new SseEmitter(subscriberTimeout);
+        Subscriber subscriber = new Subscriber(matchId, emitter, subscriberBuffer);
+        // added inside compute, so it can not land in a broadcaster its last subscriber is just removing
+        broadcasters.compute(matchId, (id, broadcaster) -> {
+            Broadcaster current = (broadcaster == null) ? new Broadcaster() : broadcaster;
+            current.subscribers.add(subscriber);
+            return current;
+        });
+
+        emitter.onCompletion(subscriber::unsubscribe);
+        emitter.onTimeout(subscriber::unsubscribe);
+        emitter.onError(error -> subscriber.unsubscribe());
+        return emitter;
+    }
+
+    public int subscriberCount(Long matchId) {
+        Broadcaster broadcaster = broadcasters.get(matchId);
+        return (broadcaster == null) ? 0 : broadcaster.subscribers.size();
+    }
+
+    @EventListener
+    public void onScorecardUpdated(ScorecardUpdatedEvent event) {
+        // no one is listening at all, so there is no need to even find the match
+        if (broadcasters.isEmpty())
+            return;
+        Long matchId = inningMatchLookup.findMatchIdByInningId(event.getTotals().getInningId()).orElse(null);
+        if (matchId == null)
+            return;
+        Broadcaster broadcaster = broadcasters.get(matchId);
+        if (broadcaster == null || broadcaster.subscribers.isEmpty())
+            return;
+
+        // serialised once per delivery, every subscriber is sent the same frame
+        DeliveryDelta delta = DeliveryDelta.of(matchId, event.getBall(), event.getTotals());
+        Set<DataWithMediaType> frame;
+        try {
+            SseEmitter.SseEventBuilder builder = SseEmitter.event()
+                    .name("delivery")
+                    .data(objectMapper.writeValueAsString(delta));
+            if (delta.getBallId() != null)
+                builder.id(delta.getBallId().toString());
+            frame = builder.build();
+        }
+        catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+        broadcaster.offer(frame);
+    }
+
+    @Scheduled(fixedRateString = "${cricflow.stream.heartbeat-ms:15000}",
+            initialDelayString = "${cricflow.stream.heartbeat-ms:15000}")
+    public void sendHeartbeats() {
+        // straight to the subscribers, a heartbeat does not need to wait behind the deliveries of its match
+        for (Broadcaster broadcaster : broadcasters.values())
+            for (Subscriber subscriber : broadcaster.subscribers)
+                subscriber.offer(HEARTBEAT);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        for (Broadcaster broadcaster : broadcasters.values())
+            for (Subscriber subscriber : broadcaster.subscribers)
+                subscriber.emitter.complete();
+    }
+
+    /**
+     * Fans frames of one match out to its subscribers, in the order the deliveries were scored.
+     */
+    private class Broadcaster {
+        private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        private final ArrayDeque<Set<DataWithMediaType>> pending = new ArrayDeque<>();
+        private final ReentrantLock lock = new ReentrantLock();
+        private boolean draining;
+
+        void offer(Set<DataWithMediaType> frame) {
+            lock.lock();
+            try {
+                pending.addLast(frame);
+                if (draining)
+                    return;
+                draining = true;
+            }
+            finally {
+                lock.unlock();
+            }
+            executor.execute(this::drain);
+        }
+
+        private void drain() {
+            while (true) {
+                Set<DataWithMediaType> frame;
+                lock.lock();
+                try {
+                    frame = pending.pollFirst();
+                    if (frame == null) {
+                        draining = false;
+                        return;
+                    }
+                }
+                finally {
+                    lock.unlock();
+                }
+                for (Subscriber subscriber : subscribers)
+                    subscriber.offer(frame);
+            }
+        }
+    }
+
+    private class Subscriber {
+        private final Long matchId;
+        private final SseEmitter emitter;
+        private final int capacity;
+        private final ArrayDeque<Set<DataWithMediaType>> pending;
+        private final ReentrantLock lock = new ReentrantLock();
+        private boolean draining;
+
+        Subscriber(Long matchId, SseEmitter emitter, int capacity) {
+            this.matchId = matchId;
+            this.emitter = emitter;
+            this.capacity = capacity;
+            this.pending = new ArrayDeque<>(capacity);
+        }
+
+        void unsubscribe() {
+            // the match is dropped with its last subscriber, a later subscriber starts a new broadcaster
+            broadcasters.computeIfPresent(matchId, (id, broadcaster) -> {
+                broadcaster.subscribers.remove(this);
+                return broadcaster.subscribers.isEmpty() ? null : broadcaster;
+            });
+        }
+
+        void offer(Set<DataWithMediaType> frame) {
+            lock.lock();
+            try {
+                // slow consumer, the oldest frame is given up instead of holding back the others
+                if (pending.size() == capacity)
+                    pending.pollFirst();
+                pending.addLast(frame);
+                if (draining)
+                    return;
+                draining = true;
+            }
+            finally {
+                lock.unlock();
+            }
+            executor.execute(this::drain);
+        }
+
+        private void drain() {
+            while (true) {
+                Set<DataWithMediaType> frame;
+                lock.lock();
+                try {
+                    frame = pending.pollFirst();
+                    if (frame == null) {
+                        draining = false;
+                        return;
+                    }
+                }
+                finally {
+                    lock.unlock();
+                }
+                try {
+                    emitter.send(frame);
+                }
+                catch (IOException | IllegalStateException e) {
+                    // client has gone away
+                    unsubscribe();
+                    emitter.completeWithError(e);
+                    lock.lock();
+                    try {
+                        pending.clear();
+                        draining = false;
+                    }
+                    finally {
+                        lock.unlock();
+                    }
+                    return;
+                }
+            }
+        }
+    }
+}
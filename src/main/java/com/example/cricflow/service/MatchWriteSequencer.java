@@ -0,0 +1,249 @@
+package com.example.cricflow.service;
+
+import com.example.cricflow.repository.InningRepo;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the writes to a match one after the other, in the order they arrived, so two scorers posting to the same
+ * match at once can not interleave their updates of its innings and overs.
+ * <p>
+ * Every match has a mailbox of its own, and a mailbox is drained by one of the shared workers at a time, taking up
+ * a worker only while it has writes waiting. Mailboxes of different matches are drained side by side, and nothing
+ * is locked on the way in or out, so writes to many matches spread over all the workers. A mailbox gives its worker
+ * back after {@value #WRITES_PER_TURN} writes, so one busy match can not hold a worker from the others. A mailbox
+ * that runs out of writes is closed and dropped, the next write to its match opens a new one.
+ * <p>
+ * The caller waits for its write and gets its result or exception back. A write made from inside a transaction
+ * that is already open, or from inside a write to the same match, runs where it is, since handing it to another
+ * thread would lose that transaction, or wait on itself. A write to an over or an inning that is not part of a
+ * match yet has nothing to be ordered with and runs where it is too.
+ * <p>
+ * The writes waiting across all matches are published as {@value #QUEUE_DEPTH}, how many were waiting ahead of
+ * each write in its match as {@value #QUEUE_AHEAD}, and the time each write waited and ran as {@value #WRITE_WAIT}
+ * and {@value #WRITE_TIMER}. Matches are not tagged, since there is no end to them.
+ */
+@Component
+public class MatchWriteSequencer {
+
+    public static final String QUEUE_DEPTH = "cricflow.match.queue.depth";
+    public static final String QUEUE_AHEAD = "cricflow.match.queue.ahead";
+    public static final String WRITE_WAIT = "cricflow.match.write.wait";
+    public static final String WRITE_TIMER = "cricflow.match.write";
+
+    private static final int WRITES_PER_TURN = 64;
+    // the count of a mailbox that was dropped, it takes no more writes
+    private static final int CLOSED = -1;
+
+    // the mailbox the current worker is draining, a write made from inside one of its writes runs in place
+    private static final ThreadLocal<Mailbox> draining = new ThreadLocal<>();
+
+    private final InningRepo inningRepo;
+    private final InningMatchLookup inningMatchLookup;
+    private final ExecutorService executor;
+    private final Map<Long, Mailbox> mailboxes = new ConcurrentHashMap<>();
+    private final AtomicInteger queued = new AtomicInteger();
+
+    private final DistributionSummary queueAhead;
+    private final Timer writeWait;
+    private final Timer writeTimer;
+
+    public MatchWriteSequencer(InningRepo inningRepo, InningMatchLookup inningMatchLookup, MeterRegistry meterRegistry,
+                               @Value("${cricflow.sequencer.workers:8}") int workers) {
+        this.inningRepo = inningRepo;
+        this.inningMatchLookup = inningMatchLookup;
+        this.executor = Executors.newFixedThreadPool(workers);
+
+        Gauge.builder(QUEUE_DEPTH, queued, AtomicInteger::get)
+                .description("Match writes waiting or running, across all matches")
+                .register(meterRegistry);
+        this.queueAhead = DistributionSummary.builder(QUEUE_AHEAD)
+                .description("Writes already waiting in the match when a write arrived")
+                .register(meterRegistry);
+        this.writeWait = Timer.builder(WRITE_WAIT)
+                .description("Time a match write waited behind the earlier writes of its match")
+                .register(meterRegistry);
+        this.writeTimer = Timer.builder(WRITE_TIMER)
+                .description("Time a match write took once its turn came")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs the write in turn with the other writes to the match the over is part of.
+     */
+    public <T, E extends Exception> T writeToOver(Long overId, MatchWrite<T, E> write) throws E {
+        Optional<Long> matchId = inningRepo.findInningIdByOverId(overId).flatMap(inningMatchLookup::findMatchIdByInningId);
+        return write(matchId.orElse(null), write);
+    }
+
+    /**
+     * Runs the write in turn with the other writes to the match the inning is part of.
+     */
+    public <T, E extends Exception> T writeToInning(Long inningId, MatchWrite<T, E> write) throws E {
+        return write(inningMatchLookup.findMatchIdByInningId(inningId).orElse(null), write);
+    }
+
+    /**
+     * Runs the write in turn with the other writes to the match, and waits for it to be done.
+     */
+    public <T, E extends Exception> T write(Long matchId, MatchWrite<T, E> write) throws E {
+        if (matchId == null || TransactionSynchronizationManager.isActualTransactionActive())
+            return write.run();
+        QueuedWrite<T, E> queuedWrite = new QueuedWrite<>(write);
+        while (true) {
+            Mailbox mailbox = mailboxes.computeIfAbsent(matchId, Mailbox::new);
+            if (draining.get() == mailbox)
+                return write.run();
+            if (mailbox.offer(queuedWrite))
+                return queuedWrite.await();
+            // closed as it ran out of writes, it is dropped here too in case its worker has not got to it yet
+            mailboxes.remove(matchId, mailbox);
+        }
+    }
+
+    public int queueDepth(Long matchId) {
+        Mailbox mailbox = mailboxes.get(matchId);
+        return (mailbox == null) ? 0 : Math.max(mailbox.pending.get(), 0);
+    }
+
+    int openMailboxes() {
+        return mailboxes.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * A write to a match, that may fail with an exception of the domain.
+     */
+    @FunctionalInterface
+    public interface MatchWrite<T, E extends Exception> {
+        T run() throws E;
+    }
+
+    /**
+     * Writes of one match waiting for their turn. Only the thread that takes the count from zero to one hands
+     * the mailbox to a worker, and the worker keeps it until the count is back at zero. The worker then closes the
+     * mailbox, unless a write got in first, and a write offered to a closed mailbox is turned away.
+     */
+    private class Mailbox implements Runnable {
+        private final Long matchId;
+        private final ConcurrentLinkedQueue<Runnable> writes = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pending = new AtomicInteger();
+
+        Mailbox(Long matchId) {
+            this.matchId = matchId;
+        }
+
+        boolean offer(Runnable write) {
+            int ahead;
+            do {
+                ahead = pending.get();
+                if (ahead == CLOSED)
+                    return false;
+            } while (!pending.compareAndSet(ahead, ahead + 1));
+            queued.incrementAndGet();
+            writes.add(write);
+            queueAhead.record(ahead);
+            if (ahead == 0)
+                executor.execute(this);
+            return true;
+        }
+
+        @Override
+        public void run() {
+            draining.set(this);
+            try {
+                for (int i = 0; i < WRITES_PER_TURN; i++) {
+                    // counted before it is added, so a closed mailbox is never added to, and a write that was
+                    // counted may take a moment to be there
+                    Runnable write;
+                    while ((write = writes.poll()) == null)
+                        Thread.onSpinWait();
+                    write.run();
+                    queued.decrementAndGet();
+                    if (pending.decrementAndGet() == 0) {
+                        // closed, unless a write got in first and has handed the mailbox to a worker again
+                        if (pending.compareAndSet(0, CLOSED))
+                            mailboxes.remove(matchId, this);
+                        return;
+                    }
+                }
+            }
+            finally {
+                draining.remove();
+            }
+            // more writes are waiting, they get another turn behind the mailboxes of the other matches
+            executor.execute(this);
+        }
+    }
+
+    private class QueuedWrite<T, E extends Exception> implements Runnable {
+        private final MatchWrite<T, E> write;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final long queuedAt = System.nanoTime();
+
+        QueuedWrite(MatchWrite<T, E> write) {
+            this.write = write;
+        }
+
+        @Override
+        public void run() {
+            long startedAt = System.nanoTime();
+            writeWait.record(startedAt - queuedAt, TimeUnit.NANOSECONDS);
+            T value = null;
+            Throwable failure = null;
+            try {
+                value = write.run();
+            }
+            catch (Throwable e) {
+                failure = e;
+            }
+            // recorded before the caller is let go, so the write is in the timer by the time its caller returns
+            writeTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            if (failure == null)
+                result.complete(value);
+            else
+                result.completeExceptionally(failure);
+        }
+
+        @SuppressWarnings("unchecked")
+        T await() throws E {
+            try {
+                return result.get();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a match write", e);
+            }
+            catch (ExecutionException e) {
+                // the write only throws what it declares, unchecked exceptions and errors aside
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException runtimeException)
+                    throw runtimeException;
+                if (cause instanceof Error error)
+                    throw error;
+                throw (E) cause;
+            }
+        }
+    }
+}
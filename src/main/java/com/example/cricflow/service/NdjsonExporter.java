@@ -0,0 +1,48 @@
+package com.example.cricflow.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes the rows of a database cursor as newline delimited JSON. Each row is detached once it is written,
+ * so neither the persistence context nor the response buffer grows with the number of rows.
+ */
+@Component
+public class NdjsonExporter {
+
+    // rows written between flushes of the response
+    private static final int FLUSH_EVERY = 500;
+
+    private final EntityManager entityManager;
+    private final ObjectWriter writer;
+
+    public NdjsonExporter(EntityManager entityManager, ObjectMapper objectMapper) {
+        this.entityManager = entityManager;
+        this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    public <T> long write(Stream<T> rows, OutputStream out) throws IOException {
+        long count = 0;
+        try (JsonGenerator generator = writer.createGenerator(out)) {
+            Iterator<T> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                T row = iterator.next();
+                writer.writeValue(generator, row);
+                generator.writeRaw('\n');
+                entityManager.detach(row);
+                if (++count % FLUSH_EVERY == 0)
+                    generator.flush();
+            }
+        }
+        return count;
+    }
+}
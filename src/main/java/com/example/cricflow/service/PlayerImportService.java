@@ -0,0 +1,217 @@
+package com.example.cricflow.service;
+
+import com.example.cricflow.model.Player;
+import com.example.cricflow.model.imports.ImportFormat;
+import com.example.cricflow.model.imports.PlayerImportReport;
+import com.example.cricflow.model.imports.PlayerImportRow;
+import com.example.cricflow.repository.PlayerRepo;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Imports players from a CSV or JSON file of any size. Rows are parsed one at a time off the request body and
+ * handed to the workers in chunks, each worker validates its chunk and saves the valid players in one
+ * transaction, in JDBC batches. Only a few chunks are ever held at once and the persistence context ends with
+ * every chunk, so memory stays the same whether the file has a thousand rows or a million.
+ * <p>
+ * A chunk is saved on its own, so rows saved before a later chunk or the file itself fails stay saved.
+ */
+@Service
+public class PlayerImportService {
+
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final PlayerRepo playerRepo;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectReader jsonReader;
+    private final ObjectReader csvReader;
+    private final Validator validator;
+    private final ExecutorService executor;
+    private final int workers;
+    private final int chunkSize;
+
+    public PlayerImportService(PlayerRepo playerRepo, EntityManager entityManager, PlatformTransactionManager transactionManager,
+                               ObjectMapper objectMapper,
+                               @Value("${cricflow.import.workers:4}") int workers,
+                               @Value("${cricflow.import.chunk-size:1000}") int chunkSize) {
+        this.playerRepo = playerRepo;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.jsonReader = objectMapper.readerFor(PlayerImportRow.class);
+        this.csvReader = new CsvMapper().readerFor(PlayerImportRow.class).with(CsvSchema.emptySchema().withHeader());
+        this.validator = Validation.buildDefaultValidatorFactory().getValidator();
+        this.executor = Executors.newFixedThreadPool(workers);
+        this.workers = workers;
+        this.chunkSize = chunkSize;
+    }
+
+    public ResponseEntity<PlayerImportReport> importPlayers(InputStream in, ImportFormat format) {
+        Progress progress = new Progress();
+        // two chunks a worker, one being saved and one waiting, the parser is held back when they are all taken
+        int permits = workers * 2;
+        Semaphore inFlight = new Semaphore(permits);
+        long rowsRead = 0;
+        String failure = null;
+        ObjectReader reader = (format == ImportFormat.CSV) ? csvReader : jsonReader;
+        try (MappingIterator<PlayerImportRow> rows = reader.readValues(in)) {
+            List<PlayerImportRow> chunk = new ArrayList<>(chunkSize);
+            while (rows.hasNextValue()) {
+                chunk.add(rows.nextValue());
+                rowsRead++;
+                if (chunk.size() == chunkSize) {
+                    submit(chunk, rowsRead - chunk.size() + 1, progress, inFlight);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty())
+                submit(chunk, rowsRead - chunk.size() + 1, progress, inFlight);
+        }
+        catch (IOException e) {
+            failure = "row " + (rowsRead + 1) + " could not be read: " + e.getMessage();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure = "import was interrupted after row " + rowsRead;
+        }
+        finally {
+            // every permit back means every chunk submitted has been saved or rejected
+            inFlight.acquireUninterruptibly(permits);
+        }
+        return new ResponseEntity<>(progress.report(rowsRead, failure), (failure == null) ? HttpStatus.CREATED : HttpStatus.BAD_REQUEST);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void submit(List<PlayerImportRow> chunk, long firstRow, Progress progress, Semaphore inFlight) throws InterruptedException {
+        inFlight.acquire();
+        executor.execute(() -> {
+            try {
+                importChunk(chunk, firstRow, progress);
+            }
+            finally {
+                inFlight.release();
+            }
+        });
+    }
+
+    private void importChunk(List<PlayerImportRow> rows, long firstRow, Progress progress) {
+        List<Player> players = new ArrayList<>(rows.size());
+        List<Long> playerRows = new ArrayList<>(rows.size());
+        List<PlayerImportReport.RowError> errors = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            List<String> violations = new ArrayList<>();
+            Player player = toPlayer(rows.get(i), violations);
+            if (violations.isEmpty()) {
+                players.add(player);
+                playerRows.add(firstRow + i);
+            }
+            else
+                errors.add(new PlayerImportReport.RowError(firstRow + i, violations));
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // a million new players are not worth a place in the second level cache, they are cached when read
+                entityManager.unwrap(Session.class).setCacheMode(CacheMode.IGNORE);
+                playerRepo.saveAll(players);
+            });
+            progress.chunkDone(players.size(), errors);
+        }
+        catch (RuntimeException e) {
+            // the transaction of the chunk rolled back, none of its players were saved
+            for (Long row : playerRows)
+                errors.add(new PlayerImportReport.RowError(row, List.of("not saved: " + e.getMessage())));
+            progress.chunkDone(0, errors);
+        }
+    }
+
+    private Player toPlayer(PlayerImportRow row, List<String> violations) {
+        Player player = Player.builder()
+                .firstName(trimmed(row.firstName()))
+                .lastName(trimmed(row.lastName()))
+                .playerType(parse(Player.PlayerType.class, "playerType", row.playerType(), violations))
+                .battingStyle(parse(Player.BattingStyle.class, "battingStyle", row.battingStyle(), violations))
+                .bowlingStyle(parse(Player.BowlingStyle.class, "bowlingStyle", row.bowlingStyle(), violations))
+                .build();
+        for (ConstraintViolation<Player> violation : validator.validate(player))
+            violations.add(violation.getMessage());
+        return player;
+    }
+
+    // a missing value is left null for the validator to report, a value that is not a constant is reported here
+    private static <E extends Enum<E>> E parse(Class<E> type, String field, String value, List<String> violations) {
+        value = trimmed(value);
+        if (value == null)
+            return null;
+        try {
+            return Enum.valueOf(type, value.toUpperCase());
+        }
+        catch (IllegalArgumentException e) {
+            violations.add(field + " must be one of " + Arrays.toString(type.getEnumConstants()));
+            return null;
+        }
+    }
+
+    private static String trimmed(String value) {
+        if (value == null || value.isBlank())
+            return null;
+        return value.trim();
+    }
+
+    /**
+     * Counts of the chunks done so far, with the errors of the lowest rows.
+     */
+    private static final class Progress {
+        private long rowsImported;
+        private long rowsRejected;
+        private boolean errorsTruncated;
+        // chunks finish in any order, the errors are kept by row so the first ones are reported whatever the order
+        private final TreeMap<Long, PlayerImportReport.RowError> errors = new TreeMap<>();
+
+        synchronized void chunkDone(int imported, List<PlayerImportReport.RowError> rejected) {
+            rowsImported += imported;
+            rowsRejected += rejected.size();
+            for (PlayerImportReport.RowError error : rejected) {
+                errors.put(error.row(), error);
+                if (errors.size() > MAX_REPORTED_ERRORS) {
+                    errors.pollLastEntry();
+                    errorsTruncated = true;
+                }
+            }
+        }
+
+        synchronized PlayerImportReport report(long rowsRead, String failure) {
+            return new PlayerImportReport(rowsRead, rowsImported, rowsRejected, new ArrayList<>(errors.values()), errorsTruncated, failure);
+        }
+    }
+}
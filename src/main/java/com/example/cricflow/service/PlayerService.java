@@ -1,10 +1,13 @@
 package com.example.cricflow.service;
 
 import com.example.cricflow.exception.EntityDoesNotExistsException;
+import com.example.cricflow.exception.InvalidCursorException;
 import com.example.cricflow.exception.validator.PlayerFieldsException;
 import com.example.cricflow.model.Player;
 import com.example.cricflow.model.Team;
 import com.example.cricflow.model.TeamPlayerRelation;
+import com.example.cricflow.model.page.CursorToken;
+import com.example.cricflow.model.page.KeysetPage;
 import com.example.cricflow.repository.PlayerRepo;
 import com.example.cricflow.repository.TeamPlayerRelationRepo;
 import com.example.cricflow.repository.TeamRepo;
@@ -13,14 +16,19 @@ import jakarta.validation.Validation;
 import jakarta.validation.Validator;
 import jakarta.validation.ValidatorFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 @Service
 public class PlayerService {
@@ -28,15 +36,17 @@ public class PlayerService {
     private final PlayerRepo playerRepo;
     private final TeamPlayerRelationRepo relationRepo;
     private final TeamRepo teamRepo;
+    private final NdjsonExporter ndjsonExporter;
     private final Validator validator;
 
     private final String referencedClass = "PLAYER";
 
     @Autowired
-    public PlayerService(PlayerRepo playerRepo, TeamPlayerRelationRepo relationRepo, TeamRepo teamRepo) {
+    public PlayerService(PlayerRepo playerRepo, TeamPlayerRelationRepo relationRepo, TeamRepo teamRepo, NdjsonExporter ndjsonExporter) {
         this.playerRepo = playerRepo;
         this.relationRepo = relationRepo;
         this.teamRepo = teamRepo;
+        this.ndjsonExporter = ndjsonExporter;
         ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
         validator = factory.getValidator();
     }
@@ -65,6 +75,28 @@ public class PlayerService {
         return new ResponseEntity<>(allPlayers, HttpStatus.OK);
     }
 
+    public ResponseEntity<KeysetPage<Player>> readPlayerPage(Long teamId, String cursor, Integer size) throws EntityDoesNotExistsException, InvalidCursorException {
+        long afterPlayerId = CursorToken.decode(cursor);
+        int pageSize = KeysetPage.boundedSize(size);
+        // one row more than the page is read, only to know if there is a next page
+        List<Player> rows;
+        if (teamId == null)
+            rows = playerRepo.findByPlayerIdGreaterThanOrderByPlayerIdAsc(afterPlayerId, Limit.of(pageSize + 1));
+        else {
+            if (!teamRepo.existsById(teamId))
+                throw new EntityDoesNotExistsException(Team.class.getName(), teamId);
+            rows = playerRepo.findByTeamTeamIdAndPlayerIdGreaterThanOrderByPlayerIdAsc(teamId, afterPlayerId, Limit.of(pageSize + 1));
+        }
+        return new ResponseEntity<>(KeysetPage.of(rows, pageSize, Player::getPlayerId), HttpStatus.OK);
+    }
+
+    @Transactional(readOnly = true)
+    public long exportAllPlayers(OutputStream out) throws IOException {
+        try (Stream<Player> players = playerRepo.streamAllByOrderByPlayerIdAsc()) {
+            return ndjsonExporter.write(players, out);
+        }
+    }
+
     public ResponseEntity<Player> updatePlayer(Player player) throws EntityDoesNotExistsException, PlayerFieldsException{
         findPlayerById(player.getPlayerId());
         validatePlayer(player);
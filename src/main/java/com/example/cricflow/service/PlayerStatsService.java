@@ -0,0 +1,160 @@
+package com.example.cricflow.service;
+
+import com.example.cricflow.exception.EntityDoesNotExistsException;
+import com.example.cricflow.model.Ball;
+import com.example.cricflow.model.event.Extra;
+import com.example.cricflow.model.event.Score;
+import com.example.cricflow.model.event.Wicket;
+import com.example.cricflow.model.literal.ExtraType;
+import com.example.cricflow.model.literal.ScoreType;
+import com.example.cricflow.model.literal.WicketType;
+import com.example.cricflow.model.live.DeliveriesRecordedEvent;
+import com.example.cricflow.model.stats.PlayerCareerStats;
+import com.example.cricflow.repository.BallRepo;
+import com.example.cricflow.repository.PlayerRepo;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Service
+public class PlayerStatsService {
+
+    private final BallRepo ballRepo;
+    private final PlayerRepo playerRepo;
+    // replaced as a whole by a rebuild, readers and live balls never see stats that are half counted
+    private volatile Map<Long, PlayerCareerStats> stats = new ConcurrentHashMap<>();
+
+    // held while live balls are recorded and while rebuilt stats are swapped in
+    private final ReentrantLock recordLock = new ReentrantLock();
+    // live balls recorded while a rebuild is counting, null when no rebuild is running
+    private List<Ball> recordedDuringRebuild;
+
+    private final String referencedClass = "PLAYER";
+
+    public PlayerStatsService(BallRepo ballRepo, PlayerRepo playerRepo) {
+        this.ballRepo = ballRepo;
+        this.playerRepo = playerRepo;
+    }
+
+    public ResponseEntity<PlayerCareerStats> readPlayerStats(Long playerId) throws EntityDoesNotExistsException {
+        // served from memory, a player who has not played yet only costs a lookup of the player
+        PlayerCareerStats playerStats = stats.get(playerId);
+        if (playerStats != null)
+            return new ResponseEntity<>(playerStats.copy(), HttpStatus.OK);
+        if (!playerRepo.existsById(playerId))
+            throw new EntityDoesNotExistsException(referencedClass, playerId);
+        return new ResponseEntity<>(new PlayerCareerStats(playerId), HttpStatus.OK);
+    }
+
+    @TransactionalEventListener
+    public void onDeliveriesRecorded(DeliveriesRecordedEvent event) {
+        recordLock.lock();
+        try {
+            if (recordedDuringRebuild != null)
+                recordedDuringRebuild.addAll(event.getBalls());
+            for (Ball ball : event.getBalls())
+                record(stats, ball);
+        }
+        finally {
+            recordLock.unlock();
+        }
+    }
+
+    /**
+     * Counts the stats again into a new map and swaps it in. The counts are read from one snapshot of the database,
+     * so a ball recorded live in the meantime is added to them unless the snapshot already had it.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public void rebuildPlayerStats() {
+        recordLock.lock();
+        try {
+            recordedDuringRebuild = new ArrayList<>();
+        }
+        finally {
+            recordLock.unlock();
+        }
+
+        try {
+            Map<Long, PlayerCareerStats> rebuilt = new ConcurrentHashMap<>();
+            // the database does the counting, only one row per batter, bowler and outcome comes back
+            for (Object[] row : ballRepo.countScoresByPlayers()) {
+                long count = (Long) row[3];
+                statsOf(rebuilt, (Long) row[0]).addBattingScore((ScoreType) row[2], count);
+                statsOf(rebuilt, (Long) row[1]).addBowlingScore((ScoreType) row[2], count);
+            }
+            for (Object[] row : ballRepo.countExtrasByPlayers()) {
+                long count = (Long) row[4];
+                statsOf(rebuilt, (Long) row[0]).addBattingExtra((ExtraType) row[2], (ScoreType) row[3], count);
+                statsOf(rebuilt, (Long) row[1]).addBowlingExtra((ExtraType) row[2], (ScoreType) row[3], count);
+            }
+            for (Object[] row : ballRepo.countWicketsByPlayers()) {
+                long count = (Long) row[3];
+                statsOf(rebuilt, (Long) row[0]).addBattingWicket(count);
+                statsOf(rebuilt, (Long) row[1]).addBowlingWicket((WicketType) row[2], count);
+            }
+            swapIn(rebuilt);
+        }
+        finally {
+            recordLock.lock();
+            try {
+                recordedDuringRebuild = null;
+            }
+            finally {
+                recordLock.unlock();
+            }
+        }
+    }
+
+    // the balls recorded live are looked up in the same snapshot as the counts, the ones it has were counted already
+    private void swapIn(Map<Long, PlayerCareerStats> rebuilt) {
+        recordLock.lock();
+        try {
+            if (!recordedDuringRebuild.isEmpty()) {
+                Set<Long> counted = ballRepo.findExistingIds(recordedDuringRebuild.stream()
+                        .map(Ball::getBallId).filter(Objects::nonNull).toList());
+                for (Ball ball : recordedDuringRebuild)
+                    if (!counted.contains(ball.getBallId()))
+                        record(rebuilt, ball);
+            }
+            stats = rebuilt;
+        }
+        finally {
+            recordLock.unlock();
+        }
+    }
+
+    private static void record(Map<Long, PlayerCareerStats> stats, Ball ball) {
+        PlayerCareerStats batter = statsOf(stats, ball.getStriker().getPlayerId());
+        PlayerCareerStats bowler = statsOf(stats, ball.getBowler().getPlayerId());
+        if (ball.getBallEvent() instanceof Score score) {
+            batter.addBattingScore(score.getScoreType(), 1);
+            bowler.addBowlingScore(score.getScoreType(), 1);
+        }
+        else if (ball.getBallEvent() instanceof Extra extra) {
+            batter.addBattingExtra(extra.getExtraType(), extra.getScoreType(), 1);
+            bowler.addBowlingExtra(extra.getExtraType(), extra.getScoreType(), 1);
+        }
+        else if (ball.getBallEvent() instanceof Wicket wicket) {
+            batter.addBattingWicket(1);
+            bowler.addBowlingWicket(wicket.getWicketType(), 1);
+        }
+    }
+
+    private static PlayerCareerStats statsOf(Map<Long, PlayerCareerStats> stats, Long playerId) {
+        return stats.computeIfAbsent(playerId, PlayerCareerStats::new);
+    }
+}
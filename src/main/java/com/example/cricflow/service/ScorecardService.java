@@ -0,0 +1,175 @@
+package com.example.cricflow.service;
+
+import com.example.cricflow.exception.EntityDoesNotExistsException;
+import com.example.cricflow.model.Ball;
+import com.example.cricflow.model.live.DeliveriesRecordedEvent;
+import com.example.cricflow.model.live.InningScorecard;
+import com.example.cricflow.model.live.InningTotals;
+import com.example.cricflow.model.live.ScorecardUpdatedEvent;
+import com.example.cricflow.model.projection.DeliveryRow;
+import com.example.cricflow.repository.BallRepo;
+import com.example.cricflow.repository.InningRepo;
+import jakarta.persistence.EntityManager;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+@Service
+public class ScorecardService {
+
+    // rows read from the database before the persistence context is cleared while the scorecards are rebuilt
+    private static final int REBUILD_CLEAR_EVERY = 500;
+
+    private final BallRepo ballRepo;
+    private final InningRepo inningRepo;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MatchJournal matchJournal;
+    // replaced as a whole by a rebuild, readers and live balls never see scorecards that are half built
+    private volatile Map<Long, InningScorecard> scorecards = new ConcurrentHashMap<>();
+
+    // held while live balls are recorded and while rebuilt scorecards are swapped in
+    private final ReentrantLock recordLock = new ReentrantLock();
+    // live balls recorded while a rebuild is reading, null when no rebuild is running
+    private List<DeliveriesRecordedEvent> recordedDuringRebuild;
+
+    private final String referencedClass = "INNING";
+
+    public ScorecardService(BallRepo ballRepo, InningRepo inningRepo, EntityManager entityManager,
+                            ApplicationEventPublisher eventPublisher, MatchJournal matchJournal) {
+        this.ballRepo = ballRepo;
+        this.inningRepo = inningRepo;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.matchJournal = matchJournal;
+    }
+
+    public ResponseEntity<InningScorecard> readScorecard(Long inningId) throws EntityDoesNotExistsException {
+        // served from memory, the database is only asked about an inning no ball has been recorded for
+        InningScorecard scorecard = scorecards.get(inningId);
+        if (scorecard == null) {
+            if (!inningRepo.existsById(inningId))
+                throw new EntityDoesNotExistsException(referencedClass, inningId);
+            scorecard = new InningScorecard(inningId);
+        }
+        return new ResponseEntity<>(scorecard.copy(), HttpStatus.OK);
+    }
+
+    @TransactionalEventListener
+    public void onDeliveriesRecorded(DeliveriesRecordedEvent event) {
+        if (event.getInningId() != null)
+            matchJournal.append(event.getInningId(), event.getBalls(), () -> recordLiveBalls(event));
+    }
+
+    /**
+     * Rebuilds every scorecard into a new map, from the journal when it agrees with the database or else from the
+     * balls read through a cursor, and swaps it in. Balls recorded live in the meantime are added unless the rebuild
+     * already counted them.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuildScorecards() {
+        recordLock.lock();
+        try {
+            recordedDuringRebuild = new ArrayList<>();
+        }
+        finally {
+            recordLock.unlock();
+        }
+
+        Map<Long, InningScorecard> rebuilt = new ConcurrentHashMap<>();
+        boolean recovered;
+        try {
+            // the latest snapshot and the journal after it are enough, the balls are only read when they are missing
+            // or behind the database
+            recovered = matchJournal.isEnabled() && matchJournal.recover(rebuilt) && matchesDatabase(rebuilt);
+            if (!recovered) {
+                rebuilt.clear();
+                readBalls(rebuilt);
+            }
+            swapIn(rebuilt);
+        }
+        finally {
+            recordLock.lock();
+            try {
+                recordedDuringRebuild = null;
+            }
+            finally {
+                recordLock.unlock();
+            }
+        }
+        if (matchJournal.isEnabled() && !recovered)
+            matchJournal.checkpoint();
+    }
+
+    // the journal is appended after the balls are committed, so a crash in between leaves it behind, and a database
+    // that was recreated no longer has its innings, it is only trusted when the last ball of every inning is the same
+    private boolean matchesDatabase(Map<Long, InningScorecard> recovered) {
+        List<Object[]> lastBallIds = ballRepo.findLastBallIdByInning();
+        if (lastBallIds.size() != recovered.size())
+            return false;
+        for (Object[] row : lastBallIds) {
+            InningScorecard scorecard = recovered.get((Long) row[0]);
+            if (scorecard == null || scorecard.getLastBallId() != (Long) row[1])
+                return false;
+        }
+        return true;
+    }
+
+    private void readBalls(Map<Long, InningScorecard> rebuilt) {
+        try (Stream<DeliveryRow> rows = ballRepo.streamAllWithInningId()) {
+            int read = 0;
+            for (DeliveryRow row : (Iterable<DeliveryRow>) rows::iterator) {
+                rebuilt.computeIfAbsent(row.inningId(), InningScorecard::new).record(row.toBall());
+                if (++read % REBUILD_CLEAR_EVERY == 0)
+                    entityManager.clear();
+            }
+        }
+    }
+
+    private void swapIn(Map<Long, InningScorecard> rebuilt) {
+        recordLock.lock();
+        try {
+            for (DeliveriesRecordedEvent event : recordedDuringRebuild) {
+                InningScorecard scorecard = rebuilt.computeIfAbsent(event.getInningId(), InningScorecard::new);
+                for (Ball ball : event.getBalls())
+                    if (!scorecard.includes(ball))
+                        scorecard.record(ball);
+            }
+            scorecards = rebuilt;
+        }
+        finally {
+            recordLock.unlock();
+        }
+    }
+
+    private void recordLiveBalls(DeliveriesRecordedEvent event) {
+        List<InningTotals> totals = new ArrayList<>(event.getBalls().size());
+        recordLock.lock();
+        try {
+            if (recordedDuringRebuild != null)
+                recordedDuringRebuild.add(event);
+            InningScorecard scorecard = scorecards.computeIfAbsent(event.getInningId(), InningScorecard::new);
+            for (Ball ball : event.getBalls())
+                totals.add(scorecard.record(ball));
+        }
+        finally {
+            recordLock.unlock();
+        }
+        // announced outside the lock, the listeners write to streams and may read the database
+        for (int i = 0; i < totals.size(); i++)
+            eventPublisher.publishEvent(new ScorecardUpdatedEvent(event.getBalls().get(i), totals.get(i)));
+    }
+}
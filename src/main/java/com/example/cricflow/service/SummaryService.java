@@ -0,0 +1,86 @@
+package com.example.cricflow.service;
+
+import com.example.cricflow.exception.EntityDoesNotExistsException;
+import com.example.cricflow.exception.InvalidCursorException;
+import com.example.cricflow.model.Match;
+import com.example.cricflow.model.Team;
+import com.example.cricflow.model.page.CursorToken;
+import com.example.cricflow.model.page.KeysetPage;
+import com.example.cricflow.model.projection.InningSummary;
+import com.example.cricflow.model.projection.MatchSummary;
+import com.example.cricflow.model.projection.PlayerSummary;
+import com.example.cricflow.model.projection.TeamRoster;
+import com.example.cricflow.model.projection.TeamSummary;
+import com.example.cricflow.repository.InningRepo;
+import com.example.cricflow.repository.MatchRepo;
+import com.example.cricflow.repository.PlayerRepo;
+import com.example.cricflow.repository.TeamRepo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Reads of the v2 api. Every response is selected column by column into a projection, so no entity, and none of
+ * the eager associations around it, is loaded, and there is nothing for hibernate to keep or to dirty check.
+ * The transactions are read only, which also leaves the session without a flush at commit.
+ */
+@Service
+public class SummaryService {
+
+    private final MatchRepo matchRepo;
+    private final InningRepo inningRepo;
+    private final TeamRepo teamRepo;
+    private final PlayerRepo playerRepo;
+
+    @Autowired
+    public SummaryService(MatchRepo matchRepo, InningRepo inningRepo, TeamRepo teamRepo, PlayerRepo playerRepo) {
+        this.matchRepo = matchRepo;
+        this.inningRepo = inningRepo;
+        this.teamRepo = teamRepo;
+        this.playerRepo = playerRepo;
+    }
+
+    @Transactional(readOnly = true)
+    public ResponseEntity<MatchSummary> readMatchSummary(Long matchId) throws EntityDoesNotExistsException {
+        MatchSummary summary = matchRepo.findMatchSummary(matchId)
+                .orElseThrow(() -> new EntityDoesNotExistsException(Match.class.getName(), matchId));
+        return new ResponseEntity<>(summary, HttpStatus.OK);
+    }
+
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<InningSummary>> readInningSummaries(Long matchId) throws EntityDoesNotExistsException {
+        List<InningSummary> innings = inningRepo.findInningSummariesByMatchId(matchId);
+        // a match without innings and no match at all both come back empty, only then is it looked up
+        if (innings.isEmpty() && !matchRepo.existsById(matchId))
+            throw new EntityDoesNotExistsException(Match.class.getName(), matchId);
+        return new ResponseEntity<>(innings, HttpStatus.OK);
+    }
+
+    @Transactional(readOnly = true)
+    public ResponseEntity<TeamRoster> readTeamRoster(Long teamId) throws EntityDoesNotExistsException {
+        TeamSummary team = teamRepo.findSummaryByTeamId(teamId)
+                .orElseThrow(() -> new EntityDoesNotExistsException(Team.class.getName(), teamId));
+        return new ResponseEntity<>(new TeamRoster(team.getTeamId(), team.getTeamName(), playerRepo.findRosterByTeamId(teamId)), HttpStatus.OK);
+    }
+
+    @Transactional(readOnly = true)
+    public ResponseEntity<KeysetPage<PlayerSummary>> readPlayerPage(Long teamId, String cursor, Integer size) throws EntityDoesNotExistsException, InvalidCursorException {
+        long afterPlayerId = CursorToken.decode(cursor);
+        int pageSize = KeysetPage.boundedSize(size);
+        // one row more than the page is read, only to know if there is a next page
+        List<PlayerSummary> rows;
+        if (teamId == null)
+            rows = playerRepo.findSummaries(afterPlayerId, Limit.of(pageSize + 1));
+        else {
+            if (!teamRepo.existsById(teamId))
+                throw new EntityDoesNotExistsException(Team.class.getName(), teamId);
+            rows = playerRepo.findSummariesByTeamId(teamId, afterPlayerId, Limit.of(pageSize + 1));
+        }
+        return new ResponseEntity<>(KeysetPage.of(rows, pageSize, PlayerSummary::playerId), HttpStatus.OK);
+    }
+}
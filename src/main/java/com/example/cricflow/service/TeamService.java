@@ -18,10 +18,16 @@ import jakarta.validation.ValidatorFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
@@ -52,109 +58,97 @@ public class TeamService {
         return new ResponseEntity<>(savedTeam, HttpStatus.CREATED);
     }
 
+    @Transactional
     public ResponseEntity<List<Team>> createMultipleTeams(List<String> teamNames) {
-        List<Team> savedTeams = new ArrayList<>();
         // if any team has duplicate name, exception will be thrown, without saving any team
+        Set<String> uniqueNames = new LinkedHashSet<>();
         for (String teamName : teamNames) {
-            savedTeams.add(createTeam(teamName).getBody());
+            if (!uniqueNames.add(teamName.toUpperCase()))
+                throw new NameAlreadyExistsException(referencedClass, teamName.toUpperCase());
         }
-        // if all are unique, all will be saved
-        return new ResponseEntity<>(savedTeams, HttpStatus.CREATED);
-    }
-
-
-    private Player addSinglePlayerToTeam(Team team, Long playerId) {
-        // existence of players has been checked before, so no need for checking .ifPresent()
-        Player player = playerRepo.findById(playerId).get();
+        checkIfAnyTeamNameAlreadyExists(uniqueNames);
 
-        player.setTeam(team);
-        player = playerRepo.save(player);
-
-        // updating team history for the player
-        TeamPlayerRelation relation =
-                TeamPlayerRelation.builder()
-                .team(team)
-                .player(player)
-                .startDate(LocalDate.now())
-                .build();
-        relationRepo.save(relation);
-
-        return player;
+        // if all are unique, all will be saved, in JDBC batches
+        List<Team> teams = new ArrayList<>(uniqueNames.size());
+        for (String teamName : uniqueNames)
+            teams.add(Team.builder().teamName(teamName).build());
+        return new ResponseEntity<>(teamRepo.saveAll(teams), HttpStatus.CREATED);
     }
 
+    @Transactional
     public ResponseEntity<Team> addMultiplePlayersToTeam(Long teamId, List<Long> playerIds) {
         // if team does not exist, exception will be thrown
         Team team = checkIfTeamExists(teamId);
 
-        // list for storing all the previous player id's of the team, for checks
-        List<Long> previousPlayerIds = new ArrayList<>();
-        for (Player player: team.getPlayers())
-            previousPlayerIds.add(player.getPlayerId());
+        // set of all the previous player id's of the team, so each check is a hash lookup
+        Set<Long> previousPlayerIds = playerIdsOf(team);
+
+        // one query for all the players to be added, giving the team each of them is in right now
+        Map<Long, Long> teamIdByPlayerId = new HashMap<>();
+        for (Object[] row : playerRepo.findTeamIdsByPlayerIds(playerIds))
+            teamIdByPlayerId.put((Long) row[0], (Long) row[1]);
 
         // checking if all the players to be added, exists, if not exception is thrown
-        checkPlayerListExists(playerIds, previousPlayerIds, team, true);
-        // after confirming, all the players exist, adding them to the team
-        List<Player> addedPlayers = new ArrayList<>();
-        for (Long playerId : playerIds) {
-            addedPlayers.add(addSinglePlayerToTeam(team, playerId));
+        checkPlayerListExists(playerIds, teamIdByPlayerId.keySet(), previousPlayerIds, team, true);
+
+        Set<Long> addedPlayerIds = new LinkedHashSet<>(playerIds);
+        LocalDate today = LocalDate.now();
+        // players being added to a new team are removed from their previous one, by closing that relation
+        if (teamIdByPlayerId.values().stream().anyMatch(Objects::nonNull))
+            relationRepo.closeOpenRelationsOutsideTeam(teamId, addedPlayerIds, today);
+        // a single update assigns the team to all of them
+        playerRepo.updateTeamOfPlayers(team, addedPlayerIds);
+
+        // reading the team back once, its roster now has the added players as well
+        team = checkIfTeamExists(teamId);
+        // updating team history for the players, inserted in jdbc batches
+        List<TeamPlayerRelation> relations = new ArrayList<>();
+        for (Player player : team.getPlayers()) {
+            if (addedPlayerIds.contains(player.getPlayerId()))
+                relations.add(TeamPlayerRelation.builder()
+                        .team(team)
+                        .player(player)
+                        .startDate(today)
+                        .build());
         }
-        // saving in the new list, because the one retrieved is immutable
-        List<Player> allPlayers = new ArrayList<>();
-        // adding all the previous players in the new empty list
-        allPlayers.addAll(team.getPlayers());
-        allPlayers.addAll(addedPlayers);
-        //updating team with all players, already present and new ones
-        team.setPlayers(allPlayers);
-
-        return new ResponseEntity<>(teamRepo.save(team), HttpStatus.OK);
-    }
+        relationRepo.saveAll(relations);
 
-    private void removeSinglePlayerFromTeam(Team team, Long playerId) {
-        // existence of players has been checked before, so no need for checking .ifPresent()
-        Player player = playerRepo.findById(playerId).get();
-
-        // using in the new list, because the one retrieved is immutable
-        List<Player> remainingPlayers = new ArrayList<>();
-        remainingPlayers = new ArrayList<>(team.getPlayers());
-        remainingPlayers.remove(player);
-        // updating the team after removing that player
-        team.setPlayers(remainingPlayers);
-        teamRepo.save(team);
-        // the player has currently no team assigned
-        player.setTeam(null);
-        playerRepo.save(player);
-
-        updateTeamPlayerRelationAfterPlayerRemoval(team, player);
+        return new ResponseEntity<>(team, HttpStatus.OK);
     }
 
+    @Transactional
     public ResponseEntity<Team> removeMultiplePlayersFromTeam(Long teamId, List<Long> playerIds) {
         // if team does not exist, exception will be thrown
         Team team = checkIfTeamExists(teamId);
 
-        // list for storing ID's of all previously assigned players of the team, for checks
-        List<Long> previousPlayerIds = new ArrayList<>();
-        for (Player player: team.getPlayers())
-            previousPlayerIds.add(player.getPlayerId());
+        // set of ID's of all previously assigned players of the team, for checks
+        Set<Long> previousPlayerIds = playerIdsOf(team);
+
+        // players of the team surely exist, the database is only asked about the ones that are not in it
+        List<Long> notInTeam = new ArrayList<>();
+        for (Long playerId : playerIds)
+            if (!previousPlayerIds.contains(playerId))
+                notInTeam.add(playerId);
+        Set<Long> existingPlayerIds = new HashSet<>(previousPlayerIds);
+        if (!notInTeam.isEmpty())
+            existingPlayerIds.addAll(playerRepo.findExistingIds(notInTeam));
 
         // checking if all the players already exist
-        checkPlayerListExists(playerIds, previousPlayerIds, team, false);
+        checkPlayerListExists(playerIds, existingPlayerIds, previousPlayerIds, team, false);
 
-        // once confirmed the existence, removing all from the team
-        for (Long playerId : playerIds) {
-            removeSinglePlayerFromTeam(team, playerId);
-        }
+        // once confirmed the existence, removing all from the team, and closing their relations with it
+        Set<Long> removedPlayerIds = new LinkedHashSet<>(playerIds);
+        relationRepo.closeOpenRelationsWithTeam(teamId, removedPlayerIds, LocalDate.now());
+        playerRepo.updateTeamOfPlayers(null, removedPlayerIds);
 
         // returning the saved team
-        return new ResponseEntity<>(team, HttpStatus.OK);
+        return new ResponseEntity<>(checkIfTeamExists(teamId), HttpStatus.OK);
     }
 
-
-
-    private void checkPlayerListExists(List<Long> newPlayerIds, List<Long> prevPlayerIds, Team team, boolean add) {
+    private void checkPlayerListExists(List<Long> newPlayerIds, Set<Long> existingPlayerIds, Set<Long> prevPlayerIds, Team team, boolean add) {
         for (Long playerId : newPlayerIds) {
-            Optional<Player> player = playerRepo.findById(playerId);
             // if player with given id does not exist, throw exception
-            if (player.isEmpty())
+            if (!existingPlayerIds.contains(playerId))
                 throw new EntityDoesNotExistsException(referencedClass, playerId);
             // if function is for adding, then we check that if player already exists in the team, then throw exception
             // if function is for removing, then we check that if player does not exist in the team, then throw exception
@@ -162,40 +156,26 @@ public class TeamService {
                 checkIfPlayerExistsInTheSameTeamWhereItIsToBeAdded(prevPlayerIds, playerId, team);
             else
                 checkIfPlayerRequestedToBeRemovedFromTeamIsActuallyPresent(prevPlayerIds, playerId, team);
-
         }
-        // if it is for adding, then before adding to new team, we need to remove from previous team, if it has any
-        if (add)
-            removePlayerFromPreviousTeamIfBeingAddedToNewTeam(newPlayerIds, team);
     }
 
-    private void checkIfPlayerExistsInTheSameTeamWhereItIsToBeAdded(List<Long> prevPlayerIds, Long playerId, Team team){
+    private void checkIfPlayerExistsInTheSameTeamWhereItIsToBeAdded(Set<Long> prevPlayerIds, Long playerId, Team team){
         // if the player we need to add in a team, is already present in the same team, then there is no sense in adding it
         if (prevPlayerIds.contains(playerId))
             throw new DuplicatePlayerInTeamException(playerId, team.getTeamId());
     }
 
-    private void checkIfPlayerRequestedToBeRemovedFromTeamIsActuallyPresent(List<Long> prevPlayerIds, Long playerId, Team team){
+    private void checkIfPlayerRequestedToBeRemovedFromTeamIsActuallyPresent(Set<Long> prevPlayerIds, Long playerId, Team team){
         // if the player, we are going to remove from a team, not present in it, then there is no sense in it
         if (!prevPlayerIds.contains(playerId))
             throw new PlayerRemovalFromTeamException(team.getTeamId(), playerId);
     }
 
-    private void removePlayerFromPreviousTeamIfBeingAddedToNewTeam(List<Long> newPlayerIds, Team team){
-        for (Long playerId : newPlayerIds) {
-            // players existence has been checked already, so no need to check again
-            Player player = playerRepo.findById(playerId).get();
-
-            // if players, previous team was not null, then removing player first from the previous team
-            if (player.getTeam() != null && player.getTeam() != team){
-                Team oldTeam = player.getTeam();
-                oldTeam.getPlayers().remove(player);
-                player.setTeam(null);
-                playerRepo.save(player);
-                teamRepo.save(oldTeam);
-                updateTeamPlayerRelationAfterPlayerRemoval(oldTeam, player);
-            }
-        }
+    private Set<Long> playerIdsOf(Team team) {
+        Set<Long> playerIds = new HashSet<>();
+        for (Player player : team.getPlayers())
+            playerIds.add(player.getPlayerId());
+        return playerIds;
     }
 
     private void validateTeam(Team team){
@@ -209,6 +189,12 @@ public class TeamService {
         throw new TeamFieldsException(violationsString);
     }
 
+    private void checkIfAnyTeamNameAlreadyExists(Set<String> teamNames) {
+        Optional<String> existingName = teamRepo.findAnyExistingName(teamNames);
+        if (existingName.isPresent())
+            throw new NameAlreadyExistsException(referencedClass, existingName.get());
+    }
+
     private Team checkIfTeamExists(Long teamId) {
         Optional<Team> team = teamRepo.findById(teamId);
         if (team.isEmpty())
@@ -217,11 +203,4 @@ public class TeamService {
             return team.get();
     }
 
-    private void updateTeamPlayerRelationAfterPlayerRemoval(Team oldTeam, Player player ){
-        // once a player is removed from a team, updating the relation table by adding the end date
-        TeamPlayerRelation relation = relationRepo.findTopByTeamAndPlayerOrderByStartDateDesc(oldTeam, player);
-        relation.setEndDate(LocalDate.now());
-        relationRepo.save(relation);
-    }
-
 }
@@ -0,0 +1,253 @@
+package com.example.cricflow.service.history;
+
+import com.example.cricflow.model.history.CricsheetMatch;
+import com.example.cricflow.model.literal.ExtraType;
+import com.example.cricflow.model.literal.ScoreType;
+import com.example.cricflow.model.literal.TeamSide;
+import com.example.cricflow.model.literal.WicketType;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The rows of one Cricsheet match, table by table: its toss, the first two innings (super overs are left out),
+ * their overs and every delivery as a ball with a score, an extra or a wicket.
+ * <p>
+ * The model is narrower than Cricsheet, so a delivery keeps what the model can hold: a dismissal the model has
+ * no wicket type for (retired, timed out, handled the ball) is scored as the runs of the delivery, a wicket off
+ * a wide or a no ball is kept as the wicket, byes and leg byes are scored as runs of the delivery, and runs the
+ * model has no score for (five) are scored as the nearest score below.
+ */
+final class CricsheetRows {
+
+    private static final Map<String, WicketType> DISMISSALS = Map.of(
+            "bowled", WicketType.BOWLED,
+            "lbw", WicketType.BOWLED,
+            "hit wicket", WicketType.BOWLED,
+            "caught", WicketType.CAUGHT,
+            "caught and bowled", WicketType.CAUGHT,
+            "stumped", WicketType.CAUGHT,
+            "run out", WicketType.RUN_OUT,
+            "obstructing the field", WicketType.RUN_OUT);
+
+    private final HistoryTables tables;
+    private final ReferenceData reference;
+    private final SharedSessionContractImplementor ids;
+    private final Map<HistoryTables.Table, List<Object[]>> rows = new LinkedHashMap<>();
+    private long firstEventId = Long.MAX_VALUE;
+    private long lastEventId = Long.MIN_VALUE;
+    private long matchId;
+
+    private CricsheetRows(HistoryTables tables, ReferenceData reference, SharedSessionContractImplementor ids) {
+        this.tables = tables;
+        this.reference = reference;
+        this.ids = ids;
+        for (HistoryTables.Table table : tables.matchTables)
+            rows.put(table, new ArrayList<>());
+    }
+
+    /**
+     * Rows of the match, every name in it has to have an id by now, the ids of the rows are taken from the
+     * generators of their entities through the given session.
+     */
+    static CricsheetRows of(CricsheetMatch match, HistoryTables tables, ReferenceData reference, SharedSessionContractImplementor ids) {
+        CricsheetRows rows = new CricsheetRows(tables, reference, ids);
+        rows.add(match);
+        return rows;
+    }
+
+    /**
+     * Names of grounds, teams and players the match refers to that are not known yet, as keys of the reference data.
+     */
+    static ReferenceData.Missing missingNames(CricsheetMatch match, ReferenceData reference) {
+        check(match);
+        ReferenceData.Missing missing = new ReferenceData.Missing(new HashSet<>(), new HashSet<>(), new HashSet<>());
+        if (match.info().venue() != null && !reference.grounds.containsKey(ReferenceData.groundKey(match.info().venue())))
+            missing.grounds().add(ReferenceData.groundKey(match.info().venue()));
+        for (String team : match.info().teams())
+            if (!reference.teams.containsKey(ReferenceData.teamKey(team)))
+                missing.teams().add(ReferenceData.teamKey(team));
+        Set<String> players = new HashSet<>();
+        for (CricsheetMatch.Innings innings : playedInnings(match))
+            for (CricsheetMatch.Over over : innings.overs())
+                for (CricsheetMatch.Delivery delivery : over.deliveries()) {
+                    players.add(delivery.batter());
+                    players.add(delivery.nonStriker());
+                    players.add(delivery.bowler());
+                    CricsheetMatch.Dismissal dismissal = dismissal(delivery);
+                    if (dismissal != null && fielder(dismissal, delivery) != null)
+                        players.add(fielder(dismissal, delivery));
+                }
+        for (String player : players)
+            if (player != null && !reference.players.containsKey(ReferenceData.playerKey(player)))
+                missing.players().add(ReferenceData.playerKey(player));
+        return missing;
+    }
+
+    long matchId() {
+        return matchId;
+    }
+
+    Map<HistoryTables.Table, List<Object[]>> rows() {
+        return rows;
+    }
+
+    long firstEventId() {
+        return firstEventId;
+    }
+
+    long lastEventId() {
+        return lastEventId;
+    }
+
+    boolean hasEvents() {
+        return firstEventId <= lastEventId;
+    }
+
+    private void add(CricsheetMatch match) {
+        CricsheetMatch.Info info = match.info();
+        List<CricsheetMatch.Innings> played = playedInnings(match);
+        String sideA = ReferenceData.teamKey(info.teams().get(0));
+        long teamA = id(reference.teams, sideA);
+        long teamB = id(reference.teams, ReferenceData.teamKey(info.teams().get(1)));
+        int overs = (info.overs() != null) ? info.overs() : played.stream().mapToInt(innings -> innings.overs().size()).max().orElse(0);
+
+        Long[] inningIds = new Long[2];
+        for (int i = 0; i < played.size(); i++) {
+            CricsheetMatch.Innings innings = played.get(i);
+            boolean sideABats = ReferenceData.teamKey(innings.team()).equals(sideA);
+            inningIds[i] = tables.inning.nextId(ids);
+            row(tables.inning, inningIds[i], overs, sideABats ? teamA : teamB, sideABats ? teamB : teamA);
+            for (int o = 0; o < innings.overs().size(); o++) {
+                long overId = tables.over.nextId(ids);
+                row(tables.over, overId);
+                row(tables.inningOvers, inningIds[i], o, overId);
+                List<CricsheetMatch.Delivery> deliveries = innings.overs().get(o).deliveries();
+                for (int b = 0; b < deliveries.size(); b++)
+                    addDelivery(overId, b, deliveries.get(b));
+            }
+        }
+
+        Long tossId = null;
+        CricsheetMatch.Toss toss = info.toss();
+        if (toss != null && toss.winner() != null) {
+            TeamSide winningSide = side(toss.winner(), sideA);
+            TeamSide otherSide = (winningSide == TeamSide.SIDE_A) ? TeamSide.SIDE_B : TeamSide.SIDE_A;
+            TeamSide battingSide = "bat".equalsIgnoreCase(toss.decision()) ? winningSide : otherSide;
+            tossId = tables.toss.nextId(ids);
+            row(tables.toss, tossId, winningSide.name(), battingSide.name(),
+                    (battingSide == winningSide) ? otherSide.name() : winningSide.name());
+        }
+
+        String winner = (info.outcome() == null) ? null : info.outcome().winner();
+        matchId = tables.match.nextId(ids);
+        row(tables.match, matchId,
+                (info.dates() == null || info.dates().isEmpty()) ? null : info.dates().get(0),
+                (info.venue() == null) ? null : id(reference.grounds, ReferenceData.groundKey(info.venue())),
+                teamA, teamB, tossId, inningIds[0], inningIds[1], overs,
+                // the winner is mapped by ordinal
+                (winner == null) ? null : side(winner, sideA).ordinal());
+    }
+
+    private void addDelivery(long overId, int index, CricsheetMatch.Delivery delivery) {
+        long eventId = tables.event.nextId(ids);
+        firstEventId = Math.min(firstEventId, eventId);
+        lastEventId = Math.max(lastEventId, eventId);
+        row(tables.event, eventId, null);
+
+        CricsheetMatch.Dismissal dismissal = dismissal(delivery);
+        CricsheetMatch.Extras extras = delivery.extras();
+        CricsheetMatch.Runs runs = delivery.runs();
+        if (dismissal != null) {
+            String fielder = fielder(dismissal, delivery);
+            row(tables.wicket, eventId, (fielder == null) ? null : player(fielder), DISMISSALS.get(dismissal.kind()).name());
+        }
+        else if (extras != null && extras.wides() > 0)
+            // the wide itself is counted by the extra, the score is what was run on top of it
+            row(tables.extra, eventId, ExtraType.WIDE.name(), scoreType(extras.wides() - 1).name());
+        else if (extras != null && extras.noballs() > 0)
+            row(tables.extra, eventId, ExtraType.NO_BALL.name(), scoreType((runs == null) ? 0 : runs.batter()).name());
+        else
+            row(tables.score, eventId, scoreType((runs == null) ? 0 : runs.total()).name());
+
+        long ballId = tables.ball.nextId(ids);
+        row(tables.ball, ballId, eventId, player(delivery.batter()), player(delivery.nonStriker()), player(delivery.bowler()));
+        row(tables.overBalls, overId, index, ballId);
+    }
+
+    private void row(HistoryTables.Table table, Object... values) {
+        rows.get(table).add(values);
+    }
+
+    private Long player(String name) {
+        return (name == null) ? null : id(reference.players, ReferenceData.playerKey(name));
+    }
+
+    private static long id(Map<String, Long> ids, String key) {
+        Long id = ids.get(key);
+        if (id == null)
+            throw new IllegalStateException(key + " has no id");
+        return id;
+    }
+
+    private static TeamSide side(String team, String sideA) {
+        return ReferenceData.teamKey(team).equals(sideA) ? TeamSide.SIDE_A : TeamSide.SIDE_B;
+    }
+
+    private static ScoreType scoreType(int runs) {
+        return switch (runs) {
+            case 0 -> ScoreType.NO_RUN;
+            case 1 -> ScoreType.SINGLE;
+            case 2 -> ScoreType.DOUBLE;
+            case 3 -> ScoreType.TRIPLE;
+            case 4, 5 -> ScoreType.FOUR;
+            default -> (runs < 0) ? ScoreType.NO_RUN : ScoreType.SIX;
+        };
+    }
+
+    // the first dismissal of the delivery the model has a wicket type for
+    private static CricsheetMatch.Dismissal dismissal(CricsheetMatch.Delivery delivery) {
+        if (delivery.wickets() == null)
+            return null;
+        for (CricsheetMatch.Dismissal dismissal : delivery.wickets())
+            if (DISMISSALS.containsKey(dismissal.kind()))
+                return dismissal;
+        return null;
+    }
+
+    private static String fielder(CricsheetMatch.Dismissal dismissal, CricsheetMatch.Delivery delivery) {
+        if ("caught and bowled".equals(dismissal.kind()))
+            return delivery.bowler();
+        if (dismissal.fielders() == null || dismissal.fielders().isEmpty())
+            return null;
+        return dismissal.fielders().get(0).name();
+    }
+
+    private static List<CricsheetMatch.Innings> playedInnings(CricsheetMatch match) {
+        return match.innings().stream().filter(innings -> !innings.superOver()).limit(2).toList();
+    }
+
+    private static void check(CricsheetMatch match) {
+        if (match.info() == null || match.info().teams() == null || match.info().teams().size() != 2)
+            throw new IllegalArgumentException("info.teams must name the two teams");
+        if (match.innings() == null || match.innings().isEmpty())
+            throw new IllegalArgumentException("the match has no innings");
+        Set<String> teams = Set.of(ReferenceData.teamKey(match.info().teams().get(0)), ReferenceData.teamKey(match.info().teams().get(1)));
+        for (CricsheetMatch.Innings innings : match.innings()) {
+            if (innings.team() == null || !teams.contains(ReferenceData.teamKey(innings.team())))
+                throw new IllegalArgumentException("innings of " + innings.team() + " is not by one of " + match.info().teams());
+            if (innings.overs() == null || innings.overs().stream().anyMatch(over -> over.deliveries() == null))
+                throw new IllegalArgumentException("innings of " + innings.team() + " has an over without deliveries");
+            for (CricsheetMatch.Over over : innings.overs())
+                for (CricsheetMatch.Delivery delivery : over.deliveries())
+                    if (delivery.batter() == null || delivery.nonStriker() == null || delivery.bowler() == null)
+                        throw new IllegalArgumentException("a delivery of over " + over.over() + " of " + innings.team()
+                                + " does not name its batter, non striker and bowler");
+        }
+    }
+}
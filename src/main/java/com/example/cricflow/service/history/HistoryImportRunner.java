@@ -0,0 +1,41 @@
+package com.example.cricflow.service.history;
+
+import com.example.cricflow.model.history.HistoryImportReport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * Imports the Cricsheet files of {@code cricflow.history.directory} once the application has started, running
+ * it again with the same directory imports only the files that are not in yet.
+ */
+@Component
+@ConditionalOnProperty("cricflow.history.directory")
+public class HistoryImportRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(HistoryImportRunner.class);
+
+    private final HistoryImportService historyImportService;
+    private final Path directory;
+
+    public HistoryImportRunner(HistoryImportService historyImportService, @Value("${cricflow.history.directory}") Path directory) {
+        this.historyImportService = historyImportService;
+        this.directory = directory;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        HistoryImportReport report = historyImportService.importDirectory(directory);
+        log.info("Imported {} of {} files from {} ({} already imported), {} rows in {} ms, {} rows/sec with {}",
+                report.filesImported(), report.filesFound(), directory, report.filesSkipped(), report.rowsWritten(),
+                report.elapsedMillis(), Math.round(report.rowsPerSecond()), report.loader());
+        for (HistoryImportReport.FileError failure : report.failures())
+            log.warn("{} was not imported: {}", failure.file(), failure.message());
+    }
+}
@@ -0,0 +1,330 @@
+package com.example.cricflow.service.history;
+
+import com.example.cricflow.exception.validator.GroundFieldsException;
+import com.example.cricflow.exception.validator.TeamFieldsException;
+import com.example.cricflow.model.Ground;
+import com.example.cricflow.model.HistoryImportFile;
+import com.example.cricflow.model.Player;
+import com.example.cricflow.model.Team;
+import com.example.cricflow.model.history.CricsheetMatch;
+import com.example.cricflow.model.history.HistoryImportReport;
+import com.example.cricflow.repository.GroundRepo;
+import com.example.cricflow.repository.HistoryImportFileRepo;
+import com.example.cricflow.repository.PlayerRepo;
+import com.example.cricflow.repository.TeamRepo;
+import com.example.cricflow.service.PlayerStatsService;
+import com.example.cricflow.service.ScorecardService;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.hibernate.Session;
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+/**
+ * Imports a directory of Cricsheet ball by ball files, JSON or the same structure in YAML, as matches. The files
+ * are read and written by the workers side by side, each one in a transaction of its own that also records the
+ * file as imported, so an import that is stopped halfway is resumed by running it again: the files already
+ * imported are skipped, a file that was cut short was rolled back whole and is imported again.
+ * <p>
+ * Grounds, teams and players are resolved by name in memory. Names seen for the first time are written before
+ * the match, in a transaction of their own, players with the attributes the files do not have set to defaults.
+ * Ground and team names are upper cased and checked the way the ground and team services check them, a file with
+ * a name they would refuse is not imported. The rows of a match skip the entities and are written table by table,
+ * copied in on postgres and inserted in JDBC batches anywhere else, with ids taken from the generators of the
+ * entities. The career stats of the players and the scorecards are counted again once the files are in.
+ */
+@Service
+public class HistoryImportService {
+
+    private final EntityManager entityManager;
+    private final SessionFactoryImplementor sessionFactory;
+    private final TransactionTemplate transactionTemplate;
+    private final GroundRepo groundRepo;
+    private final TeamRepo teamRepo;
+    private final PlayerRepo playerRepo;
+    private final HistoryImportFileRepo historyImportFileRepo;
+    private final PlayerStatsService playerStatsService;
+    private final ScorecardService scorecardService;
+    private final Validator validator;
+    private final ObjectReader jsonReader;
+    private final ObjectReader yamlReader;
+    private final HistoryTables tables;
+    private final ExecutorService executor;
+
+    public HistoryImportService(EntityManager entityManager, EntityManagerFactory entityManagerFactory,
+                                PlatformTransactionManager transactionManager, ObjectMapper objectMapper,
+                                GroundRepo groundRepo, TeamRepo teamRepo, PlayerRepo playerRepo,
+                                HistoryImportFileRepo historyImportFileRepo, PlayerStatsService playerStatsService,
+                                ScorecardService scorecardService,
+                                @Value("${cricflow.history.workers:4}") int workers) {
+        this.entityManager = entityManager;
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.groundRepo = groundRepo;
+        this.teamRepo = teamRepo;
+        this.playerRepo = playerRepo;
+        this.historyImportFileRepo = historyImportFileRepo;
+        this.playerStatsService = playerStatsService;
+        this.scorecardService = scorecardService;
+        ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
+        this.validator = factory.getValidator();
+        this.jsonReader = objectMapper.readerFor(CricsheetMatch.class);
+        this.yamlReader = YAMLMapper.builder().findAndAddModules()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES).build()
+                .readerFor(CricsheetMatch.class);
+        this.tables = new HistoryTables(sessionFactory.getMappingMetamodel());
+        this.executor = Executors.newFixedThreadPool(workers);
+    }
+
+    public HistoryImportReport importDirectory(Path directory) throws IOException {
+        if (!tables.joinedEvents)
+            throw new IllegalStateException("ball events are written to their joined tables, historical matches "
+                    + "can not be imported with the compact-events profile");
+        List<Path> files;
+        try (Stream<Path> listed = Files.list(directory)) {
+            files = listed.filter(Files::isRegularFile).filter(HistoryImportService::isCricsheetFile).sorted().toList();
+        }
+
+        long start = System.nanoTime();
+        RowLoader loader = transactionTemplate.execute(status -> session().doReturningWork(RowLoader::of));
+        Set<String> imported = ConcurrentHashMap.newKeySet();
+        imported.addAll(historyImportFileRepo.findAllSha256());
+        ReferenceData reference = new ReferenceData(groundRepo.findAllNames(), teamRepo.findAllNames(), playerRepo.findAllNames());
+
+        List<Future<FileResult>> results = new ArrayList<>(files.size());
+        for (Path file : files)
+            results.add(executor.submit(() -> importFile(file, loader, reference, imported)));
+
+        int filesImported = 0;
+        int filesSkipped = 0;
+        long rowsWritten = 0;
+        List<HistoryImportReport.FileError> failures = new ArrayList<>();
+        for (int i = 0; i < results.size(); i++) {
+            FileResult result = result(files.get(i), results.get(i));
+            rowsWritten += result.rows();
+            if (result.failure() != null)
+                failures.add(new HistoryImportReport.FileError(files.get(i).getFileName().toString(), result.failure()));
+            else if (result.skipped())
+                filesSkipped++;
+            else
+                filesImported++;
+        }
+        long elapsed = System.nanoTime() - start;
+        // career stats and scorecards are counted from the balls, the balls of the imported matches did not pass
+        // through them nor through the journal, so the scorecards are read from the database and checkpointed
+        if (filesImported > 0) {
+            playerStatsService.rebuildPlayerStats();
+            scorecardService.rebuildScorecards();
+        }
+        return new HistoryImportReport(files.size(), filesImported, filesSkipped, failures, rowsWritten,
+                elapsed / 1_000_000, (elapsed == 0) ? 0 : rowsWritten / (elapsed / 1e9), loader.name());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private FileResult importFile(Path file, RowLoader loader, ReferenceData reference, Set<String> imported) {
+        byte[] content;
+        try {
+            content = Files.readAllBytes(file);
+        }
+        catch (IOException e) {
+            return new FileResult(false, 0, "could not be read: " + e.getMessage());
+        }
+        // the same content under another name, in this run or an earlier one, is the same match
+        String sha256 = sha256(content);
+        if (!imported.add(sha256))
+            return new FileResult(true, 0, null);
+
+        long rows = 0;
+        try {
+            CricsheetMatch match = readerFor(file).readValue(content);
+            ReferenceData.Missing missing = CricsheetRows.missingNames(match, reference);
+            if (!missing.isEmpty())
+                rows += writeMissing(missing, reference, loader);
+            rows += transactionTemplate.execute(status -> writeMatch(file, sha256, match, reference, loader));
+            return new FileResult(false, rows, null);
+        }
+        catch (IOException e) {
+            imported.remove(sha256);
+            return new FileResult(false, rows, "could not be read: " + e.getMessage());
+        }
+        catch (RuntimeException e) {
+            // the match rolled back, the file is imported again by the next run
+            imported.remove(sha256);
+            return new FileResult(false, rows, message(e));
+        }
+    }
+
+    private long writeMatch(Path file, String sha256, CricsheetMatch match, ReferenceData reference, RowLoader loader) {
+        long[] matchId = new long[1];
+        long rows = session().doReturningWork(connection -> {
+            CricsheetRows matchRows;
+            try (StatelessSession ids = openIdSession(connection)) {
+                matchRows = CricsheetRows.of(match, tables, reference, (SharedSessionContractImplementor) ids);
+            }
+            long written = 0;
+            for (Map.Entry<HistoryTables.Table, List<Object[]>> table : matchRows.rows().entrySet())
+                written += loader.load(connection, table.getKey(), table.getValue());
+            if (matchRows.hasEvents())
+                try (PreparedStatement link = connection.prepareStatement(tables.linkEventsToBalls)) {
+                    link.setLong(1, matchRows.firstEventId());
+                    link.setLong(2, matchRows.lastEventId());
+                    link.executeUpdate();
+                }
+            matchId[0] = matchRows.matchId();
+            return written;
+        });
+        historyImportFileRepo.save(HistoryImportFile.builder().sha256(sha256).fileName(file.getFileName().toString())
+                .matchId(matchId[0]).rowsWritten(rows).importedAt(Instant.now()).build());
+        return rows;
+    }
+
+    // one worker at a time creates names, so a name two files share is only written once
+    private long writeMissing(ReferenceData.Missing missing, ReferenceData reference, RowLoader loader) {
+        reference.lock.lock();
+        try {
+            List<String> grounds = missing.grounds().stream().filter(name -> !reference.grounds.containsKey(name)).sorted().toList();
+            List<String> teams = missing.teams().stream().filter(name -> !reference.teams.containsKey(name)).sorted().toList();
+            List<String> players = missing.players().stream().filter(name -> !reference.players.containsKey(name)).sorted().toList();
+            if (grounds.isEmpty() && teams.isEmpty() && players.isEmpty())
+                return 0;
+            grounds.forEach(this::validateGround);
+            teams.forEach(this::validateTeam);
+
+            Map<String, Long> groundIds = new ConcurrentHashMap<>();
+            Map<String, Long> teamIds = new ConcurrentHashMap<>();
+            Map<String, Long> playerIds = new ConcurrentHashMap<>();
+            long rows = transactionTemplate.execute(status -> session().doReturningWork(connection -> {
+                List<Object[]> groundRows = new ArrayList<>();
+                List<Object[]> teamRows = new ArrayList<>();
+                List<Object[]> playerRows = new ArrayList<>();
+                try (StatelessSession ids = openIdSession(connection)) {
+                    SharedSessionContractImplementor session = (SharedSessionContractImplementor) ids;
+                    for (String ground : grounds)
+                        groundRows.add(new Object[]{put(groundIds, ground, tables.ground.nextId(session)), ground});
+                    for (String team : teams)
+                        teamRows.add(new Object[]{put(teamIds, team, tables.team.nextId(session)), team});
+                    for (String player : players) {
+                        String[] name = ReferenceData.playerName(player);
+                        playerRows.add(new Object[]{put(playerIds, player, tables.player.nextId(session)), name[0], name[1],
+                                Player.PlayerType.ALL_ROUNDER.name(), Player.BattingStyle.RIGHT_HANDED.name(),
+                                Player.BowlingStyle.RIGHT_ARM_FAST_BOWLER.name()});
+                    }
+                }
+                return loader.load(connection, tables.ground, groundRows) + loader.load(connection, tables.team, teamRows)
+                        + loader.load(connection, tables.player, playerRows);
+            }));
+            reference.grounds.putAll(groundIds);
+            reference.teams.putAll(teamIds);
+            reference.players.putAll(playerIds);
+            // the rows were not written through hibernate, cached lookups by name would still miss them
+            sessionFactory.getCache().evictQueryRegions();
+            return rows;
+        }
+        finally {
+            reference.lock.unlock();
+        }
+    }
+
+    private void validateGround(String groundName) {
+        Set<ConstraintViolation<Ground>> violations = validator.validate(new Ground(null, groundName));
+        if (!violations.isEmpty())
+            throw new GroundFieldsException(violations.stream().map(ConstraintViolation::getMessage).toList());
+    }
+
+    private void validateTeam(String teamName) {
+        Set<ConstraintViolation<Team>> violations = validator.validate(Team.builder().teamName(teamName).build());
+        if (!violations.isEmpty())
+            throw new TeamFieldsException(violations.stream().map(ConstraintViolation::getMessage).toList());
+    }
+
+    private Session session() {
+        return entityManager.unwrap(Session.class);
+    }
+
+    // ids are taken on the connection of the transaction, not on one more from the pool
+    private StatelessSession openIdSession(Connection connection) {
+        return sessionFactory.withStatelessOptions().connection(connection).openStatelessSession();
+    }
+
+    private ObjectReader readerFor(Path file) {
+        return file.getFileName().toString().endsWith(".json") ? jsonReader : yamlReader;
+    }
+
+    private static FileResult result(Path file, Future<FileResult> result) {
+        try {
+            return result.get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new FileResult(false, 0, "import was interrupted before " + file.getFileName());
+        }
+        catch (ExecutionException e) {
+            return new FileResult(false, 0, message(e.getCause()));
+        }
+    }
+
+    private static String message(Throwable e) {
+        return (e.getMessage() == null) ? e.toString() : e.getMessage();
+    }
+
+    private static boolean isCricsheetFile(Path file) {
+        String name = file.getFileName().toString();
+        return name.endsWith(".json") || name.endsWith(".yaml") || name.endsWith(".yml");
+    }
+
+    private static Long put(Map<String, Long> ids, String key, long id) {
+        ids.put(key, id);
+        return id;
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record FileResult(boolean skipped, long rows, String failure) {
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.cricflow.service.history;
+
+import com.example.cricflow.model.Ball;
+import com.example.cricflow.model.BallEvent;
+import com.example.cricflow.model.Ground;
+import com.example.cricflow.model.Inning;
+import com.example.cricflow.model.Match;
+import com.example.cricflow.model.Over;
+import com.example.cricflow.model.Player;
+import com.example.cricflow.model.Team;
+import com.example.cricflow.model.Toss;
+import com.example.cricflow.model.event.Extra;
+import com.example.cricflow.model.event.Score;
+import com.example.cricflow.model.event.Wicket;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.metamodel.MappingMetamodel;
+import org.hibernate.persister.collection.AbstractCollectionPersister;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.JoinedSubclassEntityPersister;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tables and columns a historical match is written to, as hibernate maps them. The names are read from the
+ * mapping, not written out, so they follow the naming strategy in use, and the ids come from the same
+ * generators hibernate uses, so rows written here and entities saved by the application never share an id.
+ */
+final class HistoryTables {
+
+    final Table ground;
+    final Table team;
+    final Table player;
+    final Table inning;
+    final Table over;
+    final Table inningOvers;
+    final Table event;
+    final Table score;
+    final Table extra;
+    final Table wicket;
+    final Table ball;
+    final Table overBalls;
+    final Table toss;
+    final Table match;
+    // order the tables of a match are written in, every row only references rows written before it
+    final List<Table> matchTables;
+    // the ball and its event reference each other, events are written without their ball and linked afterwards
+    final String linkEventsToBalls;
+    final boolean joinedEvents;
+
+    HistoryTables(MappingMetamodel metamodel) {
+        ground = entity(metamodel, Ground.class, "groundName");
+        team = entity(metamodel, Team.class, "teamName");
+        player = entity(metamodel, Player.class, "firstName", "lastName", "playerType", "battingStyle", "bowlingStyle");
+        inning = entity(metamodel, Inning.class, "numberOfOvers", "battingSide", "bowlingSide");
+        over = entity(metamodel, Over.class);
+        inningOvers = collection(metamodel, Inning.class.getName() + ".overs");
+        event = entity(metamodel, BallEvent.class, "ball");
+        score = entity(metamodel, Score.class, "scoreType");
+        extra = entity(metamodel, Extra.class, "extraType", "scoreType");
+        wicket = entity(metamodel, Wicket.class, "fielder", "wicketType");
+        ball = entity(metamodel, Ball.class, "ballEvent", "striker", "nonStriker", "bowler");
+        overBalls = collection(metamodel, Over.class.getName() + ".balls");
+        toss = entity(metamodel, Toss.class, "winningSide", "battingSide", "bowlingSide");
+        match = entity(metamodel, Match.class, "matchDate", "ground", "teamA", "teamB", "toss", "firstInnings",
+                "secondInnings", "noOfOvers", "winner");
+        matchTables = List.of(inning, over, inningOvers, event, score, extra, wicket, ball, overBalls, toss, match);
+
+        String eventId = event.columns().get(0);
+        String eventBall = event.columns().get(1);
+        linkEventsToBalls = "update " + event.name() + " set " + eventBall + " = (select b." + ball.columns().get(0)
+                + " from " + ball.name() + " b where b." + ball.columns().get(1) + " = " + event.name() + "." + eventId + ")"
+                + " where " + eventId + " between ? and ? and " + eventBall + " is null";
+        joinedEvents = metamodel.getEntityDescriptor(Score.class) instanceof JoinedSubclassEntityPersister;
+    }
+
+    private static Table entity(MappingMetamodel metamodel, Class<?> type, String... properties) {
+        AbstractEntityPersister persister = (AbstractEntityPersister) metamodel.getEntityDescriptor(type);
+        List<String> columns = new ArrayList<>();
+        // a joined subclass is keyed by its own column, the one that references the row of its parent
+        columns.add(persister.getIdentifierColumnNames()[0]);
+        for (String property : properties)
+            columns.add(persister.getPropertyColumnNames(property)[0]);
+        return new Table(persister.getTableName(), columns, (BeforeExecutionGenerator) persister.getGenerator());
+    }
+
+    private static Table collection(MappingMetamodel metamodel, String role) {
+        AbstractCollectionPersister persister = (AbstractCollectionPersister) metamodel.getCollectionDescriptor(role);
+        return new Table(persister.getTableName(), List.of(persister.getKeyColumnNames()[0],
+                persister.getIndexColumnNames()[0], persister.getElementColumnNames()[0]), null);
+    }
+
+    /**
+     * A table with the columns written to it, the first one the id when the table is that of an entity.
+     */
+    record Table(String name, List<String> columns, BeforeExecutionGenerator generator) {
+
+        long nextId(SharedSessionContractImplementor session) {
+            return ((Number) generator.generate(session, null, null, EventType.INSERT)).longValue();
+        }
+
+        String columnList() {
+            return String.join(", ", columns);
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.cricflow.service.history;
+
+import com.example.cricflow.model.projection.NamedId;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Ids of grounds, teams and players by the names a Cricsheet file refers to them by, read once before an import
+ * and shared by the workers, so a name is resolved in memory instead of with a query a delivery.
+ * <p>
+ * Grounds and teams are kept by their names in upper case, the way the application stores them, players by
+ * first and last name, split at the last space of the full name.
+ */
+final class ReferenceData {
+
+    // the length of the ground name column
+    static final int GROUND_NAME_LENGTH = 30;
+
+    final Map<String, Long> grounds = new ConcurrentHashMap<>();
+    final Map<String, Long> teams = new ConcurrentHashMap<>();
+    final Map<String, Long> players = new ConcurrentHashMap<>();
+    // held by the worker writing the names a file is missing
+    final ReentrantLock lock = new ReentrantLock();
+
+    ReferenceData(List<NamedId> grounds, List<NamedId> teams, List<NamedId> players) {
+        // names are not unique for grounds and players, the first one is kept
+        grounds.forEach(ground -> this.grounds.putIfAbsent(ground.name(), ground.id()));
+        teams.forEach(team -> this.teams.putIfAbsent(team.name(), team.id()));
+        players.forEach(player -> this.players.putIfAbsent(player.name(), player.id()));
+    }
+
+    static String groundKey(String venue) {
+        String name = venue.trim().toUpperCase();
+        return (name.length() > GROUND_NAME_LENGTH) ? name.substring(0, GROUND_NAME_LENGTH).trim() : name;
+    }
+
+    static String teamKey(String team) {
+        return team.trim().toUpperCase();
+    }
+
+    static String playerKey(String player) {
+        String[] name = playerName(player);
+        return name[0] + " " + name[1];
+    }
+
+    // first and last name, a player known by one name only has an empty first name
+    static String[] playerName(String player) {
+        String name = player.trim();
+        int space = name.lastIndexOf(' ');
+        return (space < 0) ? new String[]{"", name} : new String[]{name.substring(0, space).trim(), name.substring(space + 1)};
+    }
+
+    /**
+     * Names of a file, as keys, that have no id yet.
+     */
+    record Missing(Set<String> grounds, Set<String> teams, Set<String> players) {
+
+        boolean isEmpty() {
+            return grounds.isEmpty() && teams.isEmpty() && players.isEmpty();
+        }
+    }
+}
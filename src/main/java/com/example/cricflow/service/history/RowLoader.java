@@ -0,0 +1,107 @@
+package com.example.cricflow.service.history;
+
+import org.postgresql.PGConnection;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Writes rows straight to a table, on the connection of the transaction they belong to. On postgres the rows
+ * are copied in, one {@code COPY} a table, on any other database they are inserted in JDBC batches.
+ */
+abstract class RowLoader {
+
+    static final String COPY = "postgres-copy";
+    static final String BATCH = "jdbc-batch";
+
+    private static final int BATCH_SIZE = 500;
+
+    static RowLoader of(Connection connection) throws SQLException {
+        return connection.isWrapperFor(PGConnection.class) ? new Copy() : new Batch();
+    }
+
+    abstract String name();
+
+    abstract long load(Connection connection, HistoryTables.Table table, List<Object[]> rows) throws SQLException;
+
+    private static final class Copy extends RowLoader {
+
+        @Override
+        String name() {
+            return COPY;
+        }
+
+        @Override
+        long load(Connection connection, HistoryTables.Table table, List<Object[]> rows) throws SQLException {
+            if (rows.isEmpty())
+                return 0;
+            StringBuilder csv = new StringBuilder(rows.size() * 16 * table.columns().size());
+            for (Object[] row : rows) {
+                for (int i = 0; i < row.length; i++) {
+                    if (i > 0)
+                        csv.append(',');
+                    appendCsv(csv, row[i]);
+                }
+                csv.append('\n');
+            }
+            String sql = "COPY " + table.name() + " (" + table.columnList() + ") FROM STDIN (FORMAT csv)";
+            try {
+                return connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql, new StringReader(csv.toString()));
+            }
+            catch (IOException e) {
+                throw new SQLException("rows could not be copied into " + table, e);
+            }
+        }
+
+        // an unquoted empty field is a null, text is always quoted so an empty name stays an empty name
+        private static void appendCsv(StringBuilder csv, Object value) {
+            if (value == null)
+                return;
+            if (value instanceof String text) {
+                csv.append('"');
+                for (int i = 0; i < text.length(); i++) {
+                    char c = text.charAt(i);
+                    if (c == '"')
+                        csv.append('"');
+                    csv.append(c);
+                }
+                csv.append('"');
+            }
+            else
+                csv.append(value);
+        }
+    }
+
+    private static final class Batch extends RowLoader {
+
+        @Override
+        String name() {
+            return BATCH;
+        }
+
+        @Override
+        long load(Connection connection, HistoryTables.Table table, List<Object[]> rows) throws SQLException {
+            if (rows.isEmpty())
+                return 0;
+            String sql = "insert into " + table.name() + " (" + table.columnList() + ") values ("
+                    + "?, ".repeat(table.columns().size() - 1) + "?)";
+            try (PreparedStatement insert = connection.prepareStatement(sql)) {
+                for (int row = 0; row < rows.size(); row++) {
+                    Object[] values = rows.get(row);
+                    for (int i = 0; i < values.length; i++)
+                        insert.setObject(i + 1, values[i]);
+                    insert.addBatch();
+                    if ((row + 1) % BATCH_SIZE == 0)
+                        insert.executeBatch();
+                }
+                if (rows.size() % BATCH_SIZE != 0)
+                    insert.executeBatch();
+            }
+            return rows.size();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+-- Moves the ball events of an existing PostgreSQL database from the joined score, extra and wicket tables
+-- into the single ball_event table used by the "compact-events" profile. Run once, with the application
+-- stopped, before starting it with that profile. Everything happens in one transaction.
+begin;
+
+alter table ball_event
+    add column event_type varchar(8),
+    add column score_type varchar(255),
+    add column extra_type varchar(255),
+    add column wicket_type varchar(255),
+    add column fielder_id bigint references player (player_id);
+
+update ball_event e
+set event_type = 'SCORE', score_type = s.score_type
+from score s
+where s.score_id = e.event_id;
+
+update ball_event e
+set event_type = 'EXTRA', score_type = x.score_type, extra_type = x.extra_type
+from extra x
+where x.extra_id = e.event_id;
+
+update ball_event e
+set event_type = 'WICKET', wicket_type = w.wicket_type, fielder_id = w.fielder_id
+from wicket w
+where w.wicket_id = e.event_id;
+
+-- an event without a subclass row would not load in either layout
+do $$
+begin
+    if exists (select 1 from ball_event where event_type is null) then
+        raise exception 'ball_event rows without a score, extra or wicket row';
+    end if;
+end $$;
+
+alter table ball_event alter column event_type set not null;
+
+drop table score;
+drop table extra;
+drop table wicket;
+
+commit;
@@ -0,0 +1,94 @@
+package com.example.cricflow.benchmark;
+
+import com.example.cricflow.model.Ball;
+import com.example.cricflow.model.Inning;
+import com.example.cricflow.model.Player;
+import com.example.cricflow.model.event.Extra;
+import com.example.cricflow.model.event.Score;
+import com.example.cricflow.model.event.Wicket;
+import com.example.cricflow.model.literal.ExtraType;
+import com.example.cricflow.model.literal.ScoreType;
+import com.example.cricflow.model.literal.WicketType;
+import com.example.cricflow.repository.BallRepo;
+import com.example.cricflow.repository.InningRepo;
+import com.example.cricflow.repository.PlayerRepo;
+import com.example.cricflow.service.BallService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.cricflow.support.BallStubs.ball;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Writes and reads the same overs with one ball event layout, the subclasses pick the layout.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@DirtiesContext
+public abstract class BallEventStorageBenchmark {
+
+    private static final int WARMUP_OVERS = 200;
+    private static final int MEASURED_OVERS = 1_000;
+    private static final int READS = 5;
+
+    @Autowired private BallService ballService;
+    @Autowired private PlayerRepo playerRepo;
+    @Autowired private InningRepo inningRepo;
+    @Autowired private BallRepo ballRepo;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    abstract String layout();
+
+    @DisplayName("Benchmark for writing and reading balls with one ball event layout")
+    @Test
+    public void writeAndReadOvers_reportBallsPerSecond() {
+        Player batter = playerRepo.save(new Player(null, "Ali", "Haris", Player.PlayerType.BATSMAN, Player.BattingStyle.RIGHT_HANDED, Player.BowlingStyle.RIGHT_ARM_LEG_SPINNER, null));
+        Player runner = playerRepo.save(new Player(null, "Abdul", "Sami", Player.PlayerType.BATSMAN, Player.BattingStyle.RIGHT_HANDED, Player.BowlingStyle.RIGHT_ARM_LEG_SPINNER, null));
+        Player bowler = playerRepo.save(new Player(null, "Tauha", "Kashif", Player.PlayerType.BOWLER, Player.BattingStyle.RIGHT_HANDED, Player.BowlingStyle.RIGHT_ARM_FAST_BOWLER, null));
+
+        for (int i = 0; i < WARMUP_OVERS; i++)
+            ballService.addOverToInning(newInning(), over(batter, runner, bowler));
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_OVERS; i++)
+            ballService.addOverToInning(newInning(), over(batter, runner, bowler));
+        long writeElapsed = System.nanoTime() - start;
+        long written = (long) MEASURED_OVERS * 6;
+        System.out.printf("BALL EVENTS %s WRITE: %d balls in %.1f ms, %.0f balls/sec%n",
+                layout(), written, writeElapsed / 1e6, written / (writeElapsed / 1e9));
+
+        // every read is a fresh persistence context, so the events really come from the database
+        int read = 0;
+        start = System.nanoTime();
+        for (int i = 0; i < READS; i++)
+            read += transactionTemplate.execute(status -> ballRepo.findAll().size());
+        long readElapsed = System.nanoTime() - start;
+        System.out.printf("BALL EVENTS %s READ: %d balls in %.1f ms, %.0f balls/sec%n",
+                layout(), read, readElapsed / 1e6, read / (readElapsed / 1e9));
+
+        assertThat(read).isEqualTo(READS * (WARMUP_OVERS + MEASURED_OVERS) * 6);
+    }
+
+    private Long newInning() {
+        return inningRepo.save(Inning.builder().numberOfOvers(20).overs(new ArrayList<>()).build()).getInningId();
+    }
+
+    private List<Ball> over(Player batter, Player runner, Player bowler) {
+        List<Ball> balls = new ArrayList<>();
+        balls.add(ball(Score.builder().scoreType(ScoreType.SINGLE).build(), batter.getPlayerId(), runner.getPlayerId(), bowler.getPlayerId()));
+        balls.add(ball(Score.builder().scoreType(ScoreType.FOUR).build(), runner.getPlayerId(), batter.getPlayerId(), bowler.getPlayerId()));
+        balls.add(ball(Extra.builder().extraType(ExtraType.WIDE).scoreType(ScoreType.NO_RUN).build(), runner.getPlayerId(), batter.getPlayerId(), bowler.getPlayerId()));
+        balls.add(ball(Score.builder().scoreType(ScoreType.NO_RUN).build(), runner.getPlayerId(), batter.getPlayerId(), bowler.getPlayerId()));
+        balls.add(ball(Wicket.builder().wicketType(WicketType.CAUGHT).fielder(Player.builder().playerId(bowler.getPlayerId()).build()).build(), runner.getPlayerId(), batter.getPlayerId(), bowler.getPlayerId()));
+        balls.add(ball(Score.builder().scoreType(ScoreType.SIX).build(), batter.getPlayerId(), runner.getPlayerId(), bowler.getPlayerId()));
+        return balls;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.cricflow.benchmark;
+
+import com.example.cricflow.model.Ball;
+import com.example.cricflow.model.Inning;
+import com.example.cricflow.model.Player;
+import com.example.cricflow.model.event.Extra;
+import com.example.cricflow.model.event.Score;
+import com.example.cricflow.model.event.Wicket;
+import com.example.cricflow.model.literal.ExtraType;
+import com.example.cricflow.model.literal.ScoreType;
+import com.example.cricflow.model.literal.WicketType;
+import com.example.cricflow.repository.BallRepo;
+import com.example.cricflow.repository.InningRepo;
+import com.example.cricflow.repository.PlayerRepo;
+import com.example.cricflow.service.BallService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.cricflow.support.BallStubs.ball;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// run with: mvn test -Pbenchmark
+@Tag("benchmark")
+@SpringBootTest
+@DirtiesContext
+public class BallIngestionBenchmark {
+
+    private static final int WARMUP_OVERS = 200;
+    private static final int MEASURED_OVERS = 2_000;
+    private static final int BALLS_PER_OVER = 6;
+
+    @Autowired private BallService ballService;
+    @Autowired private PlayerRepo playerRepo;
+    @Autowired private InningRepo inningRepo;
+    @Autowired private BallRepo ballRepo;
+
+    @DisplayName("Benchmark for ingesting overs through the batched ball service")
+    @Test
+    public void ingestOvers_reportBallsPerSecond() {
+        Player batter = playerRepo.save(new Player(null, "Ali", "Haris", Player.PlayerType.BATSMAN, Player.BattingStyle.RIGHT_HANDED, Player.BowlingStyle.RIGHT_ARM_LEG_SPINNER, null));
+        Player runner = playerRepo.save(new Player(null, "Abdul", "Sami", Player.PlayerType.BATSMAN, Player.BattingStyle.RIGHT_HANDED, Player.BowlingStyle.RIGHT_ARM_LEG_SPINNER, null));
+        Player bowler = playerRepo.save(new Player(null, "Tauha", "Kashif", Player.PlayerType.BOWLER, Player.BattingStyle.RIGHT_HANDED, Player.BowlingStyle.RIGHT_ARM_FAST_BOWLER, null));
+
+        // one inning per over keeps the eagerly loaded inning small, so the numbers measure the inserts
+        for (int i = 0; i < WARMUP_OVERS; i++)
+            ballService.addOverToInning(newInning(), over(batter, runner, bowler));
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_OVERS; i++)
+            ballService.addOverToInning(newInning(), over(batter, runner, bowler));
+        long elapsed = System.nanoTime() - start;
+
+        long balls = (long) MEASURED_OVERS * BALLS_PER_OVER;
+        System.out.printf("BALL INGESTION: %d balls in %.1f ms, %.0f balls/sec%n",
+                balls, elapsed / 1e6, balls / (elapsed / 1e9));
+        assertThat(ballRepo.count()).isEqualTo((long) (WARMUP_OVERS + MEASURED_OVERS) * BALLS_PER_OVER);
+    }
+
+    private Long newInning() {
+        return inningRepo.save(Inning.builder().numberOfOvers(20).overs(new ArrayList<>()).build()).getInningId();
+    }
+
+    private List<Ball> over(Player batter, Player runner, Player bowler) {
+        List<Ball> balls = new ArrayList<>();
+        balls.add(ball(Score.builder().scoreType(ScoreType.SINGLE).build(), batter.getPlayerId(), runner.getPlayerId(), bowler.getPlayerId()));
+        balls.add(ball(Score.builder().scoreType(ScoreType.FOUR).build(), runner.getPlayerId(), batter.getPlayerId(), bowler.getPlayerId()));
+        balls.add(ball(Extra.builder().extraType(ExtraType.WIDE).scoreType(ScoreType.NO_RUN).build(), runner.getPlayerId(), batter.getPlayerId(), bowler.getPlayerId()));
+        balls.add(ball(Score.builder().scoreType(ScoreType.NO_RUN).build(), runner.getPlayerId(), batter.getPlayerId(), bowler.getPlayerId()));
+        balls.add(ball(Score.builder().scoreType(ScoreType.SIX).build(), runner.getPlayerId(), batter.getPlayerId(), bowler.getPlayerId()));
+        balls.add(ball(Wicket.builder().wicketType(WicketType.BOWLED).build(), runner.getPlayerId(), batter.getPlayerId(), bowler.getPlayerId()));
+        return balls;
+    }
+}
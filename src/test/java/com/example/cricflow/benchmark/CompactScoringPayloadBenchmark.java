@@ -0,0 +1,79 @@
+package com.example.cricflow.benchmark;
+
+import com.example.cricflow.model.Ball;
+import com.example.cricflow.model.Player;
+import com.example.cricflow.model.event.Extra;
+import com.example.cricflow.model.event.Score;
+import com.example.cricflow.model.event.Wicket;
+import com.example.cricflow.model.literal.ExtraType;
+import com.example.cricflow.model.literal.ScoreType;
+import com.example.cricflow.model.literal.WicketType;
+import com.example.cricflow.model.live.CompactDelivery;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.cricflow.support.BallStubs.ball;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// run with: mvn test -Pbenchmark -Dtest=CompactScoringPayloadBenchmark
+//   -Dovers.count=20                    overs sent, one request each
+// the full balls carry the three players as the player stubs a scorer device sends, the compact deliveries only
+// name the openers and the bowler of every over
+@Tag("benchmark")
+public class CompactScoringPayloadBenchmark {
+
+    private static final long BATTER = 1, RUNNER = 2, BOWLER = 3, FIELDER = 4;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @DisplayName("Benchmark for the request body of an over sent as full balls and as compact deliveries, in bytes per delivery")
+    @Test
+    public void scoreOvers_reportBytesPerDeliveryOfBothModes() throws Exception {
+        int overs = Integer.getInteger("overs.count", 20);
+        long fullBytes = 0, compactBytes = 0, deliveries = 0;
+        for (int over = 0; over < overs; over++) {
+            List<Ball> balls = new ArrayList<>();
+            List<CompactDelivery> compact = new ArrayList<>();
+            bowlOver(over, balls, compact);
+            fullBytes += objectMapper.writeValueAsBytes(balls).length;
+            compactBytes += objectMapper.writeValueAsBytes(compact).length;
+            deliveries += balls.size();
+        }
+
+        System.out.printf("COMPACT SCORING: %d deliveries, %.1f bytes per full ball, %.1f bytes per compact delivery, %.1fx smaller%n",
+                deliveries, (double) fullBytes / deliveries, (double) compactBytes / deliveries, (double) fullBytes / compactBytes);
+        assertThat(compactBytes * 5).isLessThan(fullBytes);
+    }
+
+    // a wide, a wicket caught on the last ball every other over and dots and singles otherwise, the bowler is named on the first ball
+    private static void bowlOver(int over, List<Ball> balls, List<CompactDelivery> compact) {
+        for (int ball = 0; ball < 7; ball++) {
+            Long bowlerId = (ball == 0) ? BOWLER + over : null;
+            Long strikerId = (over == 0 && ball == 0) ? BATTER : null;
+            Long nonStrikerId = null;
+            if (ball == 0 && over == 0)
+                nonStrikerId = RUNNER;
+            // the wicket falls on the last ball, so the batter coming in is named at the non striker's end next over
+            else if (ball == 0 && over % 2 == 0)
+                nonStrikerId = FIELDER + over;
+            if (ball == 2) {
+                balls.add(ball(Extra.builder().extraType(ExtraType.WIDE).scoreType(ScoreType.NO_RUN).build(), BATTER, RUNNER, BOWLER + over));
+                compact.add(new CompactDelivery(ScoreType.NO_RUN, ExtraType.WIDE, null, null, strikerId, nonStrikerId, bowlerId));
+            }
+            else if (ball == 6 && over % 2 == 1) {
+                balls.add(ball(Wicket.builder().wicketType(WicketType.CAUGHT).fielder(Player.builder().playerId(FIELDER).build()).build(), BATTER, RUNNER, BOWLER + over));
+                compact.add(new CompactDelivery(null, null, WicketType.CAUGHT, FIELDER, strikerId, nonStrikerId, bowlerId));
+            }
+            else {
+                ScoreType scoreType = (ball % 2 == 0) ? ScoreType.NO_RUN : ScoreType.SINGLE;
+                balls.add(ball(Score.builder().scoreType(scoreType).build(), BATTER, RUNNER, BOWLER + over));
+                compact.add(new CompactDelivery(scoreType, null, null, null, strikerId, nonStrikerId, bowlerId));
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.cricflow.benchmark;
+
+import com.example.cricflow.model.history.CricsheetMatch;
+import com.example.cricflow.model.history.HistoryImportReport;
+import com.example.cricflow.service.history.HistoryImportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.util.FileSystemUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// run with: mvn test -Pbenchmark -Dtest=HistoryImportBenchmark
+//   -Dhistory.files=200                 generated T20 matches, two innings of twenty overs each
+//   -Dcricflow.history.workers=4        files read and written side by side
+// against a local postgres, where the rows are copied in instead of inserted in batches, add:
+//   -Dspring.profiles.active=load-postgres
+// the directory is imported twice, the second run only finds files that are in already and skips them all
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:file:./target/benchmark/history-import")
+@DirtiesContext
+public class HistoryImportBenchmark {
+
+    private static final String[] TEAMS = {"Lahore Qalandars", "Karachi Kings", "Islamabad United", "Multan Sultans",
+            "Peshawar Zalmi", "Quetta Gladiators"};
+    private static final String[] VENUES = {"Gaddafi Stadium, Lahore", "National Stadium, Karachi",
+            "Rawalpindi Cricket Stadium", "Multan Cricket Stadium"};
+
+    @Autowired private HistoryImportService historyImportService;
+    @Autowired private ObjectMapper objectMapper;
+
+    @DisplayName("Benchmark for importing a directory of generated Cricsheet files, reported in rows per second")
+    @Test
+    public void importGeneratedMatches_reportRowsPerSecond() throws Exception {
+        int files = Integer.getInteger("history.files", 200);
+        Path directory = Path.of("target", "benchmark", "history");
+        FileSystemUtils.deleteRecursively(directory);
+        Files.createDirectories(directory);
+        Random random = new Random(42);
+        for (int i = 0; i < files; i++)
+            objectMapper.writeValue(directory.resolve("match-" + i + ".json").toFile(), match(i, random));
+
+        HistoryImportReport report = historyImportService.importDirectory(directory);
+        System.out.printf("HISTORY IMPORT: %d files, %d rows in %.1f s, %.0f rows/sec with %s, %d failed%n",
+                report.filesImported(), report.rowsWritten(), report.elapsedMillis() / 1e3, report.rowsPerSecond(),
+                report.loader(), report.failures().size());
+        assertThat(report.failures()).isEmpty();
+        assertThat(report.filesImported()).isEqualTo(files);
+
+        HistoryImportReport resumed = historyImportService.importDirectory(directory);
+        System.out.printf("HISTORY IMPORT AGAIN: %d files skipped in %d ms%n", resumed.filesSkipped(), resumed.elapsedMillis());
+        assertThat(resumed.filesSkipped()).isEqualTo(files);
+    }
+
+    private static CricsheetMatch match(int number, Random random) {
+        String teamA = TEAMS[number % TEAMS.length];
+        String teamB = TEAMS[(number + 1 + number / TEAMS.length) % TEAMS.length];
+        if (teamB.equals(teamA))
+            teamB = TEAMS[(number + 1) % TEAMS.length];
+        CricsheetMatch.Info info = new CricsheetMatch.Info(List.of(LocalDate.of(2016, 1, 1).plusDays(number)),
+                VENUES[number % VENUES.length], List.of(teamA, teamB), new CricsheetMatch.Toss(teamA, "bat"),
+                new CricsheetMatch.Outcome(random.nextBoolean() ? teamA : teamB), 20);
+        return new CricsheetMatch(info, List.of(innings(teamA, teamB, random), innings(teamB, teamA, random)));
+    }
+
+    private static CricsheetMatch.Innings innings(String batting, String bowling, Random random) {
+        List<CricsheetMatch.Over> overs = new ArrayList<>();
+        for (int over = 0; over < 20; over++) {
+            List<CricsheetMatch.Delivery> deliveries = new ArrayList<>();
+            for (int legal = 0; legal < 6; ) {
+                String batter = batting + " Batter" + random.nextInt(11);
+                String nonStriker = batting + " Batter" + random.nextInt(11);
+                String bowler = bowling + " Bowler" + (over % 5);
+                int outcome = random.nextInt(20);
+                if (outcome == 0)
+                    deliveries.add(new CricsheetMatch.Delivery(batter, nonStriker, bowler, new CricsheetMatch.Runs(0, 1, 1),
+                            new CricsheetMatch.Extras(1, 0, 0, 0), null));
+                else {
+                    List<CricsheetMatch.Dismissal> wickets = (outcome == 1)
+                            ? List.of(new CricsheetMatch.Dismissal("caught", batter, List.of(new CricsheetMatch.Fielder(bowling + " Bowler0"))))
+                            : null;
+                    int runs = (wickets != null) ? 0 : new int[]{0, 0, 1, 1, 1, 2, 3, 4, 6}[random.nextInt(9)];
+                    deliveries.add(new CricsheetMatch.Delivery(batter, nonStriker, bowler, new CricsheetMatch.Runs(runs, 0, runs),
+                            null, wickets));
+                    legal++;
+                }
+            }
+            overs.add(new CricsheetMatch.Over(over, deliveries));
+        }
+        return new CricsheetMatch.Innings(batting, overs, false);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.cricflow.benchmark;
+
+import com.example.cricflow.model.Ball;
+import com.example.cricflow.model.Over;
+import com.example.cricflow.model.event.Score;
+import com.example.cricflow.model.id.BlockSequenceGenerator;
+import com.example.cricflow.model.literal.ScoreType;
+import com.example.cricflow.repository.BallRepo;
+import com.example.cricflow.repository.OverRepo;
+import com.example.cricflow.support.SqlFingerprint;
+import com.example.cricflow.support.SqlStatementRecorder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// run with: mvn test -Pbenchmark -Dtest=IdAllocationBenchmark
+//   -Dcricflow.ids.block-size=1000      ids reserved a sequence read, 1 reads the sequence for every row
+//   -Dids.overs=5000                    overs of six balls saved, an over a transaction
+// against a local postgres, where every sequence read is a round trip, add: -Dspring.profiles.active=load-postgres
+// a row is a ball, its event or an over, the balls of an over are linked to it with no id of their own
+@Tag("benchmark")
+@SpringBootTest
+@DirtiesContext
+public class IdAllocationBenchmark {
+
+    private static final int BALLS_PER_OVER = 6;
+
+    @Autowired private OverRepo overRepo;
+    @Autowired private BallRepo ballRepo;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    @Value("${" + BlockSequenceGenerator.BLOCK_SIZE + ":" + BlockSequenceGenerator.DEFAULT_BLOCK_SIZE + "}")
+    private int blockSize;
+
+    @DisplayName("Benchmark for saving overs of balls, with ids reserved from the sequences a block at a time")
+    @Test
+    public void saveOvers_reportInsertsPerSecondAndSequenceReads() {
+        int overs = Integer.getInteger("ids.overs", 5000);
+        for (int i = 0; i < overs / 10; i++)
+            saveOver();
+
+        List<String> statements;
+        long start = System.nanoTime();
+        SqlStatementRecorder.start();
+        try {
+            for (int i = 0; i < overs; i++)
+                saveOver();
+        }
+        finally {
+            statements = SqlStatementRecorder.stop();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        long rows = (long) overs * (1 + 2 * BALLS_PER_OVER);
+        long sequenceReads = statements.stream().filter(SqlFingerprint::isSequenceRead).count();
+        System.out.printf("ID ALLOCATION: block size %d, %d rows in %.1f ms, %.0f inserts/sec, %d sequence reads, %d statements%n",
+                blockSize, rows, elapsed / 1e6, rows / (elapsed / 1e9), sequenceReads, statements.size());
+        assertThat(sequenceReads).isLessThanOrEqualTo(rows / blockSize + 3);
+    }
+
+    private void saveOver() {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Ball> balls = new ArrayList<>(BALLS_PER_OVER);
+            for (int i = 0; i < BALLS_PER_OVER; i++)
+                balls.add(Ball.builder().ballEvent(Score.builder().scoreType(ScoreType.SINGLE).build()).build());
+            ballRepo.saveAll(balls);
+            overRepo.save(Over.builder().balls(balls).build());
+        });
+    }
+}
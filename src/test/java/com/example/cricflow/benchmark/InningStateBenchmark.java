@@ -0,0 +1,61 @@
+package com.example.cricflow.benchmark;
+
+import com.example.cricflow.model.live.InningState;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// run with: mvn test -Pbenchmark -Dtest=InningStateBenchmark
+//   -Dinnings.count=2000000             innings of twenty overs put through the state machine, after as many again to warm up
+// the bytes are the ones the thread allocated while the innings were measured, divided by the deliveries
+@Tag("benchmark")
+public class InningStateBenchmark {
+
+    private static final int OVERS = 20;
+
+    @DisplayName("Benchmark for checking deliveries with the inning state machine, in deliveries per second and bytes per delivery")
+    @Test
+    public void deliverInnings_reportDeliveriesPerSecondAndBytesAllocated() {
+        int innings = Integer.getInteger("innings.count", 2_000_000);
+        InningState state = new InningState(OVERS);
+        long sink = 0;
+        for (int i = 0; i < innings; i++)
+            sink += bowlInning(state);
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        long deliveries = 0;
+        for (int i = 0; i < innings; i++)
+            deliveries += bowlInning(state);
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        System.out.printf("INNING STATE: %d deliveries in %.1f ms, %.0f deliveries/sec, %.4f bytes allocated per delivery%n",
+                deliveries, elapsed / 1e6, deliveries / (elapsed / 1e9), (double) allocated / deliveries);
+        assertThat(sink).isEqualTo(deliveries);
+        // a few hundred bytes of bookkeeping in all, not a byte for every delivery
+        assertThat((double) allocated / deliveries).isLessThan(0.01);
+    }
+
+    // twenty overs with a wide each, a single to rotate the strike and a wicket every other over, until the inning is complete
+    private static int bowlInning(InningState state) {
+        state.reset(OVERS);
+        int deliveries = 0;
+        for (int over = 0; state.startOver() == InningState.Outcome.OVER_STARTED; over++) {
+            for (int ball = 0; !state.isOverComplete() && !state.isComplete(); ball++) {
+                boolean wide = ball == 2;
+                boolean wicket = over % 2 == 1 && ball == 6;
+                int runs = wide || wicket ? 0 : ball % 3;
+                state.deliver(!wide, runs, wicket, false, (ball == 0) ? 1 : InningState.NONE, (ball == 0) ? 2 : InningState.NONE, 3);
+                deliveries++;
+            }
+        }
+        return deliveries;
+    }
+}
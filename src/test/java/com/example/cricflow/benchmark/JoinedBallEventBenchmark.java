@@ -0,0 +1,10 @@
+package com.example.cricflow.benchmark;
+
+// run with: mvn test -Pbenchmark
+public class JoinedBallEventBenchmark extends BallEventStorageBenchmark {
+
+    @Override
+    String layout() {
+        return "JOINED";
+    }
+}
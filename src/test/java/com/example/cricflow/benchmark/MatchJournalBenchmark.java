@@ -0,0 +1,91 @@
+package com.example.cricflow.benchmark;
+
+import com.example.cricflow.model.Ball;
+import com.example.cricflow.model.event.Extra;
+import com.example.cricflow.model.event.Score;
+import com.example.cricflow.model.event.Wicket;
+import com.example.cricflow.model.literal.ExtraType;
+import com.example.cricflow.model.literal.ScoreType;
+import com.example.cricflow.model.literal.WicketType;
+import com.example.cricflow.model.live.InningScorecard;
+import com.example.cricflow.service.MatchJournal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.example.cricflow.support.BallStubs.ball;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// run with: mvn test -Pbenchmark
+@Tag("benchmark")
+public class MatchJournalBenchmark {
+
+    private static final int INNINGS = 100;
+    private static final int OVERS = 20_000;
+    private static final int RECORDS_PER_SEGMENT = 1 << 20;
+
+    @TempDir
+    Path directory;
+
+    @DisplayName("Benchmark for appending overs to the journal and recovering the scorecards from it")
+    @Test
+    public void appendAndRecover_reportBallsPerSecondAndRecoveryTime() {
+        Map<Long, InningScorecard> live = new HashMap<>();
+        MatchJournal journal = new MatchJournal(true, directory.toString(), RECORDS_PER_SEGMENT);
+        journal.recover(live);
+        journal.checkpoint();
+        List<Ball> over = over();
+
+        // one forced write per over, the way overs arrive from the ingestion endpoint
+        long start = System.nanoTime();
+        for (int i = 0; i < OVERS; i++) {
+            long inningId = i % INNINGS;
+            journal.append(inningId, over, () -> {
+                InningScorecard scorecard = live.computeIfAbsent(inningId, InningScorecard::new);
+                for (Ball ball : over)
+                    scorecard.record(ball);
+            });
+        }
+        long appendElapsed = System.nanoTime() - start;
+        long balls = (long) OVERS * over.size();
+        System.out.printf("JOURNAL APPEND: %d balls in %.1f ms, %.0f balls/sec%n",
+                balls, appendElapsed / 1e6, balls / (appendElapsed / 1e9));
+
+        // the journal is not closed, as after a crash the whole tail has to be replayed
+        Map<Long, InningScorecard> recovered = new HashMap<>();
+        start = System.nanoTime();
+        new MatchJournal(true, directory.toString(), RECORDS_PER_SEGMENT).recover(recovered);
+        long replayElapsed = System.nanoTime() - start;
+        System.out.printf("JOURNAL REPLAY: %d balls recovered in %.1f ms%n", balls, replayElapsed / 1e6);
+
+        MatchJournal snapshotted = new MatchJournal(true, directory.toString(), RECORDS_PER_SEGMENT);
+        snapshotted.recover(new HashMap<>());
+        snapshotted.checkpoint();
+        snapshotted.close();
+        Map<Long, InningScorecard> fromSnapshot = new HashMap<>();
+        start = System.nanoTime();
+        new MatchJournal(true, directory.toString(), RECORDS_PER_SEGMENT).recover(fromSnapshot);
+        long snapshotElapsed = System.nanoTime() - start;
+        System.out.printf("JOURNAL SNAPSHOT: %d innings recovered in %.1f ms%n", INNINGS, snapshotElapsed / 1e6);
+
+        assertThat(recovered.get(0L).getTotalRuns()).isEqualTo(live.get(0L).getTotalRuns());
+        assertThat(fromSnapshot.get(0L).getTotalRuns()).isEqualTo(live.get(0L).getTotalRuns());
+    }
+
+    private List<Ball> over() {
+        return List.of(
+                ball(Score.builder().scoreType(ScoreType.SINGLE).build(), 1L, 2L, 3L),
+                ball(Score.builder().scoreType(ScoreType.FOUR).build(), 2L, 1L, 3L),
+                ball(Extra.builder().extraType(ExtraType.WIDE).scoreType(ScoreType.NO_RUN).build(), 2L, 1L, 3L),
+                ball(Score.builder().scoreType(ScoreType.NO_RUN).build(), 2L, 1L, 3L),
+                ball(Score.builder().scoreType(ScoreType.SIX).build(), 2L, 1L, 3L),
+                ball(Wicket.builder().wicketType(WicketType.BOWLED).build(), 2L, 1L, 3L)
+        );
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.cricflow.benchmark;
+
+import com.example.cricflow.model.imports.ImportFormat;
+import com.example.cricflow.model.imports.PlayerImportReport;
+import com.example.cricflow.repository.PlayerRepo;
+import com.example.cricflow.service.PlayerImportService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// run with: mvn test -Pbenchmark -Dtest=PlayerImportBenchmark
+//   -Dimport.rows=100000,1000000        files imported one after the other, the heap should not grow with them
+// the database is an H2 file, an in memory one would hold every imported row on the same heap that is measured
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:file:./target/benchmark/player-import")
+@DirtiesContext
+public class PlayerImportBenchmark {
+
+    private static final String HEADER = "firstName,lastName,playerType,battingStyle,bowlingStyle\n";
+
+    @Autowired private PlayerImportService playerImportService;
+    @Autowired private PlayerRepo playerRepo;
+
+    @DisplayName("Benchmark for importing a generated CSV file of players, streamed row by row")
+    @Test
+    public void importCsv_reportRowsPerSecondAndHeapAfterGc() {
+        long[] sizes = Arrays.stream(System.getProperty("import.rows", "100000,1000000").split(","))
+                .mapToLong(Long::parseLong).toArray();
+
+        for (long rows : sizes) {
+            HeapSampler heap = new HeapSampler();
+            long start = System.nanoTime();
+            PlayerImportReport report = playerImportService.importPlayers(new GeneratedCsv(rows), ImportFormat.CSV).getBody();
+            long elapsed = System.nanoTime() - start;
+            heap.stop();
+
+            System.out.printf("PLAYER IMPORT: %d rows in %.1f s, %.0f rows/sec, %d rejected, heap after gc at most %d MB%n",
+                    rows, elapsed / 1e9, rows / (elapsed / 1e9), report.rowsRejected(), heap.maxAfterGc() / (1024 * 1024));
+            assertThat(report.failure()).isNull();
+            assertThat(report.rowsImported()).isEqualTo(rows - report.rowsRejected());
+            playerRepo.deleteAllInBatch();
+        }
+    }
+
+    /**
+     * A CSV file of the given number of rows, every 1000th one invalid, produced as it is read.
+     */
+    private static class GeneratedCsv extends InputStream {
+        private final long rows;
+        private long row = -1;
+        private byte[] line = HEADER.getBytes(StandardCharsets.US_ASCII);
+        private int position;
+
+        GeneratedCsv(long rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public int read() {
+            if (position == line.length && !nextLine())
+                return -1;
+            return line[position++];
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (position == line.length && !nextLine())
+                return -1;
+            int count = Math.min(length, line.length - position);
+            System.arraycopy(line, position, buffer, offset, count);
+            position += count;
+            return count;
+        }
+
+        private boolean nextLine() {
+            if (++row >= rows)
+                return false;
+            String firstName = (row % 1000 == 999) ? "X" : "Player";
+            line = (firstName + ",Number" + row + ",ALL_ROUNDER,RIGHT_HANDED,RIGHT_ARM_OFF_SPINNER\n").getBytes(StandardCharsets.US_ASCII);
+            position = 0;
+            return true;
+        }
+    }
+
+    /**
+     * Largest heap that was still in use right after a collection, which leaves out the garbage waiting for the next one.
+     */
+    private static class HeapSampler {
+        private final ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        private final AtomicLong maxAfterGc = new AtomicLong();
+
+        HeapSampler() {
+            sampler.scheduleAtFixedRate(this::sample, 0, 100, TimeUnit.MILLISECONDS);
+        }
+
+        private void sample() {
+            long used = 0;
+            for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+                MemoryUsage afterGc = pool.getCollectionUsage();
+                if (pool.getType() == MemoryType.HEAP && afterGc != null)
+                    used += afterGc.getUsed();
+            }
+            maxAfterGc.accumulateAndGet(used, Math::max);
+        }
+
+        void stop() {
+            sampler.shutdownNow();
+            sample();
+        }
+
+        long maxAfterGc() {
+            return maxAfterGc.get();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.cricflow.benchmark;
+
+import com.example.cricflow.model.live.ShorthandParser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// run with: mvn test -Pbenchmark -Dtest=ShorthandParserBenchmark
+//   -Dinnings.count=1000000             innings of twenty overs in shorthand read through, after as many again to warm up
+// the bytes are the ones the thread allocated while the innings were read, divided by the tokens
+@Tag("benchmark")
+public class ShorthandParserBenchmark {
+
+    private static final String OVER = "bw:31 . 1 4 1wd 6 2nb . W-c:123 st:1042 2 ";
+
+    @DisplayName("Benchmark for reading scorers' shorthand, in tokens per second and bytes per token")
+    @Test
+    public void parseInnings_reportTokensPerSecondAndBytesAllocated() {
+        int innings = Integer.getInteger("innings.count", 1_000_000);
+        String inning = OVER.repeat(20);
+        ShorthandParser parser = new ShorthandParser();
+        long sink = 0;
+        for (int i = 0; i < innings; i++)
+            sink += readInning(parser, inning);
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        long tokens = 0;
+        for (int i = 0; i < innings; i++)
+            tokens += readInning(parser, inning);
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        System.out.printf("SHORTHAND: %d tokens in %.1f ms, %.0f tokens/sec, %.4f bytes allocated per token%n",
+                tokens, elapsed / 1e6, tokens / (elapsed / 1e9), (double) allocated / tokens);
+        assertThat(sink).isEqualTo(tokens);
+        assertThat(tokens / (elapsed / 1e9)).isGreaterThan(10_000_000);
+        assertThat((double) allocated / tokens).isLessThan(0.01);
+    }
+
+    private static int readInning(ShorthandParser parser, String inning) {
+        parser.reset(inning);
+        int tokens = 0;
+        ShorthandParser.Token token;
+        while ((token = parser.next()) != ShorthandParser.Token.END)
+            if (token != ShorthandParser.Token.INVALID)
+                tokens++;
+        return tokens;
+    }
+}
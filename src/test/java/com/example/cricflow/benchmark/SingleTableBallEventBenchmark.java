@@ -0,0 +1,13 @@
+package com.example.cricflow.benchmark;
+
+import org.springframework.test.context.ActiveProfiles;
+
+// run with: mvn test -Pbenchmark
+@ActiveProfiles("compact-events")
+public class SingleTableBallEventBenchmark extends BallEventStorageBenchmark {
+
+    @Override
+    String layout() {
+        return "SINGLE_TABLE";
+    }
+}
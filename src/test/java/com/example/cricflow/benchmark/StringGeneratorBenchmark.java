@@ -0,0 +1,110 @@
+package com.example.cricflow.benchmark;
+
+import com.example.cricflow.benchmark.jmh.BenchmarkData;
+import com.example.cricflow.model.Match;
+import com.example.cricflow.model.literal.ExcludedFromToString;
+import com.example.cricflow.model.literal.StringGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// run with: mvn test -Pbenchmark
+@Tag("benchmark")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringGeneratorBenchmark {
+
+    private Match match;
+
+    @Setup
+    public void setUp() {
+        match = BenchmarkData.fullMatch();
+    }
+
+    // toString() of a whole T20 match: both rosters, both innings, 240 balls
+    @Benchmark
+    public String reflectionPerCall() {
+        return legacyObjectString(match);
+    }
+
+    @Benchmark
+    public String cachedHandles() {
+        return StringGenerator.generateObjectString(match);
+    }
+
+    @DisplayName("Benchmark for writing a full match with the cached generator and with reflection on every call")
+    @Test
+    public void toStringOfFullMatch_reportTimeAndAllocationPerCall() throws Exception {
+        setUp();
+        System.out.printf("MATCH STRING: %d chars with reflection per call, %d chars with cached handles%n",
+                reflectionPerCall().length(), cachedHandles().length());
+        assertThat(cachedHandles().length()).isLessThan(reflectionPerCall().length());
+
+        new Runner(new OptionsBuilder()
+                .include(StringGeneratorBenchmark.class.getName() + "\\.")
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+
+    // the generator as it was: fields looked up and made accessible on every call, read twice, nested objects walked to the end
+    private static String legacyObjectString(Object object) {
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("\n").append(object.getClass().getName().toUpperCase()).append(" {").append("\n");
+
+        Field[] fields = object.getClass().getDeclaredFields();
+        for (Field field : fields) {
+            field.setAccessible(true);
+            if (!field.isAnnotationPresent(ExcludedFromToString.class)) {
+                try {
+                    stringBuilder.append("\t")
+                            .append(field.getName().toUpperCase())
+                            .append(": ")
+                            .append((field.get(object) == null) ? "null" : legacyValueString(field.get(object)))
+                            .append(",\n");
+                } catch (IllegalAccessException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        }
+        stringBuilder.append("}");
+        return stringBuilder.toString();
+    }
+
+    // stands in for the toString() of the nested model objects, which used to call back into the old generator
+    private static String legacyValueString(Object value) {
+        if (value instanceof Collection<?> collection) {
+            List<String> elements = new ArrayList<>(collection.size());
+            for (Object element : collection)
+                elements.add(legacyValueString(element));
+            return elements.toString();
+        }
+        if (value.getClass().getPackageName().startsWith("com.example.cricflow.model") && !(value instanceof Enum<?>))
+            return legacyObjectString(value);
+        return value.toString();
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.cricflow.benchmark.jmh;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares a JMH json result with a baseline result of the same benchmarks.
+ * <p>
+ * A benchmark regresses when its score is worse than the baseline by more than the threshold, a fraction of the
+ * baseline score. For throughput a lower score is worse, for every other mode (time per operation) a higher one is.
+ * Benchmarks missing from either side are not compared.
+ */
+public final class BaselineComparison {
+
+    private BaselineComparison() {
+    }
+
+    public static List<Regression> compare(JsonNode baseline, JsonNode current, double threshold) {
+        Map<String, JsonNode> baselineByKey = new HashMap<>();
+        for (JsonNode result : baseline)
+            baselineByKey.put(key(result), result);
+
+        List<Regression> regressions = new ArrayList<>();
+        for (JsonNode result : current) {
+            JsonNode previous = baselineByKey.get(key(result));
+            if (previous == null)
+                continue;
+            String mode = result.path("mode").asText();
+            double baselineScore = previous.path("primaryMetric").path("score").asDouble();
+            double currentScore = result.path("primaryMetric").path("score").asDouble();
+            boolean regressed = "thrpt".equals(mode)
+                    ? currentScore < baselineScore * (1 - threshold)
+                    : currentScore > baselineScore * (1 + threshold);
+            if (regressed)
+                regressions.add(new Regression(result.path("benchmark").asText(), mode, baselineScore, currentScore,
+                        result.path("primaryMetric").path("scoreUnit").asText()));
+        }
+        return regressions;
+    }
+
+    // the same method can be run in several modes and with several parameter values, each is its own result
+    private static String key(JsonNode result) {
+        return result.path("benchmark").asText() + ':' + result.path("mode").asText() + ':' + result.path("params");
+    }
+
+    public record Regression(String benchmark, String mode, double baseline, double current, String unit) {
+        @Override
+        public String toString() {
+            return String.format("%s (%s): %.3f -> %.3f %s, %+.0f%%",
+                    benchmark, mode, baseline, current, unit, (current - baseline) / baseline * 100);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.cricflow.benchmark.jmh;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BaselineComparisonTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @DisplayName("Test for flagging a time per operation that grew past the threshold")
+    @Test
+    public void givenSlowerAverageTime_whenCompare_thenRegressionIsFlagged() throws Exception {
+        //given
+        JsonNode baseline = results(result("a.Bench.fast", "avgt", 10.0), result("a.Bench.slow", "avgt", 10.0));
+        JsonNode current = results(result("a.Bench.fast", "avgt", 12.0), result("a.Bench.slow", "avgt", 13.0));
+
+        //when
+        List<BaselineComparison.Regression> regressions = BaselineComparison.compare(baseline, current, 0.25);
+
+        //then
+        assertThat(regressions).extracting(BaselineComparison.Regression::benchmark).containsExactly("a.Bench.slow");
+        assertThat(regressions.get(0).toString()).contains("+30%");
+    }
+
+    @DisplayName("Test for flagging a throughput that fell past the threshold")
+    @Test
+    public void givenLowerThroughput_whenCompare_thenRegressionIsFlagged() throws Exception {
+        //given
+        JsonNode baseline = results(result("a.Bench.up", "thrpt", 100.0), result("a.Bench.down", "thrpt", 100.0));
+        JsonNode current = results(result("a.Bench.up", "thrpt", 200.0), result("a.Bench.down", "thrpt", 70.0));
+
+        //when
+        List<BaselineComparison.Regression> regressions = BaselineComparison.compare(baseline, current, 0.25);
+
+        //then
+        assertThat(regressions).extracting(BaselineComparison.Regression::benchmark).containsExactly("a.Bench.down");
+    }
+
+    @DisplayName("Test for leaving benchmarks that are not in the baseline alone")
+    @Test
+    public void givenNewBenchmark_whenCompare_thenNothingIsFlagged() throws Exception {
+        //given
+        JsonNode baseline = results(result("a.Bench.old", "avgt", 10.0));
+        JsonNode current = results(result("a.Bench.old", "avgt", 10.0), result("a.Bench.new", "avgt", 1000.0));
+
+        //when
+        List<BaselineComparison.Regression> regressions = BaselineComparison.compare(baseline, current, 0.25);
+
+        //then
+        assertThat(regressions).isEmpty();
+    }
+
+    private JsonNode results(String... results) throws Exception {
+        return objectMapper.readTree("[" + String.join(",", results) + "]");
+    }
+
+    private static String result(String benchmark, String mode, double score) {
+        return String.format("{\"benchmark\":\"%s\",\"mode\":\"%s\",\"primaryMetric\":{\"score\":%s,\"scoreUnit\":\"us/op\"}}",
+                benchmark, mode, score);
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.cricflow.benchmark.jmh;
+
+import com.example.cricflow.CricFlowApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Starts the application inside a benchmark fork, against the embedded H2 database of the test
+ * configuration, without a web server and with logging turned down so it does not skew the numbers.
+ */
+public final class BenchmarkContext {
+
+    private BenchmarkContext() {
+    }
+
+    public static ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(CricFlowApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .properties("spring.main.banner-mode=off", "logging.level.root=WARN")
+                .run();
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.cricflow.benchmark.jmh;
+
+import com.example.cricflow.model.Ball;
+import com.example.cricflow.model.Ground;
+import com.example.cricflow.model.Inning;
+import com.example.cricflow.model.Match;
+import com.example.cricflow.model.Over;
+import com.example.cricflow.model.Player;
+import com.example.cricflow.model.Team;
+import com.example.cricflow.model.Toss;
+import com.example.cricflow.model.event.Extra;
+import com.example.cricflow.model.event.Score;
+import com.example.cricflow.model.event.Wicket;
+import com.example.cricflow.model.literal.ExtraType;
+import com.example.cricflow.model.literal.ScoreType;
+import com.example.cricflow.model.literal.TeamSide;
+import com.example.cricflow.model.literal.WicketType;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.cricflow.support.BallStubs.ball;
+
+/**
+ * Fixtures shared by the benchmarks, built in memory without a database.
+ */
+public final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    // a whole T20 match: both rosters, both innings, 240 balls
+    public static Match fullMatch() {
+        Team teamA = team(1L, "LAHORE QALANDARS");
+        Team teamB = team(2L, "KARACHI KINGS");
+        return Match.builder()
+                .matchId(1L)
+                .matchDate(LocalDate.of(2024, 2, 17))
+                .ground(new Ground(1L, "GADDAFI STADIUM"))
+                .teamA(teamA)
+                .teamB(teamB)
+                .toss(Toss.builder().tossId(1L).winningSide(TeamSide.SIDE_A).battingSide(TeamSide.SIDE_A).bowlingSide(TeamSide.SIDE_B).build())
+                .firstInnings(inning(1L, teamA, teamB))
+                .secondInnings(inning(2L, teamB, teamA))
+                .noOfOvers(20)
+                .build();
+    }
+
+    public static Team team(long teamId, String teamName) {
+        Team team = Team.builder().teamId(teamId).teamName(teamName).players(new ArrayList<>()).build();
+        for (long i = 0; i < 11; i++)
+            team.getPlayers().add(new Player(teamId * 100 + i, "Player", "Number" + i, Player.PlayerType.ALL_ROUNDER,
+                    Player.BattingStyle.RIGHT_HANDED, Player.BowlingStyle.RIGHT_ARM_OFF_SPINNER, team));
+        return team;
+    }
+
+    public static Player newPlayer(String firstName, String lastName) {
+        return new Player(null, firstName, lastName, Player.PlayerType.ALL_ROUNDER,
+                Player.BattingStyle.RIGHT_HANDED, Player.BowlingStyle.RIGHT_ARM_OFF_SPINNER, null);
+    }
+
+    // one over of every kind of delivery, players are given by id only, the way a client posts them
+    public static List<Ball> over(Long strikerId, Long nonStrikerId, Long bowlerId) {
+        List<Ball> balls = new ArrayList<>();
+        balls.add(ball(Score.builder().scoreType(ScoreType.SINGLE).build(), strikerId, nonStrikerId, bowlerId));
+        balls.add(ball(Score.builder().scoreType(ScoreType.FOUR).build(), nonStrikerId, strikerId, bowlerId));
+        balls.add(ball(Extra.builder().extraType(ExtraType.WIDE).scoreType(ScoreType.NO_RUN).build(), nonStrikerId, strikerId, bowlerId));
+        balls.add(ball(Score.builder().scoreType(ScoreType.NO_RUN).build(), nonStrikerId, strikerId, bowlerId));
+        balls.add(ball(Score.builder().scoreType(ScoreType.SIX).build(), nonStrikerId, strikerId, bowlerId));
+        balls.add(ball(Wicket.builder().wicketType(WicketType.BOWLED).build(), nonStrikerId, strikerId, bowlerId));
+        return balls;
+    }
+
+    private static Inning inning(long inningId, Team batting, Team bowling) {
+        List<Over> overs = new ArrayList<>();
+        for (int o = 0; o < 20; o++) {
+            List<Ball> balls = new ArrayList<>();
+            for (int b = 0; b < 6; b++)
+                balls.add(Ball.builder()
+                        .ballId(inningId * 1000 + o * 6 + b)
+                        .ballEvent(Score.builder().scoreType(ScoreType.SINGLE).build())
+                        .striker(batting.getPlayers().get(0))
+                        .nonStriker(batting.getPlayers().get(1))
+                        .bowler(bowling.getPlayers().get(o % 5))
+                        .build());
+            overs.add(Over.builder().overId(inningId * 100 + o).balls(balls).build());
+        }
+        return Inning.builder().inningId(inningId).numberOfOvers(20).battingSide(batting).bowlingSide(bowling).overs(overs).build();
+    }
+}
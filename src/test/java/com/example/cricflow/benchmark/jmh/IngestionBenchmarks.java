@@ -0,0 +1,72 @@
+package com.example.cricflow.benchmark.jmh;
+
+import com.example.cricflow.exception.EntityDoesNotExistsException;
+import com.example.cricflow.exception.validator.BallFieldsException;
+import com.example.cricflow.model.Ball;
+import com.example.cricflow.model.Inning;
+import com.example.cricflow.repository.InningRepo;
+import com.example.cricflow.repository.PlayerRepo;
+import com.example.cricflow.service.BallService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// one over of six balls posted through the batched ball service against embedded H2, with the live pipeline listening
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IngestionBenchmarks {
+
+    private ConfigurableApplicationContext context;
+    private BallService ballService;
+    private InningRepo inningRepo;
+    private Long strikerId;
+    private Long nonStrikerId;
+    private Long bowlerId;
+    private Long inningId;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = BenchmarkContext.start();
+        ballService = context.getBean(BallService.class);
+        inningRepo = context.getBean(InningRepo.class);
+        PlayerRepo playerRepo = context.getBean(PlayerRepo.class);
+        strikerId = playerRepo.save(BenchmarkData.newPlayer("Fakhar", "Zaman")).getPlayerId();
+        nonStrikerId = playerRepo.save(BenchmarkData.newPlayer("Abdullah", "Shafique")).getPlayerId();
+        bowlerId = playerRepo.save(BenchmarkData.newPlayer("Haris", "Rauf")).getPlayerId();
+    }
+
+    // one inning per over keeps the eagerly loaded inning small, so the numbers measure the inserts
+    @Setup(Level.Invocation)
+    public void newInning() {
+        inningId = inningRepo.save(Inning.builder().numberOfOvers(20).overs(new ArrayList<>()).build()).getInningId();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public ResponseEntity<List<Ball>> addOver() throws EntityDoesNotExistsException, BallFieldsException {
+        return ballService.addOverToInning(inningId, BenchmarkData.over(strikerId, nonStrikerId, bowlerId));
+    }
+}
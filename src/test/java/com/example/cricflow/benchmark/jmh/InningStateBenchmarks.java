@@ -0,0 +1,115 @@
+package com.example.cricflow.benchmark.jmh;
+
+import com.example.cricflow.model.Ball;
+import com.example.cricflow.model.BallEvent;
+import com.example.cricflow.model.Over;
+import com.example.cricflow.model.event.Extra;
+import com.example.cricflow.model.event.Score;
+import com.example.cricflow.model.event.Wicket;
+import com.example.cricflow.model.literal.ExtraType;
+import com.example.cricflow.model.literal.ScoreType;
+import com.example.cricflow.model.literal.WicketType;
+import com.example.cricflow.model.live.InningState;
+import com.example.cricflow.support.BallStubs;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// the scoring state machine on its own, a delivery is one operation, add -prof gc to see nothing is allocated per ball
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InningStateBenchmarks {
+
+    // twenty overs with a wide and a no ball in each, and a wicket every other over
+    private static final int OVERS = 20;
+    private static final int DELIVERIES_PER_OVER = 8;
+    private static final int DELIVERIES = OVERS * DELIVERIES_PER_OVER;
+
+    private final boolean[] legal = new boolean[DELIVERIES];
+    private final int[] runs = new int[DELIVERIES];
+    private final boolean[] wicket = new boolean[DELIVERIES];
+    private final long[] striker = new long[DELIVERIES];
+    private final Ball[] balls = new Ball[DELIVERIES];
+    private final InningState state = new InningState(OVERS);
+    private List<Over> overs;
+
+    @Setup
+    public void setUp() {
+        overs = new ArrayList<>();
+        int[] pattern = {1, 0, 4, 0, 2, 6};
+        for (int o = 0; o < OVERS; o++) {
+            List<Ball> overBalls = new ArrayList<>();
+            for (int d = 0; d < DELIVERIES_PER_OVER; d++) {
+                int i = o * DELIVERIES_PER_OVER + d;
+                legal[i] = d != 2 && d != 5;
+                runs[i] = legal[i] ? pattern[d % pattern.length] : 0;
+                wicket[i] = (o % 2 == 1) && d == DELIVERIES_PER_OVER - 1;
+                striker[i] = (d == 0) ? 1 : InningState.NONE;
+                balls[i] = ball(legal[i], runs[i], wicket[i]);
+                overBalls.add(balls[i]);
+            }
+            overs.add(Over.builder().balls(overBalls).build());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DELIVERIES)
+    public int deliverInning() {
+        state.reset(OVERS);
+        int completed = 0;
+        for (int i = 0; i < DELIVERIES; i++) {
+            if (i % DELIVERIES_PER_OVER == 0)
+                state.startOver();
+            if (state.deliver(legal[i], runs[i], wicket[i], false, striker[i], 2, 3) == InningState.Outcome.OVER_COMPLETED)
+                completed++;
+        }
+        return completed;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DELIVERIES)
+    public int deliverBalls() {
+        state.reset(OVERS);
+        int completed = 0;
+        for (int i = 0; i < DELIVERIES; i++) {
+            if (i % DELIVERIES_PER_OVER == 0)
+                state.startOver();
+            if (state.deliver(balls[i]) == InningState.Outcome.OVER_COMPLETED)
+                completed++;
+        }
+        return completed;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DELIVERIES)
+    public InningState replayInning() {
+        return InningState.replay(OVERS, overs);
+    }
+
+    private static Ball ball(boolean legal, int runs, boolean wicket) {
+        ScoreType scoreType = ScoreType.NO_RUN;
+        for (ScoreType type : ScoreType.values())
+            if (type.getScore() == runs)
+                scoreType = type;
+        BallEvent event = wicket ? Wicket.builder().wicketType(WicketType.BOWLED).build()
+                : legal ? Score.builder().scoreType(scoreType).build()
+                : Extra.builder().extraType(ExtraType.WIDE).scoreType(scoreType).build();
+        return BallStubs.ball(event, 1L, 2L, 3L);
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.cricflow.benchmark.jmh;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// run with: mvn test -Pjmh
+//   -Djmh.include=<regex>      only the matching benchmarks of this package
+//   -Djmh.threshold=0.25       how much worse than the baseline a score may get before it is a regression
+//   -Djmh.updateBaseline=true  check the result in as the new baseline instead of comparing with it
+@Tag("jmh")
+public class JmhSuiteBenchmark {
+
+    private static final Path RESULT = Path.of("target", "jmh-result.json");
+    private static final Path BASELINE = Path.of("src", "test", "resources", "benchmark", "jmh-baseline.json");
+
+    @DisplayName("Benchmark suite, results written as json and compared with the checked in baseline")
+    @Test
+    public void runSuite_writeJsonAndCompareWithBaseline() throws Exception {
+        String include = System.getProperty("jmh.include", ".*");
+        double threshold = Double.parseDouble(System.getProperty("jmh.threshold", "0.25"));
+
+        Files.createDirectories(RESULT.getParent());
+        new Runner(new OptionsBuilder()
+                .include(JmhSuiteBenchmark.class.getPackageName().replace(".", "\\.") + "\\." + include)
+                .resultFormat(ResultFormatType.JSON)
+                .result(RESULT.toString())
+                .build()).run();
+
+        if (Boolean.getBoolean("jmh.updateBaseline")) {
+            Files.copy(RESULT, BASELINE, StandardCopyOption.REPLACE_EXISTING);
+            System.out.println("JMH BASELINE UPDATED: " + BASELINE);
+            return;
+        }
+        if (!Files.exists(BASELINE)) {
+            System.out.println("JMH BASELINE MISSING, NOTHING TO COMPARE WITH: " + BASELINE);
+            return;
+        }
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        JsonNode baseline = objectMapper.readTree(BASELINE.toFile());
+        JsonNode current = objectMapper.readTree(RESULT.toFile());
+        List<BaselineComparison.Regression> regressions = BaselineComparison.compare(baseline, current, threshold);
+        regressions.forEach(regression -> System.out.println("JMH REGRESSION: " + regression));
+        assertThat(regressions)
+                .describedAs("benchmarks more than %.0f%% worse than %s", threshold * 100, BASELINE)
+                .isEmpty();
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.cricflow.benchmark.jmh;
+
+import com.example.cricflow.model.Player;
+import com.example.cricflow.model.Team;
+import com.example.cricflow.repository.PlayerRepo;
+import com.example.cricflow.repository.TeamPlayerRelationRepo;
+import com.example.cricflow.service.TeamService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// a squad of eleven moved from one team to the other and back, through the team service against embedded H2
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RosterBenchmarks {
+
+    private ConfigurableApplicationContext context;
+    private TeamService teamService;
+    private TeamPlayerRelationRepo relationRepo;
+    private Long[] teamIds;
+    private List<Long> squad;
+    private int moves;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = BenchmarkContext.start();
+        teamService = context.getBean(TeamService.class);
+        relationRepo = context.getBean(TeamPlayerRelationRepo.class);
+        PlayerRepo playerRepo = context.getBean(PlayerRepo.class);
+
+        List<Team> teams = teamService.createMultipleTeams(List.of("Lahore Qalandars", "Karachi Kings")).getBody();
+        teamIds = new Long[] {teams.get(0).getTeamId(), teams.get(1).getTeamId()};
+        squad = new ArrayList<>();
+        for (int i = 0; i < 11; i++)
+            squad.add(playerRepo.save(BenchmarkData.newPlayer("Player", "Number" + i)).getPlayerId());
+    }
+
+    // every move leaves one history row per player behind, cleared so later iterations do not scan a longer table
+    @Setup(Level.Iteration)
+    public void clearHistory() {
+        relationRepo.deleteAllInBatch();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public ResponseEntity<Team> moveSquad() {
+        return teamService.addMultiplePlayersToTeam(teamIds[moves++ & 1], squad);
+    }
+}
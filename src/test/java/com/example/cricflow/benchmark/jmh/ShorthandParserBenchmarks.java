@@ -0,0 +1,51 @@
+package com.example.cricflow.benchmark.jmh;
+
+import com.example.cricflow.model.live.ShorthandParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// the shorthand parser on its own, a token is one operation, add -prof gc to see nothing is allocated per token
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ShorthandParserBenchmarks {
+
+    // twenty overs on one line, each with its bowler named first, a wide, a no ball and a wicket
+    private static final int OVERS = 20;
+    private static final String OVER = "bw:31 . 1 4 1wd 6 2nb . W-c:123 st:1042 2";
+    private static final String ODD_OVER = "bw:32 1 . . wd 4 nb 3 6 W-b";
+    private static final int TOKENS_PER_OVER_PAIR = 21;
+    private static final String INNING = inning();
+
+    private final ShorthandParser parser = new ShorthandParser();
+
+    @Benchmark
+    @OperationsPerInvocation(OVERS / 2 * TOKENS_PER_OVER_PAIR)
+    public long parseInning() {
+        parser.reset(INNING);
+        long sum = 0;
+        for (ShorthandParser.Token token = parser.next(); token != ShorthandParser.Token.END; token = parser.next())
+            sum += token.ordinal() + parser.getPlayerId();
+        return sum;
+    }
+
+    private static String inning() {
+        StringBuilder inning = new StringBuilder();
+        for (int over = 0; over < OVERS; over++)
+            inning.append(over % 2 == 0 ? OVER : ODD_OVER).append(' ');
+        return inning.toString();
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.cricflow.benchmark.jmh;
+
+import com.example.cricflow.model.Match;
+import com.example.cricflow.model.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// entity toString() through StringGenerator, part of the suite run by JmhSuiteBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ToStringBenchmarks {
+
+    private Match match;
+    private Player player;
+
+    @Setup
+    public void setUp() {
+        match = BenchmarkData.fullMatch();
+        player = match.getTeamA().getPlayers().get(0);
+    }
+
+    @Benchmark
+    public String fullMatch() {
+        return match.toString();
+    }
+
+    @Benchmark
+    public String singlePlayer() {
+        return player.toString();
+    }
+}
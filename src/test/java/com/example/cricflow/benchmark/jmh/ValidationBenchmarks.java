@@ -0,0 +1,84 @@
+package com.example.cricflow.benchmark.jmh;
+
+import com.example.cricflow.exception.NameAlreadyExistsException;
+import com.example.cricflow.exception.validator.GroundFieldsException;
+import com.example.cricflow.exception.validator.PlayerFieldsException;
+import com.example.cricflow.model.Ground;
+import com.example.cricflow.model.Player;
+import com.example.cricflow.repository.GroundRepo;
+import com.example.cricflow.repository.PlayerRepo;
+import com.example.cricflow.repository.TeamPlayerRelationRepo;
+import com.example.cricflow.repository.TeamRepo;
+import com.example.cricflow.service.GroundService;
+import com.example.cricflow.service.NdjsonExporter;
+import com.example.cricflow.service.PlayerService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+// bean validation on the create paths of the player and ground services, the repositories are mocks
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidationBenchmarks {
+
+    private PlayerService playerService;
+    private GroundService groundService;
+    private Player player;
+
+    @Setup
+    public void setUp() {
+        // stub only mocks, a normal mock would remember every call and the benchmark would measure that
+        PlayerRepo playerRepo = stub(PlayerRepo.class);
+        when(playerRepo.save(any(Player.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        GroundRepo groundRepo = stub(GroundRepo.class);
+        when(groundRepo.save(any(Ground.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        playerService = new PlayerService(playerRepo, stub(TeamPlayerRelationRepo.class), stub(TeamRepo.class), stub(NdjsonExporter.class));
+        groundService = new GroundService(groundRepo, stub(NdjsonExporter.class));
+        player = BenchmarkData.newPlayer("Shaheen", "Afridi");
+    }
+
+    @Benchmark
+    public ResponseEntity<Player> validPlayer() throws PlayerFieldsException {
+        return playerService.createPlayer(player);
+    }
+
+    @Benchmark
+    public ResponseEntity<Ground> validGround() throws NameAlreadyExistsException, GroundFieldsException {
+        return groundService.createGround("Gaddafi Stadium");
+    }
+
+    @Benchmark
+    public GroundFieldsException invalidGround() throws NameAlreadyExistsException {
+        try {
+            groundService.createGround("Dub");
+            throw new IllegalStateException("ground name should have been rejected");
+        }
+        catch (GroundFieldsException e) {
+            return e;
+        }
+    }
+
+    private static <T> T stub(Class<T> type) {
+        return mock(type, withSettings().stubOnly());
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.cricflow.benchmark.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latencies of one kind of request, in microseconds, with the number of requests that did not succeed.
+ */
+class Latencies {
+
+    private static final Path REPORT_DIRECTORY = Path.of("target", "load");
+
+    final Histogram histogram = new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(1), 3);
+    final AtomicLong errors = new AtomicLong();
+
+    void record(long startNanos, int status) {
+        if (status / 100 != 2)
+            errors.incrementAndGet();
+        histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos), histogram.getHighestTrackableValue()));
+    }
+
+    void report(String name, String unit, long elapsedNanos) throws IOException {
+        System.out.printf("  %-18s %7d %-8s %8.1f/sec, p50 %7.2f ms, p99 %7.2f ms, p999 %7.2f ms, max %7.2f ms, %d errors%n",
+                name, histogram.getTotalCount(), unit + ",", histogram.getTotalCount() / (elapsedNanos / 1e9),
+                millis(50), millis(99), millis(99.9), histogram.getMaxValue() / 1000.0, errors.get());
+        // the whole distribution, for plotting or comparing runs
+        Files.createDirectories(REPORT_DIRECTORY);
+        try (PrintStream out = new PrintStream(Files.newOutputStream(REPORT_DIRECTORY.resolve(name + ".hgrm")))) {
+            histogram.outputPercentileDistribution(out, 1000.0);
+        }
+    }
+
+    private double millis(double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
@@ -0,0 +1,229 @@
+package com.example.cricflow.benchmark.load;
+
+import com.example.cricflow.model.Ball;
+import com.example.cricflow.model.event.Extra;
+import com.example.cricflow.repository.BallRepo;
+import com.example.cricflow.repository.GroundRepo;
+import com.example.cricflow.repository.InningRepo;
+import com.example.cricflow.repository.MatchRepo;
+import com.example.cricflow.repository.OverRepo;
+import com.example.cricflow.repository.PlayerRepo;
+import com.example.cricflow.repository.TeamRepo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// run with: mvn test -Pbenchmark -Dtest=LiveMatchLoadBenchmark
+//   -Dload.matches=10                   matches scored at the same time, one scorer each
+//   -Dload.overs=4                      overs bowled in every match
+//   -Dload.delivery-interval-ms=100     cadence of every scorer, a real match is closer to 30000
+//   -Dload.readers=4                    scorecard readers per match
+//   -Dload.reader-mode=poll             poll the scorecard every -Dload.poll-interval-ms=250, or stream the match
+// against a local postgres instead of H2, add: -Dspring.profiles.active=load-postgres
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DirtiesContext
+public class LiveMatchLoadBenchmark {
+
+    @LocalServerPort private int port;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private GroundRepo groundRepo;
+    @Autowired private TeamRepo teamRepo;
+    @Autowired private PlayerRepo playerRepo;
+    @Autowired private OverRepo overRepo;
+    @Autowired private InningRepo inningRepo;
+    @Autowired private MatchRepo matchRepo;
+    @Autowired private BallRepo ballRepo;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @DisplayName("Benchmark for scoring concurrent live matches while readers follow the scorecards")
+    @Test
+    public void simulateLiveMatches_reportThroughputAndLatencyPercentiles() throws Exception {
+        int matches = Integer.getInteger("load.matches", 10);
+        int overs = Integer.getInteger("load.overs", 4);
+        long deliveryInterval = TimeUnit.MILLISECONDS.toNanos(Long.getLong("load.delivery-interval-ms", 100));
+        int readers = Integer.getInteger("load.readers", 4);
+        boolean streaming = "stream".equals(System.getProperty("load.reader-mode", "poll"));
+        long pollInterval = TimeUnit.MILLISECONDS.toNanos(Long.getLong("load.poll-interval-ms", 250));
+
+        List<LoadFixtures.LiveMatch> liveMatches = new LoadFixtures(groundRepo, teamRepo, playerRepo, overRepo, inningRepo, matchRepo)
+                .createMatches(matches, overs);
+        long ballsBefore = ballRepo.count();
+
+        Latencies writes = new Latencies();
+        Latencies reads = new Latencies();
+        // when the last delivery of each match was sent, a streamed frame is timed against it
+        AtomicLongArray lastSent = new AtomicLongArray(matches);
+        AtomicLongArray scored = new AtomicLongArray(matches);
+        Queue<InputStream> streams = new ConcurrentLinkedQueue<>();
+        CountDownLatch scorersDone = new CountDownLatch(matches);
+        CountDownLatch readersDone = new CountDownLatch(matches * readers);
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int m = 0; m < matches; m++) {
+                int matchIndex = m;
+                LoadFixtures.LiveMatch match = liveMatches.get(m);
+                for (int r = 0; r < readers; r++) {
+                    if (streaming)
+                        executor.execute(() -> stream(match, matchIndex, lastSent, streams, scorersDone, reads, readersDone));
+                    else
+                        executor.execute(() -> poll(match, matchIndex, pollInterval, scored, scorersDone, reads, readersDone));
+                }
+                executor.execute(() -> score(match, matchIndex, deliveryInterval, lastSent, scored, writes, scorersDone));
+            }
+
+            scorersDone.await();
+            long scoringTime = System.nanoTime() - start;
+            if (streaming) {
+                // the last frames are given a moment to arrive before the streams are cut
+                Thread.sleep(500);
+                streams.forEach(LiveMatchLoadBenchmark::closeQuietly);
+            }
+            readersDone.await();
+
+            System.out.printf("LIVE MATCH LOAD: %d matches, %d overs each, a delivery every %d ms, %d %s readers per match%n",
+                    matches, overs, TimeUnit.NANOSECONDS.toMillis(deliveryInterval), readers, streaming ? "streaming" : "polling");
+            writes.report("writes", "requests", scoringTime);
+            if (streaming)
+                reads.report("streamed", "frames", scoringTime);
+            else
+                reads.report("polled", "requests", scoringTime);
+        }
+
+        assertThat(writes.errors.get()).isEqualTo(0);
+        long deliveries = 0;
+        for (int m = 0; m < matches; m++)
+            deliveries += scored.get(m);
+        assertThat(ballRepo.count() - ballsBefore).isEqualTo(deliveries);
+    }
+
+    private void score(LoadFixtures.LiveMatch match, int matchIndex, long deliveryInterval, AtomicLongArray lastSent,
+                       AtomicLongArray scored, Latencies writes, CountDownLatch scorersDone) {
+        LoadFixtures.Scorer scorer = new LoadFixtures.Scorer(match, match.matchId());
+        long start = System.nanoTime();
+        long delivery = 0;
+        try {
+            for (int over = 0; over < match.overIds().size(); over++) {
+                URI uri = uri("/api/v1/ball/add-to-over?overId=" + match.overIds().get(over));
+                for (int legalBalls = 0; legalBalls < 6; delivery++) {
+                    // timed from when the delivery was due, so a slow answer also counts against the ones held up behind it
+                    long due = start + delivery * deliveryInterval;
+                    sleepUntil(due);
+                    Ball ball = scorer.nextDelivery(over);
+                    if (!(ball.getBallEvent() instanceof Extra))
+                        legalBalls++;
+                    lastSent.set(matchIndex, System.nanoTime());
+                    HttpResponse<Void> response = client.send(HttpRequest.newBuilder(uri)
+                                    .header("Content-Type", "application/json")
+                                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(List.of(ball))))
+                                    .build(),
+                            HttpResponse.BodyHandlers.discarding());
+                    writes.record(due, response.statusCode());
+                    scored.incrementAndGet(matchIndex);
+                }
+                scorer.endOver();
+            }
+        }
+        catch (IOException | InterruptedException e) {
+            writes.errors.incrementAndGet();
+        }
+        finally {
+            scorersDone.countDown();
+        }
+    }
+
+    private void poll(LoadFixtures.LiveMatch match, int matchIndex, long pollInterval, AtomicLongArray scored,
+                      CountDownLatch scorersDone, Latencies reads, CountDownLatch readersDone) {
+        HttpRequest request = HttpRequest.newBuilder(uri("/api/v1/scorecard/get/" + match.inningId())).GET().build();
+        long start = System.nanoTime();
+        try {
+            for (long poll = 0; scorersDone.getCount() > 0; poll++) {
+                long due = start + poll * pollInterval;
+                sleepUntil(due);
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                // there is no scorecard until the first delivery of the match, not finding it before then is expected
+                int status = response.statusCode();
+                if (status == 404 && scored.get(matchIndex) == 0)
+                    status = 200;
+                reads.record(due, status);
+            }
+        }
+        catch (IOException | InterruptedException e) {
+            reads.errors.incrementAndGet();
+        }
+        finally {
+            readersDone.countDown();
+        }
+    }
+
+    private void stream(LoadFixtures.LiveMatch match, int matchIndex, AtomicLongArray lastSent, Queue<InputStream> streams,
+                        CountDownLatch scorersDone, Latencies reads, CountDownLatch readersDone) {
+        HttpRequest request = HttpRequest.newBuilder(uri("/api/v1/match/" + match.matchId() + "/stream"))
+                .header("Accept", "text/event-stream")
+                .GET().build();
+        try {
+            HttpResponse<InputStream> response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            streams.add(response.body());
+            BufferedReader reader = new BufferedReader(new InputStreamReader(response.body(), StandardCharsets.UTF_8));
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                // time from the scorer sending the delivery to the frame reaching this reader
+                if (line.startsWith("data:"))
+                    reads.record(lastSent.get(matchIndex), response.statusCode());
+            }
+        }
+        catch (IOException | InterruptedException e) {
+            // the stream is cut once the match is over, only a failure before that is an error
+            if (scorersDone.getCount() > 0)
+                reads.errors.incrementAndGet();
+        }
+        finally {
+            readersDone.countDown();
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static void sleepUntil(long nanoTime) throws InterruptedException {
+        long delay = nanoTime - System.nanoTime();
+        if (delay > 0)
+            Thread.sleep(Duration.ofNanos(delay));
+    }
+
+    private static void closeQuietly(InputStream stream) {
+        try {
+            stream.close();
+        }
+        catch (IOException ignored) {
+        }
+    }
+}
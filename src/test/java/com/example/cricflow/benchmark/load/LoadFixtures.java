@@ -0,0 +1,178 @@
+package com.example.cricflow.benchmark.load;
+
+import com.example.cricflow.model.Ball;
+import com.example.cricflow.model.BallEvent;
+import com.example.cricflow.model.Ground;
+import com.example.cricflow.model.Inning;
+import com.example.cricflow.model.Match;
+import com.example.cricflow.model.Over;
+import com.example.cricflow.model.Player;
+import com.example.cricflow.model.Team;
+import com.example.cricflow.model.event.Extra;
+import com.example.cricflow.model.event.Score;
+import com.example.cricflow.model.event.Wicket;
+import com.example.cricflow.model.literal.ExtraType;
+import com.example.cricflow.model.literal.ScoreType;
+import com.example.cricflow.model.literal.WicketType;
+import com.example.cricflow.repository.GroundRepo;
+import com.example.cricflow.repository.InningRepo;
+import com.example.cricflow.repository.MatchRepo;
+import com.example.cricflow.repository.OverRepo;
+import com.example.cricflow.repository.PlayerRepo;
+import com.example.cricflow.repository.TeamRepo;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Synthetic fixtures for the load simulator, in the spirit of {@code BaseData} but generated: every match gets a
+ * ground, two teams of eleven and a first inning whose overs already exist, so a scorer only ever posts deliveries.
+ */
+public class LoadFixtures {
+
+    private static final Player.PlayerType[] PLAYER_TYPES = {
+            Player.PlayerType.BATSMAN, Player.PlayerType.BATSMAN, Player.PlayerType.BATSMAN, Player.PlayerType.BATSMAN,
+            Player.PlayerType.ALL_ROUNDER, Player.PlayerType.ALL_ROUNDER, Player.PlayerType.ALL_ROUNDER,
+            Player.PlayerType.BOWLER, Player.PlayerType.BOWLER, Player.PlayerType.BOWLER, Player.PlayerType.BOWLER
+    };
+
+    private final GroundRepo groundRepo;
+    private final TeamRepo teamRepo;
+    private final PlayerRepo playerRepo;
+    private final OverRepo overRepo;
+    private final InningRepo inningRepo;
+    private final MatchRepo matchRepo;
+
+    public LoadFixtures(GroundRepo groundRepo, TeamRepo teamRepo, PlayerRepo playerRepo,
+                        OverRepo overRepo, InningRepo inningRepo, MatchRepo matchRepo) {
+        this.groundRepo = groundRepo;
+        this.teamRepo = teamRepo;
+        this.playerRepo = playerRepo;
+        this.overRepo = overRepo;
+        this.inningRepo = inningRepo;
+        this.matchRepo = matchRepo;
+    }
+
+    public List<LiveMatch> createMatches(int matches, int overs) {
+        List<LiveMatch> liveMatches = new ArrayList<>(matches);
+        for (int m = 0; m < matches; m++) {
+            Ground ground = groundRepo.save(new Ground(null, String.format("LOAD GROUND %04d", m)));
+            Team batting = createTeam(String.format("LOAD TEAM %04d A", m));
+            Team bowling = createTeam(String.format("LOAD TEAM %04d B", m));
+
+            List<Over> emptyOvers = new ArrayList<>(overs);
+            for (int o = 0; o < overs; o++)
+                emptyOvers.add(Over.builder().balls(new ArrayList<>()).build());
+            emptyOvers = overRepo.saveAll(emptyOvers);
+            Inning firstInnings = inningRepo.save(Inning.builder().numberOfOvers(overs)
+                    .battingSide(batting).bowlingSide(bowling).overs(new ArrayList<>(emptyOvers)).build());
+            Inning secondInnings = inningRepo.save(Inning.builder().numberOfOvers(overs)
+                    .battingSide(bowling).bowlingSide(batting).overs(new ArrayList<>()).build());
+
+            Match match = matchRepo.save(Match.builder()
+                    .matchDate(LocalDate.now())
+                    .ground(ground)
+                    .teamA(batting)
+                    .teamB(bowling)
+                    .firstInnings(firstInnings)
+                    .secondInnings(secondInnings)
+                    .noOfOvers(overs)
+                    .build());
+
+            liveMatches.add(new LiveMatch(match.getMatchId(), firstInnings.getInningId(),
+                    emptyOvers.stream().map(Over::getOverId).toList(),
+                    batting.getPlayers().stream().map(Player::getPlayerId).toList(),
+                    bowling.getPlayers().stream().map(Player::getPlayerId).toList()));
+        }
+        return liveMatches;
+    }
+
+    private Team createTeam(String teamName) {
+        Team team = teamRepo.save(Team.builder().teamName(teamName).players(new ArrayList<>()).build());
+        List<Player> players = new ArrayList<>(PLAYER_TYPES.length);
+        for (int i = 0; i < PLAYER_TYPES.length; i++)
+            players.add(new Player(null, "Load", "Player" + i, PLAYER_TYPES[i],
+                    (i % 3 == 0) ? Player.BattingStyle.LEFT_HANDED : Player.BattingStyle.RIGHT_HANDED,
+                    (i % 2 == 0) ? Player.BowlingStyle.RIGHT_ARM_FAST_BOWLER : Player.BowlingStyle.RIGHT_ARM_OFF_SPINNER,
+                    team));
+        team.setPlayers(playerRepo.saveAll(players));
+        return team;
+    }
+
+    /**
+     * A match that is being scored: the ids a scorer posts against, and who bats and bowls.
+     */
+    public record LiveMatch(Long matchId, Long inningId, List<Long> overIds, List<Long> batterIds, List<Long> bowlerIds) {
+    }
+
+    /**
+     * Bowls the deliveries of one match, with roughly the mix of a T20 inning: mostly dots and singles, a boundary
+     * now and then, the odd wide and a wicket every few overs. Strike rotates on odd runs and at the end of the over.
+     */
+    public static class Scorer {
+        private final LiveMatch match;
+        private final Random random;
+        private int striker = 0;
+        private int nonStriker = 1;
+        private int nextBatter = 2;
+
+        public Scorer(LiveMatch match, long seed) {
+            this.match = match;
+            this.random = new Random(seed);
+        }
+
+        public Ball nextDelivery(int over) {
+            Long bowlerId = match.bowlerIds().get(match.bowlerIds().size() - 1 - over % 5);
+            BallEvent event = nextEvent();
+            Ball ball = Ball.builder()
+                    .ballEvent(event)
+                    .striker(Player.builder().playerId(match.batterIds().get(striker)).build())
+                    .nonStriker(Player.builder().playerId(match.batterIds().get(nonStriker)).build())
+                    .bowler(Player.builder().playerId(bowlerId).build())
+                    .build();
+
+            if (event instanceof Wicket) {
+                // all out, the last pair carries on so the simulation can keep going
+                if (nextBatter < match.batterIds().size())
+                    striker = nextBatter++;
+            }
+            else if (event instanceof Score score && score.getScoreType().getScore() % 2 == 1)
+                swapStrike();
+            return ball;
+        }
+
+        public void endOver() {
+            swapStrike();
+        }
+
+        private BallEvent nextEvent() {
+            int roll = random.nextInt(100);
+            if (roll < 35)
+                return Score.builder().scoreType(ScoreType.NO_RUN).build();
+            if (roll < 70)
+                return Score.builder().scoreType(ScoreType.SINGLE).build();
+            if (roll < 80)
+                return Score.builder().scoreType(ScoreType.DOUBLE).build();
+            if (roll < 88)
+                return Score.builder().scoreType(ScoreType.FOUR).build();
+            if (roll < 92)
+                return Score.builder().scoreType(ScoreType.SIX).build();
+            if (roll < 96)
+                return Extra.builder().extraType(ExtraType.WIDE).scoreType(ScoreType.NO_RUN).build();
+            if (random.nextBoolean())
+                return Wicket.builder().wicketType(WicketType.BOWLED).build();
+            Long fielderId = match.bowlerIds().get(random.nextInt(match.bowlerIds().size()));
+            return Wicket.builder().wicketType(WicketType.CAUGHT)
+                    .fielder(Player.builder().playerId(fielderId).build())
+                    .build();
+        }
+
+        private void swapStrike() {
+            int previous = striker;
+            striker = nonStriker;
+            nonStriker = previous;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.cricflow.benchmark.load;
+
+import com.example.cricflow.model.Ball;
+import com.example.cricflow.model.Team;
+import com.example.cricflow.model.event.Extra;
+import com.example.cricflow.model.projection.MatchSummary;
+import com.example.cricflow.repository.GroundRepo;
+import com.example.cricflow.repository.InningRepo;
+import com.example.cricflow.repository.MatchRepo;
+import com.example.cricflow.repository.OverRepo;
+import com.example.cricflow.repository.PlayerRepo;
+import com.example.cricflow.repository.TeamRepo;
+import com.example.cricflow.service.BallService;
+import com.example.cricflow.service.SummaryService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// run with: mvn test -Pbenchmark -Dtest=ReadApiBenchmark
+//   -Dload.matches=5                    matches to read, each a full first inning
+//   -Dload.overs=20                     overs bowled in the first inning of every match
+//   -Dload.reads=2000                   reads of each response
+// against a local postgres instead of H2, add: -Dspring.profiles.active=load-postgres
+// each response is read and serialised in process, the way the controller would, one read at a time, so the
+// latencies are those of the database and of jackson without the network in between
+@Tag("benchmark")
+@SpringBootTest
+@DirtiesContext
+public class ReadApiBenchmark {
+
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private GroundRepo groundRepo;
+    @Autowired private TeamRepo teamRepo;
+    @Autowired private PlayerRepo playerRepo;
+    @Autowired private OverRepo overRepo;
+    @Autowired private InningRepo inningRepo;
+    @Autowired private MatchRepo matchRepo;
+    @Autowired private BallService ballService;
+    @Autowired private SummaryService summaryService;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    @DisplayName("Benchmark for reading matches, rosters and players as entities and as v2 projections")
+    @Test
+    public void compareEntityAndProjectionReads_reportResponseSizeAndLatencyPercentiles() throws Exception {
+        int matches = Integer.getInteger("load.matches", 5);
+        int overs = Integer.getInteger("load.overs", 20);
+        int reads = Integer.getInteger("load.reads", 2000);
+
+        List<LoadFixtures.LiveMatch> liveMatches = new LoadFixtures(groundRepo, teamRepo, playerRepo, overRepo, inningRepo, matchRepo)
+                .createMatches(matches, overs);
+        for (LoadFixtures.LiveMatch match : liveMatches)
+            bowlFirstInning(match);
+        List<Long> matchIds = liveMatches.stream().map(LoadFixtures.LiveMatch::matchId).toList();
+        List<Long> teamIds = new ArrayList<>();
+        for (Long matchId : matchIds) {
+            MatchSummary summary = matchRepo.findMatchSummary(matchId).orElseThrow();
+            teamIds.add(summary.teamAId());
+            teamIds.add(summary.teamBId());
+        }
+
+        // the entity reads are the ones the v1 api answers with, in a read only transaction so only the reading differs
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        System.out.printf("READ API: %d matches of %d overs, %d reads of each response%n", matches, overs, reads);
+        measure("match-entity", reads, i -> readOnly.execute(status ->
+                serialise(matchRepo.findById(pick(matchIds, i)).orElseThrow())));
+        measure("match-summary", reads, i -> serialise(summaryService.readMatchSummary(pick(matchIds, i)).getBody()));
+        measure("innings-summary", reads, i -> serialise(summaryService.readInningSummaries(pick(matchIds, i)).getBody()));
+        measure("team-entity", reads, i -> readOnly.execute(status ->
+                serialise(teamRepo.findById(pick(teamIds, i)).orElseThrow())));
+        measure("roster-summary", reads, i -> serialise(summaryService.readTeamRoster(pick(teamIds, i)).getBody()));
+        measure("players-entity", reads, i -> readOnly.execute(status ->
+                serialise(playerRepo.findAllByTeam(Team.builder().teamId(pick(teamIds, i)).build()))));
+        measure("players-summary", reads, i -> serialise(summaryService.readPlayerPage(pick(teamIds, i), null, null).getBody()));
+    }
+
+    private void bowlFirstInning(LoadFixtures.LiveMatch match) {
+        LoadFixtures.Scorer scorer = new LoadFixtures.Scorer(match, match.matchId());
+        for (int over = 0; over < match.overIds().size(); over++) {
+            List<Ball> balls = new ArrayList<>();
+            for (int legalBalls = 0; legalBalls < 6; ) {
+                Ball ball = scorer.nextDelivery(over);
+                if (!(ball.getBallEvent() instanceof Extra))
+                    legalBalls++;
+                balls.add(ball);
+            }
+            ballService.addBallsToOver(match.overIds().get(over), balls);
+            scorer.endOver();
+        }
+    }
+
+    private void measure(String name, int reads, ReadFunction read) throws Exception {
+        // the same reads once unmeasured, so every response is compared with warm code and caches
+        for (int i = 0; i < reads / 4; i++)
+            read.apply(i);
+        Latencies latencies = new Latencies();
+        long bytes = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < reads; i++) {
+            long readStart = System.nanoTime();
+            bytes += read.apply(i).length;
+            latencies.record(readStart, 200);
+        }
+        long elapsed = System.nanoTime() - start;
+        System.out.printf("  %-18s %9d bytes per response%n", name, bytes / reads);
+        latencies.report(name, "reads", elapsed);
+        assertThat(bytes).isPositive();
+    }
+
+    private byte[] serialise(Object response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        }
+        catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Long pick(List<Long> ids, int i) {
+        return ids.get(i % ids.size());
+    }
+
+    @FunctionalInterface
+    private interface ReadFunction {
+        byte[] apply(int i) throws Exception;
+    }
+}
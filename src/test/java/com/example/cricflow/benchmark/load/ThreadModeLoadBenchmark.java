@@ -0,0 +1,192 @@
+package com.example.cricflow.benchmark.load;
+
+import com.example.cricflow.CricFlowApplication;
+import com.example.cricflow.model.Ground;
+import com.example.cricflow.model.Player;
+import com.example.cricflow.repository.GroundRepo;
+import com.example.cricflow.repository.PlayerRepo;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// run with: mvn test -Pbenchmark -Dtest=ThreadModeLoadBenchmark
+//   -Dload.concurrency=400              clients sending at the same time, twice the 200 request threads of tomcat
+//   -Dload.requests=20000               requests per endpoint in each thread mode
+// against a local postgres instead of H2, add: -Dspring.profiles.active=load-postgres
+// H2 answers from memory while holding its own monitors, the gap between the modes only really shows where
+// requests wait on the network for the database
+@Tag("benchmark")
+public class ThreadModeLoadBenchmark {
+
+    private static final int PLAYERS = 500;
+    private static final int GROUNDS = 100;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    @DisplayName("Benchmark for serving the player, team and ground endpoints on platform and on virtual threads")
+    @Test
+    public void comparePlatformAndVirtualThreads_reportThroughputAndLatencyPercentiles() throws Exception {
+        int concurrency = Integer.getInteger("load.concurrency", 400);
+        int requests = Integer.getInteger("load.requests", 20_000);
+
+        for (boolean virtual : new boolean[]{false, true}) {
+            String mode = virtual ? "virtual" : "platform";
+            try (ConfigurableApplicationContext context = start(virtual);
+                 PinnedThreads pinned = new PinnedThreads()) {
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                List<Long> playerIds = createPlayers(context.getBean(PlayerRepo.class));
+                List<Long> groundIds = createGrounds(context.getBean(GroundRepo.class));
+                AtomicInteger teams = new AtomicInteger();
+
+                Map<String, IntFunction<HttpRequest>> endpoints = Map.of(
+                        "player", i -> get(port, "/api/v1/player/get/" + pick(playerIds)),
+                        "ground", i -> get(port, "/api/v1/ground/get/" + pick(groundIds)),
+                        "team", i -> HttpRequest.newBuilder(uri(port, "/api/v1/team/create?teamName=" + mode + "-" + teams.incrementAndGet()))
+                                .POST(HttpRequest.BodyPublishers.noBody()).build());
+
+                System.out.printf("%n%s threads, %d clients, %d requests per endpoint:%n", mode, concurrency, requests);
+                for (String endpoint : List.of("player", "ground", "team")) {
+                    // the same load once unmeasured, so both modes are compared with warm code and a full pool
+                    drive(endpoints.get(endpoint), concurrency, requests / 4, new Latencies());
+                    Latencies latencies = new Latencies();
+                    long elapsed = drive(endpoints.get(endpoint), concurrency, requests, latencies);
+                    latencies.report(mode + "-" + endpoint, "requests", elapsed);
+                    assertThat(latencies.errors.get()).as("failed %s requests on %s threads", endpoint, mode).isZero();
+                }
+                pinned.report();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext start(boolean virtual) {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(CricFlowApplication.class)
+                .logStartupInfo(false)
+                .properties("server.port=0", "spring.main.banner-mode=off", "logging.level.root=WARN",
+                        "spring.threads.virtual.enabled=" + virtual);
+        if (virtual)
+            builder.profiles("virtual-threads");
+        return builder.run();
+    }
+
+    /**
+     * Keeps {@code concurrency} requests in flight until {@code requests} have been answered.
+     */
+    private long drive(IntFunction<HttpRequest> requestFactory, int concurrency, int requests, Latencies latencies) throws InterruptedException {
+        AtomicInteger sent = new AtomicInteger();
+        long start = System.nanoTime();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < concurrency; c++) {
+                clients.execute(() -> {
+                    for (int i = sent.getAndIncrement(); i < requests; i = sent.getAndIncrement()) {
+                        long requestStart = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(requestFactory.apply(i), HttpResponse.BodyHandlers.discarding());
+                            latencies.record(requestStart, response.statusCode());
+                        }
+                        catch (IOException e) {
+                            latencies.errors.incrementAndGet();
+                        }
+                        catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                    }
+                });
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static List<Long> createPlayers(PlayerRepo playerRepo) {
+        List<Player> players = new ArrayList<>(PLAYERS);
+        for (int i = 0; i < PLAYERS; i++)
+            players.add(new Player(null, "Load", "Player" + i, Player.PlayerType.ALL_ROUNDER,
+                    Player.BattingStyle.RIGHT_HANDED, Player.BowlingStyle.RIGHT_ARM_FAST_BOWLER, null));
+        return playerRepo.saveAll(players).stream().map(Player::getPlayerId).toList();
+    }
+
+    private static List<Long> createGrounds(GroundRepo groundRepo) {
+        List<Ground> grounds = new ArrayList<>(GROUNDS);
+        for (int i = 0; i < GROUNDS; i++)
+            grounds.add(new Ground(null, String.format("LOAD GROUND %04d", i)));
+        return groundRepo.saveAll(grounds).stream().map(Ground::getGroundId).toList();
+    }
+
+    private static HttpRequest get(int port, String path) {
+        return HttpRequest.newBuilder(uri(port, path)).GET().build();
+    }
+
+    private static URI uri(int port, String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static Long pick(List<Long> ids) {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+
+    /**
+     * Counts virtual threads that blocked while pinned to their carrier, by the frame they were pinned in.
+     */
+    private static class PinnedThreads implements AutoCloseable {
+        private final RecordingStream recording = new RecordingStream();
+        private final Map<String, AtomicInteger> byFrame = new ConcurrentHashMap<>();
+
+        PinnedThreads() {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ofMillis(1)).withStackTrace();
+            recording.onEvent("jdk.VirtualThreadPinned", event -> {
+                String frame = "<no stack trace>";
+                if (event.getStackTrace() != null)
+                    for (RecordedFrame recorded : event.getStackTrace().getFrames()) {
+                        // the first frame of our own code that the thread was pinned under
+                        if (recorded.getMethod().getType().getName().startsWith("com.example.cricflow")) {
+                            frame = recorded.getMethod().getType().getName() + "." + recorded.getMethod().getName();
+                            break;
+                        }
+                    }
+                byFrame.computeIfAbsent(frame, f -> new AtomicInteger()).incrementAndGet();
+            });
+            recording.startAsync();
+        }
+
+        void report() {
+            // events still buffered are handed to the handler before stop() returns
+            recording.stop();
+            if (byFrame.isEmpty()) {
+                System.out.println("  no virtual thread was pinned for longer than 1 ms");
+                return;
+            }
+            byFrame.forEach((frame, count) -> System.out.printf("  pinned %5d x under %s%n", count.get(), frame));
+        }
+
+        @Override
+        public void close() {
+            recording.close();
+        }
+    }
+}
@@ -4,7 +4,9 @@ import com.example.cricflow.BaseData;
 import com.example.cricflow.exception.EntityDoesNotExistsException;
 import com.example.cricflow.exception.validator.PlayerFieldsException;
 import com.example.cricflow.model.Player;
+import com.example.cricflow.service.PlayerImportService;
 import com.example.cricflow.service.PlayerService;
+import com.example.cricflow.service.PlayerStatsService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -31,6 +33,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 public class PlayerControllerTests extends BaseData {
 
     @MockBean private PlayerService playerService;
+    @MockBean private PlayerStatsService playerStatsService;
+    @MockBean private PlayerImportService playerImportService;
 
     @Autowired private MockMvc mockMvc;
     @Autowired private ObjectMapper objectMapper;
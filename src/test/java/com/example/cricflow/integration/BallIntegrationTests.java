@@ -0,0 +1,445 @@
+package com.example.cricflow.integration;
+
+import com.example.cricflow.model.Ball;
+import com.example.cricflow.model.Inning;
+import com.example.cricflow.model.Over;
+import com.example.cricflow.model.Player;
+import com.example.cricflow.model.event.Extra;
+import com.example.cricflow.model.event.Score;
+import com.example.cricflow.model.event.Wicket;
+import com.example.cricflow.model.literal.ExtraType;
+import com.example.cricflow.model.literal.ScoreType;
+import com.example.cricflow.model.literal.WicketType;
+import com.example.cricflow.model.live.CompactDelivery;
+import com.example.cricflow.support.DeliveryFixture;
+import com.example.cricflow.support.SqlBudgetConfiguration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+@Import(SqlBudgetConfiguration.class)
+@Transactional
+public class BallIntegrationTests extends DeliveryFixture {
+
+    @DisplayName("Integration Test for adding a batch of balls to an existing over")
+    @Test
+    public void givenOrderedBalls_whenAddToOverIsHit_thenBallsAreSavedInOrderAndCreatedStatusIsReturned() throws Exception {
+        //given
+        Over over = overRepo.save(Over.builder().balls(new ArrayList<>()).build());
+        List<Ball> balls = List.of(
+                ball(Score.builder().scoreType(ScoreType.FOUR).build()),
+                ball(Extra.builder().extraType(ExtraType.WIDE).scoreType(ScoreType.NO_RUN).build()),
+                ball(Wicket.builder().wicketType(WicketType.CAUGHT).fielder(stub(bowler)).build())
+        );
+
+        //when
+        ResultActions response = mockMvc.perform(post("/api/v1/ball/add-to-over")
+                .param("overId", over.getOverId().toString())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(balls)));
+
+        //then
+        response.andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.size()", is(3)))
+                .andExpect(jsonPath("$[0].ballEvent.eventType", is("SCORE")))
+                .andExpect(jsonPath("$[1].ballEvent.eventType", is("EXTRA")))
+                .andExpect(jsonPath("$[2].ballEvent.eventType", is("WICKET")));
+        entityManager.flush();
+        entityManager.clear();
+        List<Ball> savedBalls = overRepo.findById(over.getOverId()).get().getBalls();
+        assertThat(savedBalls.size()).isEqualTo(3);
+        assertThat(((Score) savedBalls.get(0).getBallEvent()).getScoreType()).isEqualTo(ScoreType.FOUR);
+        assertThat(((Extra) savedBalls.get(1).getBallEvent()).getExtraType()).isEqualTo(ExtraType.WIDE);
+        assertThat(((Wicket) savedBalls.get(2).getBallEvent()).getWicketType()).isEqualTo(WicketType.CAUGHT);
+    }
+
+    @DisplayName("Integration Test for adding a new over of balls to an inning")
+    @Test
+    public void givenOrderedBalls_whenAddOverIsHit_thenNewOverIsAppendedToInning() throws Exception {
+        //given
+        Inning inning = inningRepo.save(Inning.builder().numberOfOvers(5).overs(new ArrayList<>()).build());
+        List<Ball> balls = List.of(
+                ball(Score.builder().scoreType(ScoreType.SINGLE).build()),
+                ball(Score.builder().scoreType(ScoreType.SIX).build())
+        );
+
+        //when
+        ResultActions response = mockMvc.perform(post("/api/v1/ball/add-over")
+                .param("inningId", inning.getInningId().toString())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(balls)));
+
+        //then
+        response.andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.size()", is(2)));
+        entityManager.flush();
+        entityManager.clear();
+        Inning savedInning = inningRepo.findById(inning.getInningId()).get();
+        assertThat(savedInning.getOvers().size()).isEqualTo(1);
+        assertThat(savedInning.getOvers().get(0).getBalls().size()).isEqualTo(2);
+    }
+
+    @DisplayName("Integration Test for adding balls to an over that does not exist")
+    @Test
+    public void givenOverIdThatDoesNotExist_whenAddToOverIsHit_thenNotFoundStatusIsReturned() throws Exception {
+        //given
+        List<Ball> balls = List.of(ball(Score.builder().scoreType(ScoreType.SINGLE).build()));
+
+        //when
+        ResultActions response = mockMvc.perform(post("/api/v1/ball/add-to-over")
+                .param("overId", "999")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(balls)));
+
+        //then
+        response.andDo(print())
+                .andExpect(status().isNotFound());
+        assertThat(ballRepo.count()).isEqualTo(0);
+    }
+
+    @DisplayName("Integration Test for adding a batch with a player that does not exist")
+    @Test
+    public void givenBallWithUnknownPlayer_whenAddToOverIsHit_thenNothingIsSavedAndNotFoundStatusIsReturned() throws Exception {
+        //given
+        Over over = overRepo.save(Over.builder().balls(new ArrayList<>()).build());
+        Ball unknownStriker = ball(Score.builder().scoreType(ScoreType.SINGLE).build());
+        unknownStriker.setStriker(Player.builder().playerId(999L).build());
+        List<Ball> balls = List.of(ball(Score.builder().scoreType(ScoreType.FOUR).build()), unknownStriker);
+
+        //when
+        ResultActions response = mockMvc.perform(post("/api/v1/ball/add-to-over")
+                .param("overId", over.getOverId().toString())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(balls)));
+
+        //then
+        response.andDo(print())
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$", is("PLAYER with ID: 999 does not exist")));
+        assertThat(ballRepo.count()).isEqualTo(0);
+    }
+
+    @DisplayName("Integration Test for adding a ball without a ball event")
+    @Test
+    public void givenBallWithoutEvent_whenAddToOverIsHit_thenBadRequestStatusIsReturned() throws Exception {
+        //given
+        Over over = overRepo.save(Over.builder().balls(new ArrayList<>()).build());
+        List<Ball> balls = List.of(ball(null));
+
+        //when
+        ResultActions response = mockMvc.perform(post("/api/v1/ball/add-to-over")
+                .param("overId", over.getOverId().toString())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(balls)));
+
+        //then
+        response.andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$[0]", is("ballEvent can not be null")));
+    }
+
+    @DisplayName("Integration Test for adding balls whose event has no type, each one is reported")
+    @Test
+    public void givenEventsWithoutTheirType_whenAddToOverIsHit_thenBadRequestStatusIsReturned() throws Exception {
+        //given
+        Over over = overRepo.save(Over.builder().balls(new ArrayList<>()).build());
+
+        //when
+        ResultActions score = addToOver(over, List.of(ball(Score.builder().build())));
+        ResultActions extra = addToOver(over, List.of(ball(Extra.builder().scoreType(ScoreType.NO_RUN).build())));
+        ResultActions wicket = addToOver(over, List.of(ball(Wicket.builder().build())));
+
+        //then
+        score.andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$[0]", is("ballEvent.scoreType can not be null")));
+        extra.andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$[0]", is("ballEvent.extraType can not be null")));
+        wicket.andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$[0]", is("ballEvent.wicketType can not be null")));
+        assertThat(ballRepo.count()).isEqualTo(0);
+    }
+
+    @DisplayName("Integration Test for adding a batch with a null ball in it")
+    @Test
+    public void givenNullBallInBatch_whenAddOverIsHit_thenNothingIsSavedAndBadRequestStatusIsReturned() throws Exception {
+        //given
+        Inning inning = inningRepo.save(Inning.builder().numberOfOvers(5).overs(new ArrayList<>()).build());
+        List<Ball> balls = new ArrayList<>();
+        balls.add(ball(Score.builder().scoreType(ScoreType.SINGLE).build()));
+        balls.add(null);
+
+        //when
+        ResultActions response = addOver(inning, balls);
+
+        //then
+        response.andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$[0]", is("ball can not be null")));
+        assertThat(ballRepo.count()).isEqualTo(0);
+    }
+
+    @DisplayName("Integration Test for adding a ball that comes with its own ball id")
+    @Test
+    public void givenBallWithId_whenAddToOverIsHit_thenBadRequestStatusIsReturned() throws Exception {
+        //given
+        Over over = overRepo.save(Over.builder().balls(new ArrayList<>()).build());
+        Ball ball = ball(Score.builder().scoreType(ScoreType.SINGLE).build());
+        ball.setBallId(42L);
+
+        //when
+        ResultActions response = addToOver(over, List.of(ball));
+
+        //then
+        response.andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$[0]", is("ballId can not be given, it is set when the ball is saved")));
+        assertThat(ballRepo.count()).isEqualTo(0);
+    }
+
+    @DisplayName("Integration Test for adding a ball with a striker that has no player id")
+    @Test
+    public void givenStrikerWithoutPlayerId_whenAddToOverIsHit_thenBadRequestStatusIsReturned() throws Exception {
+        //given
+        Over over = overRepo.save(Over.builder().balls(new ArrayList<>()).build());
+        Ball ball = ball(Score.builder().scoreType(ScoreType.SINGLE).build());
+        ball.setStriker(Player.builder().build());
+
+        //when
+        ResultActions response = addToOver(over, List.of(ball));
+
+        //then
+        response.andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$[0]", is("striker.playerId can not be null")));
+        assertThat(ballRepo.count()).isEqualTo(0);
+    }
+
+    @DisplayName("Integration Test for a seventh legal delivery in an over, wides not counted")
+    @Test
+    public void givenOverWithFiveLegalBallsAndWide_whenTwoMoreAreAdded_thenConflictStatusIsReturned() throws Exception {
+        //given
+        Over over = overRepo.save(Over.builder().balls(new ArrayList<>()).build());
+        List<Ball> firstBalls = new ArrayList<>();
+        for (int i = 0; i < 5; i++)
+            firstBalls.add(ball(Score.builder().scoreType(ScoreType.NO_RUN).build()));
+        firstBalls.add(ball(Extra.builder().extraType(ExtraType.WIDE).scoreType(ScoreType.NO_RUN).build()));
+        addToOver(over, firstBalls).andExpect(status().isCreated());
+
+        //when
+        ResultActions response = addToOver(over, List.of(
+                ball(Score.builder().scoreType(ScoreType.SINGLE).build()),
+                ball(Score.builder().scoreType(ScoreType.SINGLE).build())));
+
+        //then
+        response.andDo(print())
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$", is("Can not bowl more than 6 legal deliveries in the over with id: " + over.getOverId() +
+                        ", a new over has to be started")));
+        entityManager.flush();
+        entityManager.clear();
+        assertThat(overRepo.findById(over.getOverId()).get().getBalls()).hasSize(6);
+    }
+
+    @DisplayName("Integration Test for adding an over past the number of overs of the inning")
+    @Test
+    public void givenInningOfOneOver_whenSecondOverIsAdded_thenConflictStatusIsReturned() throws Exception {
+        //given
+        Inning inning = inningRepo.save(Inning.builder().numberOfOvers(1).overs(new ArrayList<>()).build());
+        addOver(inning, List.of(ball(Score.builder().scoreType(ScoreType.FOUR).build()))).andExpect(status().isCreated());
+
+        //when
+        ResultActions response = addOver(inning, List.of(ball(Score.builder().scoreType(ScoreType.SIX).build())));
+
+        //then
+        response.andDo(print())
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$", is("Can not add more overs than 1 for this innings with id: " + inning.getInningId())));
+    }
+
+    @DisplayName("Integration Test for adding a new over while the one being bowled is not complete")
+    @Test
+    public void givenOverOfThreeLegalBalls_whenNextOverIsAdded_thenNothingIsSavedAndConflictStatusIsReturned() throws Exception {
+        //given
+        Inning inning = inningRepo.save(Inning.builder().numberOfOvers(5).overs(new ArrayList<>()).build());
+        addOver(inning, List.of(
+                ball(Score.builder().scoreType(ScoreType.FOUR).build()),
+                ball(Extra.builder().extraType(ExtraType.WIDE).scoreType(ScoreType.NO_RUN).build()),
+                ball(Score.builder().scoreType(ScoreType.SINGLE).build()),
+                ball(Score.builder().scoreType(ScoreType.NO_RUN).build())
+        )).andExpect(status().isCreated());
+
+        //when
+        ResultActions response = addOver(inning, List.of(ball(Score.builder().scoreType(ScoreType.SIX).build())));
+
+        //then
+        response.andDo(print())
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$", is("Can not start a new over in the innings with id: " + inning.getInningId() +
+                        ", the over being bowled has had 3 of its 6 legal deliveries")));
+        entityManager.flush();
+        entityManager.clear();
+        assertThat(inningRepo.findById(inning.getInningId()).get().getOvers().size()).isEqualTo(1);
+    }
+
+    @DisplayName("Integration Test for a delivery after the tenth wicket of the inning")
+    @Test
+    public void givenTenWicketsInOvers_whenAnotherBallIsAdded_thenConflictStatusIsReturned() throws Exception {
+        //given
+        Inning inning = inningRepo.save(Inning.builder().numberOfOvers(5).overs(new ArrayList<>()).build());
+        List<Ball> firstOver = new ArrayList<>();
+        for (int i = 0; i < 6; i++)
+            firstOver.add(ball(Wicket.builder().wicketType(WicketType.BOWLED).build()));
+        addOver(inning, firstOver).andExpect(status().isCreated());
+        List<Ball> secondOver = new ArrayList<>();
+        for (int i = 0; i < 4; i++)
+            secondOver.add(ball(Wicket.builder().wicketType(WicketType.BOWLED).build()));
+        secondOver.add(ball(Score.builder().scoreType(ScoreType.SINGLE).build()));
+
+        //when
+        ResultActions response = addOver(inning, secondOver);
+
+        //then
+        response.andDo(print())
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$", is("Can not bowl any more deliveries in the innings with id: " + inning.getInningId() + ", it is complete")));
+    }
+
+    @DisplayName("Integration Test for compact scoring, players are named once and then taken from the inning across an over")
+    @Test
+    public void givenOutcomesOnly_whenScoreIsHit_thenStrikerAndBowlerAreFilledInFromInning() throws Exception {
+        //given
+        Player changeBowler = playerRepo.save(new Player(null, "Shan", "Masood", Player.PlayerType.BOWLER, Player.BattingStyle.LEFT_HANDED, Player.BowlingStyle.RIGHT_ARM_FAST_BOWLER, null));
+        Inning inning = inningRepo.save(Inning.builder().numberOfOvers(5).overs(new ArrayList<>()).build());
+        List<CompactDelivery> deliveries = new ArrayList<>();
+        deliveries.add(new CompactDelivery(ScoreType.SINGLE, null, null, null, batter.getPlayerId(), runner.getPlayerId(), bowler.getPlayerId()));
+        deliveries.add(new CompactDelivery(ScoreType.NO_RUN, ExtraType.WIDE, null, null, null, null, null));
+        for (int i = 0; i < 5; i++)
+            deliveries.add(outcome(ScoreType.NO_RUN));
+        deliveries.add(new CompactDelivery(ScoreType.FOUR, null, null, null, null, null, changeBowler.getPlayerId()));
+
+        //when
+        ResultActions response = score(inning, deliveries);
+
+        //then
+        response.andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.size()", is(8)))
+                .andExpect(jsonPath("$[0].striker.playerId", is(batter.getPlayerId().intValue())))
+                .andExpect(jsonPath("$[1].ballEvent.eventType", is("EXTRA")))
+                .andExpect(jsonPath("$[1].striker.playerId", is(runner.getPlayerId().intValue())))
+                .andExpect(jsonPath("$[6].bowler.playerId", is(bowler.getPlayerId().intValue())))
+                // the over ended with the runner on strike, the batter faces the next one
+                .andExpect(jsonPath("$[7].striker.playerId", is(batter.getPlayerId().intValue())))
+                .andExpect(jsonPath("$[7].nonStriker.playerId", is(runner.getPlayerId().intValue())))
+                .andExpect(jsonPath("$[7].bowler.playerId", is(changeBowler.getPlayerId().intValue())));
+        entityManager.flush();
+        entityManager.clear();
+        Inning savedInning = inningRepo.findById(inning.getInningId()).get();
+        assertThat(savedInning.getOvers()).hasSize(2);
+        assertThat(savedInning.getOvers().get(0).getBalls()).hasSize(7);
+        assertThat(savedInning.getOvers().get(1).getBalls()).hasSize(1);
+    }
+
+    @DisplayName("Integration Test for compact scoring after a wicket, the batter coming in has to be named")
+    @Test
+    public void givenWicketScored_whenNextOutcomeDoesNotNameBatter_thenBadRequestStatusIsReturned() throws Exception {
+        //given
+        Inning inning = inningRepo.save(Inning.builder().numberOfOvers(5).overs(new ArrayList<>()).build());
+        score(inning, List.of(new CompactDelivery(null, null, WicketType.CAUGHT, runner.getPlayerId(), batter.getPlayerId(), runner.getPlayerId(), bowler.getPlayerId())))
+                .andExpect(status().isCreated());
+
+        //when
+        ResultActions response = score(inning, List.of(outcome(ScoreType.SINGLE)));
+
+        //then
+        response.andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$[0]", is("delivery 1: strikerId has to be given, the inning has no batter on strike")));
+        entityManager.flush();
+        entityManager.clear();
+        assertThat(inningRepo.findById(inning.getInningId()).get().getOvers().get(0).getBalls()).hasSize(1);
+    }
+
+    @DisplayName("Integration Test for scoring an over and the start of the next in shorthand on one line")
+    @Test
+    public void givenShorthandLine_whenScoreShorthandIsHit_thenDeliveriesAreSavedAcrossOvers() throws Exception {
+        //given
+        Inning inning = inningRepo.save(Inning.builder().numberOfOvers(5).overs(new ArrayList<>()).build());
+        String text = "st:" + batter.getPlayerId() + " ns:" + runner.getPlayerId() + " bw:" + bowler.getPlayerId() + " . 1 1wd 4 2nb 6 W-c:" + bowler.getPlayerId() + " st:" + batter.getPlayerId() + " .\n"
+                + "bw:" + runner.getPlayerId() + " 2";
+
+        //when
+        ResultActions response = mockMvc.perform(post("/api/v1/ball/score-shorthand")
+                .param("inningId", inning.getInningId().toString())
+                .contentType(MediaType.TEXT_PLAIN)
+                .content(text));
+
+        //then
+        response.andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.size()", is(9)))
+                .andExpect(jsonPath("$[2].ballEvent.eventType", is("EXTRA")))
+                .andExpect(jsonPath("$[2].ballEvent.extraType", is("WIDE")))
+                .andExpect(jsonPath("$[2].ballEvent.scoreType", is("SINGLE")))
+                .andExpect(jsonPath("$[6].ballEvent.eventType", is("WICKET")))
+                .andExpect(jsonPath("$[6].ballEvent.fielder.playerId", is(bowler.getPlayerId().intValue())))
+                .andExpect(jsonPath("$[8].bowler.playerId", is(runner.getPlayerId().intValue())));
+        entityManager.flush();
+        entityManager.clear();
+        Inning savedInning = inningRepo.findById(inning.getInningId()).get();
+        assertThat(savedInning.getOvers()).hasSize(2);
+        assertThat(savedInning.getOvers().get(0).getBalls()).hasSize(8);
+        assertThat(((Wicket) savedInning.getOvers().get(0).getBalls().get(6).getBallEvent()).getWicketType()).isEqualTo(WicketType.CAUGHT);
+    }
+
+    @DisplayName("Integration Test for shorthand with tokens it does not know, every one is reported and nothing is saved")
+    @Test
+    public void givenShorthandWithBadTokens_whenScoreShorthandIsHit_thenBadRequestStatusIsReturned() throws Exception {
+        //given
+        Inning inning = inningRepo.save(Inning.builder().numberOfOvers(5).overs(new ArrayList<>()).build());
+
+        //when
+        ResultActions response = mockMvc.perform(post("/api/v1/ball/score-shorthand")
+                .param("inningId", inning.getInningId().toString())
+                .contentType(MediaType.TEXT_PLAIN)
+                .content(". 5 1\nW-x 4"));
+
+        //then
+        response.andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.size()", is(2)))
+                .andExpect(jsonPath("$[0]", is("line 1: 5 is not a delivery in shorthand")))
+                .andExpect(jsonPath("$[1]", is("line 2: W-x is not a delivery in shorthand")));
+        assertThat(ballRepo.count()).isEqualTo(0);
+    }
+
+    private ResultActions score(Inning inning, List<CompactDelivery> deliveries) throws Exception {
+        return mockMvc.perform(post("/api/v1/ball/score")
+                .param("inningId", inning.getInningId().toString())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(deliveries)));
+    }
+
+    private static CompactDelivery outcome(ScoreType scoreType) {
+        return new CompactDelivery(scoreType, null, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.cricflow.integration;
+
+import com.example.cricflow.model.Ball;
+import com.example.cricflow.model.BallEvent;
+import com.example.cricflow.model.Over;
+import com.example.cricflow.model.event.Extra;
+import com.example.cricflow.model.event.Score;
+import com.example.cricflow.model.event.Wicket;
+import com.example.cricflow.model.literal.ExtraType;
+import com.example.cricflow.model.literal.ScoreType;
+import com.example.cricflow.model.literal.WicketType;
+import com.example.cricflow.support.DeliveryFixture;
+import com.example.cricflow.support.SqlBudgetConfiguration;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.SingleTableEntityPersister;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+@Import(SqlBudgetConfiguration.class)
+@ActiveProfiles("compact-events")
+@Transactional
+public class CompactBallEventIntegrationTests extends DeliveryFixture {
+
+    @DisplayName("Integration Test for the ball event mapping of the compact-events profile")
+    @Test
+    public void givenCompactEventsProfile_whenMappingInspected_thenEventsShareOneTable() {
+        //when
+        SingleTableEntityPersister persister = (SingleTableEntityPersister) entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel()
+                .getEntityDescriptor(Wicket.class);
+
+        //then
+        assertThat(persister.getTableName()).isEqualToIgnoringCase("BallEvent");
+        assertThat(persister.getDiscriminatorValue()).isEqualTo("WICKET");
+    }
+
+    @DisplayName("Integration Test for saving and loading every event type from the one event table")
+    @Test
+    public void givenOrderedBalls_whenAddToOverIsHit_thenEventsAreLoadedBackWithTheirTypes() throws Exception {
+        //given
+        Over over = overRepo.save(Over.builder().balls(new ArrayList<>()).build());
+        List<Ball> balls = List.of(
+                ball(Score.builder().scoreType(ScoreType.FOUR).build()),
+                ball(Extra.builder().extraType(ExtraType.NO_BALL).scoreType(ScoreType.DOUBLE).build()),
+                ball(Wicket.builder().wicketType(WicketType.CAUGHT).fielder(stub(bowler)).build())
+        );
+
+        //when
+        ResultActions response = mockMvc.perform(post("/api/v1/ball/add-to-over")
+                .param("overId", over.getOverId().toString())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(balls)));
+
+        //then
+        response.andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$[2].ballEvent.eventType", is("WICKET")));
+        entityManager.flush();
+        entityManager.clear();
+        List<Ball> savedBalls = overRepo.findById(over.getOverId()).get().getBalls();
+        assertThat(((Score) savedBalls.get(0).getBallEvent()).getScoreType()).isEqualTo(ScoreType.FOUR);
+        assertThat(((Extra) savedBalls.get(1).getBallEvent()).getExtraType()).isEqualTo(ExtraType.NO_BALL);
+        assertThat(((Extra) savedBalls.get(1).getBallEvent()).getScoreType()).isEqualTo(ScoreType.DOUBLE);
+        assertThat(((Wicket) savedBalls.get(2).getBallEvent()).getWicketType()).isEqualTo(WicketType.CAUGHT);
+        assertThat(((Wicket) savedBalls.get(2).getBallEvent()).getFielder().getPlayerId()).isEqualTo(bowler.getPlayerId());
+    }
+}
@@ -2,6 +2,7 @@ package com.example.cricflow.integration;
 
 import com.example.cricflow.model.Ground;
 import com.example.cricflow.repository.GroundRepo;
+import com.example.cricflow.support.SqlBudgetConfiguration;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -9,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -29,6 +31,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @AutoConfigureMockMvc
+@Import(SqlBudgetConfiguration.class)
 public class GroundIntegrationTests {
 
     @Autowired private GroundRepo groundRepo;
@@ -121,6 +124,69 @@ public class GroundIntegrationTests {
         assertThat(groundRepo.findAll().size()).isEqualTo(3);
     }
 
+    @DisplayName("Integration Test for adding multiple grounds where two names differ only in case")
+    @Test
+    public void givenGroundNamesDifferingOnlyInCase_whenCreateAllGroundsIsHit_thenConflictStatusIsReturnedAndNothingIsSaved() throws Exception {
+        //given
+        List<String> groundNames = Arrays.asList("Nice Ground", "SCME Ground", "nice ground");
+
+        //when
+        ResultActions response = mockMvc.perform(
+                post("/api/v1/ground/create-all")
+                        .content(objectMapper.writeValueAsString(groundNames))
+                        .contentType(MediaType.APPLICATION_JSON)
+        );
+
+        //then
+        response.andDo(print())
+                .andExpect(status().isConflict());
+        assertThat(groundRepo.count()).isEqualTo(0);
+    }
+
+    @DisplayName("Integration Test for importing thousands of grounds where the last one already exists")
+    @Test
+    public void givenThousandsOfGroundNamesWithOneAlreadySaved_whenCreateAllGroundsIsHit_thenConflictStatusIsReturnedAndNothingElseIsSaved() throws Exception {
+        //given
+        List<String> groundNames = new ArrayList<>();
+        for (int i = 0; i < 2500; i++)
+            groundNames.add("Venue " + i);
+        groundRepo.save(new Ground(null, "VENUE 2499"));
+
+        //when
+        ResultActions response = mockMvc.perform(
+                post("/api/v1/ground/create-all")
+                        .content(objectMapper.writeValueAsString(groundNames))
+                        .contentType(MediaType.APPLICATION_JSON)
+        );
+
+        //then
+        response.andDo(print())
+                .andExpect(status().isConflict());
+        assertThat(groundRepo.count()).isEqualTo(1);
+    }
+
+    @DisplayName("Integration Test for importing thousands of grounds")
+    @Test
+    public void givenThousandsOfUniqueGroundNames_whenCreateAllGroundsIsHit_thenAllGroundsAreSaved() throws Exception {
+        //given
+        List<String> groundNames = new ArrayList<>();
+        for (int i = 0; i < 2500; i++)
+            groundNames.add("Venue " + i);
+
+        //when
+        ResultActions response = mockMvc.perform(
+                post("/api/v1/ground/create-all")
+                        .content(objectMapper.writeValueAsString(groundNames))
+                        .contentType(MediaType.APPLICATION_JSON)
+        );
+
+        //then
+        response.andExpect(status().isCreated())
+                .andExpect(jsonPath("$", hasSize(2500)))
+                .andExpect(jsonPath("$[2499].groundName", is("VENUE 2499")));
+        assertThat(groundRepo.count()).isEqualTo(2500);
+    }
+
     @DisplayName("Integration Test for reading a ground with id that exists")
     @Test
     public void givenGroundIdThatExists_whenGetGroundIsHit_thenGroundObjectWithGivenIdIsReturned() throws Exception {
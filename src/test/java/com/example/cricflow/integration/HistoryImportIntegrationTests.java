@@ -0,0 +1,233 @@
+package com.example.cricflow.integration;
+
+import com.example.cricflow.model.Ball;
+import com.example.cricflow.model.Match;
+import com.example.cricflow.model.event.Extra;
+import com.example.cricflow.model.event.Score;
+import com.example.cricflow.model.event.Wicket;
+import com.example.cricflow.model.history.HistoryImportReport;
+import com.example.cricflow.model.live.InningScorecard;
+import com.example.cricflow.model.literal.ExtraType;
+import com.example.cricflow.model.literal.ScoreType;
+import com.example.cricflow.model.literal.TeamSide;
+import com.example.cricflow.model.literal.WicketType;
+import com.example.cricflow.model.projection.InningSummary;
+import com.example.cricflow.model.projection.MatchSummary;
+import com.example.cricflow.model.projection.NamedId;
+import com.example.cricflow.repository.BallRepo;
+import com.example.cricflow.repository.GroundRepo;
+import com.example.cricflow.repository.HistoryImportFileRepo;
+import com.example.cricflow.repository.InningRepo;
+import com.example.cricflow.repository.MatchRepo;
+import com.example.cricflow.repository.OverRepo;
+import com.example.cricflow.repository.PlayerRepo;
+import com.example.cricflow.repository.TeamRepo;
+import com.example.cricflow.repository.TossRepo;
+import com.example.cricflow.service.PlayerStatsService;
+import com.example.cricflow.service.ScorecardService;
+import com.example.cricflow.service.history.HistoryImportService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "cricflow.history.workers=2")
+public class HistoryImportIntegrationTests {
+
+    @Autowired private HistoryImportService historyImportService;
+    @Autowired private PlayerStatsService playerStatsService;
+    @Autowired private ScorecardService scorecardService;
+    @Autowired private MatchRepo matchRepo;
+    @Autowired private TossRepo tossRepo;
+    @Autowired private InningRepo inningRepo;
+    @Autowired private OverRepo overRepo;
+    @Autowired private BallRepo ballRepo;
+    @Autowired private PlayerRepo playerRepo;
+    @Autowired private TeamRepo teamRepo;
+    @Autowired private GroundRepo groundRepo;
+    @Autowired private HistoryImportFileRepo historyImportFileRepo;
+    @Autowired private EntityManager entityManager;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    @TempDir
+    private Path directory;
+
+    @AfterEach
+    void tearDown() {
+        matchRepo.deleteAll();
+        tossRepo.deleteAll();
+        inningRepo.deleteAll();
+        overRepo.deleteAll();
+        // events point back at their balls, that link is cut first so balls and events can be removed
+        transactionTemplate.executeWithoutResult(status ->
+                entityManager.createQuery("update BallEvent e set e.ball = null").executeUpdate());
+        ballRepo.deleteAll();
+        historyImportFileRepo.deleteAll();
+        playerRepo.deleteAll();
+        teamRepo.deleteAll();
+        groundRepo.deleteAll();
+        playerStatsService.rebuildPlayerStats();
+        scorecardService.rebuildScorecards();
+    }
+
+    @DisplayName("Integration Test for importing a Cricsheet match with its toss, innings and every delivery")
+    @Test
+    public void givenCricsheetFile_whenImported_thenMatchInningsAndBallsAreWritten() throws Exception {
+        //given
+        copyFixture("lahore-v-karachi.json", "lahore-v-karachi.json");
+
+        //when
+        HistoryImportReport report = historyImportService.importDirectory(directory);
+
+        //then
+        assertThat(report.failures()).isEmpty();
+        assertThat(report.filesImported()).isEqualTo(1);
+        assertThat(report.rowsWritten()).isPositive();
+        assertThat(report.loader()).isEqualTo("jdbc-batch");
+
+        Long matchId = historyImportFileRepo.findAll().get(0).getMatchId();
+        MatchSummary summary = matchRepo.findMatchSummary(matchId).orElseThrow();
+        assertThat(summary.matchDate()).isEqualTo(LocalDate.of(2024, 2, 29));
+        assertThat(summary.groundName()).isEqualTo("GADDAFI STADIUM, LAHORE");
+        assertThat(summary.teamAName()).isEqualTo("LAHORE QALANDARS");
+        assertThat(summary.teamBName()).isEqualTo("KARACHI KINGS");
+        assertThat(summary.noOfOvers()).isEqualTo(20);
+        assertThat(summary.winner()).isEqualTo(TeamSide.SIDE_B);
+
+        // the super over is left out
+        List<InningSummary> innings = inningRepo.findInningSummariesByMatchId(matchId);
+        assertThat(innings).extracting(InningSummary::battingSideName).containsExactly("LAHORE QALANDARS", "KARACHI KINGS");
+        assertThat(innings).extracting(InningSummary::oversBowled).containsExactly(1L, 2L);
+        assertThat(innings).extracting(InningSummary::ballsBowled).containsExactly(7L, 5L);
+
+        Map<String, Long> players = playerRepo.findAllNames().stream().collect(Collectors.toMap(NamedId::name, NamedId::id));
+        assertThat(players).containsOnlyKeys("Fakhar Zaman", "Abdullah Shafique", " Sikandar", "Mohammad Amir",
+                "Babar Azam", "Shan Masood");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Match match = matchRepo.findById(matchId).orElseThrow();
+            assertThat(match.getToss().getWinningSide()).isEqualTo(TeamSide.SIDE_B);
+            assertThat(match.getToss().getBattingSide()).isEqualTo(TeamSide.SIDE_A);
+
+            List<Ball> balls = match.getFirstInnings().getOvers().get(0).getBalls();
+            assertThat(balls).extracting(ball -> ball.getBallEvent().getClass().getSimpleName())
+                    .containsExactly("Score", "Extra", "Extra", "Score", "Wicket", "Score", "Score");
+            assertThat(((Score) balls.get(0).getBallEvent()).getScoreType()).isEqualTo(ScoreType.FOUR);
+            assertThat(((Extra) balls.get(1).getBallEvent()).getExtraType()).isEqualTo(ExtraType.WIDE);
+            assertThat(((Extra) balls.get(2).getBallEvent()).getExtraType()).isEqualTo(ExtraType.NO_BALL);
+            assertThat(((Extra) balls.get(2).getBallEvent()).getScoreType()).isEqualTo(ScoreType.SINGLE);
+            Wicket caught = (Wicket) balls.get(4).getBallEvent();
+            assertThat(caught.getWicketType()).isEqualTo(WicketType.CAUGHT);
+            assertThat(caught.getFielder().getPlayerId()).isEqualTo(players.get("Babar Azam"));
+            assertThat(balls.get(0).getStriker().getPlayerId()).isEqualTo(players.get("Fakhar Zaman"));
+            assertThat(balls.get(0).getBowler().getPlayerId()).isEqualTo(players.get("Mohammad Amir"));
+            // every event points back at its ball, the way the ball service writes them
+            for (Ball ball : balls)
+                assertThat(ball.getBallEvent().getBall().getBallId()).isEqualTo(ball.getBallId());
+
+            Wicket caughtAndBowled = (Wicket) match.getSecondInnings().getOvers().get(0).getBalls().get(1).getBallEvent();
+            assertThat(caughtAndBowled.getFielder().getPlayerId()).isEqualTo(players.get(" Sikandar"));
+        });
+
+        // the career stats and the scorecards take in the imported balls
+        assertThat(playerStatsService.readPlayerStats(players.get("Babar Azam")).getBody().getBatting().getRuns()).isEqualTo(5);
+        InningScorecard scorecard = scorecardService.readScorecard(innings.get(0).inningId()).getBody();
+        assertThat(scorecard.getLegalBalls()).isEqualTo(5);
+        assertThat(scorecard.getWickets()).isEqualTo(1);
+    }
+
+    @DisplayName("Integration Test for importing a directory again, only the files not imported yet are written")
+    @Test
+    public void givenImportedFile_whenDirectoryIsImportedAgain_thenOnlyNewFilesAreImported() throws Exception {
+        //given
+        copyFixture("lahore-v-karachi.json", "lahore-v-karachi.json");
+        historyImportService.importDirectory(directory);
+        copyFixture("lahore-v-karachi.json", "renamed-copy.json");
+        copyFixture("nepal-v-lahore.yaml", "nepal-v-lahore.yaml");
+
+        //when
+        HistoryImportReport report = historyImportService.importDirectory(directory);
+
+        //then
+        assertThat(report.failures()).isEmpty();
+        assertThat(report.filesFound()).isEqualTo(3);
+        assertThat(report.filesSkipped()).isEqualTo(2);
+        assertThat(report.filesImported()).isEqualTo(1);
+        assertThat(matchRepo.count()).isEqualTo(2);
+        assertThat(teamRepo.findAllNames()).extracting(NamedId::name)
+                .containsExactlyInAnyOrder("LAHORE QALANDARS", "KARACHI KINGS", "NEPAL");
+        // a venue longer than the ground name column is cut to fit
+        assertThat(groundRepo.findByGroundName("DUBAI INTERNATIONAL CRICKET ST")).isPresent();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Match match = matchRepo.findById(historyImportFileRepo.findAll().stream()
+                    .filter(file -> file.getFileName().equals("nepal-v-lahore.yaml")).findFirst().orElseThrow().getMatchId()).orElseThrow();
+            assertThat(match.getWinner()).isNull();
+            assertThat(match.getSecondInnings()).isNull();
+            List<Ball> balls = match.getFirstInnings().getOvers().get(0).getBalls();
+            assertThat(((Extra) balls.get(0).getBallEvent()).getScoreType()).isEqualTo(ScoreType.FOUR);
+            assertThat(((Wicket) balls.get(1).getBallEvent()).getWicketType()).isEqualTo(WicketType.RUN_OUT);
+        });
+    }
+
+    @DisplayName("Integration Test for reporting a file that is not a match, without writing any of it")
+    @Test
+    public void givenFileThatIsNotAMatch_whenImported_thenItIsReportedAndTheOthersAreImported() throws Exception {
+        //given
+        copyFixture("lahore-v-karachi.json", "lahore-v-karachi.json");
+        Files.writeString(directory.resolve("one-team.json"), "{\"info\": {\"teams\": [\"Oman\"]}, \"innings\": []}");
+        Files.writeString(directory.resolve("cut-short.json"), "{\"info\": {\"teams\": [");
+
+        //when
+        HistoryImportReport report = historyImportService.importDirectory(directory);
+
+        //then
+        assertThat(report.filesImported()).isEqualTo(1);
+        assertThat(report.failures()).extracting(HistoryImportReport.FileError::file)
+                .containsExactlyInAnyOrder("one-team.json", "cut-short.json");
+        assertThat(matchRepo.count()).isEqualTo(1);
+        assertThat(historyImportFileRepo.count()).isEqualTo(1);
+        assertThat(teamRepo.findByTeamName("OMAN")).isEmpty();
+    }
+
+    @DisplayName("Integration Test for refusing a file with a team name the team service would refuse, without writing any of it")
+    @Test
+    public void givenFileWithTooShortTeamName_whenImported_thenItIsReportedAndNothingIsWritten() throws Exception {
+        //given
+        try (InputStream in = getClass().getResourceAsStream("/history/nepal-v-lahore.yaml")) {
+            Files.writeString(directory.resolve("oman-v-lahore.yaml"), new String(in.readAllBytes()).replace("Nepal", "Oman"));
+        }
+
+        //when
+        HistoryImportReport report = historyImportService.importDirectory(directory);
+
+        //then
+        assertThat(report.filesImported()).isZero();
+        assertThat(report.failures()).singleElement().satisfies(failure ->
+                assertThat(failure.message()).contains("teamName must be 5-30 characters long"));
+        assertThat(matchRepo.count()).isZero();
+        assertThat(teamRepo.count()).isZero();
+        assertThat(groundRepo.count()).isZero();
+    }
+
+    private void copyFixture(String fixture, String fileName) throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/history/" + fixture)) {
+            Files.copy(in, directory.resolve(fileName));
+        }
+    }
+}
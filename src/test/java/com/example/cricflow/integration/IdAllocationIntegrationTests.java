@@ -0,0 +1,82 @@
+package com.example.cricflow.integration;
+
+import com.example.cricflow.model.Over;
+import com.example.cricflow.repository.OverRepo;
+import com.example.cricflow.support.SqlFingerprint;
+import com.example.cricflow.support.SqlStatementRecorder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// a database of its own, so the sequences the other test contexts hold blocks of are not dropped and created again
+@SpringBootTest(properties = {"cricflow.ids.block-size=10", "spring.datasource.url=jdbc:h2:mem:id-allocation"})
+@DirtiesContext
+public class IdAllocationIntegrationTests {
+
+    @Autowired private OverRepo overRepo;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void tearDown() {
+        overRepo.deleteAll();
+    }
+
+    @DisplayName("Integration Test for reading the sequence once for every block of ids handed out")
+    @Test
+    public void givenBlockSizeOfTen_whenTwentyFiveOversAreSaved_thenSequenceIsReadAtMostThreeTimes() {
+        //given
+        List<String> statements;
+        List<Long> ids = new ArrayList<>();
+
+        //when
+        SqlStatementRecorder.start();
+        try {
+            for (int i = 0; i < 25; i++)
+                ids.add(overRepo.save(new Over()).getOverId());
+        }
+        finally {
+            statements = SqlStatementRecorder.stop();
+        }
+
+        //then
+        assertThat(statements.stream().filter(SqlFingerprint::isSequenceRead).count()).isLessThanOrEqualTo(3);
+        assertThat(ids).doesNotHaveDuplicates().isSorted();
+    }
+
+    @DisplayName("Integration Test for never handing out the ids of a block another node has reserved")
+    @Test
+    public void givenBlockReservedByAnotherNode_whenOversAreSaved_thenNoneOfItsIdsAreUsed() {
+        //given
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 10; i++)
+            ids.add(overRepo.save(new Over()).getOverId());
+
+        //when
+        // another node reserves the next block, with the same statement this one uses
+        long otherNodeBlock = jdbcTemplate.queryForObject(nextValueOf("OVER_SEQ"), Long.class);
+        for (int i = 0; i < 10; i++)
+            ids.add(overRepo.save(new Over()).getOverId());
+
+        //then
+        assertThat(ids).doesNotHaveDuplicates()
+                .noneMatch(id -> id >= otherNodeBlock && id < otherNodeBlock + 10);
+    }
+
+    private String nextValueOf(String sequence) {
+        return entityManagerFactory.unwrap(SessionFactory.class).unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect().getSequenceSupport().getSequenceNextValString(sequence);
+    }
+}
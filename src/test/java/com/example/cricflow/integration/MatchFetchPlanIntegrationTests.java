@@ -0,0 +1,160 @@
+package com.example.cricflow.integration;
+
+import com.example.cricflow.support.MatchFixture;
+import com.example.cricflow.support.SqlBudgetConfiguration;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@Import(SqlBudgetConfiguration.class)
+public class MatchFetchPlanIntegrationTests extends MatchFixture {
+
+    @DisplayName("Integration Test for reading the summary of a match")
+    @Test
+    public void givenMatch_whenGetMatchIsHitWithSummaryView_thenTeamsWithoutPlayersAreReadInOneQuery() throws Exception {
+        //given
+        addOvers(firstInnings, playersA, playersB, 2);
+
+        //when
+        Statistics statistics = clearedStatistics();
+        ResultActions response = mockMvc.perform(get("/api/v1/match/get/" + match.getMatchId())
+                .param("view", "summary"));
+
+        //then
+        response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.groundName", is("GADDAFI STADIUM")))
+                .andExpect(jsonPath("$.teamA.teamName", is("LAHORE QALANDARS")))
+                .andExpect(jsonPath("$.teamA.players").doesNotExist())
+                .andExpect(jsonPath("$.firstInningsId", is(firstInnings.getInningId().intValue())))
+                .andExpect(jsonPath("$.innings").doesNotExist());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @DisplayName("Integration Test for reading the innings of a match")
+    @Test
+    public void givenMatch_whenGetMatchIsHitWithInningsView_thenInningsWithoutOversAreReadInOneQuery() throws Exception {
+        //given
+        addOvers(firstInnings, playersA, playersB, 2);
+
+        //when
+        Statistics statistics = clearedStatistics();
+        ResultActions response = mockMvc.perform(get("/api/v1/match/get/" + match.getMatchId())
+                .param("view", "innings"));
+
+        //then
+        response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.innings.size()", is(2)))
+                .andExpect(jsonPath("$.innings[0].battingSideId", is(teamA.getTeamId().intValue())))
+                .andExpect(jsonPath("$.innings[1].battingSideId", is(teamB.getTeamId().intValue())))
+                .andExpect(jsonPath("$.innings[0].overs").doesNotExist());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @DisplayName("Integration Test for reading a match ball by ball")
+    @Test
+    public void givenMatchWithOvers_whenGetMatchIsHitWithBallByBallView_thenEveryBallIsReadInThreeQueries() throws Exception {
+        //given
+        addOvers(firstInnings, playersA, playersB, 2);
+        addOvers(secondInnings, playersB, playersA, 1);
+
+        //when
+        Statistics statistics = clearedStatistics();
+        ResultActions response = mockMvc.perform(get("/api/v1/match/get/" + match.getMatchId())
+                .param("view", "ball-by-ball"));
+
+        //then
+        response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.innings[0].overs.size()", is(2)))
+                .andExpect(jsonPath("$.innings[1].overs.size()", is(1)))
+                .andExpect(jsonPath("$.innings[0].overs[0].balls.size()", is(7)))
+                .andExpect(jsonPath("$.innings[0].overs[0].balls[0].eventType", is("SCORE")))
+                .andExpect(jsonPath("$.innings[0].overs[0].balls[1].extraType", is("WIDE")))
+                .andExpect(jsonPath("$.innings[0].overs[0].balls[2].wicketType", is("CAUGHT")))
+                .andExpect(jsonPath("$.innings[0].overs[0].balls[2].fielderId", is(playersB.get(1).getPlayerId().intValue())))
+                .andExpect(jsonPath("$.innings[1].overs[0].balls[0].strikerId", is(playersB.get(0).getPlayerId().intValue())));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @DisplayName("Integration Test for the number of queries of the ball by ball view as the match goes on")
+    @Test
+    public void givenMoreOvers_whenGetMatchIsHitWithBallByBallView_thenNumberOfQueriesStaysTheSame() throws Exception {
+        //given
+        addOvers(firstInnings, playersA, playersB, 1);
+        long queriesForOneOver = queriesToRead("ball-by-ball");
+        addOvers(firstInnings, playersA, playersB, 5);
+        addOvers(secondInnings, playersB, playersA, 6);
+
+        //when
+        long queriesForTwelveOvers = queriesToRead("ball-by-ball");
+
+        //then
+        assertThat(queriesForTwelveOvers).isEqualTo(queriesForOneOver);
+    }
+
+    @DisplayName("Integration Test for reading the rosters of a match")
+    @Test
+    public void givenMatch_whenGetMatchIsHitWithRosterView_thenPlayersOfBothTeamsAreReadInTwoQueries() throws Exception {
+        //when
+        Statistics statistics = clearedStatistics();
+        ResultActions response = mockMvc.perform(get("/api/v1/match/get/" + match.getMatchId())
+                .param("view", "roster"));
+
+        //then
+        response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.teamA.players.size()", is(3)))
+                .andExpect(jsonPath("$.teamA.players[0].playerId", is(playersA.get(0).getPlayerId().intValue())))
+                .andExpect(jsonPath("$.teamB.players.size()", is(3)))
+                .andExpect(jsonPath("$.teamB.players[2].lastName", is("Karachi2")))
+                .andExpect(jsonPath("$.innings").doesNotExist());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @DisplayName("Integration Test for reading a match with a view that is not known")
+    @Test
+    public void givenUnknownView_whenGetMatchIsHit_thenBadRequestStatusIsReturned() throws Exception {
+        //when
+        ResultActions response = mockMvc.perform(get("/api/v1/match/get/" + match.getMatchId())
+                .param("view", "everything"));
+
+        //then
+        response.andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
+    @DisplayName("Integration Test for reading a match that does not exist")
+    @Test
+    public void givenMatchIdThatDoesNotExist_whenGetMatchIsHit_thenNotFoundStatusIsReturned() throws Exception {
+        //when
+        ResultActions response = mockMvc.perform(get("/api/v1/match/get/" + (match.getMatchId() + 1000)));
+
+        //then
+        response.andDo(print())
+                .andExpect(status().isNotFound());
+    }
+
+    private long queriesToRead(String view) throws Exception {
+        Statistics statistics = clearedStatistics();
+        mockMvc.perform(get("/api/v1/match/get/" + match.getMatchId()).param("view", view))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.matchId", is(match.getMatchId().intValue())));
+        return statistics.getPrepareStatementCount();
+    }
+}
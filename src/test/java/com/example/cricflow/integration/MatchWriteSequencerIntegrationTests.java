@@ -0,0 +1,131 @@
+package com.example.cricflow.integration;
+
+import com.example.cricflow.model.Ball;
+import com.example.cricflow.model.Inning;
+import com.example.cricflow.model.Match;
+import com.example.cricflow.model.Over;
+import com.example.cricflow.model.event.Extra;
+import com.example.cricflow.model.event.Score;
+import com.example.cricflow.model.literal.ExtraType;
+import com.example.cricflow.model.literal.ScoreType;
+import com.example.cricflow.service.MatchWriteSequencer;
+import com.example.cricflow.support.DeliveryFixture;
+import com.example.cricflow.support.SqlBudgetConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+@Import(SqlBudgetConfiguration.class)
+public class MatchWriteSequencerIntegrationTests extends DeliveryFixture {
+
+    private static final int SCORERS = 8;
+    private static final int BALLS_PER_OVER = 6;
+
+    @Autowired private MeterRegistry meterRegistry;
+
+    private Inning inning;
+    private Over over;
+
+    @BeforeEach
+    void setUp() {
+        over = overRepo.save(Over.builder().balls(new ArrayList<>()).build());
+        inning = inningRepo.save(Inning.builder().numberOfOvers(20).overs(new ArrayList<>(List.of(over))).build());
+        matchRepo.save(Match.builder().firstInnings(inning).noOfOvers(20).build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        deleteDeliveries();
+    }
+
+    @DisplayName("Integration Test for scorers adding balls to the same over at once, every ball is kept in the order of its request")
+    @Test
+    public void givenScorersOfOneMatch_whenAddToOverIsHitAtOnce_thenNoBallIsLost() throws Exception {
+        //given
+        long writesBefore = meterRegistry.get(MatchWriteSequencer.WRITE_TIMER).timer().count();
+        List<Callable<Void>> requests = new ArrayList<>();
+        for (int i = 0; i < BALLS_PER_OVER; i++) {
+            // a wide and then a single from each scorer, so its two balls can be told apart from the others
+            List<Ball> balls = List.of(ball(Extra.builder().extraType(ExtraType.WIDE).scoreType(ScoreType.NO_RUN).build()),
+                    ball(Score.builder().scoreType(ScoreType.SINGLE).build()));
+            requests.add(() -> {
+                postBalls("/api/v1/ball/add-to-over", "overId", over.getOverId(), balls);
+                return null;
+            });
+        }
+
+        //when
+        runAtOnce(requests);
+
+        //then
+        List<Ball> balls = overRepo.findWithBallsByOverIdIn(List.of(over.getOverId())).get(0).getBalls();
+        assertThat(balls).hasSize(BALLS_PER_OVER * 2);
+        for (int i = 0; i < balls.size(); i += 2) {
+            assertThat(balls.get(i).getBallEvent()).isInstanceOf(Extra.class);
+            assertThat(balls.get(i + 1).getBallEvent()).isInstanceOf(Score.class);
+        }
+        assertThat(meterRegistry.get(MatchWriteSequencer.WRITE_TIMER).timer().count() - writesBefore).isEqualTo(BALLS_PER_OVER);
+        assertThat(meterRegistry.get(MatchWriteSequencer.QUEUE_DEPTH).gauge().value()).isZero();
+    }
+
+    @DisplayName("Integration Test for scorers adding overs to the same inning at once, every over is kept")
+    @Test
+    public void givenScorersOfOneMatch_whenAddOverIsHitAtOnce_thenNoOverIsLost() throws Exception {
+        //given
+        addToOver(over, completeOver()).andExpect(status().isCreated());
+        List<Callable<Void>> requests = new ArrayList<>();
+        for (int i = 0; i < SCORERS; i++)
+            requests.add(() -> {
+                postBalls("/api/v1/ball/add-over", "inningId", inning.getInningId(),
+                        completeOver(ball(Score.builder().scoreType(ScoreType.DOUBLE).build())));
+                return null;
+            });
+
+        //when
+        runAtOnce(requests);
+
+        //then
+        Inning saved = inningRepo.findWithOversByInningIdIn(List.of(inning.getInningId())).get(0);
+        assertThat(saved.getOvers()).extracting(Over::getOverId).hasSize(1 + SCORERS).doesNotHaveDuplicates();
+        assertThat(scorecardService.readScorecard(inning.getInningId()).getBody().getTotalRuns()).isEqualTo(2 * SCORERS);
+    }
+
+    private void runAtOnce(List<Callable<Void>> requests) throws Exception {
+        ExecutorService scorers = Executors.newFixedThreadPool(requests.size());
+        try {
+            for (Future<Void> request : scorers.invokeAll(requests))
+                request.get();
+        }
+        finally {
+            scorers.shutdownNow();
+        }
+    }
+
+    private void postBalls(String uri, String param, Long id, List<Ball> balls) throws Exception {
+        mockMvc.perform(post(uri)
+                        .param(param, id.toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(balls)))
+                .andExpect(status().isCreated());
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.cricflow.integration;
+
+import com.example.cricflow.metrics.ServiceMetricsAspect;
+import com.example.cricflow.repository.GroundRepo;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+// exporting metrics is switched off in tests unless asked for, the prometheus endpoint is what is tested here
+@AutoConfigureObservability
+public class MetricsIntegrationTests {
+
+    @Autowired private GroundRepo groundRepo;
+    @Autowired private MeterRegistry meterRegistry;
+    @Autowired private MockMvc mockMvc;
+
+    @AfterEach
+    void tearDown() {
+        groundRepo.deleteAll();
+    }
+
+    @DisplayName("Integration Test for timing service calls, including the ones that fail")
+    @Test
+    public void givenServiceCalls_whenTheyReturnOrThrow_thenEachIsTimedWithItsOutcome() throws Exception {
+        //given
+        long created = serviceCalls("GroundService", "createGround", "none");
+        long conflicts = serviceCalls("GroundService", "createGround", "NameAlreadyExistsException");
+
+        //when
+        mockMvc.perform(post("/api/v1/ground/create").param("groundName", "Gaddafi Stadium")).andExpect(status().isCreated());
+        mockMvc.perform(post("/api/v1/ground/create").param("groundName", "Gaddafi Stadium")).andExpect(status().isConflict());
+
+        //then
+        assertThat(serviceCalls("GroundService", "createGround", "none")).isEqualTo(created + 1);
+        assertThat(serviceCalls("GroundService", "createGround", "NameAlreadyExistsException")).isEqualTo(conflicts + 1);
+    }
+
+    @DisplayName("Integration Test for counting validation failures and domain exceptions")
+    @Test
+    public void givenRejectedRequests_whenHit_thenValidationFailuresAndDomainExceptionsAreCounted() throws Exception {
+        //given
+        double rejectedGrounds = count(ServiceMetricsAspect.VALIDATION_FAILURES, "entity", "ground");
+        double missingPlayers = count(ServiceMetricsAspect.DOMAIN_EXCEPTIONS, "exception", "EntityDoesNotExistsException");
+
+        //when
+        mockMvc.perform(post("/api/v1/ground/create").param("groundName", "Dub")).andExpect(status().isNotAcceptable());
+        mockMvc.perform(get("/api/v1/player/get/{id}", 987654L)).andExpect(status().isNotFound());
+
+        //then
+        assertThat(count(ServiceMetricsAspect.VALIDATION_FAILURES, "entity", "ground")).isEqualTo(rejectedGrounds + 1);
+        assertThat(count(ServiceMetricsAspect.DOMAIN_EXCEPTIONS, "exception", "EntityDoesNotExistsException")).isEqualTo(missingPlayers + 1);
+    }
+
+    @DisplayName("Integration Test for scraping the service, repository, hibernate and connection pool metrics")
+    @Test
+    public void givenServiceCall_whenPrometheusEndpointIsHit_thenAllMetricFamiliesAreExposed() throws Exception {
+        //given
+        mockMvc.perform(post("/api/v1/ground/create").param("groundName", "National Stadium")).andExpect(status().isCreated());
+
+        //when, then
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("cricflow_service_seconds_bucket{")))
+                .andExpect(content().string(containsString("method=\"createGround\"")))
+                .andExpect(content().string(containsString("spring_data_repository_invocations_seconds_bucket{")))
+                .andExpect(content().string(containsString("hibernate_query_executions_total")))
+                .andExpect(content().string(containsString("hibernate_entities_loads_total")))
+                .andExpect(content().string(containsString("hibernate_flushes_total")))
+                .andExpect(content().string(containsString("hibernate_cache_query_plan_total")))
+                .andExpect(content().string(containsString("hikaricp_connections_active")));
+    }
+
+    private long serviceCalls(String service, String method, String exception) {
+        Timer timer = meterRegistry.find(ServiceMetricsAspect.SERVICE_TIMER)
+                .tags("service", service, "method", method, "exception", exception)
+                .timer();
+        return (timer == null) ? 0 : timer.count();
+    }
+
+    private double count(String name, String tag, String value) {
+        Counter counter = meterRegistry.find(name).tag(tag, value).counter();
+        return (counter == null) ? 0 : counter.count();
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.cricflow.integration;
+
+import com.example.cricflow.model.Ground;
+import com.example.cricflow.model.Player;
+import com.example.cricflow.model.Team;
+import com.example.cricflow.repository.GroundRepo;
+import com.example.cricflow.repository.PlayerRepo;
+import com.example.cricflow.repository.TeamRepo;
+import com.example.cricflow.support.SqlBudgetConfiguration;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@Import(SqlBudgetConfiguration.class)
+public class PagingIntegrationTests {
+
+    @Autowired private PlayerRepo playerRepo;
+    @Autowired private TeamRepo teamRepo;
+    @Autowired private GroundRepo groundRepo;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private MockMvc mockMvc;
+
+    @AfterEach
+    void tearDown() {
+        playerRepo.deleteAll();
+        teamRepo.deleteAll();
+        groundRepo.deleteAll();
+    }
+
+    @DisplayName("Integration Test for walking through all players page by page")
+    @Test
+    public void givenPlayersInTeams_whenGetAllIsHitWithCursors_thenEveryPlayerIsReturnedOnceWithOneQueryPerPage() throws Exception {
+        //given
+        Team team = teamRepo.save(Team.builder().teamName("LAHORE QALANDARS").build());
+        List<Long> playerIds = createPlayers(7, team);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        //when
+        List<Long> seenIds = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            statistics.clear();
+            JsonNode page = readJson(mockMvc.perform(get("/api/v1/player/get-all")
+                            .param("size", "3")
+                            .param("cursor", cursor == null ? "" : cursor))
+                    .andExpect(status().isOk()));
+            // only the players are selected, the eager team and its roster are left out
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+            for (JsonNode player : page.get("items"))
+                seenIds.add(player.get("playerId").asLong());
+            cursor = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asText();
+            pages++;
+        } while (cursor != null);
+
+        //then
+        assertThat(pages).isEqualTo(3);
+        assertThat(seenIds).isEqualTo(playerIds);
+    }
+
+    @DisplayName("Integration Test for reading a page of the players of one team")
+    @Test
+    public void givenTeamId_whenGetAllIsHitWithSize_thenOnlyPlayersOfThatTeamAreReturned() throws Exception {
+        //given
+        Team team = teamRepo.save(Team.builder().teamName("KARACHI KINGS").build());
+        createPlayers(3, null);
+        List<Long> playerIds = createPlayers(2, team);
+
+        //when
+        ResultActions response = mockMvc.perform(get("/api/v1/player/get-all")
+                .param("teamId", team.getTeamId().toString())
+                .param("size", "10"));
+
+        //then
+        response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.size()", is(2)))
+                .andExpect(jsonPath("$.items[0].playerId", is(playerIds.get(0).intValue())))
+                .andExpect(jsonPath("$.nextCursor", is(nullValue())));
+    }
+
+    @DisplayName("Integration Test for reading a page with a cursor that was not handed out")
+    @Test
+    public void givenMalformedCursor_whenGetAllIsHit_thenBadRequestStatusIsReturned() throws Exception {
+        //when
+        ResultActions response = mockMvc.perform(get("/api/v1/ground/get-all")
+                .param("cursor", "not-a-cursor"));
+
+        //then
+        response.andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
+    @DisplayName("Integration Test for exporting all grounds as newline delimited json")
+    @Test
+    public void givenGrounds_whenExportIsHit_thenOneJsonObjectPerLineIsStreamed() throws Exception {
+        //given
+        List<Ground> grounds = new ArrayList<>();
+        for (int i = 0; i < 1200; i++)
+            grounds.add(new Ground(null, "VENUE " + i));
+        groundRepo.saveAll(grounds);
+
+        //when
+        MvcResult started = mockMvc.perform(get("/api/v1/ground/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        ResultActions response = mockMvc.perform(asyncDispatch(started));
+
+        //then
+        response.andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON));
+        String[] lines = response.andReturn().getResponse().getContentAsString().split("\n");
+        assertThat(lines).hasSize(1200);
+        assertThat(objectMapper.readTree(lines[0]).get("groundName").asText()).isEqualTo("VENUE 0");
+        assertThat(objectMapper.readTree(lines[1199]).get("groundName").asText()).isEqualTo("VENUE 1199");
+    }
+
+    @DisplayName("Integration Test for exporting all players as newline delimited json")
+    @Test
+    public void givenPlayers_whenExportIsHit_thenPlayersAreStreamedInIdOrder() throws Exception {
+        //given
+        Team team = teamRepo.save(Team.builder().teamName("MULTAN SULTANS").build());
+        List<Long> playerIds = createPlayers(4, team);
+
+        //when
+        MvcResult started = mockMvc.perform(get("/api/v1/player/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        //then
+        List<Long> exportedIds = new ArrayList<>();
+        for (String line : body.split("\n"))
+            exportedIds.add(objectMapper.readTree(line).get("playerId").asLong());
+        assertThat(exportedIds).isEqualTo(playerIds);
+    }
+
+    private JsonNode readJson(ResultActions response) throws Exception {
+        return objectMapper.readTree(response.andReturn().getResponse().getContentAsString());
+    }
+
+    private List<Long> createPlayers(int count, Team team) {
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < count; i++)
+            players.add(new Player(null, "Player", "Number" + i, Player.PlayerType.BATSMAN, Player.BattingStyle.RIGHT_HANDED, Player.BowlingStyle.RIGHT_ARM_LEG_SPINNER, team));
+        List<Long> playerIds = new ArrayList<>();
+        for (Player player : playerRepo.saveAll(players))
+            playerIds.add(player.getPlayerId());
+        return playerIds;
+    }
+}
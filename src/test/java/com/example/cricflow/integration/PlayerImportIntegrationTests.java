@@ -0,0 +1,147 @@
+package com.example.cricflow.integration;
+
+import com.example.cricflow.model.Player;
+import com.example.cricflow.repository.PlayerRepo;
+import com.example.cricflow.support.SqlBudgetConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// chunks of two rows and two workers, so a handful of rows already spans several chunks saved side by side
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"cricflow.import.chunk-size=2", "cricflow.import.workers=2"})
+@AutoConfigureMockMvc
+@Import(SqlBudgetConfiguration.class)
+public class PlayerImportIntegrationTests {
+
+    @Autowired private PlayerRepo playerRepo;
+    @Autowired private MockMvc mockMvc;
+
+    @AfterEach
+    void tearDown() {
+        playerRepo.deleteAll();
+    }
+
+    @DisplayName("Integration Test for importing players from CSV with a report of the rows that were rejected")
+    @Test
+    public void givenCsvWithInvalidRows_whenImportIsHit_thenValidRowsAreSavedAndInvalidOnesReported() throws Exception {
+        //given
+        String csv = """
+                firstName,lastName,playerType,battingStyle,bowlingStyle
+                Babar,Azam,BATSMAN,RIGHT_HANDED,RIGHT_ARM_OFF_SPINNER
+                Shaheen,Afridi,bowler,left_handed,left_arm_fast_bowler
+                X,Rizwan,BATSMAN,RIGHT_HANDED,RIGHT_ARM_OFF_SPINNER
+                Shadab,Khan,ALL_ROUNDER,RIGHT_HANDED,
+                Fakhar,Zaman,OPENER,LEFT_HANDED,LEFT_ARM_CHINA_MAN
+                "Imad, Jr",Wasim,ALL_ROUNDER,LEFT_HANDED,LEFT_ARM_CHINA_MAN
+                """;
+
+        //when
+        ResultActions response = mockMvc.perform(post("/api/v1/player/import")
+                .contentType("text/csv")
+                .content(csv));
+
+        //then
+        response.andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.rowsRead", is(6)))
+                .andExpect(jsonPath("$.rowsImported", is(3)))
+                .andExpect(jsonPath("$.rowsRejected", is(3)))
+                .andExpect(jsonPath("$.errors.size()", is(3)))
+                .andExpect(jsonPath("$.errors[0].row", is(3)))
+                .andExpect(jsonPath("$.errors[0].violations[0]", is("firstName must be 2-20 characters long")))
+                .andExpect(jsonPath("$.errors[1].row", is(4)))
+                .andExpect(jsonPath("$.errors[1].violations[0]", is("bowlingStyle can not be null")))
+                .andExpect(jsonPath("$.errors[2].row", is(5)))
+                .andExpect(jsonPath("$.errors[2].violations[0]", containsString("playerType must be one of")))
+                .andExpect(jsonPath("$.errorsTruncated", is(false)))
+                .andExpect(jsonPath("$.failure").doesNotExist());
+        // chunks are saved side by side, the ids do not follow the order of the rows
+        Map<String, Player> players = playerRepo.findAll().stream().collect(Collectors.toMap(Player::getLastName, Function.identity()));
+        assertThat(players).containsOnlyKeys("Azam", "Afridi", "Wasim");
+        assertThat(players.get("Afridi").getBowlingStyle()).isEqualTo(Player.BowlingStyle.LEFT_ARM_FAST_BOWLER);
+        assertThat(players.get("Wasim").getFirstName()).isEqualTo("Imad, Jr");
+    }
+
+    @DisplayName("Integration Test for importing players from a JSON array")
+    @Test
+    public void givenJsonArray_whenImportIsHit_thenEveryPlayerIsSaved() throws Exception {
+        //given
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 7; i++)
+            json.append(i == 0 ? "" : ",").append("""
+                    {"firstName":"Player","lastName":"Number%d","playerType":"ALL_ROUNDER","battingStyle":"RIGHT_HANDED",
+                     "bowlingStyle":"RIGHT_ARM_LEG_SPINNER","team":{"teamId":1}}""".formatted(i));
+        json.append("]");
+
+        //when
+        ResultActions response = mockMvc.perform(post("/api/v1/player/import")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json.toString()));
+
+        //then
+        response.andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.rowsRead", is(7)))
+                .andExpect(jsonPath("$.rowsImported", is(7)))
+                .andExpect(jsonPath("$.errors.size()", is(0)));
+        assertThat(playerRepo.findAll()).hasSize(7).allSatisfy(player -> assertThat(player.getTeam()).isNull());
+    }
+
+    @DisplayName("Integration Test for importing a JSON file that breaks off part of the way")
+    @Test
+    public void givenMalformedJson_whenImportIsHit_thenRowsBeforeItAreSavedAndTheFailureIsReported() throws Exception {
+        //given
+        String json = """
+                [{"firstName":"Babar","lastName":"Azam","playerType":"BATSMAN","battingStyle":"RIGHT_HANDED","bowlingStyle":"RIGHT_ARM_OFF_SPINNER"},
+                 {"firstName":"Shaheen","lastName":"Afridi","playerType":"BOWLER","battingStyle":"LEFT_HANDED","bowlingStyle":"LEFT_ARM_FAST_BOWLER"},
+                 {"firstName":"Shadab" "lastName":"Khan"}]
+                """;
+
+        //when
+        ResultActions response = mockMvc.perform(post("/api/v1/player/import")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json));
+
+        //then
+        response.andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.rowsRead", is(2)))
+                .andExpect(jsonPath("$.rowsImported", is(2)))
+                .andExpect(jsonPath("$.failure", containsString("row 3 could not be read")));
+        assertThat(playerRepo.findAll()).extracting(Player::getLastName).containsExactlyInAnyOrder("Azam", "Afridi");
+    }
+
+    @DisplayName("Integration Test for importing players in a format that is not supported")
+    @Test
+    public void givenXmlBody_whenImportIsHit_thenUnsupportedMediaTypeStatusIsReturned() throws Exception {
+        //when
+        ResultActions response = mockMvc.perform(post("/api/v1/player/import")
+                .contentType(MediaType.APPLICATION_XML)
+                .content("<players/>"));
+
+        //then
+        response.andDo(print())
+                .andExpect(status().isUnsupportedMediaType());
+        assertThat(playerRepo.count()).isZero();
+    }
+}
@@ -3,6 +3,7 @@ package com.example.cricflow.integration;
 import com.example.cricflow.model.Player;
 import com.example.cricflow.repository.PlayerRepo;
 import com.example.cricflow.repository.TeamPlayerRelationRepo;
+import com.example.cricflow.support.SqlBudgetConfiguration;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -10,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
@@ -27,6 +29,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @AutoConfigureMockMvc
+@Import(SqlBudgetConfiguration.class)
 public class PlayerIntegrationTests {
 
     @Autowired private PlayerRepo playerRepo;
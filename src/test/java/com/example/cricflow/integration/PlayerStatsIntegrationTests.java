@@ -0,0 +1,110 @@
+package com.example.cricflow.integration;
+
+import com.example.cricflow.model.Inning;
+import com.example.cricflow.model.Player;
+import com.example.cricflow.model.event.Extra;
+import com.example.cricflow.model.event.Score;
+import com.example.cricflow.model.event.Wicket;
+import com.example.cricflow.model.literal.ExtraType;
+import com.example.cricflow.model.literal.ScoreType;
+import com.example.cricflow.model.literal.WicketType;
+import com.example.cricflow.service.PlayerStatsService;
+import com.example.cricflow.support.DeliveryFixture;
+import com.example.cricflow.support.SqlBudgetConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+@Import(SqlBudgetConfiguration.class)
+public class PlayerStatsIntegrationTests extends DeliveryFixture {
+
+    @Autowired private PlayerStatsService playerStatsService;
+
+    private Inning inning;
+
+    @BeforeEach
+    void setUp() {
+        inning = inningRepo.save(Inning.builder().numberOfOvers(5).overs(new ArrayList<>()).build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        deleteDeliveries();
+        playerStatsService.rebuildPlayerStats();
+    }
+
+    @DisplayName("Integration Test for reading the career stats of a batter once an over is ingested")
+    @Test
+    public void givenIngestedOver_whenGetStatsIsHit_thenBattingAggregatesAreReturned() throws Exception {
+        //given
+        addOver(inning, List.of(
+                ball(Score.builder().scoreType(ScoreType.FOUR).build()),
+                ball(Extra.builder().extraType(ExtraType.NO_BALL).scoreType(ScoreType.SIX).build()),
+                ball(Wicket.builder().wicketType(WicketType.CAUGHT).fielder(Player.builder().playerId(runner.getPlayerId()).build()).build())
+        )).andExpect(status().isCreated());
+
+        //when
+        ResultActions response = mockMvc.perform(get("/api/v1/player/" + batter.getPlayerId() + "/stats"));
+
+        //then
+        response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.batting.runs", is(10)))
+                .andExpect(jsonPath("$.batting.ballsFaced", is(3)))
+                .andExpect(jsonPath("$.batting.sixes", is(1)))
+                .andExpect(jsonPath("$.batting.dismissals", is(1)));
+    }
+
+    @DisplayName("Integration Test for rebuilding the career stats of a bowler from the saved balls")
+    @Test
+    public void givenIngestedOvers_whenStatsRebuilt_thenSameBowlingAggregatesAreReturned() throws Exception {
+        //given
+        addOver(inning, completeOver(
+                ball(Score.builder().scoreType(ScoreType.DOUBLE).build()),
+                ball(Extra.builder().extraType(ExtraType.WIDE).scoreType(ScoreType.NO_RUN).build())
+        )).andExpect(status().isCreated());
+        addOver(inning, List.of(ball(Wicket.builder().wicketType(WicketType.BOWLED).build())))
+                .andExpect(status().isCreated());
+
+        //when
+        playerStatsService.rebuildPlayerStats();
+        ResultActions response = mockMvc.perform(get("/api/v1/player/" + bowler.getPlayerId() + "/stats"));
+
+        //then
+        response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.bowling.legalBalls", is(7)))
+                .andExpect(jsonPath("$.bowling.runsConceded", is(3)))
+                .andExpect(jsonPath("$.bowling.wides", is(1)))
+                .andExpect(jsonPath("$.bowling.wicketsByType.BOWLED", is(1)));
+    }
+
+    @DisplayName("Integration Test for reading the career stats of a player that does not exist")
+    @Test
+    public void givenNonExistingPlayer_whenGetStatsIsHit_thenNotFoundStatusIsReturned() throws Exception {
+        //when
+        ResultActions response = mockMvc.perform(get("/api/v1/player/999999/stats"));
+
+        //then
+        response.andDo(print())
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$", is("PLAYER with ID: 999999 does not exist")));
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.cricflow.integration;
+
+import com.example.cricflow.config.ReferenceDataCacheConfiguration;
+import com.example.cricflow.model.Ground;
+import com.example.cricflow.model.Player;
+import com.example.cricflow.model.Team;
+import com.example.cricflow.repository.GroundRepo;
+import com.example.cricflow.repository.PlayerRepo;
+import com.example.cricflow.repository.TeamPlayerRelationRepo;
+import com.example.cricflow.repository.TeamRepo;
+import com.example.cricflow.support.SqlBudgetConfiguration;
+import com.example.cricflow.support.SqlStatementRecorder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@Import(SqlBudgetConfiguration.class)
+public class ReferenceDataCacheIntegrationTests {
+
+    @Autowired private GroundRepo groundRepo;
+    @Autowired private TeamRepo teamRepo;
+    @Autowired private PlayerRepo playerRepo;
+    @Autowired private TeamPlayerRelationRepo relationRepo;
+    @Autowired private MeterRegistry meterRegistry;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private MockMvc mockMvc;
+
+    @AfterEach
+    void tearDown() {
+        relationRepo.deleteAll();
+        playerRepo.deleteAll();
+        teamRepo.deleteAll();
+        groundRepo.deleteAll();
+    }
+
+    @DisplayName("Integration Test for reading a ground again from the second level cache")
+    @Test
+    public void givenGroundReadOnce_whenReadAgain_thenNoStatementIsRunAndCacheHitIsCounted() throws Exception {
+        //given
+        Ground ground = groundRepo.save(new Ground(null, "GADDAFI STADIUM"));
+        mockMvc.perform(get("/api/v1/ground/get/" + ground.getGroundId())).andExpect(status().isOk());
+        double hits = cacheGets(ReferenceDataCacheConfiguration.GROUND_REGION, "hit");
+
+        //when
+        SqlStatementRecorder.start();
+        List<String> statements;
+        try {
+            groundRepo.findById(ground.getGroundId());
+        }
+        finally {
+            statements = SqlStatementRecorder.stop();
+        }
+
+        //then
+        assertThat(statements).isEmpty();
+        assertThat(cacheGets(ReferenceDataCacheConfiguration.GROUND_REGION, "hit")).isGreaterThan(hits);
+    }
+
+    @DisplayName("Integration Test for not finding a cached name any more once a ground of that name is created")
+    @Test
+    public void givenNameLookupCached_whenGroundOfThatNameIsCreated_thenLookupFindsIt() throws Exception {
+        //given
+        assertThat(groundRepo.findByGroundName("NATIONAL STADIUM")).isEmpty();
+
+        //when
+        mockMvc.perform(post("/api/v1/ground/create").param("groundName", "National Stadium")).andExpect(status().isCreated());
+
+        //then
+        assertThat(groundRepo.findByGroundName("NATIONAL STADIUM")).isPresent();
+        mockMvc.perform(post("/api/v1/ground/create").param("groundName", "National Stadium")).andExpect(status().isConflict());
+    }
+
+    @DisplayName("Integration Test for dropping cached rosters when players are moved between teams or deleted")
+    @Test
+    public void givenRostersCached_whenPlayersAreMoved_thenRostersAreReadAfresh() throws Exception {
+        //given
+        Team teamA = teamRepo.save(Team.builder().teamName("LAHORE QALANDARS").build());
+        Team teamB = teamRepo.save(Team.builder().teamName("KARACHI KINGS").build());
+        Player first = playerRepo.save(newPlayer("Fakhar", teamA));
+        Player second = playerRepo.save(newPlayer("Shaheen", teamA));
+        assertThat(rosterOf(teamA)).containsExactlyInAnyOrder(first.getPlayerId(), second.getPlayerId());
+        assertThat(rosterOf(teamB)).isEmpty();
+
+        //when
+        mockMvc.perform(post("/api/v1/team/add-players").param("teamId", teamB.getTeamId().toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(first.getPlayerId()))))
+                .andExpect(status().isOk());
+
+        //then
+        assertThat(rosterOf(teamA)).containsExactly(second.getPlayerId());
+        assertThat(rosterOf(teamB)).containsExactly(first.getPlayerId());
+
+        //when
+        second = playerRepo.findById(second.getPlayerId()).orElseThrow();
+        second.setTeam(teamB);
+        playerRepo.save(second);
+        relationRepo.deleteAll();
+        playerRepo.deleteById(first.getPlayerId());
+
+        //then
+        assertThat(rosterOf(teamA)).isEmpty();
+        assertThat(rosterOf(teamB)).containsExactly(second.getPlayerId());
+    }
+
+    @DisplayName("Integration Test for publishing hits, misses and evictions of every cache region")
+    @Test
+    public void givenReferenceDataCache_whenMetricsAreRead_thenEveryRegionHasThem() {
+        for (String region : List.of(ReferenceDataCacheConfiguration.TEAM_REGION, ReferenceDataCacheConfiguration.ROSTER_REGION,
+                ReferenceDataCacheConfiguration.PLAYER_REGION, ReferenceDataCacheConfiguration.GROUND_REGION,
+                ReferenceDataCacheConfiguration.QUERY_REGION)) {
+            assertThat(meterRegistry.find("cache.gets").tag("cache", region).tag("result", "hit").functionCounter()).isNotNull();
+            assertThat(meterRegistry.find("cache.gets").tag("cache", region).tag("result", "miss").functionCounter()).isNotNull();
+            assertThat(meterRegistry.find("cache.evictions").tag("cache", region).functionCounter()).isNotNull();
+        }
+    }
+
+    private List<Long> rosterOf(Team team) {
+        return teamRepo.findById(team.getTeamId()).orElseThrow().getPlayers().stream().map(Player::getPlayerId).toList();
+    }
+
+    private double cacheGets(String region, String result) {
+        FunctionCounter counter = meterRegistry.find("cache.gets").tag("cache", region).tag("result", result).functionCounter();
+        return (counter == null) ? 0 : counter.count();
+    }
+
+    private static Player newPlayer(String firstName, Team team) {
+        return new Player(null, firstName, "Khan", Player.PlayerType.BATSMAN, Player.BattingStyle.LEFT_HANDED,
+                Player.BowlingStyle.RIGHT_ARM_FAST_BOWLER, team);
+    }
+}
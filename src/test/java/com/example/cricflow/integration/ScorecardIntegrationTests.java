@@ -0,0 +1,114 @@
+package com.example.cricflow.integration;
+
+import com.example.cricflow.model.Inning;
+import com.example.cricflow.model.event.Extra;
+import com.example.cricflow.model.event.Score;
+import com.example.cricflow.model.event.Wicket;
+import com.example.cricflow.model.literal.ExtraType;
+import com.example.cricflow.model.literal.ScoreType;
+import com.example.cricflow.model.literal.WicketType;
+import com.example.cricflow.support.DeliveryFixture;
+import com.example.cricflow.support.SqlBudgetConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+@Import(SqlBudgetConfiguration.class)
+public class ScorecardIntegrationTests extends DeliveryFixture {
+
+    private Inning inning;
+
+    @BeforeEach
+    void setUp() {
+        inning = inningRepo.save(Inning.builder().numberOfOvers(5).overs(new ArrayList<>()).build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        deleteDeliveries();
+    }
+
+    @DisplayName("Integration Test for reading the scorecard once an over is ingested")
+    @Test
+    public void givenIngestedOver_whenGetScorecardIsHit_thenRunningTotalsAreReturned() throws Exception {
+        //given
+        addOver(inning, List.of(
+                ball(Score.builder().scoreType(ScoreType.FOUR).build()),
+                ball(Extra.builder().extraType(ExtraType.WIDE).scoreType(ScoreType.NO_RUN).build()),
+                ball(Wicket.builder().wicketType(WicketType.BOWLED).build())
+        )).andExpect(status().isCreated());
+
+        //when
+        ResultActions response = mockMvc.perform(get("/api/v1/scorecard/get/" + inning.getInningId()));
+
+        //then
+        response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalRuns", is(5)))
+                .andExpect(jsonPath("$.wickets", is(1)))
+                .andExpect(jsonPath("$.overs", is("0.2")))
+                .andExpect(jsonPath("$.extras.WIDE", is(1)))
+                .andExpect(jsonPath("$.batters." + batter.getPlayerId() + ".runs", is(4)))
+                .andExpect(jsonPath("$.bowlers." + bowler.getPlayerId() + ".wickets", is(1)));
+    }
+
+    @DisplayName("Integration Test for rebuilding the scorecard from the saved balls")
+    @Test
+    public void givenIngestedOvers_whenScorecardsRebuilt_thenSameTotalsAreReturned() throws Exception {
+        //given
+        addOver(inning, completeOver(ball(Score.builder().scoreType(ScoreType.SIX).build())))
+                .andExpect(status().isCreated());
+        addOver(inning, List.of(ball(Score.builder().scoreType(ScoreType.DOUBLE).build())))
+                .andExpect(status().isCreated());
+
+        //when
+        scorecardService.rebuildScorecards();
+        ResultActions response = mockMvc.perform(get("/api/v1/scorecard/get/" + inning.getInningId()));
+
+        //then
+        response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalRuns", is(8)))
+                .andExpect(jsonPath("$.legalBalls", is(7)));
+    }
+
+    @DisplayName("Integration Test for reading the scorecard of an inning without balls")
+    @Test
+    public void givenInningWithoutBalls_whenGetScorecardIsHit_thenEmptyScorecardIsReturned() throws Exception {
+        //when
+        ResultActions response = mockMvc.perform(get("/api/v1/scorecard/get/" + inning.getInningId()));
+
+        //then
+        response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalRuns", is(0)))
+                .andExpect(jsonPath("$.overs", is("0.0")));
+    }
+
+    @DisplayName("Integration Test for reading the scorecard of an inning that does not exist")
+    @Test
+    public void givenInningThatDoesNotExist_whenGetScorecardIsHit_thenNotFoundStatusIsReturned() throws Exception {
+        //when
+        ResultActions response = mockMvc.perform(get("/api/v1/scorecard/get/" + (inning.getInningId() + 1000)));
+
+        //then
+        response.andDo(print())
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.cricflow.integration;
+
+import com.example.cricflow.model.Player;
+import com.example.cricflow.support.MatchFixture;
+import com.example.cricflow.support.SqlBudgetConfiguration;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@Import(SqlBudgetConfiguration.class)
+public class SummaryIntegrationTests extends MatchFixture {
+
+    @DisplayName("Integration Test for reading the summary of a match without loading any entity")
+    @Test
+    public void givenMatchWithOvers_whenMatchSummaryIsRead_thenOneQueryAndNoEntityIsLoaded() throws Exception {
+        //given
+        addOvers(firstInnings, playersA, playersB, 2);
+
+        //when
+        Statistics statistics = clearedStatistics();
+        ResultActions response = mockMvc.perform(get("/api/v2/match/get/" + match.getMatchId()));
+
+        //then
+        response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.matchDate", is("2024-02-17")))
+                .andExpect(jsonPath("$.groundName", is("GADDAFI STADIUM")))
+                .andExpect(jsonPath("$.teamAName", is("LAHORE QALANDARS")))
+                .andExpect(jsonPath("$.teamBId", is(teamB.getTeamId().intValue())))
+                .andExpect(jsonPath("$.secondInningsId", is(secondInnings.getInningId().intValue())))
+                .andExpect(jsonPath("$.winner").doesNotExist())
+                .andExpect(jsonPath("$.players").doesNotExist());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+    }
+
+    @DisplayName("Integration Test for reading the innings of a match with their overs and balls counted")
+    @Test
+    public void givenMatchWithOvers_whenInningSummariesAreRead_thenBothInningsAreCountedInOneQuery() throws Exception {
+        //given
+        addOvers(firstInnings, playersA, playersB, 3);
+        addOvers(secondInnings, playersB, playersA, 1);
+
+        //when
+        Statistics statistics = clearedStatistics();
+        ResultActions response = mockMvc.perform(get("/api/v2/match/" + match.getMatchId() + "/innings"));
+
+        //then
+        response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()", is(2)))
+                .andExpect(jsonPath("$[0].inningId", is(firstInnings.getInningId().intValue())))
+                .andExpect(jsonPath("$[0].inningNumber", is(1)))
+                .andExpect(jsonPath("$[0].battingSideName", is("LAHORE QALANDARS")))
+                .andExpect(jsonPath("$[0].oversBowled", is(3)))
+                .andExpect(jsonPath("$[0].ballsBowled", is(21)))
+                .andExpect(jsonPath("$[1].inningNumber", is(2)))
+                .andExpect(jsonPath("$[1].bowlingSideName", is("LAHORE QALANDARS")))
+                .andExpect(jsonPath("$[1].oversBowled", is(1)))
+                .andExpect(jsonPath("$[1].ballsBowled", is(7)));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @DisplayName("Integration Test for reading a team roster as summaries")
+    @Test
+    public void givenTeamWithPlayers_whenRosterIsRead_thenPlayersAreReadWithoutTheirTeam() throws Exception {
+        //when
+        Statistics statistics = clearedStatistics();
+        ResultActions response = mockMvc.perform(get("/api/v2/team/" + teamB.getTeamId() + "/roster"));
+
+        //then
+        response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.teamName", is("KARACHI KINGS")))
+                .andExpect(jsonPath("$.players.size()", is(3)))
+                .andExpect(jsonPath("$.players[0].playerId", is(playersB.get(0).getPlayerId().intValue())))
+                .andExpect(jsonPath("$.players[2].lastName", is("Karachi2")))
+                .andExpect(jsonPath("$.players[0].team").doesNotExist());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @DisplayName("Integration Test for reading the players of a team page by page as summaries")
+    @Test
+    public void givenTeamWithPlayers_whenPlayerPagesAreRead_thenEveryPlayerIsReadOnce() throws Exception {
+        //when
+        ResultActions firstPage = mockMvc.perform(get("/api/v2/player/get-all")
+                .param("teamId", teamA.getTeamId().toString()).param("size", "2"));
+
+        //then
+        firstPage.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.size()", is(2)))
+                .andExpect(jsonPath("$.items[0].firstName", is("Player")))
+                .andExpect(jsonPath("$.items[1].lastName", is("Lahore1")));
+        JsonNode page = objectMapper.readTree(firstPage.andReturn().getResponse().getContentAsString());
+
+        //when
+        ResultActions secondPage = mockMvc.perform(get("/api/v2/player/get-all")
+                .param("teamId", teamA.getTeamId().toString()).param("size", "2")
+                .param("cursor", page.get("nextCursor").asText()));
+
+        //then
+        secondPage.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.size()", is(1)))
+                .andExpect(jsonPath("$.items[0].playerId", is(playersA.get(2).getPlayerId().intValue())))
+                .andExpect(jsonPath("$.nextCursor", nullValue()));
+    }
+
+    @DisplayName("Integration Test for reading summaries of a match and a team that do not exist")
+    @Test
+    public void givenIdsThatDoNotExist_whenSummariesAreRead_thenNotFoundStatusIsReturned() throws Exception {
+        //when
+        long missingMatchId = match.getMatchId() + 1000;
+        long missingTeamId = teamB.getTeamId() + 1000;
+
+        //then
+        mockMvc.perform(get("/api/v2/match/get/" + missingMatchId)).andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v2/match/" + missingMatchId + "/innings")).andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v2/team/" + missingTeamId + "/roster")).andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v2/player/get-all").param("teamId", Long.toString(missingTeamId))).andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.cricflow.integration;
+
+import com.example.cricflow.model.Team;
+import com.example.cricflow.repository.TeamRepo;
+import com.example.cricflow.support.SqlBudgetConfiguration;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+@Import(SqlBudgetConfiguration.class)
+public class TeamIntegrationTests {
+
+    @Autowired private TeamRepo teamRepo;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private MockMvc mockMvc;
+
+    @AfterEach
+    void tearDown() {
+        teamRepo.deleteAll();
+    }
+
+    @DisplayName("Integration Test for adding multiple teams with unique names")
+    @Test
+    public void givenMultipleUniqueTeamNames_whenCreateAllTeamsIsHit_thenListOfCreatedTeamsIsReturned() throws Exception {
+        //given
+        List<String> teamNames = Arrays.asList("Lahore Qalandars", "Karachi Kings", "Multan Sultans");
+
+        //when
+        ResultActions response = createAll(teamNames);
+
+        //then
+        response.andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andExpect(jsonPath("$[0].teamName", is("LAHORE QALANDARS")))
+                .andExpect(jsonPath("$[2].teamName", is("MULTAN SULTANS")));
+        assertThat(teamRepo.count()).isEqualTo(3);
+    }
+
+    @DisplayName("Integration Test for adding multiple teams where one name already exists")
+    @Test
+    public void givenTeamNameThatAlreadyExists_whenCreateAllTeamsIsHit_thenConflictStatusIsReturnedAndNothingIsSaved() throws Exception {
+        //given
+        teamRepo.save(Team.builder().teamName("KARACHI KINGS").build());
+        List<String> teamNames = Arrays.asList("Lahore Qalandars", "karachi kings");
+
+        //when
+        ResultActions response = createAll(teamNames);
+
+        //then
+        response.andDo(print())
+                .andExpect(status().isConflict());
+        assertThat(teamRepo.count()).isEqualTo(1);
+    }
+
+    private ResultActions createAll(List<String> teamNames) throws Exception {
+        return mockMvc.perform(post("/api/v1/team/create-all")
+                .content(objectMapper.writeValueAsString(teamNames))
+                .contentType(MediaType.APPLICATION_JSON));
+    }
+}
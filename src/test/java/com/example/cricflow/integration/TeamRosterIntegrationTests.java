@@ -0,0 +1,171 @@
+package com.example.cricflow.integration;
+
+import com.example.cricflow.model.Player;
+import com.example.cricflow.model.Team;
+import com.example.cricflow.model.TeamPlayerRelation;
+import com.example.cricflow.repository.PlayerRepo;
+import com.example.cricflow.repository.TeamPlayerRelationRepo;
+import com.example.cricflow.repository.TeamRepo;
+import com.example.cricflow.support.SqlBudgetConfiguration;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@Import(SqlBudgetConfiguration.class)
+public class TeamRosterIntegrationTests {
+
+    @Autowired private TeamRepo teamRepo;
+    @Autowired private PlayerRepo playerRepo;
+    @Autowired private TeamPlayerRelationRepo relationRepo;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private MockMvc mockMvc;
+
+    private Team teamA, teamB;
+
+    @BeforeEach
+    void setUp() {
+        teamA = teamRepo.save(Team.builder().teamName("LAHORE QALANDARS").build());
+        teamB = teamRepo.save(Team.builder().teamName("KARACHI KINGS").build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        relationRepo.deleteAll();
+        playerRepo.deleteAll();
+        teamRepo.deleteAll();
+    }
+
+    @DisplayName("Integration Test for moving players from one team to another")
+    @Test
+    public void givenPlayersOfAnotherTeam_whenAddPlayersIsHit_thenPlayersAreMovedAndRelationsAreUpdated() throws Exception {
+        //given
+        List<Long> playerIds = createPlayers(3);
+        addPlayers(teamB, playerIds);
+
+        //when
+        ResultActions response = addPlayers(teamA, playerIds);
+
+        //then
+        response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.players.size()", is(3)));
+        assertThat(teamRepo.findById(teamB.getTeamId()).get().getPlayers()).isEmpty();
+        List<TeamPlayerRelation> relations = relationRepo.findAll();
+        assertThat(relations).hasSize(6);
+        for (TeamPlayerRelation relation : relations) {
+            if (relation.getTeam().getTeamId().equals(teamB.getTeamId()))
+                assertThat(relation.getEndDate()).isNotNull();
+            else
+                assertThat(relation.getEndDate()).isNull();
+        }
+    }
+
+    @DisplayName("Integration Test for the number of statements needed to move a squad")
+    @Test
+    public void givenSquadsOfDifferentSizes_whenMovedBetweenTeams_thenSameNumberOfStatementsIsUsed() throws Exception {
+        //given
+        List<Long> smallSquad = createPlayers(5);
+        List<Long> fullSquad = createPlayers(25);
+        addPlayers(teamB, smallSquad);
+        addPlayers(teamB, fullSquad);
+
+        //when
+        long smallSquadStatements = statementsToAdd(teamA, smallSquad);
+        addPlayers(teamB, smallSquad);
+        long fullSquadStatements = statementsToAdd(teamA, fullSquad);
+
+        //then
+        // the relation ids come from a pooled sequence, a larger squad may need one more block of them
+        assertThat(fullSquadStatements).isBetween(smallSquadStatements, smallSquadStatements + 1);
+        assertThat(fullSquadStatements).isLessThanOrEqualTo(8);
+    }
+
+    @DisplayName("Integration Test for removing players from a team")
+    @Test
+    public void givenPlayersOfTheTeam_whenRemovePlayersIsHit_thenPlayersHaveNoTeamAndRelationsAreClosed() throws Exception {
+        //given
+        List<Long> playerIds = createPlayers(4);
+        addPlayers(teamA, playerIds);
+
+        //when
+        ResultActions response = mockMvc.perform(post("/api/v1/team/remove-players")
+                .param("teamId", teamA.getTeamId().toString())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(playerIds.subList(0, 3))));
+
+        //then
+        response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.players.size()", is(1)))
+                .andExpect(jsonPath("$.players[0].playerId", is(playerIds.get(3).intValue())));
+        assertThat(playerRepo.findAllByTeam(null)).hasSize(3);
+        assertThat(relationRepo.findAll().stream().filter(relation -> relation.getEndDate() != null)).hasSize(3);
+    }
+
+    @DisplayName("Integration Test for adding a player who does not exist, along with existing ones")
+    @Test
+    public void givenPlayerThatDoesNotExist_whenAddPlayersIsHit_thenNothingIsChangedAndNotFoundStatusIsReturned() throws Exception {
+        //given
+        List<Long> playerIds = new ArrayList<>(createPlayers(2));
+        playerIds.add(999999L);
+
+        //when
+        ResultActions response = addPlayers(teamA, playerIds);
+
+        //then
+        response.andDo(print())
+                .andExpect(status().isNotFound());
+        assertThat(teamRepo.findById(teamA.getTeamId()).get().getPlayers()).isEmpty();
+        assertThat(relationRepo.count()).isEqualTo(0);
+    }
+
+    private long statementsToAdd(Team team, List<Long> playerIds) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        addPlayers(team, playerIds).andExpect(status().isOk());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private ResultActions addPlayers(Team team, List<Long> playerIds) throws Exception {
+        return mockMvc.perform(post("/api/v1/team/add-players")
+                .param("teamId", team.getTeamId().toString())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(playerIds)));
+    }
+
+    private List<Long> createPlayers(int count) {
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < count; i++)
+            players.add(new Player(null, "Player", "Number" + i, Player.PlayerType.ALL_ROUNDER, Player.BattingStyle.RIGHT_HANDED, Player.BowlingStyle.RIGHT_ARM_OFF_SPINNER, null));
+        List<Long> playerIds = new ArrayList<>();
+        for (Player player : playerRepo.saveAll(players))
+            playerIds.add(player.getPlayerId());
+        return playerIds;
+    }
+}
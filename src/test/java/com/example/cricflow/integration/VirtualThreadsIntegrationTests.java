@@ -0,0 +1,86 @@
+package com.example.cricflow.integration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("virtual-threads")
+public class VirtualThreadsIntegrationTests {
+
+    @Autowired private TestRestTemplate restTemplate;
+    @Autowired private ThreadProbe threadProbe;
+    @Autowired private TaskScheduler taskScheduler;
+
+    @DisplayName("Integration Test for handling requests on virtual threads")
+    @Test
+    public void givenVirtualThreadsProfile_whenRequestIsHandled_thenItRunsOnAVirtualThread() {
+        //when
+        Boolean virtual = restTemplate.getForObject("/test/thread/virtual", Boolean.class);
+
+        //then
+        assertThat(virtual).isTrue();
+    }
+
+    @DisplayName("Integration Test for running @Async work on virtual threads")
+    @Test
+    public void givenVirtualThreadsProfile_whenAsyncMethodIsCalled_thenItRunsOnAVirtualThread() throws Exception {
+        //when
+        CompletableFuture<Thread> thread = threadProbe.asyncThread();
+
+        //then
+        Thread asyncThread = thread.get(5, TimeUnit.SECONDS);
+        assertThat(asyncThread.isVirtual()).isTrue();
+        assertThat(asyncThread).isNotSameAs(Thread.currentThread());
+    }
+
+    @DisplayName("Integration Test for running scheduled jobs on virtual threads")
+    @Test
+    public void givenVirtualThreadsProfile_whenJobIsScheduled_thenItRunsOnAVirtualThread() throws Exception {
+        //given
+        CompletableFuture<Boolean> virtual = new CompletableFuture<>();
+
+        //when
+        taskScheduler.schedule(() -> virtual.complete(Thread.currentThread().isVirtual()), Instant.now());
+
+        //then
+        assertThat(virtual.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @TestConfiguration
+    static class ProbeConfiguration {
+        @Bean
+        ThreadProbe threadProbe() {
+            return new ThreadProbe();
+        }
+    }
+
+    @RestController
+    static class ThreadProbe {
+        @GetMapping("/test/thread/virtual")
+        boolean requestThreadIsVirtual() {
+            return Thread.currentThread().isVirtual();
+        }
+
+        @Async
+        public CompletableFuture<Thread> asyncThread() {
+            return CompletableFuture.completedFuture(Thread.currentThread());
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.cricflow.model.literal;
+
+import com.example.cricflow.model.Ball;
+import com.example.cricflow.model.Ground;
+import com.example.cricflow.model.Inning;
+import com.example.cricflow.model.Match;
+import com.example.cricflow.model.Over;
+import com.example.cricflow.model.Player;
+import com.example.cricflow.model.Team;
+import com.example.cricflow.model.event.Score;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.cricflow.model.literal.StringGenerator.generateObjectString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StringGeneratorTests {
+
+    @DisplayName("Test for the string of an object without nested objects")
+    @Test
+    public void givenGround_whenToStringIsCalled_thenEveryFieldIsWrittenOnItsOwnLine() {
+        //given
+        Ground ground = new Ground(1L, "NICE GROUND");
+
+        //when
+        String string = ground.toString();
+
+        //then
+        assertThat(string).isEqualTo("\nCOM.EXAMPLE.CRICFLOW.MODEL.GROUND {\n\tGROUNDID: 1,\n\tGROUNDNAME: NICE GROUND,\n}");
+    }
+
+    @DisplayName("Test for fields that are excluded or static")
+    @Test
+    public void givenPlayerInTeam_whenToStringIsCalled_thenTeamAndConstantsAreLeftOut() {
+        //given
+        Team team = Team.builder().teamId(1L).teamName("KARACHI KINGS").build();
+        Player player = new Player(2L, "Ali", "Haris", Player.PlayerType.BATSMAN, Player.BattingStyle.RIGHT_HANDED, Player.BowlingStyle.RIGHT_ARM_LEG_SPINNER, team);
+
+        //when
+        String string = player.toString();
+
+        //then
+        assertThat(string).contains("\tFIRSTNAME: Ali,\n", "\tPLAYERTYPE: BATSMAN,\n");
+        assertThat(string).doesNotContain("TEAM", "WITHOUT_TEAM");
+    }
+
+    @DisplayName("Test for a collection longer than the cap")
+    @Test
+    public void givenTeamWithFifteenPlayers_whenToStringIsCalled_thenOnlyTheFirstTenAreWritten() {
+        //given
+        List<Player> players = new ArrayList<>();
+        for (long i = 0; i < 15; i++)
+            players.add(Player.builder().playerId(i).firstName("Player" + i).build());
+        Team team = Team.builder().teamId(1L).teamName("KARACHI KINGS").players(players).build();
+
+        //when
+        String string = team.toString();
+
+        //then
+        assertThat(string).contains("Player9", ", ... 5 more]");
+        assertThat(string).doesNotContain("Player10");
+    }
+
+    @DisplayName("Test for a graph deeper than the cap")
+    @Test
+    public void givenMatchWithBalls_whenToStringIsCalled_thenObjectsBelowTheCapAreNotWritten() {
+        //given
+        Ball ball = Ball.builder().ballId(7L).ballEvent(Score.builder().scoreType(ScoreType.SIX).build()).build();
+        Over over = Over.builder().overId(5L).balls(List.of(ball)).build();
+        Inning inning = Inning.builder().inningId(3L).overs(List.of(over)).build();
+        Match match = Match.builder().matchId(1L).firstInnings(inning).build();
+
+        //when
+        String string = match.toString();
+
+        //then
+        assertThat(string).contains("\tOVERID: 5,\n", "COM.EXAMPLE.CRICFLOW.MODEL.BALL {...}");
+        assertThat(string).doesNotContain("BALLID", "SIX");
+    }
+
+    @DisplayName("Test for objects that point at each other")
+    @Test
+    public void givenCycle_whenToStringIsCalled_thenObjectAlreadyOnThePathIsNotWrittenAgain() {
+        //given
+        Node first = new Node("first");
+        Node second = new Node("second");
+        first.next = second;
+        second.next = first;
+
+        //when
+        String string = first.toString();
+
+        //then
+        assertThat(string).contains("\tNAME: second,\n", "NODE {<cycle>}");
+    }
+
+    @DisplayName("Test for a cycle through a class that has not been written before")
+    @Test
+    public void givenCycleThroughNewClass_whenToStringIsCalled_thenCycleIsStillFound() {
+        //given
+        Holder holder = new Holder();
+        Held held = new Held();
+        holder.held = held;
+        held.holder = holder;
+
+        //when
+        String string = generateObjectString(holder);
+
+        //then
+        assertThat(string).contains("HELD {\n", "HOLDER {<cycle>}");
+    }
+
+    static class Node {
+        private final String name;
+        private Node next;
+
+        Node(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String toString() {
+            return generateObjectString(this);
+        }
+    }
+
+    static class Holder {
+        private Held held;
+
+        @Override
+        public String toString() {
+            return generateObjectString(this);
+        }
+    }
+
+    static class Held {
+        private Holder holder;
+
+        @Override
+        public String toString() {
+            return generateObjectString(this);
+        }
+    }
+}
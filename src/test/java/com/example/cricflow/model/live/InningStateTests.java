@@ -0,0 +1,247 @@
+package com.example.cricflow.model.live;
+
+import com.example.cricflow.model.Ball;
+import com.example.cricflow.model.Over;
+import com.example.cricflow.model.event.Extra;
+import com.example.cricflow.model.event.Score;
+import com.example.cricflow.model.event.Wicket;
+import com.example.cricflow.model.literal.ExtraType;
+import com.example.cricflow.model.literal.ScoreType;
+import com.example.cricflow.model.literal.WicketType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.cricflow.support.BallStubs.ball;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InningStateTests {
+
+    private static final long BATTER = 1, RUNNER = 2, BOWLER = 3;
+
+    @DisplayName("Test for wides and no balls, bowled again without counting towards the over")
+    @Test
+    public void givenWideAndNoBall_whenDelivered_thenOverNeedsSixOtherDeliveries() {
+        //given
+        InningState state = new InningState(20);
+        state.startOver();
+
+        //when
+        List<InningState.Outcome> outcomes = new ArrayList<>();
+        outcomes.add(state.deliver(false, 0, false, false, BATTER, RUNNER, BOWLER));
+        outcomes.add(state.deliver(false, 0, false, false, InningState.NONE, InningState.NONE, InningState.NONE));
+        for (int i = 0; i < 6; i++)
+            outcomes.add(state.deliver(true, 0, false, false, InningState.NONE, InningState.NONE, InningState.NONE));
+
+        //then
+        assertThat(outcomes.subList(0, 7)).containsOnly(InningState.Outcome.BALL_RECORDED);
+        assertThat(outcomes.get(7)).isEqualTo(InningState.Outcome.OVER_COMPLETED);
+        assertThat(state.getLegalBallsInOver()).isEqualTo(6);
+    }
+
+    @DisplayName("Test for a seventh legal delivery in an over, turned down until the next over is started")
+    @Test
+    public void givenCompleteOver_whenDeliveredAgain_thenOverClosedIsReturned() {
+        //given
+        InningState state = new InningState(20);
+        state.startOver();
+        for (int i = 0; i < 6; i++)
+            state.deliver(true, 0, false, false, BATTER, RUNNER, BOWLER);
+
+        //when
+        InningState.Outcome outcome = state.deliver(true, 0, false, false, BATTER, RUNNER, BOWLER);
+
+        //then
+        assertThat(outcome).isEqualTo(InningState.Outcome.OVER_CLOSED);
+        assertThat(state.startOver()).isEqualTo(InningState.Outcome.OVER_STARTED);
+        assertThat(state.deliver(true, 0, false, false, RUNNER, BATTER, 4)).isEqualTo(InningState.Outcome.BALL_RECORDED);
+    }
+
+    @DisplayName("Test for the batters changing ends on odd runs and at the end of the over")
+    @Test
+    public void givenOddAndEvenRuns_whenDelivered_thenStrikeRotates() {
+        //given
+        InningState state = new InningState(20);
+        state.startOver();
+
+        //when
+        state.deliver(true, 1, false, false, BATTER, RUNNER, BOWLER);
+        long strikerAfterSingle = state.getStrikerId();
+        state.deliver(true, 4, false, false, InningState.NONE, InningState.NONE, InningState.NONE);
+        long strikerAfterFour = state.getStrikerId();
+        // a wide the batters ran one off changes ends too
+        state.deliver(false, 1, false, false, InningState.NONE, InningState.NONE, InningState.NONE);
+        long strikerAfterRunWide = state.getStrikerId();
+        for (int i = 0; i < 4; i++)
+            state.deliver(true, 0, false, false, InningState.NONE, InningState.NONE, InningState.NONE);
+
+        //then
+        assertThat(strikerAfterSingle).isEqualTo(RUNNER);
+        assertThat(strikerAfterFour).isEqualTo(RUNNER);
+        assertThat(strikerAfterRunWide).isEqualTo(BATTER);
+        // the over ended with the batter at the striker's end, so the runner faces the next one
+        assertThat(state.getStrikerId()).isEqualTo(RUNNER);
+        assertThat(state.getNonStrikerId()).isEqualTo(BATTER);
+    }
+
+    @DisplayName("Test for a wicket on the last ball of an over, the batter coming in starts at the other end")
+    @Test
+    public void givenWicketOnLastBall_whenOverCompletes_thenIncomingBatterIsAtNonStrikersEnd() {
+        //given
+        InningState state = new InningState(20);
+        state.startOver();
+        for (int i = 0; i < 5; i++)
+            state.deliver(true, 0, false, false, BATTER, RUNNER, BOWLER);
+
+        //when
+        InningState.Outcome outcome = state.deliver(true, 0, true, false, InningState.NONE, InningState.NONE, InningState.NONE);
+
+        //then
+        assertThat(outcome).isEqualTo(InningState.Outcome.OVER_COMPLETED);
+        assertThat(state.getStrikerId()).isEqualTo(RUNNER);
+        assertThat(state.getNonStrikerId()).isEqualTo(InningState.NONE);
+        assertThat(state.getWickets()).isEqualTo(1);
+    }
+
+    @DisplayName("Test for a run out, either batter may be out so both ends are emptied until the next delivery names them")
+    @Test
+    public void givenRunOut_whenNextDeliveryNamesOnlyTheStriker_thenItIsTurnedDown() {
+        //given
+        InningState state = new InningState(20);
+        state.startOver();
+        state.deliver(true, 0, false, false, BATTER, RUNNER, BOWLER);
+
+        //when
+        InningState.Outcome runOut = state.deliver(true, 0, true, true, InningState.NONE, InningState.NONE, InningState.NONE);
+
+        //then
+        assertThat(runOut).isEqualTo(InningState.Outcome.BALL_RECORDED);
+        assertThat(state.getWickets()).isEqualTo(1);
+        assertThat(state.getStrikerId()).isEqualTo(InningState.NONE);
+        assertThat(state.getNonStrikerId()).isEqualTo(InningState.NONE);
+        assertThat(state.deliver(true, 0, false, false, BATTER, InningState.NONE, InningState.NONE))
+                .isEqualTo(InningState.Outcome.BATTER_NOT_NAMED);
+        assertThat(state.getLegalBallsInOver()).isEqualTo(2);
+        assertThat(state.deliver(true, 0, false, false, BATTER, 5, InningState.NONE)).isEqualTo(InningState.Outcome.BALL_RECORDED);
+        assertThat(state.getNonStrikerId()).isEqualTo(5);
+    }
+
+    @DisplayName("Test for the tenth wicket, the inning is complete and takes no more deliveries or overs")
+    @Test
+    public void givenNineWickets_whenTenthFalls_thenInningIsComplete() {
+        //given
+        InningState state = new InningState(20);
+        state.startOver();
+        List<InningState.Outcome> outcomes = new ArrayList<>();
+        for (int wicket = 0; wicket < 10; wicket++) {
+            if (state.isOverComplete())
+                state.startOver();
+            outcomes.add(state.deliver(true, 0, true, false, BATTER + wicket + 10, RUNNER, BOWLER));
+        }
+
+        //then
+        assertThat(outcomes.get(9)).isEqualTo(InningState.Outcome.INNING_COMPLETED);
+        assertThat(state.isComplete()).isTrue();
+        assertThat(state.deliver(true, 0, false, false, BATTER, RUNNER, BOWLER)).isEqualTo(InningState.Outcome.INNING_COMPLETE);
+        assertThat(state.startOver()).isEqualTo(InningState.Outcome.INNING_COMPLETE);
+    }
+
+    @DisplayName("Test for the last over of the inning, no more overs can be started once it is bowled")
+    @Test
+    public void givenTwoOverInning_whenSecondOverIsBowled_thenInningIsCompleteAndOversAreExhausted() {
+        //given
+        InningState state = new InningState(2);
+        state.startOver();
+        for (int i = 0; i < 6; i++)
+            state.deliver(true, 0, false, false, BATTER, RUNNER, BOWLER);
+        state.startOver();
+        InningState.Outcome outcome = null;
+
+        //when
+        for (int i = 0; i < 6; i++)
+            outcome = state.deliver(true, 0, false, false, InningState.NONE, InningState.NONE, 4);
+
+        //then
+        assertThat(outcome).isEqualTo(InningState.Outcome.INNING_COMPLETED);
+        assertThat(state.startOver()).isEqualTo(InningState.Outcome.OVERS_EXHAUSTED);
+    }
+
+    @DisplayName("Test for starting an over before the one being bowled has had all its legal deliveries")
+    @Test
+    public void givenThreeLegalBalls_whenNextOverIsStarted_thenOverInProgressIsReturned() {
+        //given
+        InningState state = new InningState(20);
+        state.startOver();
+        for (int i = 0; i < 3; i++)
+            state.deliver(true, 0, false, false, BATTER, RUNNER, BOWLER);
+        state.deliver(false, 0, false, false, BATTER, RUNNER, BOWLER);
+
+        //when
+        InningState.Outcome outcome = state.startOver();
+
+        //then
+        assertThat(outcome).isEqualTo(InningState.Outcome.OVER_IN_PROGRESS);
+        assertThat(outcome.isRejected()).isTrue();
+        assertThat(state.getOvers()).isEqualTo(1);
+        assertThat(state.getLegalBallsInOver()).isEqualTo(3);
+        assertThat(state.getBowlerId()).isEqualTo(BOWLER);
+    }
+
+    @DisplayName("Test for replaying a saved over that follows one that was not complete, it is still started")
+    @Test
+    public void givenShortOverFollowedByAnother_whenReplayed_thenBothOversAreStarted() {
+        //given
+        List<Ball> first = List.of(ball(Score.builder().scoreType(ScoreType.NO_RUN).build(), BATTER, RUNNER, BOWLER));
+        List<Ball> second = List.of(ball(Score.builder().scoreType(ScoreType.DOUBLE).build(), BATTER, RUNNER, BOWLER + 1));
+
+        //when
+        InningState state = InningState.replay(20, List.of(Over.builder().balls(first).build(), Over.builder().balls(second).build()));
+
+        //then
+        assertThat(state.getOvers()).isEqualTo(2);
+        assertThat(state.getLegalBallsInOver()).isEqualTo(1);
+        assertThat(state.getBowlerId()).isEqualTo(BOWLER + 1);
+        assertThat(state.getRejectedOnReplay()).isZero();
+    }
+
+    @DisplayName("Test for replaying saved overs, the state carries on from the last ball")
+    @Test
+    public void givenSavedOvers_whenReplayed_thenStateCarriesOnFromLastBall() {
+        //given
+        List<Ball> first = new ArrayList<>();
+        for (int i = 0; i < 6; i++)
+            first.add(ball(Score.builder().scoreType(ScoreType.NO_RUN).build(), BATTER, RUNNER, BOWLER));
+        List<Ball> second = List.of(
+                ball(Score.builder().scoreType(ScoreType.SINGLE).build(), BATTER, RUNNER, BOWLER),
+                ball(Extra.builder().extraType(ExtraType.NO_BALL).scoreType(ScoreType.NO_RUN).build(), BATTER, RUNNER, BOWLER),
+                ball(Wicket.builder().wicketType(WicketType.BOWLED).build(), BATTER, RUNNER, BOWLER));
+
+        //when
+        InningState state = InningState.replay(20, List.of(Over.builder().balls(first).build(), Over.builder().balls(second).build()));
+
+        //then
+        assertThat(state.getOvers()).isEqualTo(2);
+        assertThat(state.getLegalBallsInOver()).isEqualTo(2);
+        assertThat(state.getWickets()).isEqualTo(1);
+        assertThat(state.getBowlerId()).isEqualTo(BOWLER);
+        assertThat(state.getRejectedOnReplay()).isZero();
+    }
+
+    @DisplayName("Test for replaying saved overs with a delivery the rules turn down, passed over and counted")
+    @Test
+    public void givenOverWithSevenLegalBalls_whenReplayed_thenTheSeventhIsCountedAsRejected() {
+        //given
+        List<Ball> balls = new ArrayList<>();
+        for (int i = 0; i < 7; i++)
+            balls.add(ball(Score.builder().scoreType(ScoreType.NO_RUN).build(), BATTER, RUNNER, BOWLER));
+
+        //when
+        InningState state = InningState.replay(20, List.of(Over.builder().balls(balls).build()));
+
+        //then
+        assertThat(state.getRejectedOnReplay()).isEqualTo(1);
+        assertThat(state.isOverComplete()).isTrue();
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.cricflow.model.live;
+
+import com.example.cricflow.model.literal.ExtraType;
+import com.example.cricflow.model.literal.ScoreType;
+import com.example.cricflow.model.literal.WicketType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ShorthandParserTests {
+
+    @DisplayName("Test for runs off the bat, a dot and a nought both being no run")
+    @Test
+    public void givenRunTokens_whenRead_thenScoresAreReturned() {
+        //given
+        ShorthandParser parser = new ShorthandParser().reset(". 0 1 2 3 4 6");
+        List<ScoreType> scoreTypes = new ArrayList<>();
+
+        //when
+        for (ShorthandParser.Token token = parser.next(); token != ShorthandParser.Token.END; token = parser.next()) {
+            assertThat(token).isEqualTo(ShorthandParser.Token.SCORE);
+            scoreTypes.add(parser.getScoreType());
+        }
+
+        //then
+        assertThat(scoreTypes).containsExactly(ScoreType.NO_RUN, ScoreType.NO_RUN, ScoreType.SINGLE, ScoreType.DOUBLE,
+                ScoreType.TRIPLE, ScoreType.FOUR, ScoreType.SIX);
+    }
+
+    @DisplayName("Test for wides and no balls, with and without runs taken off them")
+    @Test
+    public void givenExtraTokens_whenRead_thenExtrasWithTheirRunsAreReturned() {
+        //given
+        ShorthandParser parser = new ShorthandParser().reset("wd 1wd nb 2NB");
+
+        //when
+        List<String> extras = new ArrayList<>();
+        for (ShorthandParser.Token token = parser.next(); token != ShorthandParser.Token.END; token = parser.next())
+            extras.add(token + " " + parser.getExtraType() + " " + parser.getScoreType());
+
+        //then
+        assertThat(extras).containsExactly(
+                "EXTRA " + ExtraType.WIDE + " " + ScoreType.NO_RUN,
+                "EXTRA " + ExtraType.WIDE + " " + ScoreType.SINGLE,
+                "EXTRA " + ExtraType.NO_BALL + " " + ScoreType.NO_RUN,
+                "EXTRA " + ExtraType.NO_BALL + " " + ScoreType.DOUBLE);
+    }
+
+    @DisplayName("Test for wickets and player tokens, the fielder or player is read from the digits after the colon")
+    @Test
+    public void givenWicketAndPlayerTokens_whenRead_thenWicketTypesAndPlayerIdsAreReturned() {
+        //given
+        ShorthandParser parser = new ShorthandParser().reset("st:7 ns:8\tbw:9\nW-b,W-c:123 W-ro:45");
+
+        //when
+        List<String> tokens = new ArrayList<>();
+        for (ShorthandParser.Token token = parser.next(); token != ShorthandParser.Token.END; token = parser.next())
+            tokens.add(token + " " + parser.getWicketType() + " " + parser.getPlayerId());
+
+        //then
+        assertThat(tokens).containsExactly("STRIKER null 7", "NON_STRIKER null 8", "BOWLER null 9",
+                "WICKET " + WicketType.BOWLED + " 0", "WICKET " + WicketType.CAUGHT + " 123", "WICKET " + WicketType.RUN_OUT + " 45");
+    }
+
+    @DisplayName("Test for tokens that are not shorthand, each one is returned as invalid with where it is in the text")
+    @Test
+    public void givenBadTokens_whenRead_thenEachIsInvalidAndReadingGoesOn() {
+        //given
+        String text = "5 .wd 3xb W W-b:12 W-c: W-lbw xx:1 st:x 4";
+        ShorthandParser parser = new ShorthandParser().reset(text);
+
+        //when
+        List<String> invalid = new ArrayList<>();
+        ShorthandParser.Token token;
+        while ((token = parser.next()) != ShorthandParser.Token.END)
+            if (token == ShorthandParser.Token.INVALID)
+                invalid.add(text.substring(parser.getTokenStart(), parser.getTokenEnd()));
+
+        //then
+        assertThat(invalid).containsExactly("5", ".wd", "3xb", "W", "W-b:12", "W-c:", "W-lbw", "xx:1", "st:x");
+        assertThat(parser.getTokenStart()).isEqualTo(text.length());
+    }
+
+    @DisplayName("Test for the line of a token, counted as the text is read and started again by a reset")
+    @Test
+    public void givenOversOnSeveralLines_whenRead_thenEachTokenHasItsLine() {
+        //given
+        ShorthandParser parser = new ShorthandParser().reset("bw:9 1 .\n\n4 6\r\n, W-b\n");
+
+        //when
+        List<Integer> lines = new ArrayList<>();
+        for (ShorthandParser.Token token = parser.next(); token != ShorthandParser.Token.END; token = parser.next())
+            lines.add(parser.getLine());
+
+        //then
+        assertThat(lines).containsExactly(1, 1, 1, 3, 3, 4);
+        parser.reset("4");
+        parser.next();
+        assertThat(parser.getLine()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,192 @@
+package com.example.cricflow.service;
+
+import com.example.cricflow.model.Ball;
+import com.example.cricflow.model.Player;
+import com.example.cricflow.model.event.Extra;
+import com.example.cricflow.model.event.Score;
+import com.example.cricflow.model.event.Wicket;
+import com.example.cricflow.model.literal.ExtraType;
+import com.example.cricflow.model.literal.ScoreType;
+import com.example.cricflow.model.literal.WicketType;
+import com.example.cricflow.model.live.InningScorecard;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.cricflow.support.BallStubs.ball;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MatchJournalTests {
+
+    @TempDir
+    Path directory;
+
+    private static final long STRIKER = 1L, NON_STRIKER = 2L, BOWLER = 3L, FIELDER = 4L;
+
+    @DisplayName("Journal Test for recovering without anything on disk")
+    @Test
+    public void givenEmptyDirectory_whenRecovered_thenNothingIsRecovered() {
+        //given
+        MatchJournal journal = journal(16);
+
+        //when
+        boolean recovered = journal.recover(new HashMap<>());
+
+        //then
+        assertThat(recovered).isFalse();
+    }
+
+    @DisplayName("Journal Test for recovering the scorecards from the snapshot and the journal tail")
+    @Test
+    public void givenJournaledBalls_whenRecoveredAfterCrash_thenScorecardsAreRebuilt() {
+        //given
+        Map<Long, InningScorecard> live = new HashMap<>();
+        MatchJournal journal = journal(16);
+        journal.recover(live);
+        journal.checkpoint();
+        append(journal, live, 10L, over());
+        append(journal, live, 11L, List.of(ball(Score.builder().scoreType(ScoreType.SIX).build(), STRIKER, NON_STRIKER, BOWLER)));
+
+        //when
+        Map<Long, InningScorecard> recovered = new HashMap<>();
+        boolean found = journal(16).recover(recovered);
+
+        //then
+        assertThat(found).isTrue();
+        assertSameFigures(recovered, live);
+    }
+
+    @DisplayName("Journal Test for rolling over to a new segment when the current one is full")
+    @Test
+    public void givenMoreBallsThanOneSegment_whenRecovered_thenSnapshotAndTailAreCombined() throws IOException {
+        //given
+        Map<Long, InningScorecard> live = new HashMap<>();
+        MatchJournal journal = journal(8);
+        journal.recover(live);
+        journal.checkpoint();
+        for (int i = 0; i < 5; i++)
+            append(journal, live, 10L + (i % 2), over());
+
+        //when
+        Map<Long, InningScorecard> recovered = new HashMap<>();
+        journal(8).recover(recovered);
+
+        //then
+        assertSameFigures(recovered, live);
+        try (var files = Files.list(directory)) {
+            assertThat(files.filter(file -> file.getFileName().toString().startsWith("journal-")).count()).isEqualTo(1);
+        }
+    }
+
+    @DisplayName("Journal Test for a record torn by a crash in the middle of a write")
+    @Test
+    public void givenTornLastRecord_whenRecovered_thenReplayStopsBeforeIt() throws IOException {
+        //given
+        Map<Long, InningScorecard> live = new HashMap<>();
+        MatchJournal journal = journal(16);
+        journal.recover(live);
+        journal.checkpoint();
+        append(journal, live, 10L, List.of(ball(Score.builder().scoreType(ScoreType.FOUR).build(), STRIKER, NON_STRIKER, BOWLER)));
+        append(journal, new HashMap<>(), 10L, List.of(ball(Score.builder().scoreType(ScoreType.SIX).build(), STRIKER, NON_STRIKER, BOWLER)));
+        try (RandomAccessFile segment = new RandomAccessFile(directory.resolve("journal-1.log").toFile(), "rw")) {
+            segment.seek(MatchJournal.RECORD_SIZE + 20);
+            segment.writeByte(0x7f);
+        }
+
+        //when
+        Map<Long, InningScorecard> recovered = new HashMap<>();
+        journal(16).recover(recovered);
+
+        //then
+        assertThat(recovered.get(10L).getTotalRuns()).isEqualTo(4);
+        assertThat(recovered.get(10L).getLegalBalls()).isEqualTo(1);
+    }
+
+    @DisplayName("Journal Test for a clean shutdown, which leaves only a snapshot to load")
+    @Test
+    public void givenClosedJournal_whenRecovered_thenScorecardsComeFromSnapshot() {
+        //given
+        Map<Long, InningScorecard> live = new HashMap<>();
+        MatchJournal journal = journal(16);
+        journal.recover(live);
+        journal.checkpoint();
+        append(journal, live, 10L, over());
+        journal.close();
+
+        //when
+        Map<Long, InningScorecard> recovered = new HashMap<>();
+        journal(16).recover(recovered);
+
+        //then
+        assertSameFigures(recovered, live);
+    }
+
+    @DisplayName("Journal Test for a batch appended while another one is being applied")
+    @Test
+    public void givenBatchBeingApplied_whenAnotherIsAppended_thenItIsNotHeldBack() throws Exception {
+        //given
+        Map<Long, InningScorecard> live = new HashMap<>();
+        MatchJournal journal = journal(16);
+        journal.recover(live);
+        journal.checkpoint();
+        List<Ball> six = List.of(ball(Score.builder().scoreType(ScoreType.SIX).build(), STRIKER, NON_STRIKER, BOWLER));
+
+        //when
+        journal.append(10L, List.of(ball(Score.builder().scoreType(ScoreType.FOUR).build(), STRIKER, NON_STRIKER, BOWLER)), () -> {
+            // the other batch is journaled and applied before this one is, so the journal lock is not held here
+            CompletableFuture.runAsync(() -> append(journal, live, 11L, six)).orTimeout(5, TimeUnit.SECONDS).join();
+            live.computeIfAbsent(10L, InningScorecard::new).record(ball(Score.builder().scoreType(ScoreType.FOUR).build(), STRIKER, NON_STRIKER, BOWLER));
+        });
+        journal.close();
+
+        //then
+        Map<Long, InningScorecard> recovered = new HashMap<>();
+        journal(16).recover(recovered);
+        assertSameFigures(recovered, live);
+    }
+
+    private MatchJournal journal(int recordsPerSegment) {
+        return new MatchJournal(true, directory.toString(), recordsPerSegment);
+    }
+
+    private void append(MatchJournal journal, Map<Long, InningScorecard> scorecards, long inningId, List<Ball> balls) {
+        journal.append(inningId, balls, () -> {
+            InningScorecard scorecard = scorecards.computeIfAbsent(inningId, InningScorecard::new);
+            for (Ball ball : balls)
+                scorecard.record(ball);
+        });
+    }
+
+    private void assertSameFigures(Map<Long, InningScorecard> actual, Map<Long, InningScorecard> expected) {
+        assertThat(actual.keySet()).isEqualTo(expected.keySet());
+        for (Long inningId : expected.keySet()) {
+            InningScorecard recovered = actual.get(inningId), live = expected.get(inningId);
+            assertThat(recovered.getTotalRuns()).isEqualTo(live.getTotalRuns());
+            assertThat(recovered.getWickets()).isEqualTo(live.getWickets());
+            assertThat(recovered.getLegalBalls()).isEqualTo(live.getLegalBalls());
+            assertThat(recovered.getExtras()).isEqualTo(live.getExtras());
+            assertThat(recovered.getBatters()).isEqualTo(live.getBatters());
+            assertThat(recovered.getBowlers()).isEqualTo(live.getBowlers());
+        }
+    }
+
+    private List<Ball> over() {
+        return List.of(
+                ball(Score.builder().scoreType(ScoreType.FOUR).build(), STRIKER, NON_STRIKER, BOWLER),
+                ball(Extra.builder().extraType(ExtraType.WIDE).scoreType(ScoreType.SINGLE).build(), STRIKER, NON_STRIKER, BOWLER),
+                ball(Extra.builder().extraType(ExtraType.NO_BALL).scoreType(ScoreType.DOUBLE).build(), STRIKER, NON_STRIKER, BOWLER),
+                ball(Wicket.builder().wicketType(WicketType.CAUGHT).fielder(Player.builder().playerId(FIELDER).build()).build(), STRIKER, NON_STRIKER, BOWLER),
+                ball(Wicket.builder().wicketType(WicketType.RUN_OUT).build(), STRIKER, NON_STRIKER, BOWLER)
+        );
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.cricflow.service;
+
+import com.example.cricflow.exception.EntityDoesNotExistsException;
+import com.example.cricflow.model.Ball;
+import com.example.cricflow.model.Player;
+import com.example.cricflow.model.event.Score;
+import com.example.cricflow.model.literal.ScoreType;
+import com.example.cricflow.model.live.InningTotals;
+import com.example.cricflow.model.live.ScorecardUpdatedEvent;
+import com.example.cricflow.repository.MatchRepo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.function.Executable;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class MatchStreamServiceTests {
+
+    @Mock
+    MatchRepo matchRepo;
+
+    MatchStreamService matchStreamService;
+
+    @BeforeEach
+    void setUp() {
+        matchStreamService = new MatchStreamService(matchRepo, new InningMatchLookup(matchRepo, 100, 60000),
+                new ObjectMapper(), 4, 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        matchStreamService.shutdown();
+    }
+
+    @DisplayName("Service Test for subscribing to a match that does not exist")
+    @Test
+    public void givenNonExistingMatch_whenSubscribed_thenEntityDoesNotExistsExceptionIsThrown() {
+        //given
+        given(matchRepo.existsById(1L)).willReturn(false);
+
+        //when
+        Executable executable = () -> matchStreamService.subscribe(1L);
+
+        //then
+        assertThrows(EntityDoesNotExistsException.class, executable);
+        assertThat(matchStreamService.subscriberCount(1L)).isEqualTo(0);
+    }
+
+    @DisplayName("Service Test for subscribing to an existing match")
+    @Test
+    public void givenExistingMatch_whenSubscribed_thenSubscriberIsRegistered() {
+        //given
+        given(matchRepo.existsById(1L)).willReturn(true);
+
+        //when
+        SseEmitter first = matchStreamService.subscribe(1L);
+        SseEmitter second = matchStreamService.subscribe(1L);
+
+        //then
+        assertThat(first).isNotNull();
+        assertThat(second).isNotSameAs(first);
+        assertThat(matchStreamService.subscriberCount(1L)).isEqualTo(2);
+        assertThat(matchStreamService.subscriberCount(2L)).isEqualTo(0);
+    }
+
+    @DisplayName("Service Test for a delivery scored while nobody is subscribed")
+    @Test
+    public void givenNoSubscribers_whenScorecardUpdated_thenMatchIsNotLookedUp() {
+        //when
+        matchStreamService.onScorecardUpdated(update(10L));
+
+        //then
+        verify(matchRepo, never()).findMatchIdByInningId(anyLong());
+    }
+
+    @DisplayName("Service Test for resolving the match of an inning only once")
+    @Test
+    public void givenSubscriber_whenSeveralDeliveriesScored_thenMatchOfInningIsLookedUpOnce() {
+        //given
+        given(matchRepo.existsById(1L)).willReturn(true);
+        given(matchRepo.findMatchIdByInningId(10L)).willReturn(Optional.of(1L));
+        matchStreamService.subscribe(1L);
+
+        //when
+        matchStreamService.onScorecardUpdated(update(10L));
+        matchStreamService.onScorecardUpdated(update(10L));
+        matchStreamService.onScorecardUpdated(update(10L));
+
+        //then
+        verify(matchRepo, times(1)).findMatchIdByInningId(10L);
+    }
+
+    @DisplayName("Service Test for an inning that is in no match, the miss is remembered as well")
+    @Test
+    public void givenInningInNoMatch_whenSeveralDeliveriesScored_thenInningIsLookedUpOnce() {
+        //given
+        given(matchRepo.existsById(1L)).willReturn(true);
+        given(matchRepo.findMatchIdByInningId(10L)).willReturn(Optional.empty());
+        matchStreamService.subscribe(1L);
+
+        //when
+        matchStreamService.onScorecardUpdated(update(10L));
+        matchStreamService.onScorecardUpdated(update(10L));
+
+        //then
+        verify(matchRepo, times(1)).findMatchIdByInningId(10L);
+    }
+
+    @DisplayName("Service Test for the last subscriber of a match going away, found by a heartbeat")
+    @Test
+    public void givenClosedSubscriber_whenHeartbeatSent_thenMatchIsDropped() throws InterruptedException {
+        //given
+        given(matchRepo.existsById(1L)).willReturn(true);
+        SseEmitter emitter = matchStreamService.subscribe(1L);
+        emitter.complete();
+
+        //when
+        matchStreamService.sendHeartbeats();
+        for (int i = 0; i < 100 && matchStreamService.subscriberCount(1L) > 0; i++)
+            Thread.sleep(10);
+        matchStreamService.onScorecardUpdated(update(10L));
+
+        //then
+        assertThat(matchStreamService.subscriberCount(1L)).isEqualTo(0);
+        verify(matchRepo, never()).findMatchIdByInningId(anyLong());
+    }
+
+    private ScorecardUpdatedEvent update(long inningId) {
+        Ball ball = Ball.builder()
+                .ballId(5L)
+                .ballEvent(Score.builder().scoreType(ScoreType.FOUR).build())
+                .striker(Player.builder().playerId(1L).build())
+                .nonStriker(Player.builder().playerId(2L).build())
+                .bowler(Player.builder().playerId(3L).build())
+                .build();
+        return new ScorecardUpdatedEvent(ball, new InningTotals(inningId, 4, 0, 1));
+    }
+}
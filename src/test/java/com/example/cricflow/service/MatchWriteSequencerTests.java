@@ -0,0 +1,192 @@
+package com.example.cricflow.service;
+
+import com.example.cricflow.exception.EntityDoesNotExistsException;
+import com.example.cricflow.repository.InningRepo;
+import com.example.cricflow.repository.MatchRepo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.function.Executable;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class MatchWriteSequencerTests {
+
+    @Mock
+    InningRepo inningRepo;
+
+    @Mock
+    MatchRepo matchRepo;
+
+    SimpleMeterRegistry meterRegistry;
+    MatchWriteSequencer matchWriteSequencer;
+    ExecutorService scorers;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        matchWriteSequencer = new MatchWriteSequencer(inningRepo, new InningMatchLookup(matchRepo, 100, 5000), meterRegistry, 4);
+        scorers = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scorers.shutdownNow();
+        matchWriteSequencer.shutdown();
+    }
+
+    @DisplayName("Service Test for writes to one match from many scorers, run one at a time in the order they arrived")
+    @Test
+    public void givenManyScorersOfOneMatch_whenWritesAreMade_thenTheyNeverOverlap() throws Exception {
+        //given
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger overlaps = new AtomicInteger();
+        List<Integer> written = Collections.synchronizedList(new ArrayList<>());
+        List<Future<Integer>> results = new ArrayList<>();
+
+        //when
+        for (int i = 0; i < 400; i++) {
+            int delivery = i;
+            results.add(scorers.submit(() -> matchWriteSequencer.write(1L, () -> {
+                if (running.incrementAndGet() > 1)
+                    overlaps.incrementAndGet();
+                written.add(delivery);
+                running.decrementAndGet();
+                return delivery;
+            })));
+        }
+        for (int i = 0; i < results.size(); i++)
+            assertThat(results.get(i).get(5, TimeUnit.SECONDS)).isEqualTo(i);
+
+        //then
+        assertThat(overlaps.get()).isZero();
+        assertThat(written).hasSize(400).doesNotHaveDuplicates();
+        assertThat(matchWriteSequencer.queueDepth(1L)).isZero();
+        assertThat(meterRegistry.get(MatchWriteSequencer.QUEUE_DEPTH).gauge().value()).isZero();
+        assertThat(meterRegistry.get(MatchWriteSequencer.WRITE_TIMER).timer().count()).isEqualTo(400);
+        assertThat(meterRegistry.get(MatchWriteSequencer.QUEUE_AHEAD).summary().count()).isEqualTo(400);
+    }
+
+    @DisplayName("Service Test for the mailboxes of matches that ran out of writes, dropped and opened again by the next write")
+    @Test
+    public void givenWritesToManyMatches_whenAllAreDone_thenNoMailboxIsKept() throws Exception {
+        //given
+        List<Future<Long>> results = new ArrayList<>();
+        for (long match = 1; match <= 200; match++) {
+            long matchId = match;
+            for (int i = 0; i < 3; i++)
+                results.add(scorers.submit(() -> matchWriteSequencer.write(matchId, () -> matchId)));
+        }
+        for (Future<Long> result : results)
+            result.get(5, TimeUnit.SECONDS);
+
+        //when
+        // a mailbox is dropped by its worker just after the last write has been handed back
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (matchWriteSequencer.openMailboxes() > 0 && System.nanoTime() < deadline)
+            Thread.sleep(10);
+
+        //then
+        assertThat(matchWriteSequencer.openMailboxes()).isZero();
+        assertThat(meterRegistry.get(MatchWriteSequencer.QUEUE_DEPTH).gauge().value()).isZero();
+        assertThat(matchWriteSequencer.write(1L, () -> "again")).isEqualTo("again");
+    }
+
+    @DisplayName("Service Test for writes to two matches, run side by side")
+    @Test
+    public void givenWriteToOneMatchInProgress_whenAnotherMatchIsWritten_thenItDoesNotWait() throws Exception {
+        //given
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> first = scorers.submit(() -> matchWriteSequencer.write(1L, () -> {
+            firstStarted.countDown();
+            release.await();
+            return "first";
+        }));
+        firstStarted.await(5, TimeUnit.SECONDS);
+
+        //when
+        String second = matchWriteSequencer.write(2L, () -> "second");
+
+        //then
+        assertThat(second).isEqualTo("second");
+        assertThat(matchWriteSequencer.queueDepth(1L)).isEqualTo(1);
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+    }
+
+    @DisplayName("Service Test for a write that fails, its exception is thrown to the caller and the next write still runs")
+    @Test
+    public void givenFailingWrite_whenWritten_thenItsExceptionIsThrownToTheCaller() throws Exception {
+        //when
+        Executable executable = () -> matchWriteSequencer.write(1L, () -> {
+            throw new EntityDoesNotExistsException("OVER", 7L);
+        });
+
+        //then
+        assertThrows(EntityDoesNotExistsException.class, executable);
+        assertThat(matchWriteSequencer.write(1L, () -> "next")).isEqualTo("next");
+    }
+
+    @DisplayName("Service Test for a write made from inside a write to the same match, run in place instead of waiting on itself")
+    @Test
+    public void givenWriteInsideWriteOfSameMatch_whenWritten_thenItRunsInPlace() throws Exception {
+        //when
+        String result = matchWriteSequencer.write(1L, () -> matchWriteSequencer.write(1L, () -> "inner"));
+
+        //then
+        assertThat(result).isEqualTo("inner");
+    }
+
+    @DisplayName("Service Test for writes to the overs of one match, the match of an inning is only looked up once")
+    @Test
+    public void givenOversOfOneInning_whenWritten_thenMatchIsLookedUpOnce() throws Exception {
+        //given
+        given(inningRepo.findInningIdByOverId(10L)).willReturn(Optional.of(3L));
+        given(inningRepo.findInningIdByOverId(11L)).willReturn(Optional.of(3L));
+        given(matchRepo.findMatchIdByInningId(3L)).willReturn(Optional.of(1L));
+
+        //when
+        matchWriteSequencer.writeToOver(10L, () -> "over");
+        matchWriteSequencer.writeToOver(11L, () -> "over");
+
+        //then
+        verify(matchRepo, times(1)).findMatchIdByInningId(3L);
+        assertThat(meterRegistry.get(MatchWriteSequencer.WRITE_TIMER).timer().count()).isEqualTo(2);
+    }
+
+    @DisplayName("Service Test for a write to an over that is not part of a match, run in place")
+    @Test
+    public void givenOverOutsideAnyMatch_whenWritten_thenItRunsInPlace() throws Exception {
+        //given
+        given(inningRepo.findInningIdByOverId(10L)).willReturn(Optional.empty());
+
+        //when
+        Thread thread = matchWriteSequencer.writeToOver(10L, Thread::currentThread);
+
+        //then
+        assertThat(thread).isSameAs(Thread.currentThread());
+        assertThat(meterRegistry.get(MatchWriteSequencer.WRITE_TIMER).timer().count()).isZero();
+    }
+}
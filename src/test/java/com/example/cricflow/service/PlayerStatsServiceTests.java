@@ -0,0 +1,165 @@
+package com.example.cricflow.service;
+
+import com.example.cricflow.exception.EntityDoesNotExistsException;
+import com.example.cricflow.model.Ball;
+import com.example.cricflow.model.event.Extra;
+import com.example.cricflow.model.event.Score;
+import com.example.cricflow.model.event.Wicket;
+import com.example.cricflow.model.literal.ExtraType;
+import com.example.cricflow.model.literal.ScoreType;
+import com.example.cricflow.model.literal.WicketType;
+import com.example.cricflow.model.live.DeliveriesRecordedEvent;
+import com.example.cricflow.model.stats.PlayerCareerStats;
+import com.example.cricflow.repository.BallRepo;
+import com.example.cricflow.repository.PlayerRepo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.function.Executable;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static com.example.cricflow.support.BallStubs.ball;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class PlayerStatsServiceTests {
+
+    @Mock
+    BallRepo ballRepo;
+
+    @Mock
+    PlayerRepo playerRepo;
+
+    @InjectMocks
+    PlayerStatsService playerStatsService;
+
+    private static final long STRIKER = 1L, NON_STRIKER = 2L, BOWLER = 3L;
+
+    @DisplayName("Service Test for the career stats of the batter and the bowler after an over")
+    @Test
+    public void givenRecordedOver_whenStatsRead_thenBattingAndBowlingAggregatesAreReturned() {
+        //given
+        playerStatsService.onDeliveriesRecorded(new DeliveriesRecordedEvent(null, 20L, List.of(
+                ball(Score.builder().scoreType(ScoreType.FOUR).build(), STRIKER, NON_STRIKER, BOWLER),
+                ball(Score.builder().scoreType(ScoreType.SIX).build(), STRIKER, NON_STRIKER, BOWLER),
+                ball(Extra.builder().extraType(ExtraType.WIDE).scoreType(ScoreType.SINGLE).build(), STRIKER, NON_STRIKER, BOWLER),
+                ball(Extra.builder().extraType(ExtraType.NO_BALL).scoreType(ScoreType.FOUR).build(), STRIKER, NON_STRIKER, BOWLER),
+                ball(Wicket.builder().wicketType(WicketType.CAUGHT).build(), STRIKER, NON_STRIKER, BOWLER),
+                ball(Wicket.builder().wicketType(WicketType.RUN_OUT).build(), STRIKER, NON_STRIKER, BOWLER)
+        )));
+
+        //when
+        PlayerCareerStats batter = playerStatsService.readPlayerStats(STRIKER).getBody();
+        PlayerCareerStats bowler = playerStatsService.readPlayerStats(BOWLER).getBody();
+
+        //then
+        assertThat(batter.getBatting().getRuns()).isEqualTo(14);
+        assertThat(batter.getBatting().getBallsFaced()).isEqualTo(5);
+        assertThat(batter.getBatting().getFours()).isEqualTo(2);
+        assertThat(batter.getBatting().getSixes()).isEqualTo(1);
+        assertThat(batter.getBatting().getDismissals()).isEqualTo(2);
+        assertThat(bowler.getBowling().getLegalBalls()).isEqualTo(4);
+        assertThat(bowler.getBowling().getRunsConceded()).isEqualTo(4 + 6 + 2 + 5);
+        assertThat(bowler.getBowling().getWides()).isEqualTo(1);
+        assertThat(bowler.getBowling().getNoBalls()).isEqualTo(1);
+        assertThat(bowler.getBowling().getWickets()).isEqualTo(1);
+        assertThat(bowler.getBowling().getWicketsByType().get(WicketType.CAUGHT)).isEqualTo(1);
+        assertThat(bowler.getBowling().getWicketsByType().get(WicketType.RUN_OUT)).isEqualTo(0);
+        verify(playerRepo, never()).existsById(STRIKER);
+    }
+
+    @DisplayName("Service Test for the career stats of a player who has not played")
+    @Test
+    public void givenPlayerWithoutDeliveries_whenStatsRead_thenEmptyStatsAreReturned() {
+        //given
+        given(playerRepo.existsById(NON_STRIKER)).willReturn(true);
+
+        //when
+        PlayerCareerStats stats = playerStatsService.readPlayerStats(NON_STRIKER).getBody();
+
+        //then
+        assertThat(stats.getPlayerId()).isEqualTo(NON_STRIKER);
+        assertThat(stats.getBatting().getBallsFaced()).isEqualTo(0);
+        assertThat(stats.getBowling().getLegalBalls()).isEqualTo(0);
+    }
+
+    @DisplayName("Service Test for the career stats of a player that does not exist")
+    @Test
+    public void givenNonExistingPlayer_whenStatsRead_thenEntityDoesNotExistsExceptionIsThrown() {
+        //given
+        given(playerRepo.existsById(99L)).willReturn(false);
+
+        //when
+        Executable executable = () -> playerStatsService.readPlayerStats(99L);
+
+        //then
+        assertThrows(EntityDoesNotExistsException.class, executable);
+    }
+
+    @DisplayName("Service Test for rebuilding the career stats from grouped delivery counts")
+    @Test
+    public void givenGroupedCounts_whenRebuilt_thenCountsAreMultipliedIntoTheStats() {
+        //given
+        given(ballRepo.countScoresByPlayers()).willReturn(List.<Object[]>of(
+                new Object[]{STRIKER, BOWLER, ScoreType.FOUR, 3L},
+                new Object[]{NON_STRIKER, BOWLER, ScoreType.SINGLE, 2L}));
+        given(ballRepo.countExtrasByPlayers()).willReturn(List.<Object[]>of(
+                new Object[]{STRIKER, BOWLER, ExtraType.WIDE, ScoreType.NO_RUN, 2L}));
+        given(ballRepo.countWicketsByPlayers()).willReturn(List.<Object[]>of(
+                new Object[]{STRIKER, BOWLER, WicketType.BOWLED, 1L}));
+
+        //when
+        playerStatsService.rebuildPlayerStats();
+
+        //then
+        PlayerCareerStats batter = playerStatsService.readPlayerStats(STRIKER).getBody();
+        PlayerCareerStats bowler = playerStatsService.readPlayerStats(BOWLER).getBody();
+        assertThat(batter.getBatting().getRuns()).isEqualTo(12);
+        assertThat(batter.getBatting().getBallsFaced()).isEqualTo(4);
+        assertThat(batter.getBatting().getDismissals()).isEqualTo(1);
+        assertThat(bowler.getBowling().getLegalBalls()).isEqualTo(6);
+        assertThat(bowler.getBowling().getRunsConceded()).isEqualTo(12 + 2 + 2);
+        assertThat(bowler.getBowling().getWides()).isEqualTo(2);
+        assertThat(bowler.getBowling().getWicketsByType().get(WicketType.BOWLED)).isEqualTo(1);
+    }
+
+    @DisplayName("Service Test for balls recorded live while the stats are rebuilt, each one counted once and old stats served meanwhile")
+    @Test
+    public void givenBallsRecordedDuringRebuild_whenRebuilt_thenOnlyTheOnesTheCountsMissedAreAdded() {
+        //given
+        playerStatsService.onDeliveriesRecorded(new DeliveriesRecordedEvent(null, 20L, List.of(
+                ball(Score.builder().scoreType(ScoreType.SIX).build(), STRIKER, NON_STRIKER, BOWLER))));
+        Ball counted = ball(Score.builder().scoreType(ScoreType.FOUR).build(), STRIKER, NON_STRIKER, BOWLER);
+        counted.setBallId(7L);
+        Ball missed = ball(Score.builder().scoreType(ScoreType.SINGLE).build(), STRIKER, NON_STRIKER, BOWLER);
+        missed.setBallId(8L);
+        long[] runsDuringRebuild = new long[1];
+        // the six and the four are in the snapshot the counts are read from, the single is committed after it
+        given(ballRepo.countScoresByPlayers()).willAnswer(invocation -> {
+            playerStatsService.onDeliveriesRecorded(new DeliveriesRecordedEvent(null, 20L, List.of(counted, missed)));
+            runsDuringRebuild[0] = playerStatsService.readPlayerStats(STRIKER).getBody().getBatting().getRuns();
+            return List.<Object[]>of(new Object[]{STRIKER, BOWLER, ScoreType.SIX, 1L}, new Object[]{STRIKER, BOWLER, ScoreType.FOUR, 1L});
+        });
+        given(ballRepo.countExtrasByPlayers()).willReturn(List.of());
+        given(ballRepo.countWicketsByPlayers()).willReturn(List.of());
+        given(ballRepo.findExistingIds(List.of(7L, 8L))).willReturn(Set.of(7L));
+
+        //when
+        playerStatsService.rebuildPlayerStats();
+
+        //then
+        assertThat(runsDuringRebuild[0]).isEqualTo(6 + 4 + 1);
+        PlayerCareerStats batter = playerStatsService.readPlayerStats(STRIKER).getBody();
+        assertThat(batter.getBatting().getRuns()).isEqualTo(6 + 4 + 1);
+        assertThat(batter.getBatting().getBallsFaced()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,261 @@
+package com.example.cricflow.service;
+
+import com.example.cricflow.exception.EntityDoesNotExistsException;
+import com.example.cricflow.model.Ball;
+import com.example.cricflow.model.event.Extra;
+import com.example.cricflow.model.event.Score;
+import com.example.cricflow.model.event.Wicket;
+import com.example.cricflow.model.literal.ExtraType;
+import com.example.cricflow.model.literal.ScoreType;
+import com.example.cricflow.model.literal.WicketType;
+import com.example.cricflow.model.live.DeliveriesRecordedEvent;
+import com.example.cricflow.model.live.InningScorecard;
+import com.example.cricflow.model.live.ScorecardUpdatedEvent;
+import com.example.cricflow.model.projection.DeliveryRow;
+import com.example.cricflow.repository.BallRepo;
+import com.example.cricflow.repository.InningRepo;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.function.Executable;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static com.example.cricflow.support.BallStubs.ball;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class ScorecardServiceTests {
+
+    @Mock
+    BallRepo ballRepo;
+
+    @Mock
+    InningRepo inningRepo;
+
+    @Mock
+    EntityManager entityManager;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    MatchJournal matchJournal = new MatchJournal(false, "journal", 16);
+
+    @InjectMocks
+    ScorecardService scorecardService;
+
+    private static final long STRIKER = 1L, NON_STRIKER = 2L, BOWLER = 3L;
+
+    @DisplayName("Service Test for reading the scorecard after an over is recorded")
+    @Test
+    public void givenRecordedOver_whenScorecardRead_thenRunningTotalsAreReturned() {
+        //given
+        List<Ball> balls = List.of(
+                ball(Score.builder().scoreType(ScoreType.FOUR).build(), STRIKER, NON_STRIKER, BOWLER),
+                ball(Score.builder().scoreType(ScoreType.SIX).build(), STRIKER, NON_STRIKER, BOWLER),
+                ball(Extra.builder().extraType(ExtraType.WIDE).scoreType(ScoreType.SINGLE).build(), STRIKER, NON_STRIKER, BOWLER),
+                ball(Extra.builder().extraType(ExtraType.NO_BALL).scoreType(ScoreType.DOUBLE).build(), STRIKER, NON_STRIKER, BOWLER),
+                ball(Score.builder().scoreType(ScoreType.NO_RUN).build(), STRIKER, NON_STRIKER, BOWLER),
+                ball(Wicket.builder().wicketType(WicketType.BOWLED).build(), STRIKER, NON_STRIKER, BOWLER)
+        );
+        scorecardService.onDeliveriesRecorded(new DeliveriesRecordedEvent(10L, 20L, balls));
+
+        //when
+        ResponseEntity<InningScorecard> response = scorecardService.readScorecard(10L);
+
+        //then
+        InningScorecard scorecard = response.getBody();
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(scorecard.getTotalRuns()).isEqualTo(4 + 6 + 2 + 3);
+        assertThat(scorecard.getWickets()).isEqualTo(1);
+        assertThat(scorecard.getLegalBalls()).isEqualTo(4);
+        assertThat(scorecard.getOvers()).isEqualTo("0.4");
+        assertThat(scorecard.getExtras().get(ExtraType.WIDE)).isEqualTo(2);
+        assertThat(scorecard.getExtras().get(ExtraType.NO_BALL)).isEqualTo(1);
+        assertThat(scorecard.getBatters().get(STRIKER).getRuns()).isEqualTo(12);
+        assertThat(scorecard.getBatters().get(STRIKER).getBallsFaced()).isEqualTo(5);
+        assertThat(scorecard.getBatters().get(STRIKER).getFours()).isEqualTo(1);
+        assertThat(scorecard.getBatters().get(STRIKER).getSixes()).isEqualTo(1);
+        assertThat(scorecard.getBatters().get(STRIKER).isOut()).isTrue();
+        assertThat(scorecard.getBowlers().get(BOWLER).getRunsConceded()).isEqualTo(15);
+        assertThat(scorecard.getBowlers().get(BOWLER).getLegalBalls()).isEqualTo(4);
+        assertThat(scorecard.getBowlers().get(BOWLER).getWickets()).isEqualTo(1);
+    }
+
+    @DisplayName("Service Test for run outs, which are not credited to the bowler")
+    @Test
+    public void givenRunOut_whenRecorded_thenWicketIsNotCreditedToBowler() {
+        //given
+        scorecardService.onDeliveriesRecorded(new DeliveriesRecordedEvent(10L, 20L,
+                List.of(ball(Wicket.builder().wicketType(WicketType.RUN_OUT).build(), STRIKER, NON_STRIKER, BOWLER))));
+
+        //when
+        InningScorecard scorecard = scorecardService.readScorecard(10L).getBody();
+
+        //then
+        assertThat(scorecard.getWickets()).isEqualTo(1);
+        assertThat(scorecard.getBowlers().get(BOWLER).getWickets()).isEqualTo(0);
+    }
+
+    @DisplayName("Service Test for reading the scorecard of an inning that does not exist")
+    @Test
+    public void givenUnknownInning_whenScorecardRead_thenEntityDoesNotExistsExceptionIsThrown() {
+        //given
+        scorecardService.onDeliveriesRecorded(new DeliveriesRecordedEvent(null, 20L,
+                List.of(ball(Score.builder().scoreType(ScoreType.FOUR).build(), STRIKER, NON_STRIKER, BOWLER))));
+        given(inningRepo.existsById(10L)).willReturn(false);
+
+        //when
+        Executable executable = () -> scorecardService.readScorecard(10L);
+
+        //then
+        assertThrows(EntityDoesNotExistsException.class, executable);
+    }
+
+    @DisplayName("Service Test for reading the scorecard of an inning with no balls yet")
+    @Test
+    public void givenInningWithoutBalls_whenScorecardRead_thenEmptyScorecardIsReturned() {
+        //given
+        given(inningRepo.existsById(10L)).willReturn(true);
+
+        //when
+        ResponseEntity<InningScorecard> response = scorecardService.readScorecard(10L);
+
+        //then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().getInningId()).isEqualTo(10L);
+        assertThat(response.getBody().getTotalRuns()).isZero();
+        assertThat(response.getBody().getBatters()).isEmpty();
+    }
+
+    @DisplayName("Service Test for rebuilding the scorecards from the ball repository")
+    @Test
+    public void givenSavedBalls_whenRebuilt_thenScorecardsAreGroupedByInning() {
+        //given
+        given(ballRepo.streamAllWithInningId()).willReturn(Stream.of(
+                row(10L, 1L, ScoreType.FOUR),
+                row(10L, 2L, ScoreType.SINGLE),
+                row(11L, 3L, ScoreType.SIX)
+        ));
+
+        //when
+        scorecardService.rebuildScorecards();
+
+        //then
+        assertThat(scorecardService.readScorecard(10L).getBody().getTotalRuns()).isEqualTo(5);
+        assertThat(scorecardService.readScorecard(11L).getBody().getTotalRuns()).isEqualTo(6);
+        verify(eventPublisher, never()).publishEvent(any(ScorecardUpdatedEvent.class));
+    }
+
+    @DisplayName("Service Test for balls recorded while the scorecards are rebuilt, each is counted once")
+    @Test
+    public void givenBallsRecordedDuringRebuild_whenRebuilt_thenEachBallIsCountedOnce() {
+        //given
+        given(ballRepo.streamAllWithInningId()).willAnswer(invocation -> {
+            // one ball the rebuild reads as well, and one committed after the rows were read
+            Ball counted = ball(Score.builder().scoreType(ScoreType.FOUR).build(), STRIKER, NON_STRIKER, BOWLER);
+            counted.setBallId(2L);
+            Ball later = ball(Score.builder().scoreType(ScoreType.SIX).build(), STRIKER, NON_STRIKER, BOWLER);
+            later.setBallId(3L);
+            scorecardService.onDeliveriesRecorded(new DeliveriesRecordedEvent(10L, 20L, List.of(counted, later)));
+            return Stream.of(row(10L, 1L, ScoreType.SINGLE), row(10L, 2L, ScoreType.FOUR));
+        });
+
+        //when
+        scorecardService.rebuildScorecards();
+
+        //then
+        InningScorecard scorecard = scorecardService.readScorecard(10L).getBody();
+        assertThat(scorecard.getTotalRuns()).isEqualTo(1 + 4 + 6);
+        assertThat(scorecard.getLegalBalls()).isEqualTo(3);
+    }
+
+    @DisplayName("Service Test for scorecards recovered from the journal that agree with the database")
+    @Test
+    public void givenJournalInStepWithDatabase_whenRebuilt_thenBallsAreNotRead() {
+        //given
+        journalRecovers(row(10L, 7L, ScoreType.FOUR));
+        given(ballRepo.findLastBallIdByInning()).willReturn(List.<Object[]>of(new Object[]{10L, 7L}));
+
+        //when
+        scorecardService.rebuildScorecards();
+
+        //then
+        assertThat(scorecardService.readScorecard(10L).getBody().getTotalRuns()).isEqualTo(4);
+        verify(ballRepo, never()).streamAllWithInningId();
+        verify(matchJournal, never()).checkpoint();
+    }
+
+    @DisplayName("Service Test for scorecards recovered from a journal that is behind the database")
+    @Test
+    public void givenJournalBehindDatabase_whenRebuilt_thenBallsAreReadAndCheckpointed() {
+        //given
+        journalRecovers(row(10L, 7L, ScoreType.FOUR), row(12L, 9L, ScoreType.SIX));
+        given(ballRepo.findLastBallIdByInning()).willReturn(List.<Object[]>of(new Object[]{10L, 8L}));
+        given(ballRepo.streamAllWithInningId()).willReturn(Stream.of(
+                row(10L, 7L, ScoreType.FOUR),
+                row(10L, 8L, ScoreType.SINGLE)
+        ));
+        willDoNothing().given(matchJournal).checkpoint();
+
+        //when
+        scorecardService.rebuildScorecards();
+
+        //then
+        assertThat(scorecardService.readScorecard(10L).getBody().getTotalRuns()).isEqualTo(5);
+        given(inningRepo.existsById(12L)).willReturn(false);
+        assertThrows(EntityDoesNotExistsException.class, () -> scorecardService.readScorecard(12L));
+        verify(matchJournal).checkpoint();
+    }
+
+    @DisplayName("Service Test for publishing one scorecard update per recorded ball")
+    @Test
+    public void givenRecordedOver_whenRecorded_thenOneUpdateIsPublishedPerBall() {
+        //given
+        List<Ball> balls = List.of(
+                ball(Score.builder().scoreType(ScoreType.FOUR).build(), STRIKER, NON_STRIKER, BOWLER),
+                ball(Score.builder().scoreType(ScoreType.SINGLE).build(), STRIKER, NON_STRIKER, BOWLER)
+        );
+
+        //when
+        scorecardService.onDeliveriesRecorded(new DeliveriesRecordedEvent(10L, 20L, balls));
+
+        //then
+        verify(eventPublisher, times(2)).publishEvent(any(ScorecardUpdatedEvent.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void journalRecovers(DeliveryRow... rows) {
+        willReturn(true).given(matchJournal).isEnabled();
+        willAnswer(invocation -> {
+            Map<Long, InningScorecard> scorecards = invocation.getArgument(0, Map.class);
+            for (DeliveryRow row : rows)
+                scorecards.computeIfAbsent(row.inningId(), InningScorecard::new).record(row.toBall());
+            return true;
+        }).given(matchJournal).recover(any());
+    }
+
+    private DeliveryRow row(long inningId, long ballId, ScoreType scoreType) {
+        return new DeliveryRow(inningId, ballId, STRIKER, NON_STRIKER, BOWLER, scoreType, null, null, null, null);
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.cricflow.support;
+
+import com.example.cricflow.model.Ball;
+import com.example.cricflow.model.BallEvent;
+import com.example.cricflow.model.Player;
+
+/**
+ * Balls the way a scorer sends them, the striker, non striker and bowler only given by their ids.
+ */
+public final class BallStubs {
+
+    private BallStubs() {
+    }
+
+    public static Ball ball(BallEvent event, Long strikerId, Long nonStrikerId, Long bowlerId) {
+        return Ball.builder()
+                .ballEvent(event)
+                .striker(Player.builder().playerId(strikerId).build())
+                .nonStriker(Player.builder().playerId(nonStrikerId).build())
+                .bowler(Player.builder().playerId(bowlerId).build())
+                .build();
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.cricflow.support;
+
+import com.example.cricflow.model.Ball;
+import com.example.cricflow.model.BallEvent;
+import com.example.cricflow.model.Inning;
+import com.example.cricflow.model.Over;
+import com.example.cricflow.model.Player;
+import com.example.cricflow.model.event.Extra;
+import com.example.cricflow.model.event.Score;
+import com.example.cricflow.model.literal.ScoreType;
+import com.example.cricflow.model.live.InningState;
+import com.example.cricflow.repository.BallRepo;
+import com.example.cricflow.repository.InningRepo;
+import com.example.cricflow.repository.MatchRepo;
+import com.example.cricflow.repository.OverRepo;
+import com.example.cricflow.repository.PlayerRepo;
+import com.example.cricflow.service.ScorecardService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Base of the integration tests that score deliveries. A batter, a runner and a bowler are saved before every test
+ * and {@link #ball(BallEvent)} builds a ball between them. A test that commits its deliveries instead of rolling
+ * them back removes them again with {@link #deleteDeliveries()}.
+ */
+public abstract class DeliveryFixture {
+
+    @Autowired protected PlayerRepo playerRepo;
+    @Autowired protected BallRepo ballRepo;
+    @Autowired protected OverRepo overRepo;
+    @Autowired protected InningRepo inningRepo;
+    @Autowired protected MatchRepo matchRepo;
+    @Autowired protected ScorecardService scorecardService;
+    @Autowired protected EntityManager entityManager;
+    @Autowired protected TransactionTemplate transactionTemplate;
+    @Autowired protected ObjectMapper objectMapper;
+    @Autowired protected MockMvc mockMvc;
+
+    protected Player batter, runner, bowler;
+
+    @BeforeEach
+    void savePlayers() {
+        batter = playerRepo.save(new Player(null, "Ali", "Haris", Player.PlayerType.BATSMAN, Player.BattingStyle.RIGHT_HANDED, Player.BowlingStyle.RIGHT_ARM_LEG_SPINNER, null));
+        runner = playerRepo.save(new Player(null, "Abdul", "Sami", Player.PlayerType.BATSMAN, Player.BattingStyle.RIGHT_HANDED, Player.BowlingStyle.RIGHT_ARM_LEG_SPINNER, null));
+        bowler = playerRepo.save(new Player(null, "Tauha", "Kashif", Player.PlayerType.BOWLER, Player.BattingStyle.RIGHT_HANDED, Player.BowlingStyle.RIGHT_ARM_FAST_BOWLER, null));
+    }
+
+    protected void deleteDeliveries() {
+        matchRepo.deleteAll();
+        inningRepo.deleteAll();
+        overRepo.deleteAll();
+        // events point back at their balls, that link is cut first so balls and events can be removed
+        transactionTemplate.executeWithoutResult(status ->
+                entityManager.createQuery("update BallEvent e set e.ball = null").executeUpdate());
+        ballRepo.deleteAll();
+        playerRepo.deleteAll();
+        scorecardService.rebuildScorecards();
+    }
+
+    protected ResultActions addOver(Inning inning, List<Ball> balls) throws Exception {
+        return mockMvc.perform(post("/api/v1/ball/add-over")
+                .param("inningId", inning.getInningId().toString())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(balls)));
+    }
+
+    protected ResultActions addToOver(Over over, List<Ball> balls) throws Exception {
+        return mockMvc.perform(post("/api/v1/ball/add-to-over")
+                .param("overId", over.getOverId().toString())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(balls)));
+    }
+
+    protected Ball ball(BallEvent event) {
+        return BallStubs.ball(event, batter.getPlayerId(), runner.getPlayerId(), bowler.getPlayerId());
+    }
+
+    // the balls given and as many dot balls after them as the over still needs to be complete
+    protected List<Ball> completeOver(Ball... balls) {
+        List<Ball> over = new ArrayList<>(List.of(balls));
+        long legalBalls = over.stream().filter(ball -> !(ball.getBallEvent() instanceof Extra)).count();
+        for (long i = legalBalls; i < InningState.BALLS_PER_OVER; i++)
+            over.add(ball(Score.builder().scoreType(ScoreType.NO_RUN).build()));
+        return over;
+    }
+
+    protected static Player stub(Player player) {
+        return Player.builder().playerId(player.getPlayerId()).build();
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.cricflow.support;
+
+import java.util.Map;
+
+/**
+ * Most statements each endpoint may run for one request, checked by {@link SqlBudgetFilter}.
+ * <p>
+ * An endpoint that reads a list is given the budget it needs for the lists of the tests, so one more query per
+ * row, as an eager association left outside a fetch plan would add, is caught. A budget is only raised together
+ * with the change that needs it.
+ */
+public final class EndpointSqlBudgets {
+
+    private static final Map<String, Integer> BUDGETS = Map.ofEntries(
+            Map.entry("POST /api/v1/ball/add-over", 22),
+            Map.entry("POST /api/v1/ball/add-to-over", 8),
+            Map.entry("POST /api/v1/ball/score", 8),
+            Map.entry("POST /api/v1/ball/score-shorthand", 8),
+
+            // 2500 grounds in one request, a name lookup per 1000 of them and one insert sent in JDBC batches,
+            // the ids come from a block reserved beforehand
+            Map.entry("POST /api/v1/ground/create", 2),
+            Map.entry("POST /api/v1/ground/create-all", 4),
+            Map.entry("GET /api/v1/ground/get/{id}", 1),
+            Map.entry("GET /api/v1/ground/get-all", 1),
+            Map.entry("PUT /api/v1/ground/update", 4),
+            Map.entry("DELETE /api/v1/ground/delete/{id}", 3),
+            Map.entry("DELETE /api/v1/ground/delete-all", 3),
+
+            // the summary, innings and ball by ball plans are one query each level, the roster adds the players
+            Map.entry("GET /api/v1/match/get/{id}", 3),
+
+            Map.entry("POST /api/v1/player/create", 1),
+            Map.entry("POST /api/v1/player/create-all", 1),
+            Map.entry("GET /api/v1/player/get/{id}", 1),
+            Map.entry("GET /api/v1/player/get-all", 2),
+            Map.entry("GET /api/v1/player/{id}/stats", 1),
+            Map.entry("PUT /api/v1/player/update", 3),
+            Map.entry("DELETE /api/v1/player/delete/{id}", 3),
+            Map.entry("DELETE /api/v1/player/delete-all", 3),
+
+            // imports parse on the request thread, the rows are saved by the import workers
+            Map.entry("POST /api/v1/player/import", 0),
+
+            // exports stream their rows once the request thread has returned, nothing is read before that
+            Map.entry("GET /api/v1/ground/export", 0),
+            Map.entry("GET /api/v1/player/export", 0),
+
+            // served from the scorecards kept in memory, an inning without balls is looked up to tell it from a missing one
+            Map.entry("GET /api/v1/scorecard/get/{inningId}", 1),
+
+            Map.entry("POST /api/v1/team/create-all", 2),
+            Map.entry("POST /api/v1/team/add-players", 7),
+            Map.entry("POST /api/v1/team/remove-players", 4),
+
+            // projections, one query each, the roster and the pages of a team also read the team, and innings that
+            // come back empty look up the match
+            Map.entry("GET /api/v2/match/get/{id}", 1),
+            Map.entry("GET /api/v2/match/{id}/innings", 2),
+            Map.entry("GET /api/v2/team/{id}/roster", 2),
+            Map.entry("GET /api/v2/player/get-all", 2)
+    );
+
+    private EndpointSqlBudgets() {
+    }
+
+    public static Integer budgetOf(String endpoint) {
+        return BUDGETS.get(endpoint);
+    }
+}
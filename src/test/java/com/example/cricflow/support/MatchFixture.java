@@ -0,0 +1,107 @@
+package com.example.cricflow.support;
+
+import com.example.cricflow.model.Ball;
+import com.example.cricflow.model.BallEvent;
+import com.example.cricflow.model.Ground;
+import com.example.cricflow.model.Inning;
+import com.example.cricflow.model.Match;
+import com.example.cricflow.model.Player;
+import com.example.cricflow.model.Team;
+import com.example.cricflow.model.event.Extra;
+import com.example.cricflow.model.event.Score;
+import com.example.cricflow.model.event.Wicket;
+import com.example.cricflow.model.literal.ExtraType;
+import com.example.cricflow.model.literal.ScoreType;
+import com.example.cricflow.model.literal.WicketType;
+import com.example.cricflow.repository.GroundRepo;
+import com.example.cricflow.repository.TeamRepo;
+import com.example.cricflow.service.PlayerStatsService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Base of the integration tests that read a whole match back: a ground, two teams of three players and a match of
+ * two innings between them, with overs scored through the API by {@link #addOvers}. A test that turns on hibernate
+ * statistics counts the statements of a read with {@link #clearedStatistics()}.
+ */
+public abstract class MatchFixture extends DeliveryFixture {
+
+    @Autowired protected GroundRepo groundRepo;
+    @Autowired protected TeamRepo teamRepo;
+    @Autowired protected PlayerStatsService playerStatsService;
+    @Autowired protected EntityManagerFactory entityManagerFactory;
+
+    protected Team teamA, teamB;
+    protected List<Player> playersA, playersB;
+    protected Inning firstInnings, secondInnings;
+    protected Match match;
+
+    @BeforeEach
+    void saveMatch() {
+        Ground ground = groundRepo.save(new Ground(null, "GADDAFI STADIUM"));
+        teamA = teamRepo.save(Team.builder().teamName("LAHORE QALANDARS").build());
+        teamB = teamRepo.save(Team.builder().teamName("KARACHI KINGS").build());
+        playersA = saveTeamPlayers(teamA, "Lahore");
+        playersB = saveTeamPlayers(teamB, "Karachi");
+        firstInnings = inningRepo.save(Inning.builder().numberOfOvers(20).battingSide(teamA).bowlingSide(teamB).overs(new ArrayList<>()).build());
+        secondInnings = inningRepo.save(Inning.builder().numberOfOvers(20).battingSide(teamB).bowlingSide(teamA).overs(new ArrayList<>()).build());
+        match = matchRepo.save(Match.builder()
+                .matchDate(LocalDate.of(2024, 2, 17))
+                .ground(ground)
+                .teamA(teamA)
+                .teamB(teamB)
+                .firstInnings(firstInnings)
+                .secondInnings(secondInnings)
+                .noOfOvers(20)
+                .build());
+    }
+
+    @AfterEach
+    void deleteMatch() {
+        deleteDeliveries();
+        teamRepo.deleteAll();
+        groundRepo.deleteAll();
+        playerStatsService.rebuildPlayerStats();
+    }
+
+    protected Statistics clearedStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    // every over is a four, a wide, a catch and four dot balls, the first two of the batting side batting and the third bowling to them
+    protected void addOvers(Inning inning, List<Player> batting, List<Player> bowling, int overs) throws Exception {
+        for (int i = 0; i < overs; i++) {
+            List<Ball> balls = new ArrayList<>(List.of(
+                    ball(Score.builder().scoreType(ScoreType.FOUR).build(), batting, bowling),
+                    ball(Extra.builder().extraType(ExtraType.WIDE).scoreType(ScoreType.NO_RUN).build(), batting, bowling),
+                    ball(Wicket.builder().wicketType(WicketType.CAUGHT).fielder(stub(bowling.get(1))).build(), batting, bowling)
+            ));
+            for (int dot = 0; dot < 4; dot++)
+                balls.add(ball(Score.builder().scoreType(ScoreType.NO_RUN).build(), batting, bowling));
+            addOver(inning, balls).andExpect(status().isCreated());
+        }
+    }
+
+    protected Ball ball(BallEvent event, List<Player> batting, List<Player> bowling) {
+        return BallStubs.ball(event, batting.get(0).getPlayerId(), batting.get(1).getPlayerId(), bowling.get(2).getPlayerId());
+    }
+
+    private List<Player> saveTeamPlayers(Team team, String lastName) {
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < 3; i++)
+            players.add(new Player(null, "Player", lastName + i, Player.PlayerType.ALL_ROUNDER, Player.BattingStyle.RIGHT_HANDED, Player.BowlingStyle.RIGHT_ARM_OFF_SPINNER, team));
+        return playerRepo.saveAll(players);
+    }
+}
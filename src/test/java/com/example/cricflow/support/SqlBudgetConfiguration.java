@@ -0,0 +1,17 @@
+package com.example.cricflow.support;
+
+import org.springframework.boot.test.autoconfigure.web.servlet.MockMvcBuilderCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Imported by an integration test to hold every MockMvc request it performs to the SQL budget of its endpoint.
+ */
+@TestConfiguration
+public class SqlBudgetConfiguration {
+
+    @Bean
+    public MockMvcBuilderCustomizer sqlBudgetFilter() {
+        return builder -> builder.addFilters(new SqlBudgetFilter());
+    }
+}
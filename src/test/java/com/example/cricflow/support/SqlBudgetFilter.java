@@ -0,0 +1,53 @@
+package com.example.cricflow.support;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Counts the statements run while a MockMvc request is handled and fails the request, and with it the test,
+ * when the endpoint went over its budget in {@link EndpointSqlBudgets}, or has no budget at all.
+ * <p>
+ * Only statements run on the request thread are counted, a streamed body written later on another thread is not.
+ */
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    // the static resource handler, which answers requests that match no controller with a 404
+    private static final String STATIC_RESOURCES = "/**";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        List<String> statements;
+        SqlStatementRecorder.start();
+        try {
+            chain.doFilter(request, response);
+        }
+        finally {
+            statements = SqlStatementRecorder.stop().stream()
+                    // ids are allocated from the sequences a block at a time, whichever request happens to use up a
+                    // block pays for the next one, so sequence reads depend on the order the tests run in
+                    .filter(sql -> !SqlFingerprint.isSequenceRead(sql))
+                    .toList();
+        }
+
+        // no controller took the request, there is no endpoint to hold to a budget
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null || STATIC_RESOURCES.equals(pattern))
+            return;
+        String endpoint = request.getMethod() + " " + pattern;
+        Integer budget = EndpointSqlBudgets.budgetOf(endpoint);
+        if (budget == null)
+            throw new AssertionError(String.format("%s has no SQL budget, add one to %s, it ran %d statements:%s",
+                    endpoint, EndpointSqlBudgets.class.getSimpleName(), statements.size(), SqlFingerprint.describe(statements)));
+        if (statements.size() > budget)
+            throw new AssertionError(String.format("%s ran %d statements, over its budget of %d:%s",
+                    endpoint, statements.size(), budget, SqlFingerprint.describe(statements)));
+    }
+}
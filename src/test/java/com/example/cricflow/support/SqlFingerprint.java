@@ -0,0 +1,46 @@
+package com.example.cricflow.support;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Reduces a statement to its shape, so the same query run for different rows is reported once with a count.
+ */
+public final class SqlFingerprint {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+    // in lists and batched value lists of any length are the same statement
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    // the read of the next value of a sequence, on H2 and on postgres
+    private static final Pattern SEQUENCE_READ = Pattern.compile("^select (next value for |nextval\\()");
+
+    private SqlFingerprint() {
+    }
+
+    public static String of(String sql) {
+        String fingerprint = WHITESPACE.matcher(sql).replaceAll(" ").trim().toLowerCase();
+        fingerprint = STRING_LITERAL.matcher(fingerprint).replaceAll("?");
+        fingerprint = NUMBER_LITERAL.matcher(fingerprint).replaceAll("?");
+        return PARAMETER_LIST.matcher(fingerprint).replaceAll("(?...)");
+    }
+
+    public static boolean isSequenceRead(String sql) {
+        return SEQUENCE_READ.matcher(of(sql)).find();
+    }
+
+    // fingerprints in the order they were first seen, most repeated first, each with how often it ran
+    public static String describe(List<String> statements) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (String sql : statements)
+            counts.merge(of(sql), 1, Integer::sum);
+        StringBuilder description = new StringBuilder();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(entry -> description.append(String.format("%n  %3d x %s", entry.getValue(), entry.getKey())));
+        return description.toString();
+    }
+}
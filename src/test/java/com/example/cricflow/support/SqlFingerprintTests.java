@@ -0,0 +1,61 @@
+package com.example.cricflow.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SqlFingerprintTests {
+
+    @DisplayName("Test for reducing statements that differ only in their values to one fingerprint")
+    @Test
+    public void givenStatementsWithDifferentValues_whenFingerprinted_thenFingerprintsAreTheSame() {
+        //given
+        String first = "select p1_0.playerId from player p1_0 where p1_0.team_id=12 and p1_0.firstName='Ali'";
+        String second = "SELECT p1_0.playerId FROM player p1_0\n  WHERE p1_0.team_id=7 AND p1_0.firstName='Abdul'";
+
+        //when, then
+        assertThat(SqlFingerprint.of(first))
+                .isEqualTo(SqlFingerprint.of(second))
+                .isEqualTo("select p1_0.playerid from player p1_0 where p1_0.team_id=? and p1_0.firstname=?");
+    }
+
+    @DisplayName("Test for treating in lists of any length as the same statement")
+    @Test
+    public void givenInListsOfDifferentLengths_whenFingerprinted_thenFingerprintsAreTheSame() {
+        //when, then
+        assertThat(SqlFingerprint.of("select * from player where playerId in (?, ?)"))
+                .isEqualTo(SqlFingerprint.of("select * from player where playerId in (?,?,?,?,?)"))
+                .isEqualTo("select * from player where playerid in (?...)");
+    }
+
+    @DisplayName("Test for telling sequence reads of H2 and of postgres from other statements")
+    @Test
+    public void givenSequenceReads_whenChecked_thenOnlyTheyAreSequenceReads() {
+        //when, then
+        assertThat(SqlFingerprint.isSequenceRead("select next value for BALL_SEQ")).isTrue();
+        assertThat(SqlFingerprint.isSequenceRead("select nextval('ball_seq')")).isTrue();
+        assertThat(SqlFingerprint.isSequenceRead("select b1_0.ballId from Ball b1_0")).isFalse();
+    }
+
+    @DisplayName("Test for listing repeated statements first, with how often they ran")
+    @Test
+    public void givenRepeatedStatement_whenDescribed_thenItIsListedFirstWithItsCount() {
+        //given
+        List<String> statements = List.of(
+                "select * from team where teamId=1",
+                "select * from player where team_id=1",
+                "select * from player where team_id=2",
+                "select * from player where team_id=3");
+
+        //when
+        String description = SqlFingerprint.describe(statements);
+
+        //then
+        assertThat(description.lines().skip(1).toList()).containsExactly(
+                "    3 x select * from player where team_id=?",
+                "    1 x select * from team where teamid=?");
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.cricflow.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sees every statement hibernate prepares, and keeps the ones prepared on a thread while it is recording.
+ * Registered for all tests through {@code hibernate.session_factory.statement_inspector}, it does nothing
+ * until a recording is started.
+ */
+public class SqlStatementRecorder implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> RECORDING = new ThreadLocal<>();
+
+    public static void start() {
+        RECORDING.set(new ArrayList<>());
+    }
+
+    public static List<String> stop() {
+        List<String> statements = RECORDING.get();
+        RECORDING.remove();
+        return (statements == null) ? List.of() : statements;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = RECORDING.get();
+        if (statements != null)
+            statements.add(sql);
+        return sql;
+    }
+}